@@ -22,4 +22,12 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface OnDeletePostCommit {
 
+    /**
+     * Whether the method runs asynchronously on the post-commit executor instead of before the response is
+     * returned.  Asynchronous hooks run after the transaction has been closed, so they must not read
+     * uninitialized relationships.
+     *
+     * @return true to run the method asynchronously
+     */
+    boolean async() default false;
 }
@@ -30,4 +30,13 @@ public @interface OnUpdatePostCommit {
      * @return the field name that triggers this method
      */
     String value() default "";
+
+    /**
+     * Whether the method runs asynchronously on the post-commit executor instead of before the response is
+     * returned.  Asynchronous hooks run after the transaction has been closed, so they must not read
+     * uninitialized relationships.
+     *
+     * @return true to run the method asynchronously
+     */
+    boolean async() default false;
 }
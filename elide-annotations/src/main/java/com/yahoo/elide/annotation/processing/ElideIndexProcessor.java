@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.annotation.processing;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Records the members Elide binds for each entity and the annotations they carry, so that {@code EntityBinding}
+ * does not have to read the annotations of every field and public method of every entity at startup.
+ * <p>
+ * The processor is registered as a service but only runs when the compiler is given {@code -Aelide.index=true}.
+ * It writes one resource per class which declares or inherits an {@code @Id} field (field access) to
+ * {@value #INDEX_LOCATION}{@code <binary class name>}.  The resource lists the class and each of its superclasses
+ * followed by their instance fields, then the public instance methods which carry Elide annotations (computed
+ * attributes and relationships, lifecycle hooks).  Every member is followed by the annotations present on it:
+ * <pre>
+ * class example.Book
+ * field id javax.persistence.Id javax.persistence.GeneratedValue
+ * field title
+ * method onCreate(com.yahoo.elide.security.RequestScope) com.yahoo.elide.annotation.OnCreatePreCommit
+ * </pre>
+ */
+public class ElideIndexProcessor extends AbstractProcessor {
+    public static final String INDEX_LOCATION = "META-INF/elide/bindings/";
+    public static final String ENABLED_OPTION = "elide.index";
+
+    private static final String ID_ANNOTATION = "javax.persistence.Id";
+    private static final String ELIDE_ANNOTATION_PACKAGE = "com.yahoo.elide.annotation.";
+
+    private final Set<String> indexed = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // Entities may inherit their id (and their @Include) without carrying any annotation themselves
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(ENABLED_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!Boolean.parseBoolean(processingEnv.getOptions().get(ENABLED_OPTION))) {
+            return false;
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            index(type);
+        }
+
+        // Other processors may handle the same annotations
+        return false;
+    }
+
+    private void index(TypeElement type) {
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            index(nested);
+        }
+
+        String className = binaryName(type);
+        if (type.getKind() != ElementKind.CLASS || !indexed.add(className)) {
+            return;
+        }
+
+        List<TypeElement> hierarchy = getHierarchy(type);
+        boolean fieldAccess = hierarchy.stream()
+                .flatMap(cls -> getInstanceFields(cls).stream())
+                .anyMatch(field -> getAnnotationNames(field).contains(ID_ANNOTATION));
+        if (!fieldAccess) {
+            return;
+        }
+
+        StringBuilder record = new StringBuilder();
+        for (TypeElement cls : hierarchy) {
+            record.append("class ").append(binaryName(cls)).append('\n');
+            for (VariableElement field : getInstanceFields(cls)) {
+                appendMember(record, "field " + field.getSimpleName(), field);
+            }
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            boolean elideAnnotated = getAnnotationNames(method).stream()
+                    .anyMatch(name -> name.startsWith(ELIDE_ANNOTATION_PACKAGE));
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC) || !elideAnnotated) {
+                continue;
+            }
+            String parameters = method.getParameters().stream()
+                    .map(parameter -> typeName(parameter.asType()))
+                    .collect(Collectors.joining(","));
+            appendMember(record, "method " + method.getSimpleName() + "(" + parameters + ")", method);
+        }
+
+        write(type, className, record.toString());
+    }
+
+    private void appendMember(StringBuilder record, String member, Element element) {
+        record.append(member);
+        getAnnotationNames(element).forEach(name -> record.append(' ').append(name));
+        record.append('\n');
+    }
+
+    private void write(TypeElement type, String className, String record) {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    INDEX_LOCATION + className, type);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write(record);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write the binding index of " + className + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Returns a class followed by its superclasses, excluding {@link Object}.
+     */
+    private static List<TypeElement> getHierarchy(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            hierarchy.add(current);
+            TypeMirror superclass = current.getSuperclass();
+            current = (superclass.getKind() == TypeKind.DECLARED)
+                    ? (TypeElement) ((DeclaredType) superclass).asElement()
+                    : null;
+        }
+        return hierarchy;
+    }
+
+    private static List<VariableElement> getInstanceFields(TypeElement type) {
+        return ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(field -> !field.getModifiers().contains(Modifier.STATIC))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the annotations of an element which are visible to reflection.
+     */
+    private List<String> getAnnotationNames(Element element) {
+        List<String> names = new ArrayList<>();
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            Retention retention = annotationType.getAnnotation(Retention.class);
+            if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+                names.add(binaryName(annotationType));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns the name of an erased type as {@code ClassUtils.getClass} resolves it.
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        switch (erased.getKind()) {
+            case ARRAY:
+                return typeName(((ArrayType) erased).getComponentType()) + "[]";
+            case DECLARED:
+                return binaryName((TypeElement) ((DeclaredType) erased).asElement());
+            default:
+                return erased.toString();
+        }
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+}
@@ -25,4 +25,12 @@ public interface LifeCycleHook<T> {
     public abstract void execute(T elideEntity,
                                  RequestScope requestScope,
                                  Optional<ChangeSpec> changes);
+
+    /**
+     * Whether this hook runs asynchronously on the post-commit executor.  Only applies to post-commit hooks.
+     * @return true to run the hook after the response has been returned
+     */
+    default boolean isAsync() {
+        return false;
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.security.checks;
+
+import com.yahoo.elide.security.ChangeSpec;
+import com.yahoo.elide.security.RequestScope;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Operation check which can be evaluated for many objects at once.
+ * @see OperationCheck
+ *
+ * When a collection is read, the batch method is called once with every object of the page before the
+ * per-object permission expressions run, so a check backed by a remote lookup (e.g. an entitlement table) can
+ * answer the whole page with a single query.  Objects missing from the returned map are evaluated one at a time.
+ * Checks with a change spec (i.e. updates) are always evaluated one object at a time.
+ *
+ * @param <T> Type parameter
+ */
+public abstract class BatchOperationCheck<T> extends OperationCheck<T> {
+
+    /**
+     * Determines whether the user can access each of the objects.
+     *
+     * @param objects the objects to check
+     * @param requestScope Request scope object
+     * @return the result of the check for each object
+     */
+    public abstract Map<T, Boolean> ok(List<T> objects, RequestScope requestScope);
+
+    @Override
+    public boolean ok(T object, RequestScope requestScope, Optional<ChangeSpec> changeSpec) {
+        return ok(Collections.singletonList(object), requestScope).getOrDefault(object, false);
+    }
+}
@@ -24,4 +24,20 @@ public abstract class OperationCheck<T> extends InlineCheck<T> {
     public final boolean ok(User user) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Whether this check may run on several objects at once from other threads.  When parallel checks are enabled
+     * (see {@code ElideSettingsBuilder#withParallelChecks}), the parallel-safe checks a page of objects will reach
+     * are evaluated concurrently before the page is filtered.  Only return true if the check is CPU bound, has no side
+     * effects and only reads the object and the request scope.
+     * <p>
+     * The objects are still managed by the request's persistence session, which is not thread-safe.  A parallel-safe
+     * check must only read state that is already loaded: it must not navigate lazy relationships or collections, nor
+     * reach the data store through the request scope.
+     *
+     * @return true if the check can be evaluated concurrently (false by default)
+     */
+    public boolean isParallelSafe() {
+        return false;
+    }
 }
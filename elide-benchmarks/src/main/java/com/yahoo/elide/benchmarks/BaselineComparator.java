@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (as written by {@link BenchmarkRunner}) and fails when a benchmark regressed.
+ * <p>
+ * Both the primary score and the normalized allocation rate (bytes per operation, from the GC profiler) are
+ * compared.  Usage: {@code java -cp benchmarks.jar com.yahoo.elide.benchmarks.BaselineComparator
+ * baseline.json results.json [tolerance]}, where tolerance is the allowed relative slowdown (default 0.10).
+ * The process exits with status 1 if any benchmark regressed beyond the tolerance.
+ */
+public class BaselineComparator {
+    public static final double DEFAULT_TOLERANCE = 0.10;
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <results.json> [tolerance]");
+            System.exit(2);
+        }
+
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE;
+        int regressions = compare(read(new File(args[0])), read(new File(args[1])), tolerance);
+
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    /**
+     * Compares results against a baseline, printing one line per metric.
+     *
+     * @param baseline the baseline results keyed by benchmark
+     * @param current the current results keyed by benchmark
+     * @param tolerance the allowed relative regression
+     * @return the number of regressed metrics
+     */
+    public static int compare(Map<String, JsonNode> baseline, Map<String, JsonNode> current, double tolerance) {
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("NEW        %s%n", entry.getKey());
+                continue;
+            }
+
+            JsonNode after = entry.getValue();
+            boolean higherIsBetter = THROUGHPUT_MODE.equals(after.path("mode").asText());
+            regressions += compareMetric(entry.getKey(), before.path("primaryMetric"),
+                    after.path("primaryMetric"), higherIsBetter, tolerance);
+
+            JsonNode beforeAllocation = findAllocationMetric(before);
+            JsonNode afterAllocation = findAllocationMetric(after);
+            if (beforeAllocation != null && afterAllocation != null) {
+                regressions += compareMetric(entry.getKey() + " [alloc]", beforeAllocation, afterAllocation,
+                        false, tolerance);
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Reads a JMH JSON result file.
+     *
+     * @param file the result file
+     * @return the results keyed by benchmark name and parameters
+     * @throws IOException if the file cannot be read
+     */
+    public static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            results.put(key(result), result);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode result) {
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> param = fields.next();
+            params.put(param.getKey(), param.getValue().asText());
+        }
+        return result.path("benchmark").asText() + (params.isEmpty() ? "" : params.toString());
+    }
+
+    private static JsonNode findAllocationMetric(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                return metric.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static int compareMetric(String name, JsonNode before, JsonNode after, boolean higherIsBetter,
+                                     double tolerance) {
+        double baselineScore = before.path("score").asDouble();
+        double currentScore = after.path("score").asDouble();
+        double change = baselineScore == 0 ? 0 : (currentScore - baselineScore) / baselineScore;
+        double regression = higherIsBetter ? -change : change;
+        boolean regressed = regression > tolerance;
+
+        System.out.printf("%-10s %s: %.3f -> %.3f %s (%+.1f%%)%n", regressed ? "REGRESSED" : "OK", name,
+                baselineScore, currentScore, after.path("scoreUnit").asText(), change * 100);
+        return regressed ? 1 : 0;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.models.generics.Manager;
+import com.yahoo.elide.models.triggers.Invoice;
+
+import com.google.common.collect.Sets;
+
+import java.util.HashMap;
+
+/**
+ * Builds Elide instances over the in-memory store, seeded with the example models.
+ * <p>
+ * Every benchmark works against the same data set: {@link #MANAGERS} managers, each the boss of
+ * {@link #EMPLOYEES_PER_MANAGER} employees, and {@link #INVOICES} invoices.
+ */
+public class BenchmarkFixture {
+    public static final int MANAGERS = 10;
+    public static final int EMPLOYEES_PER_MANAGER = 10;
+    public static final int INVOICES = 100;
+
+    private BenchmarkFixture() {
+    }
+
+    /**
+     * Creates an Elide instance with an empty store.
+     *
+     * @return the Elide instance
+     */
+    public static Elide newElide() {
+        HashMapDataStore dataStore = new HashMapDataStore(
+                Sets.newHashSet(Manager.class.getPackage(), Invoice.class.getPackage()));
+
+        return new Elide(new ElideSettingsBuilder(dataStore)
+                .withEntityDictionary(new EntityDictionary(new HashMap<>()))
+                .build());
+    }
+
+    /**
+     * Creates an Elide instance with the benchmark data set loaded.
+     *
+     * @return the Elide instance
+     */
+    public static Elide newSeededElide() {
+        Elide elide = newElide();
+
+        for (int manager = 1; manager <= MANAGERS; manager++) {
+            post(elide, "/manager", "{\"data\": {\"type\": \"manager\"}}");
+        }
+
+        for (int manager = 1; manager <= MANAGERS; manager++) {
+            for (int employee = 0; employee < EMPLOYEES_PER_MANAGER; employee++) {
+                post(elide, "/employee", "{\"data\": {\"type\": \"employee\", \"relationships\": "
+                        + "{\"boss\": {\"data\": {\"type\": \"manager\", \"id\": \"" + manager + "\"}}}}}");
+            }
+        }
+
+        for (int invoice = 1; invoice <= INVOICES; invoice++) {
+            post(elide, "/customerInvoice",
+                    "{\"data\": {\"type\": \"customerInvoice\", \"attributes\": {\"total\": " + invoice + "}}}");
+        }
+
+        return elide;
+    }
+
+    private static void post(Elide elide, String path, String body) {
+        ElideResponse response = elide.post(path, body, null);
+        if (response.getResponseCode() != HttpStatus.SC_CREATED) {
+            throw new IllegalStateException("Unable to seed " + path + ": " + response.getBody());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with allocation profiling and writes the results as JMH JSON.
+ * <p>
+ * Usage: {@code java -jar benchmarks.jar [results.json] [benchmark regex]}.  The results file can be kept as a
+ * baseline and compared with a later run using {@link BaselineComparator}.
+ */
+public class BenchmarkRunner {
+    public static final String DEFAULT_RESULTS = "elide-benchmarks.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String results = args.length > 0 ? args[0] : DEFAULT_RESULTS;
+        String include = args.length > 1 ? args[1] : BenchmarkRunner.class.getPackage().getName() + ".*";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results)
+                .build();
+
+        new Runner(options).run();
+    }
+}
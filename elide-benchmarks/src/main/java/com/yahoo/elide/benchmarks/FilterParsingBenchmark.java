@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.core.filter.dialect.ParseException;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * RSQL filter parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FilterParsingBenchmark {
+    private RSQLFilterDialect dialect;
+    private MultivaluedMap<String, String> typedFilter;
+    private MultivaluedMap<String, String> globalFilter;
+
+    @Setup
+    public void setup() {
+        dialect = new RSQLFilterDialect(BenchmarkFixture.newElide().getElideSettings().getDictionary());
+
+        typedFilter = new MultivaluedHashMap<>();
+        typedFilter.putSingle("filter[customerInvoice]", "total=gt=100;complete==false,id=in=(1,2,3,4,5)");
+        typedFilter.putSingle("filter[employee]", "boss.id=in=(1,2,3);id=ge=10");
+
+        globalFilter = new MultivaluedHashMap<>();
+        globalFilter.putSingle("filter", "boss.id=in=(1,2,3),(id=ge=10;id=lt=50)");
+    }
+
+    @Benchmark
+    public Map<String, FilterExpression> parseTypedExpression() throws ParseException {
+        return dialect.parseTypedExpression("/customerInvoice", typedFilter);
+    }
+
+    @Benchmark
+    public FilterExpression parseGlobalExpression() throws ParseException {
+        return dialect.parseGlobalExpression("/employee", globalFilter);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.graphql.QueryRunner;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GraphQL queries and mutations through {@link QueryRunner}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GraphQLBenchmark {
+    private static final String QUERY = "{\"query\": \"{ employee { edges { node { id "
+            + "boss { edges { node { id } } } } } } }\"}";
+
+    private QueryRunner runner;
+    private long total;
+
+    @Setup
+    public void setup() {
+        runner = new QueryRunner(BenchmarkFixture.newSeededElide());
+    }
+
+    @Benchmark
+    public ElideResponse query() {
+        return runner.run(null, QUERY, null);
+    }
+
+    @Benchmark
+    public ElideResponse mutation() {
+        total++;
+        return runner.run(null, "{\"query\": \"mutation { customerInvoice(op: UPDATE, data: {id: \\\"1\\\", total: "
+                + total + "}) { edges { node { id total } } } }\"}", null);
+    }
+}
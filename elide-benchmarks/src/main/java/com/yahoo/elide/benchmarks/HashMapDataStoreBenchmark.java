@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.models.triggers.Invoice;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HashMapDataStore} under concurrent reads and commits.
+ * <p>
+ * Readers load single objects while a writer updates one object per commit.  A commit derives the next snapshot
+ * of the type it modifies from the current one without copying it, so the commit latency should grow only
+ * logarithmically with the number of stored objects while the readers are not blocked by it.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HashMapDataStoreBenchmark {
+    @Param({"100", "10000"})
+    public int objects;
+
+    private HashMapDataStore dataStore;
+
+    @Setup
+    public void setup() throws IOException {
+        dataStore = new HashMapDataStore(Invoice.class.getPackage());
+        dataStore.populateEntityDictionary(new EntityDictionary(new HashMap<>()));
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            for (int i = 1; i <= objects; i++) {
+                Invoice invoice = new Invoice();
+                invoice.setTotal(i);
+                tx.createObject(invoice, null);
+            }
+            tx.commit(null);
+        }
+    }
+
+    @Benchmark
+    @Group("readWhileCommitting")
+    @GroupThreads(3)
+    public Object read() throws IOException {
+        try (DataStoreTransaction tx = dataStore.beginReadTransaction()) {
+            return tx.loadObject(Invoice.class, randomId(), Optional.empty(), null);
+        }
+    }
+
+    @Benchmark
+    @Group("readWhileCommitting")
+    @GroupThreads(1)
+    public void commit() throws IOException {
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Invoice invoice = (Invoice) tx.loadObject(Invoice.class, randomId(), Optional.empty(), null);
+            invoice.setTotal(invoice.getTotal() + 1);
+            tx.save(invoice, null);
+            tx.commit(null);
+        }
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, objects + 1);
+    }
+}
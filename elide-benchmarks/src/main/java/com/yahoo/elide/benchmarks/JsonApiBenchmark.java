@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * JSON-API reads and single resource updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonApiBenchmark {
+    private Elide elide;
+    private MultivaluedMap<String, String> noParams;
+    private MultivaluedMap<String, String> includeBoss;
+    private long total;
+
+    @Setup
+    public void setup() {
+        elide = BenchmarkFixture.newSeededElide();
+        noParams = new MultivaluedHashMap<>();
+        includeBoss = new MultivaluedHashMap<>();
+        includeBoss.putSingle("include", "boss");
+    }
+
+    @Benchmark
+    public ElideResponse getCollection() {
+        return elide.get("/employee", noParams, null);
+    }
+
+    @Benchmark
+    public ElideResponse getCollectionWithInclude() {
+        return elide.get("/employee", includeBoss, null);
+    }
+
+    @Benchmark
+    public ElideResponse patchResource() {
+        total++;
+        return elide.patch(JSONAPI_CONTENT_TYPE, JSONAPI_CONTENT_TYPE, "/customerInvoice/1",
+                "{\"data\": {\"type\": \"customerInvoice\", \"id\": \"1\", "
+                        + "\"attributes\": {\"total\": " + total + "}}}",
+                null);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk inserts through the JSON Patch extension.
+ * <p>
+ * The store is rebuilt for every iteration so inserted rows do not accumulate across the run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonPatchBenchmark {
+    @Param({"50"})
+    private int batchSize;
+
+    private Elide elide;
+    private String patchDocument;
+
+    @Setup(Level.Trial)
+    public void buildDocument() {
+        StringJoiner operations = new StringJoiner(",", "[", "]");
+        for (int index = 0; index < batchSize; index++) {
+            operations.add("{\"op\": \"add\", \"path\": \"/employee\", \"value\": {\"type\": \"employee\", "
+                    + "\"id\": \"e" + index + "\", \"relationships\": "
+                    + "{\"boss\": {\"data\": {\"type\": \"manager\", \"id\": \"1\"}}}}}");
+        }
+        patchDocument = operations.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        elide = BenchmarkFixture.newSeededElide();
+    }
+
+    @Benchmark
+    public ElideResponse bulkInsert() {
+        return elide.patch(JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION,
+                JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION, "/", patchDocument, null);
+    }
+}
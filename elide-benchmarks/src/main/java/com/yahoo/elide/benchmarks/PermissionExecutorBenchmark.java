@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.models.triggers.Invoice;
+import com.yahoo.elide.security.PermissionExecutor;
+import com.yahoo.elide.security.User;
+import com.yahoo.elide.security.executors.ActivePermissionExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ActivePermissionExecutor} evaluating entity and field read permissions over a collection.
+ * <p>
+ * A new request scope (and so a new executor with empty caches) is created for every invocation, as it
+ * would be for a request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PermissionExecutorBenchmark {
+    private Elide elide;
+    private DataStoreTransaction tx;
+    private User user;
+    private List<Object> invoices;
+
+    @Setup
+    public void setup() {
+        elide = BenchmarkFixture.newSeededElide();
+        tx = elide.getDataStore().beginReadTransaction();
+        user = new User(null);
+
+        invoices = new ArrayList<>();
+        tx.loadObjects(Invoice.class, Optional.empty(), Optional.empty(), Optional.empty(), newRequestScope())
+                .forEach(invoices::add);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        tx.close();
+    }
+
+    @Benchmark
+    public void checkReadPermissions(Blackhole blackhole) {
+        RequestScope requestScope = newRequestScope();
+        PermissionExecutor executor = requestScope.getPermissionExecutor();
+
+        for (Object invoice : invoices) {
+            PersistentResource<Object> resource = new PersistentResource<>(invoice, null, null, requestScope);
+            blackhole.consume(executor.checkPermission(ReadPermission.class, resource));
+            blackhole.consume(executor.checkSpecificFieldPermissions(resource, null, ReadPermission.class, "total"));
+        }
+    }
+
+    private RequestScope newRequestScope() {
+        return new RequestScope(null, "/customerInvoice", new JsonApiDocument(), tx, user, null,
+                elide.getElideSettings());
+    }
+}
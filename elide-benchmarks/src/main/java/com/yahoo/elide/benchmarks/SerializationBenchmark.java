@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.jsonapi.JsonApiMapper;
+import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * {@link JsonApiMapper} serialization of a compound document (a collection with included resources).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializationBenchmark {
+    private JsonApiMapper mapper;
+    private String body;
+    private JsonApiDocument document;
+
+    @Setup
+    public void setup() throws IOException {
+        Elide elide = BenchmarkFixture.newSeededElide();
+        MultivaluedMap<String, String> includeBoss = new MultivaluedHashMap<>();
+        includeBoss.putSingle("include", "boss");
+
+        mapper = elide.getMapper();
+        body = elide.get("/employee", includeBoss, null).getBody();
+        document = mapper.readJsonApiDocument(body);
+    }
+
+    @Benchmark
+    public String writeDocument() throws JsonProcessingException {
+        return mapper.writeJsonApiDocument(document);
+    }
+
+    @Benchmark
+    public JsonApiDocument readDocument() throws IOException {
+        return mapper.readJsonApiDocument(body);
+    }
+}
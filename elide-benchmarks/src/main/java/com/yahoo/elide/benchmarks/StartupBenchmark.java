@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.models.generics.Manager;
+import com.yahoo.elide.models.triggers.Invoice;
+import com.yahoo.elide.utils.ClassScanner;
+
+import com.google.common.collect.Sets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Elide startup in the order the standalone server runs it (check discovery, entity discovery, dictionary binding
+ * and type converter discovery), with the shared scan covering the whole classpath or restricted to the model
+ * packages, and with the models bound from their compile time index or by reflection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StartupBenchmark {
+    /* Read by EntityBinding; elide-example-models is compiled with -Aelide.index=true */
+    private static final String BINDING_INDEX_PROPERTY = "elide.bindings.index";
+
+    @Param({"", "com.yahoo.elide"})
+    private String scanPackages;
+
+    @Param({"true", "false"})
+    private boolean bindingIndex;
+
+    @Setup
+    public void setup() {
+        System.setProperty(ClassScanner.SCAN_PACKAGES_PROPERTY, scanPackages);
+        System.setProperty(BINDING_INDEX_PROPERTY, Boolean.toString(bindingIndex));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(ClassScanner.SCAN_PACKAGES_PROPERTY);
+        System.clearProperty(BINDING_INDEX_PROPERTY);
+    }
+
+    @Benchmark
+    public Elide newElide() {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.scanForSecurityChecks();
+
+        HashMapDataStore dataStore = new HashMapDataStore(
+                Sets.newHashSet(Manager.class.getPackage(), Invoice.class.getPackage()));
+
+        return new Elide(new ElideSettingsBuilder(dataStore)
+                .withEntityDictionary(dictionary)
+                .build());
+    }
+}
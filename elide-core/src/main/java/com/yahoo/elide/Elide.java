@@ -6,9 +6,11 @@
 package com.yahoo.elide;
 
 import com.yahoo.elide.audit.AuditLogger;
+import com.yahoo.elide.core.CollectionExporter;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.ErrorObjects;
+import com.yahoo.elide.core.ExportFormat;
 import com.yahoo.elide.core.HttpStatus;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
@@ -16,6 +18,7 @@ import com.yahoo.elide.core.exceptions.CustomErrorException;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.InternalServerErrorException;
+import com.yahoo.elide.core.exceptions.InvalidCollectionException;
 import com.yahoo.elide.core.exceptions.InvalidConstraintException;
 import com.yahoo.elide.core.exceptions.InvalidURLException;
 import com.yahoo.elide.core.exceptions.JsonPatchExtensionException;
@@ -23,8 +26,12 @@ import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.exceptions.UnableToAddSerdeException;
 import com.yahoo.elide.extensions.JsonApiPatch;
 import com.yahoo.elide.extensions.PatchRequestScope;
+import com.yahoo.elide.jsonapi.ETagGenerator;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.metrics.PhaseTimer;
+import com.yahoo.elide.metrics.RequestObserver.Outcome;
+import com.yahoo.elide.metrics.RequestPhase;
 import com.yahoo.elide.parsers.BaseVisitor;
 import com.yahoo.elide.parsers.DeleteVisitor;
 import com.yahoo.elide.parsers.GetVisitor;
@@ -46,6 +53,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -56,8 +64,13 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import javax.validation.ConstraintViolationException;
@@ -77,6 +90,7 @@ public class Elide {
     @Getter private final AuditLogger auditLogger;
     @Getter private final DataStore dataStore;
     @Getter private final JsonApiMapper mapper;
+    private final ETagGenerator eTagGenerator = new ETagGenerator();
 
     /**
      * Instantiates a new Elide instance.
@@ -86,7 +100,8 @@ public class Elide {
     public Elide(ElideSettings elideSettings) {
         this.elideSettings = elideSettings;
         this.auditLogger = elideSettings.getAuditLogger();
-        this.dataStore = new InMemoryDataStore(elideSettings.getDataStore());
+        this.dataStore = new InMemoryDataStore(elideSettings.getDataStore(),
+                elideSettings.getParallelFilterThreshold());
         this.dataStore.populateEntityDictionary(elideSettings.getDictionary());
         this.mapper = elideSettings.getMapper();
 
@@ -95,6 +110,9 @@ public class Elide {
         });
 
         registerCustomSerde();
+
+        // Startup is done with the classpath
+        ClassScanner.release();
     }
 
     protected void registerCustomSerde() {
@@ -176,13 +194,48 @@ public class Elide {
      */
     public ElideResponse get(String baseUrlEndPoint, String path,
                              MultivaluedMap<String, String> queryParams, Object opaqueUser) {
-        return handleRequest(true, opaqueUser, dataStore::beginReadTransaction, (tx, user) -> {
+        return get(baseUrlEndPoint, path, queryParams, opaqueUser, null);
+    }
+
+    /**
+     * Handle a conditional GET.  When ETags are enabled, successful reads of versioned entities are tagged, and
+     * conditional requests (those with an If-None-Match header) are answered with 304 (Not Modified) if the header
+     * still matches.  The tag is computed after the request has been visited, so read permissions are enforced
+     * before a 304 is returned.
+     *
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param path the path
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @param ifNoneMatch the If-None-Match request header (or null)
+     * @return Elide response object
+     */
+    public ElideResponse get(String baseUrlEndPoint, String path,
+                             MultivaluedMap<String, String> queryParams, Object opaqueUser, String ifNoneMatch) {
+        AtomicReference<String> eTag = new AtomicReference<>();
+        PhaseTimer timer = newPhaseTimer("GET", path);
+        ElideResponse response = handleRequest(true, opaqueUser, dataStore::beginReadTransaction, timer, (tx, user) -> {
             JsonApiDocument jsonApiDoc = new JsonApiDocument();
             RequestScope requestScope = new RequestScope(
                     baseUrlEndPoint, path, jsonApiDoc, tx, user, queryParams, elideSettings);
             BaseVisitor visitor = new GetVisitor(requestScope);
-            return visit(path, requestScope, visitor);
+            HandlerResult result = visit(path, requestScope, visitor, timer);
+
+            /* Only answer 304 once the visitor has loaded the data and evaluated its read permissions */
+            if (elideSettings.isEnableETags() && result.cause == null) {
+                eTag.set(eTagGenerator.generate(path, queryParams, user, requestScope).orElse(null));
+                if (ETagGenerator.matches(ifNoneMatch, eTag.get())) {
+                    return new HandlerResult(requestScope, () -> Pair.of(HttpStatus.SC_NOT_MODIFIED, null));
+                }
+            }
+            return result;
         });
+
+        int responseCode = response.getResponseCode();
+        if (eTag.get() != null && (responseCode == HttpStatus.SC_OK || responseCode == HttpStatus.SC_NOT_MODIFIED)) {
+            return new ElideResponse(responseCode, response.getBody(), eTag.get());
+        }
+        return response;
     }
 
     /**
@@ -236,12 +289,14 @@ public class Elide {
      */
     public ElideResponse post(String baseUrlEndPoint, String path, String jsonApiDocument,
                               MultivaluedMap<String, String> queryParams, Object opaqueUser) {
-        return handleRequest(false, opaqueUser, dataStore::beginTransaction, (tx, user) -> {
-            JsonApiDocument jsonApiDoc = mapper.readJsonApiDocument(jsonApiDocument);
+        PhaseTimer timer = newPhaseTimer("POST", path);
+        return handleRequest(false, opaqueUser, dataStore::beginTransaction, timer, (tx, user) -> {
+            JsonApiDocument jsonApiDoc =
+                    timer.time(RequestPhase.PARSE, () -> mapper.readJsonApiDocument(jsonApiDocument));
             RequestScope requestScope = new RequestScope(
                     baseUrlEndPoint, path, jsonApiDoc, tx, user, queryParams, elideSettings);
             BaseVisitor visitor = new PostVisitor(requestScope);
-            return visit(path, requestScope, visitor);
+            return visit(path, requestScope, visitor, timer);
         });
     }
 
@@ -309,13 +364,14 @@ public class Elide {
                                String path, String jsonApiDocument,
                                MultivaluedMap<String, String> queryParams, Object opaqueUser) {
 
+        PhaseTimer timer = newPhaseTimer("PATCH", path);
         Handler<DataStoreTransaction, User, HandlerResult> handler;
         if (JsonApiPatch.isPatchExtension(contentType) && JsonApiPatch.isPatchExtension(accept)) {
             handler = (tx, user) -> {
                 PatchRequestScope requestScope = new PatchRequestScope(baseUrlEndPoint, path, tx, user, elideSettings);
                 try {
-                    Supplier<Pair<Integer, JsonNode>> responder =
-                            JsonApiPatch.processJsonPatch(dataStore, path, jsonApiDocument, requestScope);
+                    Supplier<Pair<Integer, JsonNode>> responder = timer.time(RequestPhase.EXECUTE,
+                            () -> JsonApiPatch.processJsonPatch(dataStore, path, jsonApiDocument, requestScope));
                     return new HandlerResult(requestScope, responder);
                 } catch (RuntimeException e) {
                     return new HandlerResult(requestScope, e);
@@ -323,15 +379,16 @@ public class Elide {
             };
         } else {
             handler = (tx, user) -> {
-                JsonApiDocument jsonApiDoc = mapper.readJsonApiDocument(jsonApiDocument);
+                JsonApiDocument jsonApiDoc =
+                        timer.time(RequestPhase.PARSE, () -> mapper.readJsonApiDocument(jsonApiDocument));
                 RequestScope requestScope = new RequestScope(
                         baseUrlEndPoint, path, jsonApiDoc, tx, user, queryParams, elideSettings);
                 BaseVisitor visitor = new PatchVisitor(requestScope);
-                return visit(path, requestScope, visitor);
+                return visit(path, requestScope, visitor, timer);
             };
         }
 
-        return handleRequest(false, opaqueUser, dataStore::beginTransaction, handler);
+        return handleRequest(false, opaqueUser, dataStore::beginTransaction, timer, handler);
     }
 
     /**
@@ -385,20 +442,146 @@ public class Elide {
      */
     public ElideResponse delete(String baseUrlEndPoint, String path, String jsonApiDocument,
                                 MultivaluedMap<String, String> queryParams, Object opaqueUser) {
-        return handleRequest(false, opaqueUser, dataStore::beginTransaction, (tx, user) -> {
+        PhaseTimer timer = newPhaseTimer("DELETE", path);
+        return handleRequest(false, opaqueUser, dataStore::beginTransaction, timer, (tx, user) -> {
             JsonApiDocument jsonApiDoc = StringUtils.isEmpty(jsonApiDocument)
                     ? new JsonApiDocument()
-                    : mapper.readJsonApiDocument(jsonApiDocument);
+                    : timer.time(RequestPhase.PARSE, () -> mapper.readJsonApiDocument(jsonApiDocument));
             RequestScope requestScope = new RequestScope(
                     baseUrlEndPoint, path, jsonApiDoc, tx, user, queryParams, elideSettings);
             BaseVisitor visitor = new DeleteVisitor(requestScope);
-            return visit(path, requestScope, visitor);
+            return visit(path, requestScope, visitor, timer);
         });
     }
 
+    /**
+     * Export an entire root collection to an output stream as NDJSON or CSV.  Rows are streamed from the data store
+     * and written one at a time, unpaginated, with read permissions and the filter, sort and sparse field
+     * parameters of the request applied to each row.
+     *
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param type the collection type
+     * @param format the output format
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @param output the stream the rows are written to
+     * @return Elide response object, without a body unless the export failed before anything was written
+     */
+    public ElideResponse export(String baseUrlEndPoint, String type, ExportFormat format,
+                                MultivaluedMap<String, String> queryParams, Object opaqueUser, OutputStream output) {
+        PhaseTimer timer = newPhaseTimer("EXPORT", type);
+        return handleRequest(true, opaqueUser, dataStore::beginReadTransaction, timer, (tx, user) -> {
+            RequestScope requestScope = new RequestScope(
+                    baseUrlEndPoint, type, new JsonApiDocument(), tx, user, queryParams, elideSettings);
+            Class<?> entityClass = elideSettings.getDictionary().getEntityClass(type);
+            if (entityClass == null || !elideSettings.getDictionary().isRoot(entityClass)) {
+                return new HandlerResult(requestScope, new InvalidCollectionException(type));
+            }
+
+            CollectionExporter exporter =
+                    new CollectionExporter(requestScope, format, elideSettings.getExportReleaseInterval());
+            return new HandlerResult(requestScope, () -> {
+                try {
+                    exporter.export(entityClass, output);
+                } catch (IOException e) {
+                    throw new TransactionException(e);
+                }
+                return Pair.of(HttpStatus.SC_OK, null);
+            });
+        });
+    }
+
+    /**
+     * Handle a conditional GET asynchronously on the request executor.
+     *
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param path the path
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @param ifNoneMatch the If-None-Match request header (or null)
+     * @return a future completed with the Elide response object
+     */
+    public CompletableFuture<ElideResponse> getAsync(String baseUrlEndPoint, String path,
+                                                     MultivaluedMap<String, String> queryParams, Object opaqueUser,
+                                                     String ifNoneMatch) {
+        return CompletableFuture.supplyAsync(
+                () -> get(baseUrlEndPoint, path, queryParams, opaqueUser, ifNoneMatch), getRequestExecutor());
+    }
+
+    /**
+     * Handle POST asynchronously on the request executor.
+     *
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param path the path
+     * @param jsonApiDocument the json api document
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @return a future completed with the Elide response object
+     */
+    public CompletableFuture<ElideResponse> postAsync(String baseUrlEndPoint, String path, String jsonApiDocument,
+                                                      MultivaluedMap<String, String> queryParams,
+                                                      Object opaqueUser) {
+        return CompletableFuture.supplyAsync(
+                () -> post(baseUrlEndPoint, path, jsonApiDocument, queryParams, opaqueUser), getRequestExecutor());
+    }
+
+    /**
+     * Handle PATCH asynchronously on the request executor.
+     *
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param contentType the content type
+     * @param accept the accept
+     * @param path the path
+     * @param jsonApiDocument the json api document
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @return a future completed with the Elide response object
+     */
+    public CompletableFuture<ElideResponse> patchAsync(String baseUrlEndPoint, String contentType, String accept,
+                                                       String path, String jsonApiDocument,
+                                                       MultivaluedMap<String, String> queryParams,
+                                                       Object opaqueUser) {
+        return CompletableFuture.supplyAsync(
+                () -> patch(baseUrlEndPoint, contentType, accept, path, jsonApiDocument, queryParams, opaqueUser),
+                getRequestExecutor());
+    }
+
+    /**
+     * Handle DELETE asynchronously on the request executor.
+     *
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param path the path
+     * @param jsonApiDocument the json api document
+     * @param queryParams the query params
+     * @param opaqueUser the opaque user
+     * @return a future completed with the Elide response object
+     */
+    public CompletableFuture<ElideResponse> deleteAsync(String baseUrlEndPoint, String path, String jsonApiDocument,
+                                                        MultivaluedMap<String, String> queryParams,
+                                                        Object opaqueUser) {
+        return CompletableFuture.supplyAsync(
+                () -> delete(baseUrlEndPoint, path, jsonApiDocument, queryParams, opaqueUser), getRequestExecutor());
+    }
+
+    /**
+     * The executor which runs requests made through the asynchronous API.
+     *
+     * @return the configured request executor, or the shared default
+     */
+    public Executor getRequestExecutor() {
+        Executor executor = elideSettings.getRequestExecutor();
+        return executor == null ? ElideExecutors.getDefaultRequestExecutor() : executor;
+    }
+
     public HandlerResult visit(String path, RequestScope requestScope, BaseVisitor visitor) {
+        return visit(path, requestScope, visitor, newPhaseTimer(null, path));
+    }
+
+    public HandlerResult visit(String path, RequestScope requestScope, BaseVisitor visitor, PhaseTimer timer) {
         try {
-            Supplier<Pair<Integer, JsonNode>> responder = visitor.visit(JsonApiParser.parse(path));
+            ParseTree parseTree = timer.time(RequestPhase.PARSE, () -> JsonApiParser.parse(path));
+            Supplier<Pair<Integer, JsonNode>> responder =
+                    timer.time(RequestPhase.EXECUTE, () -> visitor.visit(parseTree));
             return new HandlerResult(requestScope, responder);
         } catch (RuntimeException e) {
             return new HandlerResult(requestScope, e);
@@ -417,6 +600,40 @@ public class Elide {
     protected ElideResponse handleRequest(boolean isReadOnly, Object opaqueUser,
                                           Supplier<DataStoreTransaction> transaction,
                                           Handler<DataStoreTransaction, User, HandlerResult> handler) {
+        return handleRequest(isReadOnly, opaqueUser, transaction, newPhaseTimer(null, null), handler);
+    }
+
+    /**
+     * Handle JSON API requests, reporting the time spent in each phase.
+     *
+     * @param isReadOnly if the transaction is read only
+     * @param opaqueUser the user object from the container
+     * @param transaction a transaction supplier
+     * @param timer times the phases of the request
+     * @param handler a function that creates the request scope and request handler
+     * @return the response
+     */
+    protected ElideResponse handleRequest(boolean isReadOnly, Object opaqueUser,
+                                          Supplier<DataStoreTransaction> transaction,
+                                          PhaseTimer timer,
+                                          Handler<DataStoreTransaction, User, HandlerResult> handler) {
+        long requestStart = timer.start(RequestPhase.REQUEST);
+        Outcome outcome = Outcome.FAILURE;
+        try {
+            ElideResponse response = runRequest(isReadOnly, opaqueUser, transaction, handler, timer);
+            if (response.getResponseCode() < HttpStatus.SC_BAD_REQUEST) {
+                outcome = Outcome.SUCCESS;
+            }
+            return response;
+        } finally {
+            timer.stop(RequestPhase.REQUEST, requestStart, outcome);
+        }
+    }
+
+    private ElideResponse runRequest(boolean isReadOnly, Object opaqueUser,
+                                     Supplier<DataStoreTransaction> transaction,
+                                     Handler<DataStoreTransaction, User, HandlerResult> handler,
+                                     PhaseTimer timer) {
         boolean isVerbose = false;
         try (DataStoreTransaction tx = transaction.get()) {
             final User user = tx.accessUser(opaqueUser);
@@ -425,21 +642,25 @@ public class Elide {
             isVerbose = requestScope.getPermissionExecutor().isVerbose();
             Supplier<Pair<Integer, JsonNode>> responder = result.getResponder();
             tx.preCommit();
-            requestScope.runQueuedPreSecurityTriggers();
-            requestScope.getPermissionExecutor().executeCommitChecks();
+            timer.run(RequestPhase.PRE_SECURITY_TRIGGERS, requestScope::runQueuedPreSecurityTriggers);
+            timer.run(RequestPhase.COMMIT_CHECKS, requestScope.getPermissionExecutor()::executeCommitChecks);
             if (!isReadOnly) {
-                requestScope.saveOrCreateObjects();
+                timer.run(RequestPhase.SAVE, requestScope::saveOrCreateObjects);
             }
-            tx.flush(requestScope);
+            timer.run(RequestPhase.FLUSH, () -> tx.flush(requestScope));
 
-            requestScope.runQueuedPreCommitTriggers();
+            timer.run(RequestPhase.PRE_COMMIT_TRIGGERS, requestScope::runQueuedPreCommitTriggers);
 
-            ElideResponse response = buildResponse(responder.get());
+            ElideResponse response = timer.time(RequestPhase.SERIALIZE, () -> buildResponse(responder.get()));
 
-            auditLogger.commit(requestScope);
-            tx.commit(requestScope);
-            requestScope.runQueuedPostCommitTriggers();
+            timer.time(RequestPhase.COMMIT, () -> {
+                auditLogger.commit(requestScope);
+                tx.commit(requestScope);
+                return null;
+            });
+            timer.run(RequestPhase.POST_COMMIT_TRIGGERS, () -> requestScope.runQueuedPostCommitTriggers(timer));
 
+            timer.checksEvaluated(requestScope.getPermissionExecutor().getCheckStats());
             if (log.isTraceEnabled()) {
                 requestScope.getPermissionExecutor().printCheckStats();
             }
@@ -489,6 +710,26 @@ public class Elide {
         }
     }
 
+    /**
+     * Creates the timer for the phases of a JSON API request.  The root segment of the path is only reported if it
+     * names a bound entity type, so arbitrary paths cannot grow the set of metrics keys without bound.
+     *
+     * @param operation the request operation
+     * @param path the request path
+     * @return the timer
+     */
+    protected PhaseTimer newPhaseTimer(String operation, String path) {
+        String entityType = null;
+        if (path != null) {
+            entityType = Arrays.stream(path.split("/"))
+                    .filter(segment -> !segment.isEmpty())
+                    .findFirst()
+                    .filter(segment -> elideSettings.getDictionary().getEntityClass(segment) != null)
+                    .orElse(null);
+        }
+        return new PhaseTimer(elideSettings.getRequestObserver(), operation, entityType);
+    }
+
     protected ElideResponse buildErrorResponse(HttpStatusException error, boolean isVerbose) {
         if (error instanceof InternalServerErrorException) {
             log.error("Internal Server Error", error);
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for the asynchronous Elide API ({@link Elide#getAsync}, {@link Elide#postAsync}, etc.).
+ */
+public final class ElideExecutors {
+
+    /**
+     * Threads of the default executor, the default request thread limit of the common servlet containers.
+     */
+    public static final int DEFAULT_MAX_THREADS = 200;
+
+    /**
+     * Requests the default executor queues once all of its threads are busy.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    private ElideExecutors() {
+    }
+
+    /**
+     * Creates an executor which runs every task on a new virtual thread.  Virtual threads are cheap to block, so
+     * requests waiting on the data store do not tie up platform threads.
+     *
+     * @return the executor, or empty if the JVM does not support virtual threads
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factory.invoke(null));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates an executor with at most {@code maxThreads} daemon threads and a queue of {@code queueSize} requests.
+     * Idle threads exit after a minute.  When the queue is full the request runs on the calling thread, which
+     * pushes back on the container instead of failing the request or growing without bound.
+     *
+     * @param maxThreads the most requests run at once
+     * @param queueSize the most requests waiting for a thread
+     * @return the executor
+     */
+    public static ExecutorService newBoundedRequestExecutor(int maxThreads, int queueSize) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "elide-request-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * The executor used by the asynchronous API when none is configured: a bounded pool of
+     * {@link #DEFAULT_MAX_THREADS} threads queueing up to {@link #DEFAULT_QUEUE_SIZE} requests.  Virtual threads
+     * are not used by default since nothing would bound the requests hitting the data store at once; configure
+     * {@link #newVirtualThreadPerTaskExecutor()} explicitly when the store limits its own connections.
+     *
+     * @return the shared default executor
+     */
+    public static Executor getDefaultRequestExecutor() {
+        return DefaultRequestExecutor.INSTANCE;
+    }
+
+    /**
+     * Lazily creates the default executor.
+     */
+    private static class DefaultRequestExecutor {
+        private static final Executor INSTANCE = newBoundedRequestExecutor(DEFAULT_MAX_THREADS, DEFAULT_QUEUE_SIZE);
+    }
+}
@@ -15,6 +15,7 @@ import lombok.Getter;
 public class ElideResponse {
     @Getter private final int responseCode;
     @Getter private final String body;
+    @Getter private final String eTag;
 
     /**
      * Constructor.
@@ -23,7 +24,19 @@ public class ElideResponse {
      * @param body returned body string
      */
     public ElideResponse(int responseCode, String body) {
+        this(responseCode, body, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param responseCode HTTP response code
+     * @param body returned body string
+     * @param eTag entity tag of the returned body (or null)
+     */
+    public ElideResponse(int responseCode, String body, String eTag) {
         this.responseCode = responseCode;
         this.body = body;
+        this.eTag = eTag;
     }
 }
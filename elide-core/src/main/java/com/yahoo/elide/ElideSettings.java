@@ -13,6 +13,7 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.filter.dialect.JoinFilterDialect;
 import com.yahoo.elide.core.filter.dialect.SubqueryFilterDialect;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
+import com.yahoo.elide.metrics.RequestObserver;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.utils.coerce.converters.Serde;
 
@@ -21,6 +22,7 @@ import lombok.Getter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -44,4 +46,15 @@ public class ElideSettings {
     @Getter private final Map<Class, Serde> serdes;
     @Getter private final boolean encodeErrorResponses;
     @Getter private final boolean enableJsonLinks;
+    @Getter private final int parallelFilterThreshold;
+    @Getter private final boolean enableETags;
+    @Getter private final RequestObserver requestObserver;
+    @Getter private final Executor postCommitExecutor;
+    @Getter private final boolean asyncPostCommitTriggers;
+    @Getter private final Executor requestExecutor;
+    @Getter private final int exportReleaseInterval;
+    @Getter private final int graphQLMaxDepth;
+    @Getter private final long graphQLMaxCost;
+    @Getter private final Executor parallelCheckExecutor;
+    @Getter private final int parallelCheckThreshold;
 }
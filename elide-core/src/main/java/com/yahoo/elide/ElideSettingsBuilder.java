@@ -7,6 +7,7 @@ package com.yahoo.elide;
 
 import com.yahoo.elide.audit.AuditLogger;
 import com.yahoo.elide.audit.Slf4jLogger;
+import com.yahoo.elide.core.CollectionExporter;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.HttpStatus;
@@ -18,6 +19,8 @@ import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.dialect.SubqueryFilterDialect;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
+import com.yahoo.elide.metrics.NoopRequestObserver;
+import com.yahoo.elide.metrics.RequestObserver;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.executors.ActivePermissionExecutor;
 import com.yahoo.elide.utils.coerce.converters.EpochToDateConverter;
@@ -32,6 +35,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -54,6 +59,17 @@ public class ElideSettingsBuilder {
     private boolean returnErrorObjects;
     private boolean encodeErrorResponses;
     private boolean enableJsonLinks;
+    private int parallelFilterThreshold;
+    private boolean enableETags;
+    private RequestObserver requestObserver = NoopRequestObserver.INSTANCE;
+    private Executor postCommitExecutor = ForkJoinPool.commonPool();
+    private boolean asyncPostCommitTriggers;
+    private Executor requestExecutor;
+    private int exportReleaseInterval = CollectionExporter.DEFAULT_RELEASE_INTERVAL;
+    private int graphQLMaxDepth;
+    private long graphQLMaxCost;
+    private Executor parallelCheckExecutor;
+    private int parallelCheckThreshold;
 
     /**
      * A new builder used to generate Elide instances. Instantiates an {@link EntityDictionary} without
@@ -102,7 +118,18 @@ public class ElideSettingsBuilder {
                 returnErrorObjects,
                 serdes,
                 encodeErrorResponses,
-                enableJsonLinks);
+                enableJsonLinks,
+                parallelFilterThreshold,
+                enableETags,
+                requestObserver,
+                postCommitExecutor,
+                asyncPostCommitTriggers,
+                requestExecutor,
+                exportReleaseInterval,
+                graphQLMaxDepth,
+                graphQLMaxCost,
+                parallelCheckExecutor,
+                parallelCheckThreshold);
     }
 
     public ElideSettingsBuilder withAuditLogger(AuditLogger auditLogger) {
@@ -208,6 +235,128 @@ public class ElideSettingsBuilder {
         return this;
     }
 
+    /**
+     * Filter collections loaded by the data store in parallel when elide must filter them in memory.  Only enable
+     * this if the entities (including any computed attributes referenced by filters) can be read safely from
+     * multiple threads.
+     *
+     * @param parallelFilterThreshold The minimum number of records to filter in parallel (0 disables)
+     * @return the builder
+     */
+    public ElideSettingsBuilder withParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+        return this;
+    }
+
+    /**
+     * Tag JSON-API GET responses for versioned entities (those with a {@link javax.persistence.Version} attribute)
+     * with a weak ETag and answer conditional requests whose If-None-Match header still matches with 304.
+     *
+     * @return the builder
+     */
+    public ElideSettingsBuilder withETags() {
+        this.enableETags = true;
+        return this;
+    }
+
+    /**
+     * Report the time spent in each phase of every request to an observer.
+     *
+     * @param requestObserver the observer
+     * @return the builder
+     */
+    public ElideSettingsBuilder withRequestObserver(RequestObserver requestObserver) {
+        this.requestObserver = requestObserver;
+        return this;
+    }
+
+    /**
+     * Run post-commit lifecycle hooks marked {@code async} on the given executor (the common fork join pool by
+     * default).
+     *
+     * @param postCommitExecutor the executor
+     * @return the builder
+     */
+    public ElideSettingsBuilder withPostCommitExecutor(Executor postCommitExecutor) {
+        this.postCommitExecutor = postCommitExecutor;
+        return this;
+    }
+
+    /**
+     * Run every post-commit lifecycle hook asynchronously on the post-commit executor, so responses are returned
+     * without waiting for them.
+     *
+     * @return the builder
+     */
+    public ElideSettingsBuilder withAsyncPostCommitTriggers() {
+        this.asyncPostCommitTriggers = true;
+        return this;
+    }
+
+    /**
+     * Run requests made through the asynchronous API ({@link Elide#getAsync}, etc.) on the given executor.  By
+     * default they run on {@link ElideExecutors#getDefaultRequestExecutor()}.
+     *
+     * @param requestExecutor the executor
+     * @return the builder
+     */
+    public ElideSettingsBuilder withRequestExecutor(Executor requestExecutor) {
+        this.requestExecutor = requestExecutor;
+        return this;
+    }
+
+    /**
+     * Release the rows already written by a bulk export ({@link Elide#export}) from the transaction and the
+     * permission cache after every given number of rows.
+     *
+     * @param exportReleaseInterval the number of rows between releases
+     * @return the builder
+     */
+    public ElideSettingsBuilder withExportReleaseInterval(int exportReleaseInterval) {
+        this.exportReleaseInterval = exportReleaseInterval;
+        return this;
+    }
+
+    /**
+     * Reject GraphQL documents which nest relationships deeper than the given depth before executing them.  The
+     * root collection is at depth one and every relationship below it adds one.
+     *
+     * @param graphQLMaxDepth the maximum depth (0, the default, is unlimited)
+     * @return the builder
+     */
+    public ElideSettingsBuilder withGraphQLMaxDepth(int graphQLMaxDepth) {
+        this.graphQLMaxDepth = graphQLMaxDepth;
+        return this;
+    }
+
+    /**
+     * Reject GraphQL documents whose estimated cost, the number of records they could load, exceeds the given
+     * value before executing them.
+     *
+     * @param graphQLMaxCost the maximum cost (0, the default, is unlimited)
+     * @return the builder
+     */
+    public ElideSettingsBuilder withGraphQLMaxCost(long graphQLMaxCost) {
+        this.graphQLMaxCost = graphQLMaxCost;
+        return this;
+    }
+
+    /**
+     * Evaluate the {@link com.yahoo.elide.security.checks.OperationCheck#isParallelSafe parallel-safe} operation
+     * checks of a page of resources concurrently on the given executor before filtering it.  Results are cached
+     * per resource and the page keeps its order.  The executor bounds the concurrency, so prefer a fixed-size pool
+     * dedicated to permission checks.
+     *
+     * @param parallelCheckExecutor the executor
+     * @param parallelCheckThreshold The minimum number of resources to check in parallel (0 disables)
+     * @return the builder
+     */
+    public ElideSettingsBuilder withParallelChecks(Executor parallelCheckExecutor, int parallelCheckThreshold) {
+        this.parallelCheckExecutor = parallelCheckExecutor;
+        this.parallelCheckThreshold = parallelCheckThreshold;
+        return this;
+    }
+
     public ElideSettingsBuilder withJSONApiLinks(JSONApiLinks links) {
         this.enableJsonLinks = true;
         this.jsonApiLinks = links;
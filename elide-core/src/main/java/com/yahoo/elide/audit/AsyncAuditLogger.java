@@ -0,0 +1,308 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import com.yahoo.elide.core.RequestScope;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Audit logger which writes messages to an {@link AuditSink} from a background thread.
+ * <p>
+ * Messages are kept with the {@link RequestScope} rather than a thread local, so requests may move between
+ * threads.  On commit they are formatted on the request thread (message templates are evaluated against the
+ * request's records) and handed to a bounded queue.  A writer thread drains the queue in batches.  When the
+ * queue is full the {@link OverflowPolicy} decides whether the request thread blocks, the records are dropped
+ * or the records are spilled to a file.  Once records have spilled, later records are appended to the spill file
+ * as well so they are written in order.  Nothing new enters the queue until the spill is replayed, which the writer
+ * does as soon as the queue has drained.
+ */
+@Slf4j
+public class AsyncAuditLogger extends AuditLogger implements Closeable {
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * What to do with records that do not fit in the queue.
+     */
+    public enum OverflowPolicy {
+        /** Block the committing request until there is space. */
+        BLOCK,
+        /** Discard the records, counting them as dropped. */
+        DROP,
+        /** Append the records to the spill file, to be written once the queue has drained. */
+        SPILL
+    }
+
+    private final AuditSink sink;
+    private final BlockingQueue<AuditRecord> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final OverflowPolicy overflowPolicy;
+    private final Path spillFile;
+    private final Object spillLock = new Object();
+    private volatile boolean spillPending;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @Builder
+    public AsyncAuditLogger(AuditSink sink, Integer capacity, Integer batchSize, Long flushIntervalMillis,
+                            OverflowPolicy overflowPolicy, Path spillFile) {
+        this.sink = sink == null ? new Slf4jAuditSink() : sink;
+        this.capacity = capacity == null ? DEFAULT_CAPACITY : capacity;
+        this.batchSize = batchSize == null ? DEFAULT_BATCH_SIZE : batchSize;
+        this.flushIntervalMillis = flushIntervalMillis == null ? DEFAULT_FLUSH_INTERVAL_MILLIS : flushIntervalMillis;
+        this.overflowPolicy = overflowPolicy == null ? OverflowPolicy.BLOCK : overflowPolicy;
+        this.spillFile = spillFile;
+        if (this.overflowPolicy == OverflowPolicy.SPILL && spillFile == null) {
+            throw new IllegalArgumentException("A spill file is required for the SPILL overflow policy");
+        }
+
+        this.queue = new ArrayBlockingQueue<>(this.capacity);
+        this.writer = new Thread(this::drain, "elide-audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void log(LogMessage message, RequestScope requestScope) {
+        requestScope.getAuditMessages().add(message);
+    }
+
+    @Override
+    public void commit(RequestScope requestScope) throws IOException {
+        List<LogMessage> messages = requestScope.getAuditMessages();
+        long now = System.currentTimeMillis();
+        List<AuditRecord> records = new ArrayList<>(messages.size());
+        synchronized (messages) {
+            for (LogMessage message : messages) {
+                records.add(AuditRecord.of(message, now));
+            }
+            messages.clear();
+        }
+
+        // Messages logged through the thread local path (e.g. by custom code calling log(message)).
+        for (LogMessage message : MESSAGES.get()) {
+            records.add(AuditRecord.of(message, now));
+        }
+        MESSAGES.get().clear();
+
+        if (overflowPolicy == OverflowPolicy.SPILL) {
+            synchronized (spillLock) {
+                if (spillPending) {
+                    spill(records);
+                    return;
+                }
+            }
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            if (!offer(records.get(i))) {
+                overflow(records.subList(i, records.size()));
+                return;
+            }
+        }
+    }
+
+    private boolean offer(AuditRecord record) throws IOException {
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                queue.put(record);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while queueing audit records", e);
+            }
+        } else if (!queue.offer(record)) {
+            return false;
+        }
+        enqueued.increment();
+        return true;
+    }
+
+    private void overflow(List<AuditRecord> records) throws IOException {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            dropped.add(records.size());
+            return;
+        }
+
+        synchronized (spillLock) {
+            spill(records);
+        }
+    }
+
+    private void spill(List<AuditRecord> records) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)) {
+            for (AuditRecord record : records) {
+                out.write(MAPPER.writeValueAsString(record));
+                out.newLine();
+            }
+        }
+        spillPending = true;
+        spilled.add(records.size());
+    }
+
+    private void drain() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditRecord first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                }
+                // Spilled records are newer than anything still queued
+                if ((first == null || spillPending) && queue.isEmpty()) {
+                    replaySpill();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        replaySpill();
+    }
+
+    private void write(List<AuditRecord> batch) {
+        try {
+            sink.write(batch);
+            written.add(batch.size());
+        } catch (IOException | RuntimeException e) {
+            failed.add(batch.size());
+            log.error("Failed to write {} audit records", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes the spilled records in batches.  Records spilled while the file is replayed go to a new spill file,
+     * which is replayed in turn, so the queue only takes records again once the spill is empty.
+     */
+    private void replaySpill() {
+        if (spillFile == null) {
+            return;
+        }
+
+        Path replayFile = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        while (true) {
+            synchronized (spillLock) {
+                // A replay file left by a failed replay is older than the spill file
+                if (!Files.exists(replayFile)) {
+                    if (!Files.exists(spillFile)) {
+                        spillPending = false;
+                        return;
+                    }
+                    try {
+                        Files.move(spillFile, replayFile);
+                    } catch (IOException e) {
+                        log.error("Failed to replay audit spill file {}", spillFile, e);
+                        return;
+                    }
+                }
+            }
+
+            List<AuditRecord> batch = new ArrayList<>(batchSize);
+            try (BufferedReader in = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        batch.add(MAPPER.readValue(line, AuditRecord.class));
+                    }
+                    if (batch.size() == batchSize) {
+                        write(batch);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+                Files.delete(replayFile);
+            } catch (IOException e) {
+                log.error("Failed to replay audit spill file {}", replayFile, e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops the writer after the queued and spilled records have been written, then closes the sink.  This waits
+     * for at most one flush interval beyond the time it takes to write the remaining records.
+     *
+     * @throws IOException if the sink fails to close
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sink.close();
+    }
+
+    /**
+     * Number of records waiting in the queue.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getSpilledCount() {
+        return spilled.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+}
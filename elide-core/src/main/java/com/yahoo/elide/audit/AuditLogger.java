@@ -24,6 +24,17 @@ public abstract class AuditLogger {
         MESSAGES.get().add(message);
     }
 
+    /**
+     * Log a message generated while processing a request.  By default messages are buffered per thread until
+     * {@link #commit}; loggers which keep messages with the request instead override this.
+     *
+     * @param message the message
+     * @param requestScope the request that generated the message
+     */
+    public void log(LogMessage message, RequestScope requestScope) {
+        log(message);
+    }
+
     public abstract void commit(RequestScope requestScope) throws IOException;
 
     public void clear() {
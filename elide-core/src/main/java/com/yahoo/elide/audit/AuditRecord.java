@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A formatted audit log message, detached from the request which produced it.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class AuditRecord {
+    private final long timestamp;
+    private final int operationCode;
+    private final String message;
+
+    @JsonCreator
+    public AuditRecord(@JsonProperty("timestamp") long timestamp,
+                       @JsonProperty("operationCode") int operationCode,
+                       @JsonProperty("message") String message) {
+        this.timestamp = timestamp;
+        this.operationCode = operationCode;
+        this.message = message;
+    }
+
+    /**
+     * Formats a log message.  Messages are evaluated against the records they reference, so this must happen
+     * while the request is still open.
+     *
+     * @param message the log message
+     * @param timestamp the time the message was committed
+     * @return the record
+     */
+    public static AuditRecord of(LogMessage message, long timestamp) {
+        return new AuditRecord(timestamp, message.getOperationCode(), message.getMessage());
+    }
+}
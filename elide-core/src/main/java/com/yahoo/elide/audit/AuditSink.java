@@ -0,0 +1,30 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination for audit records written by {@link AsyncAuditLogger}.
+ * <p>
+ * Sinks are only called from the logger's writer thread.
+ */
+public interface AuditSink extends Closeable {
+
+    /**
+     * Writes a batch of records.
+     *
+     * @param records the records in commit order
+     * @throws IOException if the batch could not be written
+     */
+    void write(List<AuditRecord> records) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+}
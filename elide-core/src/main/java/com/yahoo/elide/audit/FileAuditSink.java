@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Audit sink which appends records to a file, one JSON object per line.
+ */
+public class FileAuditSink implements AuditSink {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final BufferedWriter writer;
+
+    public FileAuditSink(Path file) throws IOException {
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public void write(List<AuditRecord> records) throws IOException {
+        for (AuditRecord record : records) {
+            writer.write(MAPPER.writeValueAsString(record));
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
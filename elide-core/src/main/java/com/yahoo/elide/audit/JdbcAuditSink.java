@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+/**
+ * Audit sink which inserts each batch of records into a table with a single JDBC batch insert.
+ * <p>
+ * The table needs a timestamp column, an integer operation code column and a text message column.
+ */
+public class JdbcAuditSink implements AuditSink {
+    private final DataSource dataSource;
+    private final String insert;
+
+    public JdbcAuditSink(DataSource dataSource, String table) {
+        this(dataSource, table, "created_at", "operation_code", "message");
+    }
+
+    public JdbcAuditSink(DataSource dataSource, String table, String timestampColumn, String operationCodeColumn,
+                         String messageColumn) {
+        this.dataSource = dataSource;
+        this.insert = String.format("INSERT INTO %s (%s, %s, %s) VALUES (?, ?, ?)",
+                table, timestampColumn, operationCodeColumn, messageColumn);
+    }
+
+    @Override
+    public void write(List<AuditRecord> records) throws IOException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(insert)) {
+            for (AuditRecord record : records) {
+                statement.setTimestamp(1, new Timestamp(record.getTimestamp()));
+                statement.setInt(2, record.getOperationCode());
+                statement.setString(3, record.getMessage());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to insert audit records", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Audit sink which publishes records to an in-process queue.  Stands in for a message queue producer: a
+ * consumer takes records from {@code getQueue()}.
+ */
+public class QueueAuditSink implements AuditSink {
+    @Getter private final BlockingQueue<AuditRecord> queue;
+
+    public QueueAuditSink() {
+        this(new LinkedBlockingQueue<>());
+    }
+
+    public QueueAuditSink(BlockingQueue<AuditRecord> queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public void write(List<AuditRecord> records) throws IOException {
+        try {
+            for (AuditRecord record : records) {
+                queue.put(record);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while publishing audit records");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Audit sink which logs to SLF4J in the same format as {@link Slf4jLogger}.
+ */
+@Slf4j
+public class Slf4jAuditSink implements AuditSink {
+
+    @Override
+    public void write(List<AuditRecord> records) {
+        for (AuditRecord record : records) {
+            log.info("{} {} {}", record.getTimestamp(), record.getOperationCode(), record.getMessage());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.persistence.Id;
+
+/**
+ * Members of an entity and the annotations they carry, as recorded at compile time by
+ * {@code com.yahoo.elide.annotation.processing.ElideIndexProcessor}.
+ * <p>
+ * {@link EntityBinding} uses the index to decide which members are ids, attributes, relationships, permissions and
+ * lifecycle hooks without reading the annotations of every field and public method of the entity.  Only the few
+ * annotations whose values it needs (relationship mappings, hook and permission arguments) are read.
+ * <p>
+ * A record is used only while it still describes the loaded class: the same superclasses declaring the same
+ * instance fields, and methods which still resolve.  Otherwise, or when the {@value #ENABLED_PROPERTY} system
+ * property is false, the entity is bound by reflection.
+ */
+@Slf4j
+class BindingIndex {
+    static final String INDEX_LOCATION = "META-INF/elide/bindings/";
+    static final String ENABLED_PROPERTY = "elide.bindings.index";
+
+    private final List<AccessibleObject> fields;
+    private final Method[] methods;
+    private final Map<AccessibleObject, Set<String>> annotations;
+
+    private BindingIndex(List<AccessibleObject> fields, List<Method> methods,
+                         Map<AccessibleObject, Set<String>> annotations) {
+        this.fields = fields;
+        this.methods = methods.toArray(new Method[0]);
+        this.annotations = annotations;
+    }
+
+    /**
+     * Loads the index of an entity.
+     *
+     * @param entityClass the entity
+     * @param inheritedTypes the superclasses of the entity, excluding Object
+     * @return the index or empty if the entity has no index or the index is out of date
+     */
+    static Optional<BindingIndex> load(Class<?> entityClass, List<Class<?>> inheritedTypes) {
+        ClassLoader classLoader = entityClass.getClassLoader();
+        if (classLoader == null || !Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            return Optional.empty();
+        }
+
+        try (InputStream stream = classLoader.getResourceAsStream(INDEX_LOCATION + entityClass.getName())) {
+            if (stream == null) {
+                return Optional.empty();
+            }
+            List<String> record = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8)).lines()
+                    .collect(Collectors.toList());
+
+            List<Class<?>> hierarchy = new ArrayList<>();
+            hierarchy.add(entityClass);
+            hierarchy.addAll(inheritedTypes);
+
+            Optional<BindingIndex> index = parse(entityClass, hierarchy, record);
+            if (!index.isPresent()) {
+                log.debug("Binding index of {} is out of date", entityClass.getName());
+            }
+            return index;
+        } catch (IOException | ReflectiveOperationException e) {
+            log.debug("Binding index of {} is out of date: {}", entityClass.getName(), e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the record of an entity.
+     *
+     * @param entityClass the entity
+     * @param hierarchy the entity followed by its superclasses, excluding Object
+     * @param record the lines of the record
+     * @return the index or empty if the record does not describe the entity
+     * @throws ReflectiveOperationException if a recorded method or parameter type does not resolve
+     */
+    static Optional<BindingIndex> parse(Class<?> entityClass, List<Class<?>> hierarchy, List<String> record)
+            throws ReflectiveOperationException {
+        List<AccessibleObject> fields = new ArrayList<>();
+        List<Method> methods = new ArrayList<>();
+        Map<AccessibleObject, Set<String>> annotations = new HashMap<>();
+
+        Iterator<Class<?>> types = hierarchy.iterator();
+        Map<String, Field> unrecorded = null;
+
+        for (String line : record) {
+            List<String> tokens = Arrays.asList(line.split(" "));
+            Set<String> memberAnnotations = new HashSet<>(tokens.subList(Math.min(2, tokens.size()), tokens.size()));
+
+            switch (tokens.get(0)) {
+                case "class":
+                    if ((unrecorded != null && !unrecorded.isEmpty()) || !types.hasNext()) {
+                        return Optional.empty();
+                    }
+                    Class<?> type = types.next();
+                    if (!type.getName().equals(tokens.get(1))) {
+                        return Optional.empty();
+                    }
+                    List<Field> declared = getInstanceFields(type);
+                    fields.addAll(declared);
+                    unrecorded = declared.stream().collect(Collectors.toMap(Field::getName, field -> field));
+                    break;
+                case "field":
+                    Field field = (unrecorded == null) ? null : unrecorded.remove(tokens.get(1));
+                    if (field == null) {
+                        return Optional.empty();
+                    }
+                    annotations.put(field, memberAnnotations);
+                    break;
+                case "method":
+                    Method method = getMethod(entityClass, tokens.get(1));
+                    if (Modifier.isStatic(method.getModifiers())) {
+                        return Optional.empty();
+                    }
+                    methods.add(method);
+                    annotations.put(method, memberAnnotations);
+                    break;
+                default:
+                    return Optional.empty();
+            }
+        }
+
+        if ((unrecorded != null && !unrecorded.isEmpty()) || types.hasNext()) {
+            return Optional.empty();
+        }
+
+        /* Only entities with field access are indexed */
+        if (fields.stream().noneMatch(field -> annotations.get(field).contains(Id.class.getName()))) {
+            return Optional.empty();
+        }
+        return Optional.of(new BindingIndex(fields, methods, annotations));
+    }
+
+    /**
+     * Resolves a public method recorded as {@code name(parameterType,...)}.
+     */
+    private static Method getMethod(Class<?> entityClass, String signature) throws ReflectiveOperationException {
+        int open = signature.indexOf('(');
+        String parameters = signature.substring(open + 1, signature.length() - 1);
+
+        List<Class<?>> parameterTypes = new ArrayList<>();
+        if (!parameters.isEmpty()) {
+            for (String parameter : parameters.split(",")) {
+                parameterTypes.add(ClassUtils.getClass(entityClass.getClassLoader(), parameter));
+            }
+        }
+        return entityClass.getMethod(signature.substring(0, open), parameterTypes.toArray(new Class<?>[0]));
+    }
+
+    private static List<Field> getInstanceFields(Class<?> type) {
+        return Arrays.stream(type.getDeclaredFields())
+                .filter(field -> !field.isSynthetic() && !Modifier.isStatic(field.getModifiers()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the instance fields of the entity and its superclasses, in the order {@link EntityBinding#getAllFields}
+     * returns them.
+     *
+     * @return the fields
+     */
+    List<AccessibleObject> getFields() {
+        return new ArrayList<>(fields);
+    }
+
+    /**
+     * Returns the public instance methods of the entity which carry Elide annotations.
+     *
+     * @return the methods
+     */
+    Method[] getMethods() {
+        return methods.clone();
+    }
+
+    /**
+     * Whether a member of the index carries an annotation.
+     *
+     * @param member a field or method returned by this index
+     * @param annotationClass the annotation
+     * @return true if the annotation is present
+     */
+    boolean isAnnotationPresent(AccessibleObject member, Class<? extends Annotation> annotationClass) {
+        return annotations.getOrDefault(member, Collections.emptySet()).contains(annotationClass.getName());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * An iterable backed by a resource (e.g. a database cursor) which must be closed once the caller is done with it,
+ * whether or not it was walked to the end.
+ *
+ * @param <T> the element type
+ */
+public interface CloseableIterable<T> extends Iterable<T>, Closeable {
+
+    /**
+     * Wraps an iterable together with the resource that backs it.
+     *
+     * @param iterable the iterable
+     * @param resource closed when the iterable is closed
+     * @param <T> the element type
+     * @return the closeable iterable
+     */
+    static <T> CloseableIterable<T> of(Iterable<T> iterable, Closeable resource) {
+        return new CloseableIterable<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return iterable.iterator();
+            }
+
+            @Override
+            public void close() throws IOException {
+                resource.close();
+            }
+        };
+    }
+
+    /**
+     * Closes an iterable if it holds a resource.
+     *
+     * @param iterable the iterable (may be null)
+     * @throws IOException if the resource cannot be closed
+     */
+    static void close(Iterable<?> iterable) throws IOException {
+        if (iterable instanceof Closeable) {
+            ((Closeable) iterable).close();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Writes an entire collection to an output stream, one row at a time.
+ * <p>
+ * Rows come from {@link DataStoreTransaction#streamObjects} and are checked for read permission and reduced to
+ * the requested sparse fields as they are written, so nothing is collected.  Every {@code releaseInterval} rows
+ * the transaction and the permission executor are asked to drop what they hold for the rows already written.
+ * The data store cursor is closed when the export ends, including when writing fails.
+ */
+public class CollectionExporter {
+    public static final int DEFAULT_RELEASE_INTERVAL = 1000;
+
+    private static final String ID = "id";
+
+    private final RequestScope requestScope;
+    private final ExportFormat format;
+    private final int releaseInterval;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor.
+     *
+     * @param requestScope the request scope of the export
+     * @param format the output format
+     * @param releaseInterval the number of rows between releases (non-positive to never release)
+     */
+    public CollectionExporter(RequestScope requestScope, ExportFormat format, int releaseInterval) {
+        this.requestScope = requestScope;
+        this.format = format;
+        this.releaseInterval = releaseInterval;
+        this.objectMapper = requestScope.getMapper().getObjectMapper();
+    }
+
+    /**
+     * Writes every readable resource of a collection, applying the filter, sorting and sparse fields of the
+     * request.  The output stream is flushed but not closed.
+     *
+     * @param entityClass the collection to export
+     * @param output the stream to write to
+     * @return the number of rows written
+     * @throws IOException if the output cannot be written
+     */
+    public long export(Class<?> entityClass, OutputStream output) throws IOException {
+        Optional<FilterExpression> filter = requestScope.getLoadFilterExpression(entityClass);
+        Optional<Sorting> sorting = Optional.ofNullable(requestScope.getSorting());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        List<String> columns = format == ExportFormat.CSV ? getColumns(entityClass) : null;
+        if (columns != null) {
+            writeCsvRow(writer, columns);
+        }
+
+        long rows = 0;
+        try (CloseableIterable<PersistentResource> resources =
+                PersistentResource.streamRecords(entityClass, filter, sorting, requestScope)) {
+            for (PersistentResource<?> resource : resources) {
+                Map<String, Object> attributes = resource.getAttributes();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, columns, resource.getId(), attributes);
+                } else {
+                    writeNdjson(writer, resource, attributes);
+                }
+
+                rows++;
+                if (releaseInterval > 0 && rows % releaseInterval == 0) {
+                    release();
+                }
+            }
+        }
+
+        writer.flush();
+        return rows;
+    }
+
+    private void release() {
+        requestScope.getTransaction().releaseLoadedObjects(requestScope);
+        requestScope.getPermissionExecutor().clearResourceResults();
+    }
+
+    private List<String> getColumns(Class<?> entityClass) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        String type = dictionary.getJsonAliasFor(entityClass);
+
+        List<String> columns = new ArrayList<>();
+        columns.add(ID);
+        for (String attribute : dictionary.getAttributes(entityClass)) {
+            if (PersistentResource.checkIncludeSparseField(requestScope.getSparseFields(), type, attribute)) {
+                columns.add(attribute);
+            }
+        }
+        return columns;
+    }
+
+    private void writeNdjson(Writer writer, PersistentResource<?> resource, Map<String, Object> attributes)
+            throws IOException {
+        ObjectNode row = objectMapper.createObjectNode();
+        row.put("type", resource.getType());
+        row.put(ID, resource.getId());
+        row.set("attributes", objectMapper.valueToTree(attributes));
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        objectMapper.writeTree(generator, row);
+        generator.close();
+        writer.write('\n');
+    }
+
+    private void writeCsv(Writer writer, List<String> columns, String id, Map<String, Object> attributes)
+            throws IOException {
+        List<String> values = new ArrayList<>(columns.size());
+        values.add(id);
+        for (String column : columns.subList(1, columns.size())) {
+            values.add(toCsvValue(attributes.get(column)));
+        }
+        writeCsvRow(writer, values);
+    }
+
+    private String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        JsonNode node = objectMapper.valueToTree(value);
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+
+    private static void writeCsvRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -165,6 +165,37 @@ public interface DataStoreTransaction extends Closeable {
             Optional<Pagination> pagination,
             RequestScope scope);
 
+    /**
+     * Loads an entire collection for bulk export.  The returned iterable is walked once and should hold as few
+     * rows in memory as the data store allows (e.g. a database cursor).  Stores which hold a resource while the
+     * rows are walked return a {@link CloseableIterable}, which the caller closes.  By default, this is
+     * loadObjects without pagination.
+     *
+     * @param entityClass - the class to load
+     * @param filterExpression - filters that can be evaluated in the data store.
+     * It is optional for the data store to attempt evaluation.
+     * @param sorting - sorting which can be pushed down to the data store.
+     * @param scope - contains request level metadata.
+     * @return the loaded objects
+     */
+    default Iterable<Object> streamObjects(
+            Class<?> entityClass,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+        return loadObjects(entityClass, filterExpression, sorting, Optional.empty(), scope);
+    }
+
+    /**
+     * Releases objects the data store is tracking for a read-only transaction so that a long running export
+     * does not accumulate them (e.g. clears a session cache).  Objects loaded before the call must not be
+     * modified afterwards.
+     *
+     * @param scope - contains request level metadata.
+     */
+    default void releaseLoadedObjects(RequestScope scope) {
+    }
+
     /**
      * Retrieve a relation from an object.
      *
@@ -176,7 +207,8 @@ public interface DataStoreTransaction extends Closeable {
      * @param sorting - sorting which can be pushed down to the data store.
      * @param pagination - pagination which can be pushed down to the data store.
      * @param scope - contains request level metadata.
-     * @return the object in the relation
+     * @return the object in the relation.  Return a {@link FilteredList} when the filter expression was fully
+     * applied so that Elide can rely on the read permission filter it contains.
      */
     default Object getRelation(
             DataStoreTransaction relationTx,
@@ -286,4 +318,28 @@ public interface DataStoreTransaction extends Closeable {
     default boolean supportsPagination(Class<?> entityClass) {
         return true;
     }
+
+    /**
+     * Whether or not the transaction reports if there is a next page of the provided class.  Such a transaction
+     * fetches {@link Pagination#getFetchLimit} records and drops the probe record with
+     * {@link Pagination#trimProbeRecord}.  Otherwise, Elide counts the records to find out.
+     * @param entityClass The model type
+     * @return true if the transaction answers {@link Pagination#getHasNextPage} for a probing pagination
+     */
+    default boolean supportsNextPageProbe(Class<?> entityClass) {
+        return false;
+    }
+
+    /**
+     * Summarizes the versions of every object of a versioned entity type (for example, the object count along
+     * with the newest version).  The summary must change whenever an object of the type is created, updated or
+     * deleted.  Elide uses it to build entity tags for collections without loading them.
+     *
+     * @param entityClass The versioned model type
+     * @param scope The request scope
+     * @return the summary or empty if the store cannot summarize the type
+     */
+    default Optional<Object> getVersionSummary(Class<?> entityClass, RequestScope scope) {
+        return Optional.empty();
+    }
 }
@@ -70,6 +70,7 @@ import javax.persistence.MapsId;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Transient;
+import javax.persistence.Version;
 
 /**
  * Entity Dictionary maps JSON API Entity beans to/from Entity type names.
@@ -82,6 +83,13 @@ public class EntityBinding {
     private static final List<Class<? extends Annotation>> RELATIONSHIP_TYPES =
             Arrays.asList(ManyToMany.class, ManyToOne.class, OneToMany.class, OneToOne.class,
                     ToOne.class, ToMany.class);
+    /* Public methods which are bound when the entity uses field access */
+    private static final List<Class<? extends Annotation>> METHOD_ANNOTATIONS =
+            Arrays.asList(ComputedAttribute.class, ComputedRelationship.class,
+                    OnReadPreSecurity.class, OnReadPreCommit.class, OnReadPostCommit.class,
+                    OnUpdatePreSecurity.class, OnUpdatePreCommit.class, OnUpdatePostCommit.class,
+                    OnCreatePreSecurity.class, OnCreatePreCommit.class, OnCreatePostCommit.class,
+                    OnDeletePreSecurity.class, OnDeletePreCommit.class, OnDeletePostCommit.class);
 
     public final Class<?> entityClass;
     public final String jsonApiType;
@@ -95,6 +103,10 @@ public class EntityBinding {
     @Getter
     private Class<?> idType;
     @Getter
+    private AccessibleObject versionField;
+    @Getter
+    private String versionFieldName;
+    @Getter
     @Setter
     private Initializer initializer;
     @Getter
@@ -113,6 +125,8 @@ public class EntityBinding {
     public final ConcurrentHashMap<String, AccessibleObject> fieldsToValues = new ConcurrentHashMap<>();
     public final MultiValuedMap<Pair<Class, String>, LifeCycleHook> fieldsToTriggers = new HashSetValuedHashMap<>();
     public final MultiValuedMap<Class, LifeCycleHook> classToTriggers = new HashSetValuedHashMap<>();
+    private final ConcurrentHashMap<String, Integer> fieldsToTriggerMasks = new ConcurrentHashMap<>();
+    private volatile int classTriggerMask;
     public final ConcurrentHashMap<String, Class<?>> fieldsToTypes = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, String> aliasesToFields = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<Method, Boolean> requestScopeableMethods = new ConcurrentHashMap<>();
@@ -122,6 +136,9 @@ public class EntityBinding {
     public static final EntityBinding EMPTY_BINDING = new EntityBinding();
     private static final String ALL_FIELDS = "*";
 
+    /* Compile time index of the entity's members or null to read their annotations */
+    private final BindingIndex bindingIndex;
+
     /* empty binding constructor */
     private EntityBinding() {
         jsonApiType = null;
@@ -134,6 +151,7 @@ public class EntityBinding {
         entityClass = null;
         entityPermissions = EntityPermissions.EMPTY_PERMISSIONS;
         idGenerated = false;
+        bindingIndex = null;
     }
 
     public EntityBinding(EntityDictionary dictionary, Class<?> cls, String type, String name) {
@@ -143,29 +161,17 @@ public class EntityBinding {
         inheritedTypes = getInheritedTypes(cls);
 
         // Map id's, attributes, and relationships
-        List<AccessibleObject> fieldOrMethodList = getAllFields();
+        bindingIndex = BindingIndex.load(cls, inheritedTypes).orElse(null);
+        List<AccessibleObject> fieldOrMethodList = (bindingIndex == null) ? getAllFields() : bindingIndex.getFields();
 
-        if (fieldOrMethodList.stream().anyMatch(field -> field.isAnnotationPresent(Id.class))) {
+        if (fieldOrMethodList.stream().anyMatch(field -> isAnnotationPresent(field, Id.class))) {
             accessType = AccessType.FIELD;
 
             /* Add all public methods that are computed OR life cycle hooks */
+            Method[] methods = (bindingIndex == null) ? cls.getMethods() : bindingIndex.getMethods();
             fieldOrMethodList.addAll(
-                    getInstanceMembers(cls.getMethods(),
-                            (method) -> method.isAnnotationPresent(ComputedAttribute.class)
-                                    || method.isAnnotationPresent(ComputedRelationship.class)
-                                    || method.isAnnotationPresent(OnReadPreSecurity.class)
-                                    || method.isAnnotationPresent(OnReadPreCommit.class)
-                                    || method.isAnnotationPresent(OnReadPostCommit.class)
-                                    || method.isAnnotationPresent(OnUpdatePreSecurity.class)
-                                    || method.isAnnotationPresent(OnUpdatePreCommit.class)
-                                    || method.isAnnotationPresent(OnUpdatePostCommit.class)
-                                    || method.isAnnotationPresent(OnCreatePreSecurity.class)
-                                    || method.isAnnotationPresent(OnCreatePreCommit.class)
-                                    || method.isAnnotationPresent(OnCreatePostCommit.class)
-                                    || method.isAnnotationPresent(OnDeletePreSecurity.class)
-                                    || method.isAnnotationPresent(OnDeletePreCommit.class)
-                                    || method.isAnnotationPresent(OnDeletePostCommit.class)
-                    )
+                    getInstanceMembers(methods, (method) -> METHOD_ANNOTATIONS.stream()
+                            .anyMatch(annotationClass -> isAnnotationPresent(method, annotationClass)))
             );
 
             //Elide needs to manipulate private fields that are exposed.
@@ -187,7 +193,26 @@ public class EntityBinding {
 
         attributes = dequeToList(attributesDeque);
         relationships = dequeToList(relationshipsDeque);
-        entityPermissions = new EntityPermissions(dictionary, cls, fieldOrMethodList);
+        entityPermissions = new EntityPermissions(dictionary, cls, (bindingIndex == null)
+                ? fieldOrMethodList
+                : fieldOrMethodList.stream()
+                        .filter(member -> EntityPermissions.PERMISSION_ANNOTATIONS.stream()
+                                .anyMatch(annotationClass -> isAnnotationPresent(member, annotationClass)))
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Whether a field or method of this entity carries an annotation, according to the compile time index of the
+     * entity if it has one.
+     *
+     * @param fieldOrMethod field or method of the entity
+     * @param annotationClass the annotation
+     * @return true if the annotation is present
+     */
+    private boolean isAnnotationPresent(AccessibleObject fieldOrMethod, Class<? extends Annotation> annotationClass) {
+        return (bindingIndex == null)
+                ? fieldOrMethod.isAnnotationPresent(annotationClass)
+                : bindingIndex.isAnnotationPresent(fieldOrMethod, annotationClass);
     }
 
     /**
@@ -253,13 +278,18 @@ public class EntityBinding {
             bindTriggerIfPresent(OnUpdatePostCommit.class, fieldOrMethod);
             bindTriggerIfPresent(OnReadPostCommit.class, fieldOrMethod);
 
-            if (fieldOrMethod.isAnnotationPresent(Id.class)) {
+            if (isAnnotationPresent(fieldOrMethod, Version.class)) {
+                versionField = fieldOrMethod;
+                versionFieldName = getFieldName(fieldOrMethod);
+            }
+
+            if (isAnnotationPresent(fieldOrMethod, Id.class)) {
                 bindEntityId(cls, type, fieldOrMethod);
-            } else if (fieldOrMethod.isAnnotationPresent(Transient.class)
-                    && !fieldOrMethod.isAnnotationPresent(ComputedAttribute.class)
-                    && !fieldOrMethod.isAnnotationPresent(ComputedRelationship.class)) {
+            } else if (isAnnotationPresent(fieldOrMethod, Transient.class)
+                    && !isAnnotationPresent(fieldOrMethod, ComputedAttribute.class)
+                    && !isAnnotationPresent(fieldOrMethod, ComputedRelationship.class)) {
                 continue; // Transient. Don't serialize
-            } else if (!fieldOrMethod.isAnnotationPresent(Exclude.class)) {
+            } else if (!isAnnotationPresent(fieldOrMethod, Exclude.class)) {
                 if (fieldOrMethod instanceof Field && Modifier.isTransient(((Field) fieldOrMethod).getModifiers())) {
                     continue; // Transient. Don't serialize
                 }
@@ -267,7 +297,7 @@ public class EntityBinding {
                     continue; // Transient. Don't serialize
                 }
                 if (fieldOrMethod instanceof Field
-                        && !fieldOrMethod.isAnnotationPresent(Column.class)
+                        && !isAnnotationPresent(fieldOrMethod, Column.class)
                         && Modifier.isStatic(((Field) fieldOrMethod).getModifiers())) {
                     continue; // Field must have Column annotation?
                 }
@@ -300,7 +330,7 @@ public class EntityBinding {
         if (idField != null && !fieldOrMethod.equals(idField)) {
             throw new DuplicateMappingException(type + " " + cls.getName() + ":" + fieldName);
         }
-        if (fieldOrMethod.isAnnotationPresent(GeneratedValue.class)) {
+        if (isAnnotationPresent(fieldOrMethod, GeneratedValue.class)) {
             idGenerated = true;
         }
     }
@@ -324,7 +354,8 @@ public class EntityBinding {
      * @param fieldOrMethod Field or method to bind
      */
     private void bindAttrOrRelation(AccessibleObject fieldOrMethod) {
-        boolean isRelation = RELATIONSHIP_TYPES.stream().anyMatch(fieldOrMethod::isAnnotationPresent);
+        boolean isRelation = RELATIONSHIP_TYPES.stream()
+                .anyMatch(annotationClass -> isAnnotationPresent(fieldOrMethod, annotationClass));
 
         String fieldName = getFieldName(fieldOrMethod);
         Class<?> fieldType = getFieldType(entityClass, fieldOrMethod);
@@ -347,15 +378,15 @@ public class EntityBinding {
     }
 
     private void bindRelation(AccessibleObject fieldOrMethod, String fieldName, Class<?> fieldType) {
-        boolean manyToMany = fieldOrMethod.isAnnotationPresent(ManyToMany.class);
-        boolean manyToOne = fieldOrMethod.isAnnotationPresent(ManyToOne.class);
-        boolean oneToMany = fieldOrMethod.isAnnotationPresent(OneToMany.class);
-        boolean oneToOne = fieldOrMethod.isAnnotationPresent(OneToOne.class);
-        boolean toOne = fieldOrMethod.isAnnotationPresent(ToOne.class);
-        boolean toMany = fieldOrMethod.isAnnotationPresent(ToMany.class);
-        boolean computedRelationship = fieldOrMethod.isAnnotationPresent(ComputedRelationship.class);
-
-        if (fieldOrMethod.isAnnotationPresent(MapsId.class)) {
+        boolean manyToMany = isAnnotationPresent(fieldOrMethod, ManyToMany.class);
+        boolean manyToOne = isAnnotationPresent(fieldOrMethod, ManyToOne.class);
+        boolean oneToMany = isAnnotationPresent(fieldOrMethod, OneToMany.class);
+        boolean oneToOne = isAnnotationPresent(fieldOrMethod, OneToOne.class);
+        boolean toOne = isAnnotationPresent(fieldOrMethod, ToOne.class);
+        boolean toMany = isAnnotationPresent(fieldOrMethod, ToMany.class);
+        boolean computedRelationship = isAnnotationPresent(fieldOrMethod, ComputedRelationship.class);
+
+        if (isAnnotationPresent(fieldOrMethod, MapsId.class)) {
             idGenerated = true;
         }
 
@@ -485,7 +516,7 @@ public class EntityBinding {
     }
 
     private void bindTriggerIfPresent(Class<? extends Annotation> annotationClass, AccessibleObject fieldOrMethod) {
-        if (fieldOrMethod instanceof Method && fieldOrMethod.isAnnotationPresent(annotationClass)) {
+        if (fieldOrMethod instanceof Method && isAnnotationPresent(fieldOrMethod, annotationClass)) {
             Annotation trigger = fieldOrMethod.getAnnotation(annotationClass);
             String value;
             try {
@@ -494,12 +525,19 @@ public class EntityBinding {
                 value = "";
             }
 
+            boolean async;
+            try {
+                async = (Boolean) annotationClass.getMethod("async").invoke(trigger);
+            } catch (ReflectiveOperationException | IllegalArgumentException | SecurityException e) {
+                async = false;
+            }
+
             Method method = (Method) fieldOrMethod;
 
             int paramCount = method.getParameterCount();
             Class<?>[] paramTypes = method.getParameterTypes();
 
-            LifeCycleHook callback = (entity, scope, changes) -> {
+            LifeCycleHook invoker = (entity, scope, changes) -> {
                 try {
                     if (changes.isPresent() && paramCount == 2
                             && paramTypes[0].isInstance(scope)
@@ -517,6 +555,7 @@ public class EntityBinding {
                     throw new IllegalArgumentException(e);
                 }
             };
+            LifeCycleHook callback = async ? new AsyncLifeCycleHook(invoker) : invoker;
 
             if (value.equals(ALL_FIELDS)) {
                 bindTrigger(annotationClass, callback);
@@ -530,11 +569,26 @@ public class EntityBinding {
                             String fieldOrMethodName,
                             LifeCycleHook callback) {
         fieldsToTriggers.put(Pair.of(annotationClass, fieldOrMethodName), callback);
+        fieldsToTriggerMasks.merge(fieldOrMethodName, LifecycleHookPhase.bit(annotationClass), (a, b) -> a | b);
     }
 
     public void bindTrigger(Class<? extends Annotation> annotationClass,
                             LifeCycleHook callback) {
         classToTriggers.put(annotationClass, callback);
+        classTriggerMask |= LifecycleHookPhase.bit(annotationClass);
+    }
+
+    /**
+     * Returns a mask of the lifecycle hooks which run for an event on the given field (see
+     * {@link LifecycleHookPhase#bit}).  Hooks bound to any field run for every field event but not for class
+     * level events.
+     *
+     * @param fieldName the field name, or the empty string for class level events
+     * @return the trigger mask
+     */
+    public int getTriggerMask(String fieldName) {
+        int mask = fieldsToTriggerMasks.getOrDefault(fieldName, 0);
+        return fieldName.isEmpty() ? mask : mask | classTriggerMask;
     }
 
 
@@ -601,4 +655,26 @@ public class EntityBinding {
 
         return results;
     }
+
+    /**
+     * Lifecycle hook for a method whose post-commit annotation is marked async.
+     */
+    private static class AsyncLifeCycleHook implements LifeCycleHook {
+        private final LifeCycleHook delegate;
+
+        AsyncLifeCycleHook(LifeCycleHook delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Object elideEntity, com.yahoo.elide.security.RequestScope requestScope,
+                            Optional changes) {
+            delegate.execute(elideEntity, requestScope, changes);
+        }
+
+        @Override
+        public boolean isAsync() {
+            return true;
+        }
+    }
 }
@@ -66,6 +66,7 @@ import javax.persistence.AccessType;
 import javax.persistence.CascadeType;
 import javax.persistence.Entity;
 import javax.persistence.Transient;
+import javax.persistence.Version;
 import javax.ws.rs.WebApplicationException;
 
 /**
@@ -929,6 +930,17 @@ public class EntityDictionary {
         return getEntityBinding(cls).getTriggers(annotationClass);
     }
 
+    /**
+     * Returns a mask of the lifecycle hooks bound for events on a field of an entity.
+     *
+     * @param cls the entity class
+     * @param fieldName the field name, or the empty string for class level events
+     * @return the trigger mask (see {@link LifecycleHookPhase})
+     */
+    public int getTriggerMask(Class<?> cls, String fieldName) {
+        return getEntityBinding(cls).getTriggerMask(fieldName);
+    }
+
     /**
      * Return a single annotation from field or accessor method.
      *
@@ -1061,6 +1073,38 @@ public class EntityDictionary {
         return getEntityBinding(entityClass).getIdType();
     }
 
+    /**
+     * Returns the name of the version attribute (annotated with {@link Version}) of an entity.
+     *
+     * @param entityClass the entity class
+     * @return the attribute name or null if the entity is not versioned
+     */
+    public String getVersionFieldName(Class<?> entityClass) {
+        return getEntityBinding(entityClass).getVersionFieldName();
+    }
+
+    /**
+     * Returns the version of an entity, which changes whenever the entity is modified.  By default this is the
+     * value of the attribute annotated with {@link Version}.  Override to derive versions some other way.
+     *
+     * @param entity the entity
+     * @return the version or null if the entity is not versioned
+     */
+    public Object getVersion(Object entity) {
+        AccessibleObject versionField = getEntityBinding(lookupBoundClass(entity.getClass())).getVersionField();
+        try {
+            if (versionField instanceof Field) {
+                return ((Field) versionField).get(entity);
+            }
+            if (versionField instanceof Method) {
+                return ((Method) versionField).invoke(entity);
+            }
+            return null;
+        } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
     /**
      * Returns annotations applied to the ID field.
      *
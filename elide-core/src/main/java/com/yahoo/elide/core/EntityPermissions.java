@@ -39,7 +39,7 @@ import java.util.Map;
  */
 @Slf4j
 public class EntityPermissions implements CheckInstantiator {
-    private static final List<Class<? extends Annotation>> PERMISSION_ANNOTATIONS = Arrays.asList(
+    static final List<Class<? extends Annotation>> PERMISSION_ANNOTATIONS = Arrays.asList(
             ReadPermission.class,
             CreatePermission.class,
             DeletePermission.class,
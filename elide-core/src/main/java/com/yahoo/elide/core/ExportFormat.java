@@ -0,0 +1,29 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import lombok.Getter;
+
+/**
+ * Output formats of a bulk collection export.
+ */
+public enum ExportFormat {
+    /**
+     * One JSON object per line, holding the type, id and attributes of a resource.
+     */
+    NDJSON("application/x-ndjson"),
+
+    /**
+     * A header row of the id and attribute names followed by one row per resource.
+     */
+    CSV("text/csv");
+
+    @Getter private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+}
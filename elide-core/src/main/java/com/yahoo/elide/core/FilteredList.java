@@ -0,0 +1,34 @@
+/*
+ * Copyright 2020, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * The members of a relationship which a data store fetched with the complete filter expression handed to
+ * {@link DataStoreTransaction#getRelation}.  Filtering is optional for data stores, so Elide only trusts the
+ * read permission filter to have been applied to relationships returned this way.
+ * @param <T> type of the records
+ */
+public class FilteredList<T> extends AbstractList<T> {
+
+    private final List<T> records;
+
+    public FilteredList(List<T> records) {
+        this.records = records;
+    }
+
+    @Override
+    public T get(int index) {
+        return records.get(index);
+    }
+
+    @Override
+    public int size() {
+        return records.size();
+    }
+}
@@ -13,6 +13,7 @@ public class HttpStatus {
     public static final int SC_OK = 200;
     public static final int SC_CREATED = 201;
     public static final int SC_NO_CONTENT = 204;
+    public static final int SC_NOT_MODIFIED = 304;
     public static final int SC_BAD_REQUEST = 400;
     public static final int SC_FORBIDDEN = 403;
     public static final int SC_NOT_FOUND = 404;
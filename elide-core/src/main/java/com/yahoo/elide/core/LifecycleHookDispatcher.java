@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.functions.LifeCycleHook;
+
+import lombok.AllArgsConstructor;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Dispatches the lifecycle events of a request to the lifecycle hooks bound in the entity dictionary.
+ * <p>
+ * Each distinct event is checked against its entity's trigger mask when it is published.  Events without any
+ * hooks for their action are discarded.  Pre-security hooks for read, update and delete run immediately; all
+ * other hooks run when the queued events are dispatched for their phase.  Events published after their phase was
+ * dispatched (for example reads during serialization, after the pre-commit hooks ran) run that phase's hooks as
+ * soon as they are published.
+ */
+public class LifecycleHookDispatcher {
+    private static final int QUEUED_MASK = queuedMask();
+
+    private final EntityDictionary dictionary;
+    private final boolean asyncPostCommit;
+    private final Set<CRUDEvent> published = new HashSet<>();
+    private final List<Runnable> asyncHooks = new ArrayList<>();
+
+    // Trigger mask bits of the (phase, action) pairs dispatched so far.
+    private int dispatchedMask;
+
+    // Queued events per CRUD action (indexed by ordinal), in publication order.
+    private final List<QueuedEvent>[] queuedEvents;
+
+    public LifecycleHookDispatcher(EntityDictionary dictionary) {
+        this(dictionary, false);
+    }
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param dictionary the entity dictionary
+     * @param asyncPostCommit whether every post-commit hook is deferred, rather than only those marked async
+     */
+    @SuppressWarnings("unchecked")
+    public LifecycleHookDispatcher(EntityDictionary dictionary, boolean asyncPostCommit) {
+        this.dictionary = dictionary;
+        this.asyncPostCommit = asyncPostCommit;
+        this.queuedEvents = new List[CRUDEvent.CRUDAction.values().length];
+        for (int i = 0; i < queuedEvents.length; i++) {
+            queuedEvents[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Publishes an event.  Duplicates of an event already published in this request are ignored.
+     *
+     * @param event the event
+     * @throws RuntimeException if an immediate pre-security hook fails
+     */
+    public void publish(CRUDEvent event) {
+        CRUDEvent.CRUDAction action = event.getEventType();
+        int mask = dictionary.getTriggerMask(event.getResource().getResourceClass(), event.getFieldName())
+                & LifecycleHookPhase.mask(action);
+
+        if (mask == 0 || !published.add(event)) {
+            return;
+        }
+
+        //Create pre-security hooks are queued until the new object has been populated.
+        boolean create = action == CRUDEvent.CRUDAction.CREATE;
+        if (create || (mask & QUEUED_MASK) != 0) {
+            queuedEvents[action.ordinal()].add(new QueuedEvent(event, mask));
+        }
+        if (!create && (mask & LifecycleHookPhase.PRE_SECURITY.bit(action)) != 0) {
+            invoke(event, LifecycleHookPhase.PRE_SECURITY);
+        }
+
+        //Phases which were already dispatched run for late events right away.
+        for (LifecycleHookPhase phase : LifecycleHookPhase.values()) {
+            int bit = phase.bit(action);
+            if ((mask & dispatchedMask & bit) != 0 && (create || phase != LifecycleHookPhase.PRE_SECURITY)) {
+                invoke(event, phase);
+            }
+        }
+    }
+
+    /**
+     * Runs the hooks of a phase for the queued events of each action, one action at a time.  If a hook fails,
+     * the remaining events of that action are still dispatched, then the last failure is thrown.  Asynchronous
+     * post-commit hooks are not run but deferred (see {@link #takeAsyncHooks}).
+     *
+     * @param phase the phase
+     * @param actions the actions, in dispatch order
+     * @throws RuntimeException if a hook fails
+     */
+    public void dispatchQueued(LifecycleHookPhase phase, CRUDEvent.CRUDAction... actions) {
+        for (CRUDEvent.CRUDAction action : actions) {
+            int bit = phase.bit(action);
+            List<QueuedEvent> events = queuedEvents[action.ordinal()];
+            RuntimeException failure = null;
+
+            for (int i = 0; i < events.size(); i++) {
+                QueuedEvent queued = events.get(i);
+                if ((queued.mask & bit) == 0) {
+                    continue;
+                }
+                try {
+                    invoke(queued.event, phase);
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+
+            //Events published by the hooks above were appended to the list and dispatched with it.
+            dispatchedMask |= bit;
+
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Returns and clears the post-commit hooks deferred by {@link #dispatchQueued}.
+     *
+     * @return the deferred hook invocations, in dispatch order
+     */
+    public List<Runnable> takeAsyncHooks() {
+        List<Runnable> hooks = new ArrayList<>(asyncHooks);
+        asyncHooks.clear();
+        return hooks;
+    }
+
+    private void invoke(CRUDEvent event, LifecycleHookPhase phase) {
+        PersistentResource resource = event.getResource();
+        Class<?> resourceClass = resource.getResourceClass();
+        Class<? extends Annotation> annotation = phase.getAnnotation(event.getEventType());
+
+        //Hooks keyed on the specific field (or the class, for class level events).
+        for (LifeCycleHook hook : dictionary.getTriggers(resourceClass, annotation, event.getFieldName())) {
+            execute(hook, event, phase);
+        }
+
+        //Hooks keyed on any field.
+        if (!event.getFieldName().isEmpty()) {
+            for (LifeCycleHook hook : dictionary.getTriggers(resourceClass, annotation)) {
+                execute(hook, event, phase);
+            }
+        }
+    }
+
+    private void execute(LifeCycleHook hook, CRUDEvent event, LifecycleHookPhase phase) {
+        PersistentResource resource = event.getResource();
+        if (phase == LifecycleHookPhase.POST_COMMIT && (asyncPostCommit || hook.isAsync())) {
+            asyncHooks.add(() -> hook.execute(resource.getObject(), resource.getRequestScope(), event.getChanges()));
+        } else {
+            hook.execute(resource.getObject(), resource.getRequestScope(), event.getChanges());
+        }
+    }
+
+    private static int queuedMask() {
+        int mask = 0;
+        for (CRUDEvent.CRUDAction action : CRUDEvent.CRUDAction.values()) {
+            mask |= LifecycleHookPhase.PRE_COMMIT.bit(action) | LifecycleHookPhase.POST_COMMIT.bit(action);
+        }
+        return mask;
+    }
+
+    /**
+     * A queued event and the trigger mask it was published with.
+     */
+    @AllArgsConstructor
+    private static class QueuedEvent {
+        private final CRUDEvent event;
+        private final int mask;
+    }
+}
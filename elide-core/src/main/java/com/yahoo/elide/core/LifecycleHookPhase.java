@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.annotation.OnCreatePostCommit;
+import com.yahoo.elide.annotation.OnCreatePreCommit;
+import com.yahoo.elide.annotation.OnCreatePreSecurity;
+import com.yahoo.elide.annotation.OnDeletePostCommit;
+import com.yahoo.elide.annotation.OnDeletePreCommit;
+import com.yahoo.elide.annotation.OnDeletePreSecurity;
+import com.yahoo.elide.annotation.OnReadPostCommit;
+import com.yahoo.elide.annotation.OnReadPreCommit;
+import com.yahoo.elide.annotation.OnReadPreSecurity;
+import com.yahoo.elide.annotation.OnUpdatePostCommit;
+import com.yahoo.elide.annotation.OnUpdatePreCommit;
+import com.yahoo.elide.annotation.OnUpdatePreSecurity;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The points in a request at which lifecycle hooks run.
+ * <p>
+ * Each (CRUD action, phase) pair has one hook annotation and one bit in a trigger mask.  Entity bindings keep a
+ * mask of the hooks bound to each field so events for types without hooks can be discarded without looking up
+ * the hooks themselves.
+ */
+public enum LifecycleHookPhase {
+    PRE_SECURITY,
+    PRE_COMMIT,
+    POST_COMMIT;
+
+    private static final int PHASES = values().length;
+
+    @SuppressWarnings("unchecked")
+    private static final Class<? extends Annotation>[][] ANNOTATIONS =
+            new Class[CRUDEvent.CRUDAction.values().length][];
+    private static final Map<Class<? extends Annotation>, Integer> BITS = new HashMap<>();
+
+    static {
+        register(CRUDEvent.CRUDAction.CREATE, OnCreatePreSecurity.class, OnCreatePreCommit.class,
+                OnCreatePostCommit.class);
+        register(CRUDEvent.CRUDAction.READ, OnReadPreSecurity.class, OnReadPreCommit.class, OnReadPostCommit.class);
+        register(CRUDEvent.CRUDAction.UPDATE, OnUpdatePreSecurity.class, OnUpdatePreCommit.class,
+                OnUpdatePostCommit.class);
+        register(CRUDEvent.CRUDAction.DELETE, OnDeletePreSecurity.class, OnDeletePreCommit.class,
+                OnDeletePostCommit.class);
+    }
+
+    @SafeVarargs
+    private static void register(CRUDEvent.CRUDAction action, Class<? extends Annotation>... annotations) {
+        ANNOTATIONS[action.ordinal()] = annotations;
+        for (LifecycleHookPhase phase : values()) {
+            BITS.put(annotations[phase.ordinal()], phase.bit(action));
+        }
+    }
+
+    /**
+     * The trigger mask bit for hooks of this phase on the given action.
+     *
+     * @param action the CRUD action
+     * @return the bit
+     */
+    public int bit(CRUDEvent.CRUDAction action) {
+        return 1 << (action.ordinal() * PHASES + ordinal());
+    }
+
+    /**
+     * The hook annotation for this phase on the given action.
+     *
+     * @param action the CRUD action
+     * @return the annotation class (e.g. {@code OnUpdatePreCommit})
+     */
+    public Class<? extends Annotation> getAnnotation(CRUDEvent.CRUDAction action) {
+        return ANNOTATIONS[action.ordinal()][ordinal()];
+    }
+
+    /**
+     * The trigger mask bits for every phase of the given action.
+     *
+     * @param action the CRUD action
+     * @return the mask
+     */
+    public static int mask(CRUDEvent.CRUDAction action) {
+        return ((1 << PHASES) - 1) << (action.ordinal() * PHASES);
+    }
+
+    /**
+     * The trigger mask bit for a hook annotation.
+     *
+     * @param annotationClass the hook annotation
+     * @return the bit, or 0 if the annotation is not a lifecycle hook annotation
+     */
+    public static int bit(Class<? extends Annotation> annotationClass) {
+        return BITS.getOrDefault(annotationClass, 0);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.core.exceptions.HttpStatusException;
+import com.yahoo.elide.core.exceptions.InternalServerErrorException;
+import com.yahoo.elide.core.exceptions.InvalidAttributeException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.ws.rs.WebApplicationException;
+
+/**
+ * Reads the value of a {@link Path} from entities.
+ * <p>
+ * The field or method backing each path element is resolved once for the runtime class of the objects it is
+ * applied to and then reused, rather than being looked up in the {@link EntityDictionary} for every object.
+ * Instances are safe to share between threads.
+ */
+@Slf4j
+public class PathAccessor {
+    private final FieldAccessor[] accessors;
+
+    /**
+     * Constructor.
+     * @param path The path to read
+     * @param requestScope The request scope passed to computed attributes
+     */
+    public PathAccessor(Path path, RequestScope requestScope) {
+        this.accessors = path.getPathElements().stream()
+                .map(Path.PathElement::getFieldName)
+                .filter(fieldName -> !"this".equals(fieldName))
+                .map(fieldName -> new FieldAccessor(fieldName, requestScope))
+                .toArray(FieldAccessor[]::new);
+    }
+
+    /**
+     * Return value of field/path for given entity. For example this.book.author.  To-many relationships along the
+     * path are flattened into a set of the values reachable through them.
+     *
+     * @param entity Entity bean
+     * @return the value of the field
+     */
+    public Object getValue(Object entity) {
+        Object val = entity;
+        for (FieldAccessor accessor : accessors) {
+            if (val == null) {
+                break;
+            }
+            if (val instanceof Collection) {
+                val = ((Collection<?>) val).stream()
+                        .filter(Objects::nonNull)
+                        .map(accessor::getValue)
+                        .filter(Objects::nonNull)
+                        .flatMap(result -> {
+                            if (result instanceof Collection) {
+                                return ((Collection<?>) result).stream();
+                            }
+                            return Stream.of(result);
+                        })
+                        .collect(Collectors.toSet());
+            } else {
+                val = accessor.getValue(val);
+            }
+        }
+        return val;
+    }
+
+    /**
+     * Reads a single field, remembering how it was read for the last class it saw.
+     */
+    private static class FieldAccessor {
+        private final String fieldName;
+        private final RequestScope requestScope;
+
+        /* Immutable, so racing updates from concurrent readers are harmless */
+        private Resolved resolved;
+
+        FieldAccessor(String fieldName, RequestScope requestScope) {
+            this.fieldName = fieldName;
+            this.requestScope = requestScope;
+        }
+
+        Object getValue(Object target) {
+            Class<?> targetClass = target.getClass();
+            Resolved current = resolved;
+            if (current == null || current.targetClass != targetClass) {
+                current = resolve(targetClass);
+                resolved = current;
+            }
+
+            AccessibleObject accessor = current.accessor;
+            EntityDictionary dictionary = requestScope.getDictionary();
+            try {
+                if (accessor instanceof Method) {
+                    if (current.requestScopeable) {
+                        return ((Method) accessor).invoke(target, requestScope);
+                    }
+                    return ((Method) accessor).invoke(target);
+                }
+                if (accessor instanceof Field) {
+                    return ((Field) accessor).get(target);
+                }
+            } catch (IllegalAccessException e) {
+                throw new InvalidAttributeException(fieldName, dictionary.getJsonAliasFor(targetClass), e);
+            } catch (InvocationTargetException e) {
+                /* Translated the same way as EntityDictionary#getValue */
+                Throwable exception = e.getTargetException();
+                if (exception instanceof HttpStatusException || exception instanceof WebApplicationException) {
+                    throw (RuntimeException) exception;
+                }
+                log.error("Caught an unexpected exception (rethrowing as internal server error)", e);
+                throw new InternalServerErrorException("Unexpected exception caught", e);
+            }
+
+            /* Not a field or method: let the dictionary report the error */
+            return dictionary.getValue(target, fieldName, requestScope);
+        }
+
+        private Resolved resolve(Class<?> targetClass) {
+            EntityDictionary dictionary = requestScope.getDictionary();
+            AccessibleObject accessor = dictionary.getAccessibleObject(targetClass, fieldName);
+            boolean requestScopeable = accessor instanceof Method
+                    && dictionary.isMethodRequestScopeable(targetClass, (Method) accessor);
+            return new Resolved(targetClass, accessor, requestScopeable);
+        }
+    }
+
+    /**
+     * How to read a field from one class.
+     */
+    private static class Resolved {
+        private final Class<?> targetClass;
+        private final AccessibleObject accessor;
+        private final boolean requestScopeable;
+
+        Resolved(Class<?> targetClass, AccessibleObject accessor, boolean requestScopeable) {
+            this.targetClass = targetClass;
+            this.accessor = accessor;
+            this.requestScopeable = requestScopeable;
+        }
+    }
+}
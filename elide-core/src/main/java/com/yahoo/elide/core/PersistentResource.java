@@ -36,6 +36,7 @@ import com.yahoo.elide.utils.coerce.CoerceUtil;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -241,6 +242,18 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         }
     }
 
+    /**
+     * Whether the read permission filter of a class is present and equivalent to its read permission.
+     *
+     * @param loadClass the load class
+     * @param requestScope the request scope
+     * @return true if records loaded with the read permission filter need no further read check
+     */
+    private static boolean isReadPermissionFilterExact(Class<?> loadClass, RequestScope requestScope) {
+        return getPermissionFilterExpression(loadClass, requestScope).isPresent()
+                && requestScope.getPermissionExecutor().isReadPermissionFilterExact(loadClass);
+    }
+
     /**
      * Load a collection from the datastore.
      *
@@ -322,6 +335,44 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return allResources;
     }
 
+    /**
+     * Stream an entire collection from the datastore for bulk export.  Unlike {@link #loadRecords}, the
+     * collection is neither paginated nor collected: rows are wrapped and checked for read permission one at a
+     * time as the returned iterable is walked.  The caller must close it to release the data store cursor.
+     *
+     * @param loadClass the load class
+     * @param filter the request filter
+     * @param sorting the request sorting
+     * @param requestScope the request scope
+     * @return a lazy iterable of the readable resources
+     */
+    public static CloseableIterable<PersistentResource> streamRecords(
+            Class<?> loadClass,
+            Optional<FilterExpression> filter,
+            Optional<Sorting> sorting,
+            RequestScope requestScope) {
+
+        if (shouldSkipCollection(loadClass, ReadPermission.class, requestScope)) {
+            return CloseableIterable.of(Collections.emptyList(), () -> { });
+        }
+
+        Optional<FilterExpression> filterExpression = filter;
+        Optional<FilterExpression> permissionFilter = getPermissionFilterExpression(loadClass, requestScope);
+        if (permissionFilter.isPresent()) {
+            filterExpression = Optional.of(filter
+                    .map(fe -> (FilterExpression) new AndFilterExpression(fe, permissionFilter.get()))
+                    .orElse(permissionFilter.get()));
+        }
+
+        Iterable<Object> objects = requestScope.getTransaction()
+                .streamObjects(loadClass, filterExpression, sorting, requestScope);
+        Set<PersistentResource> resources = new PersistentResourceSet(objects, requestScope);
+
+        return CloseableIterable.of(
+                Iterables.filter(resources, resource -> isPermitted(ReadPermission.class, filter, resource)),
+                () -> CloseableIterable.close(objects));
+    }
+
     /**
      * Update attribute in existing resource.
      *
@@ -911,8 +962,13 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             Optional<Sorting> sorting,
             Optional<Pagination> pagination) {
 
-        return filter(ReadPermission.class, filterExpression,
-                getRelation(relationName, filterExpression, sorting, pagination, true));
+        Set<PersistentResource> resources = getRelation(relationName, filterExpression, sorting, pagination, true);
+
+        // The store confirmed it applied the read permission filter, which may make the check per record moot
+        boolean permissionFiltered = resources instanceof PersistentResourceSet
+                && ((PersistentResourceSet) resources).isFilteredByStore()
+                && isReadPermissionFilterExact(dictionary.getParameterizedType(obj, relationName), requestScope);
+        return filter(ReadPermission.class, filterExpression, resources, permissionFiltered);
     }
 
     private Set<PersistentResource> getRelationUncheckedUnfiltered(String relationName) {
@@ -1568,26 +1624,49 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
     protected static Set<PersistentResource> filter(Class<? extends Annotation> permission,
             Optional<FilterExpression> filter,
             Set<PersistentResource> resources) {
-        Set<PersistentResource> filteredSet = new LinkedHashSet<>();
-        for (PersistentResource resource : resources) {
-            try {
-                // NOTE: This is for avoiding filtering on _newly created_ objects within this transaction.
-                // Namely-- in a JSONPATCH request or GraphQL request-- we need to read all newly created
-                // resources /regardless/ of whether or not we actually have permission to do so; this is to
-                // retrieve the object id to return to the caller. If no fields on the object are readable by the caller
-                // then they will be filtered out and only the id is returned. Similarly, all future requests to this
-                // object will behave as expected.
-                if (!resource.getRequestScope().getNewResources().contains(resource)) {
-                    resource.checkFieldAwarePermissions(permission);
-                    // Verify fields have ReadPermission on filter join
-                    if (filter.isPresent()
-                            && !filter.get().accept(new VerifyFieldAccessFilterExpressionVisitor(resource))) {
-                        continue;
-                    }
+        return filter(permission, filter, resources, false);
+    }
+
+    /**
+     * Filter a set of PersistentResources.
+     * Verify fields have ReadPermission on filter join.
+     *
+     * @param permission the permission
+     * @param resources  the resources
+     * @param permissionFiltered whether the data store already applied an exact filter for the permission
+     * @return Filtered set of resources
+     */
+    private static Set<PersistentResource> filter(Class<? extends Annotation> permission,
+            Optional<FilterExpression> filter,
+            Set<PersistentResource> resources,
+            boolean permissionFiltered) {
+        if (permissionFiltered) {
+            Set<PersistentResource> filteredSet = new LinkedHashSet<>();
+            for (PersistentResource resource : resources) {
+                if (isJoinPermitted(filter, resource)) {
+                    filteredSet.add(resource);
                 }
+            }
+            return filteredSet;
+        }
+
+        // Resources may be backed by a cursor, so they are read once before the batch checks see them
+        List<PersistentResource> candidates = new ArrayList<>();
+        List<PersistentResource> existing = new ArrayList<>();
+        for (PersistentResource resource : resources) {
+            candidates.add(resource);
+            if (!resource.getRequestScope().getNewResources().contains(resource)) {
+                existing.add(resource);
+            }
+        }
+        if (!existing.isEmpty()) {
+            existing.get(0).getRequestScope().getPermissionExecutor().evaluateBatchChecks(permission, existing);
+        }
+
+        Set<PersistentResource> filteredSet = new LinkedHashSet<>();
+        for (PersistentResource resource : candidates) {
+            if (isPermitted(permission, filter, resource)) {
                 filteredSet.add(resource);
-            } catch (ForbiddenAccessException e) {
-                // Do nothing. Filter from set.
             }
         }
         // keep original SingleElementSet
@@ -1597,6 +1676,38 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return filteredSet;
     }
 
+    private static boolean isPermitted(Class<? extends Annotation> permission,
+            Optional<FilterExpression> filter,
+            PersistentResource resource) {
+        try {
+            // NOTE: This is for avoiding filtering on _newly created_ objects within this transaction.
+            // Namely-- in a JSONPATCH request or GraphQL request-- we need to read all newly created
+            // resources /regardless/ of whether or not we actually have permission to do so; this is to
+            // retrieve the object id to return to the caller. If no fields on the object are readable by the caller
+            // then they will be filtered out and only the id is returned. Similarly, all future requests to this
+            // object will behave as expected.
+            if (!resource.getRequestScope().getNewResources().contains(resource)) {
+                resource.checkFieldAwarePermissions(permission);
+                return isJoinPermitted(filter, resource);
+            }
+            return true;
+        } catch (ForbiddenAccessException e) {
+            // Do nothing. Filter from set.
+            return false;
+        }
+    }
+
+    private static boolean isJoinPermitted(Optional<FilterExpression> filter, PersistentResource resource) {
+        try {
+            // Verify fields have ReadPermission on filter join
+            return !filter.isPresent()
+                    || resource.getRequestScope().getNewResources().contains(resource)
+                    || filter.get().accept(new VerifyFieldAccessFilterExpressionVisitor(resource));
+        } catch (ForbiddenAccessException e) {
+            return false;
+        }
+    }
+
     /**
      * Filter a set of fields.
      *
@@ -1694,7 +1805,7 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         for (Audit annotation : annotations) {
             if (annotation.action().length == 1 && annotation.action()[0] == Audit.Action.UPDATE) {
                 LogMessage message = new LogMessage(annotation, this, Optional.of(changeSpec));
-                getRequestScope().getAuditLogger().log(message);
+                getRequestScope().getAuditLogger().log(message, getRequestScope());
             } else {
                 throw new InvalidSyntaxException("Only Audit.Action.UPDATE is allowed on fields.");
             }
@@ -1717,7 +1828,7 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             for (Audit.Action auditAction : annotation.action()) {
                 if (auditAction == action) { // compare object reference
                     LogMessage message = new LogMessage(annotation, this, Optional.ofNullable(changeSpec));
-                    getRequestScope().getAuditLogger().log(message);
+                    getRequestScope().getAuditLogger().log(message, getRequestScope());
                 }
             }
         }
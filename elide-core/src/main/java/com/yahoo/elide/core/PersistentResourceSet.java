@@ -32,6 +32,15 @@ public class PersistentResourceSet<T> extends AbstractSet<PersistentResource<T>>
         this(null, list, requestScope);
     }
 
+    /**
+     * Whether the data store confirmed it applied the complete filter expression to the wrapped records.
+     *
+     * @return true if the records are a {@link FilteredList}
+     */
+    public boolean isFilteredByStore() {
+        return list instanceof FilteredList;
+    }
+
     @Override
     public Iterator<PersistentResource<T>> iterator() {
         final Iterator<T> iterator = list.iterator();
@@ -6,22 +6,12 @@
 package com.yahoo.elide.core;
 
 import com.yahoo.elide.ElideSettings;
-import com.yahoo.elide.annotation.OnCreatePostCommit;
-import com.yahoo.elide.annotation.OnCreatePreCommit;
-import com.yahoo.elide.annotation.OnCreatePreSecurity;
-import com.yahoo.elide.annotation.OnDeletePostCommit;
-import com.yahoo.elide.annotation.OnDeletePreCommit;
-import com.yahoo.elide.annotation.OnDeletePreSecurity;
-import com.yahoo.elide.annotation.OnReadPostCommit;
-import com.yahoo.elide.annotation.OnReadPreCommit;
-import com.yahoo.elide.annotation.OnReadPreSecurity;
-import com.yahoo.elide.annotation.OnUpdatePostCommit;
-import com.yahoo.elide.annotation.OnUpdatePreCommit;
-import com.yahoo.elide.annotation.OnUpdatePreSecurity;
 import com.yahoo.elide.audit.AuditLogger;
+import com.yahoo.elide.audit.LogMessage;
 import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.core.exceptions.InvalidOperationException;
+import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.dialect.MultipleFilterDialect;
 import com.yahoo.elide.core.filter.dialect.ParseException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
@@ -29,16 +19,17 @@ import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.metrics.PhaseTimer;
+import com.yahoo.elide.metrics.RequestPhase;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.User;
 import com.yahoo.elide.security.executors.ActivePermissionExecutor;
 
-import io.reactivex.Observable;
-import io.reactivex.subjects.PublishSubject;
-import io.reactivex.subjects.ReplaySubject;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -47,7 +38,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
@@ -55,6 +51,7 @@ import javax.ws.rs.core.MultivaluedMap;
 /**
  * Request scope object for relaying request-related data to various subsystems.
  */
+@Slf4j
 public class RequestScope implements com.yahoo.elide.security.RequestScope {
     @Getter private final JsonApiDocument jsonApiDocument;
     @Getter private final DataStoreTransaction transaction;
@@ -62,6 +59,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
     @Getter private final EntityDictionary dictionary;
     @Getter private final JsonApiMapper mapper;
     @Getter private final AuditLogger auditLogger;
+    @Getter private final List<LogMessage> auditMessages;
     @Getter private final Optional<MultivaluedMap<String, String>> queryParams;
     @Getter private final Map<String, Set<String>> sparseFields;
     @Getter private final Pagination pagination;
@@ -79,10 +77,9 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
 
     @Getter private final MultipleFilterDialect filterDialect;
     private final Map<String, FilterExpression> expressionsByType;
+    private final Map<FilterPredicate, Predicate> inMemoryPredicates = new ConcurrentHashMap<>();
 
-    private PublishSubject<CRUDEvent> lifecycleEvents;
-    private Observable<CRUDEvent> distinctLifecycleEvents;
-    private ReplaySubject<CRUDEvent> queuedLifecycleEvents;
+    private final LifecycleHookDispatcher lifecycleHooks;
 
     /* Used to filter across heterogeneous types during the first load */
     private FilterExpression globalFilterExpression;
@@ -123,19 +120,16 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
                         User user,
                         MultivaluedMap<String, String> queryParams,
                         ElideSettings elideSettings) {
-        this.lifecycleEvents = PublishSubject.create();
-        this.distinctLifecycleEvents = lifecycleEvents.distinct();
-        this.queuedLifecycleEvents = ReplaySubject.create();
-        this.distinctLifecycleEvents.subscribe(queuedLifecycleEvents);
-
         this.path = path;
         this.baseUrlEndPoint = baseUrlEndPoint;
         this.jsonApiDocument = jsonApiDocument;
         this.transaction = transaction;
         this.user = user;
         this.dictionary = elideSettings.getDictionary();
+        this.lifecycleHooks = new LifecycleHookDispatcher(dictionary, elideSettings.isAsyncPostCommitTriggers());
         this.mapper = elideSettings.getMapper();
         this.auditLogger = elideSettings.getAuditLogger();
+        this.auditMessages = Collections.synchronizedList(new ArrayList<>());
         this.filterDialect = new MultipleFilterDialect(elideSettings.getJoinFilterDialects(),
                 elideSettings.getSubqueryFilterDialects());
         this.elideSettings = elideSettings;
@@ -158,8 +152,6 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
                 ? Optional.empty()
                 : Optional.of(queryParams);
 
-        registerPreSecurityObservers();
-
         if (this.queryParams.isPresent()) {
 
             /* Extract any query param that starts with 'filter' */
@@ -222,6 +214,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         this.dictionary = outerRequestScope.dictionary;
         this.mapper = outerRequestScope.mapper;
         this.auditLogger = outerRequestScope.auditLogger;
+        this.auditMessages = outerRequestScope.auditMessages;
         this.queryParams = Optional.empty();
         this.sparseFields = Collections.emptyMap();
         this.sorting = Sorting.getDefaultEmptyInstance();
@@ -236,9 +229,18 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         this.elideSettings = outerRequestScope.elideSettings;
         this.useFilterExpressions = outerRequestScope.useFilterExpressions;
         this.updateStatusCode = outerRequestScope.updateStatusCode;
-        this.lifecycleEvents = outerRequestScope.lifecycleEvents;
-        this.distinctLifecycleEvents = outerRequestScope.distinctLifecycleEvents;
-        this.queuedLifecycleEvents = outerRequestScope.queuedLifecycleEvents;
+        this.lifecycleHooks = outerRequestScope.lifecycleHooks;
+    }
+
+    /**
+     * Returns the in memory form of a filter predicate, compiling it the first time it is requested in this scope.
+     *
+     * @param filterPredicate The filter predicate
+     * @param <T> The type of entity the predicate is applied to
+     * @return the compiled predicate
+     */
+    public <T> Predicate<T> getInMemoryPredicate(FilterPredicate filterPredicate) {
+        return inMemoryPredicates.computeIfAbsent(filterPredicate, key -> key.apply(this));
     }
 
     @Override
@@ -358,60 +360,76 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
      * Run queued on triggers (i.e. @OnCreatePreSecurity, @OnUpdatePreSecurity, etc.).
      */
     public void runQueuedPreSecurityTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePreSecurity.class, false))
-                .throwOnError();
+        lifecycleHooks.dispatchQueued(LifecycleHookPhase.PRE_SECURITY, CRUDEvent.CRUDAction.CREATE);
     }
 
     /**
      * Run queued pre triggers (i.e. @OnCreatePreCommit, @OnUpdatePreCommit, etc.).
      */
     public void runQueuedPreCommitTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePreCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnUpdatePreCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnDeletePreCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnReadPreCommit.class, false))
-                .throwOnError();
+        lifecycleHooks.dispatchQueued(LifecycleHookPhase.PRE_COMMIT, CRUDEvent.CRUDAction.CREATE,
+                CRUDEvent.CRUDAction.UPDATE, CRUDEvent.CRUDAction.DELETE, CRUDEvent.CRUDAction.READ);
     }
 
     /**
      * Run queued post triggers (i.e. @OnCreatePostCommit, @OnUpdatePostCommit, etc.).
      */
     public void runQueuedPostCommitTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePostCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnUpdatePostCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnDeletePostCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnReadPostCommit.class, false))
-                .throwOnError();
+        runQueuedPostCommitTriggers(new PhaseTimer(elideSettings.getRequestObserver(), null, null));
+    }
+
+    /**
+     * Run queued post triggers (i.e. @OnCreatePostCommit, @OnUpdatePostCommit, etc.).  Asynchronous hooks are
+     * submitted to the post-commit executor, even if a synchronous hook fails.
+     *
+     * @param timer the timer to report the asynchronous hooks to
+     */
+    public void runQueuedPostCommitTriggers(PhaseTimer timer) {
+        try {
+            lifecycleHooks.dispatchQueued(LifecycleHookPhase.POST_COMMIT, CRUDEvent.CRUDAction.CREATE,
+                    CRUDEvent.CRUDAction.UPDATE, CRUDEvent.CRUDAction.DELETE, CRUDEvent.CRUDAction.READ);
+        } finally {
+            submitAsyncPostCommitTriggers(timer);
+        }
+    }
+
+    private void submitAsyncPostCommitTriggers(PhaseTimer timer) {
+        List<Runnable> hooks = lifecycleHooks.takeAsyncHooks();
+        if (hooks.isEmpty()) {
+            return;
+        }
+
+        Runnable task = () -> {
+            try {
+                timer.run(RequestPhase.ASYNC_POST_COMMIT_TRIGGERS, () -> runAsyncPostCommitTriggers(hooks));
+            } catch (RuntimeException e) {
+                // Already logged
+            }
+        };
+
+        Executor executor = elideSettings.getPostCommitExecutor() == null
+                ? ForkJoinPool.commonPool()
+                : elideSettings.getPostCommitExecutor();
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.error("Post-commit executor rejected {} asynchronous lifecycle hooks", hooks.size(), e);
+        }
+    }
+
+    private static void runAsyncPostCommitTriggers(List<Runnable> hooks) {
+        RuntimeException failure = null;
+        for (Runnable hook : hooks) {
+            try {
+                hook.run();
+            } catch (RuntimeException e) {
+                log.error("Asynchronous post-commit lifecycle hook failed", e);
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
     }
 
     /**
@@ -421,7 +439,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
      * @param crudAction CRUD action
      */
     protected void publishLifecycleEvent(PersistentResource<?> resource, CRUDEvent.CRUDAction crudAction) {
-        lifecycleEvents.onNext(
+        lifecycleHooks.publish(
                     new CRUDEvent(crudAction, resource, PersistentResource.CLASS_NO_FIELD, Optional.empty())
         );
     }
@@ -438,7 +456,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
                                          String fieldName,
                                          CRUDEvent.CRUDAction crudAction,
                                          Optional<ChangeSpec> changeSpec) {
-        lifecycleEvents.onNext(
+        lifecycleHooks.publish(
                     new CRUDEvent(crudAction, resource, fieldName, changeSpec)
         );
     }
@@ -483,19 +501,4 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
     private String getInheritanceKey(String subClass, String superClass) {
         return subClass + "!" + superClass;
     }
-
-    private void registerPreSecurityObservers() {
-
-        this.distinctLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnReadPreSecurity.class, true));
-
-        this.distinctLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnUpdatePreSecurity.class, true));
-
-        this.distinctLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnDeletePreSecurity.class, true));
-    }
 }
@@ -0,0 +1,23 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Allows the {@link CachingDataStore} to cache reads of an entity.  Intended for reference data which changes
+ * rarely and whose objects can be shared between transactions.
+ */
+@Target({TYPE})
+@Retention(RUNTIME)
+@Inherited
+public @interface Cacheable {
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data store which caches the results of reads from another store.
+ * <p>
+ * Only entities annotated with {@link Cacheable} are cached.  Results are keyed by the entity class along with the
+ * filter, sorting and pagination of the read and are held in a {@link GenerationalCache}, so a write transaction
+ * which commits a create, update or delete of a class invalidates every cached read of that class.
+ * <p>
+ * Only read transactions use the cache.  Write transactions bypass it so that the objects they modify are never
+ * the shared cached instances; they only record which classes to invalidate once they commit.
+ * <p>
+ * Cached objects are shared between read transactions, so the wrapped store must return objects which remain
+ * usable after the transaction that loaded them has closed.
+ */
+public class CachingDataStore implements DataStore {
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /**
+     * Identifies a single read.
+     */
+    @EqualsAndHashCode
+    @ToString
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    static class Key {
+        private final String operation;
+        private final Class<?> entityClass;
+        private final Serializable id;
+        private final String relationName;
+        private final FilterExpression filterExpression;
+        private final String sorting;
+        private final Integer offset;
+        private final Integer limit;
+        private final boolean generateTotals;
+        private final boolean probeNextPage;
+    }
+
+    /**
+     * A cached read along with the page totals and whether there is a next page, if it found them out.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    static class CachedResult {
+        private final Object value;
+        private final Long pageTotals;
+        private final Boolean hasNextPage;
+    }
+
+    private final DataStore wrappedStore;
+    @Getter(AccessLevel.PACKAGE) private final GenerationalCache cache;
+    private final Set<Class<?>> cacheableClasses = ConcurrentHashMap.newKeySet();
+
+    public CachingDataStore(DataStore wrappedStore) {
+        this(wrappedStore, new LruResultCache(DEFAULT_MAX_ENTRIES));
+    }
+
+    public CachingDataStore(DataStore wrappedStore, ResultCache resultCache) {
+        this.wrappedStore = wrappedStore;
+        this.cache = new GenerationalCache(resultCache);
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        wrappedStore.populateEntityDictionary(dictionary);
+
+        cacheableClasses.clear();
+        dictionary.getBindings().stream()
+                .filter(cls -> dictionary.getAnnotation(cls, Cacheable.class) != null)
+                .forEach(cacheableClasses::add);
+        cache.clear();
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new InvalidatingTransaction(wrappedStore.beginTransaction(), this::isCacheable,
+                cache::bumpGeneration);
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        return new CachingTransaction(wrappedStore.beginReadTransaction(), this);
+    }
+
+    /**
+     * Returns whether reads of an entity class may be cached.
+     * @param entityClass The entity class
+     * @return true if the class is annotated with {@link Cacheable}
+     */
+    public boolean isCacheable(Class<?> entityClass) {
+        return cacheableClasses.contains(entityClass);
+    }
+
+    /**
+     * Invalidates every cached read of an entity class.
+     * @param entityClass The modified class
+     */
+    public void bumpGeneration(Class<?> entityClass) {
+        cache.bumpGeneration(entityClass);
+    }
+
+    public ResultCache getResultCache() {
+        return cache.getStorage();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * Returns the number of results dropped by the eviction policy of the result cache.
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    /**
+     * Returns the fraction of reads answered from the cache.
+     * @return the hit ratio or 0 if there have been no reads
+     */
+    public double getHitRatio() {
+        return cache.getHitRatio();
+    }
+
+    @Override
+    public String toString() {
+        return "Cached:[" + String.valueOf(wrappedStore) + "]";
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.cache.CachingDataStore.CachedResult;
+import com.yahoo.elide.core.datastore.cache.CachingDataStore.Key;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Wraps a read transaction of the {@link CachingDataStore}.  Reads of cacheable entities are answered from the
+ * cache when possible.  Write transactions are wrapped by an {@link InvalidatingTransaction} instead.
+ */
+public class CachingTransaction extends TransactionWrapper {
+
+    private final CachingDataStore store;
+    private final GenerationalCache cache;
+
+    public CachingTransaction(DataStoreTransaction tx, CachingDataStore store) {
+        super(tx);
+        this.store = store;
+        this.cache = store.getCache();
+    }
+
+    @Override
+    public Iterable<Object> loadObjects(Class<?> entityClass,
+                                        Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting,
+                                        Optional<Pagination> pagination,
+                                        RequestScope requestScope) {
+        if (! store.isCacheable(entityClass)) {
+            return super.loadObjects(entityClass, filterExpression, sorting, pagination, requestScope);
+        }
+
+        Key key = key("loadObjects", entityClass, null, null, filterExpression, sorting, pagination);
+
+        return (Iterable<Object>) cached(key, pagination, () -> materialize(
+                super.loadObjects(entityClass, filterExpression, sorting, pagination, requestScope)), entityClass);
+    }
+
+    @Override
+    public Object loadObject(Class<?> entityClass, Serializable id, Optional<FilterExpression> filterExpression,
+                             RequestScope scope) {
+        if (! store.isCacheable(entityClass)) {
+            return super.loadObject(entityClass, id, filterExpression, scope);
+        }
+
+        Key key = key("loadObject", entityClass, id, null, filterExpression, Optional.empty(), Optional.empty());
+
+        return cached(key, Optional.empty(), () -> super.loadObject(entityClass, id, filterExpression, scope),
+                entityClass);
+    }
+
+    @Override
+    public Object getRelation(DataStoreTransaction relationTx, Object entity, String relationName,
+                              Optional<FilterExpression> filterExpression, Optional<Sorting> sorting,
+                              Optional<Pagination> pagination, RequestScope scope) {
+        EntityDictionary dictionary = scope.getDictionary();
+        Class<?> entityClass = dictionary.lookupBoundClass(entity.getClass());
+        Class<?> relationClass = dictionary.getParameterizedType(entity, relationName);
+        String id = dictionary.getId(entity);
+
+        if (id == null || ! store.isCacheable(entityClass) || ! store.isCacheable(relationClass)) {
+            return super.getRelation(relationTx, entity, relationName, filterExpression, sorting, pagination, scope);
+        }
+
+        Key key = key("getRelation", entityClass, id, relationName, filterExpression, sorting, pagination);
+
+        return cached(key, pagination, () -> materialize(super.getRelation(relationTx, entity, relationName,
+                filterExpression, sorting, pagination, scope)), entityClass, relationClass);
+    }
+
+    private Object cached(Key key, Optional<Pagination> pagination, Supplier<Object> reader,
+                          Class<?>... entityClasses) {
+        long generation = cache.getGeneration(entityClasses);
+
+        CachedResult result = (CachedResult) cache.get(key, generation);
+        Object value;
+        if (result == null) {
+            value = reader.get();
+
+            Long pageTotals = null;
+            if (pagination.isPresent() && pagination.get().isGenerateTotals()) {
+                pageTotals = pagination.get().getPageTotals();
+            }
+            Boolean hasNextPage = pagination.flatMap(Pagination::getHasNextPage).orElse(null);
+            cache.put(key, new CachedResult(value, pageTotals, hasNextPage), generation, entityClasses);
+        } else {
+            value = result.getValue();
+            if (result.getPageTotals() != null) {
+                pagination.get().setPageTotals(result.getPageTotals());
+            }
+            if (result.getHasNextPage() != null) {
+                pagination.get().setHasNextPage(result.getHasNextPage());
+            }
+        }
+
+        if (value instanceof List) {
+            /* Callers may sort or filter what they are given */
+            return new ArrayList<>((List<Object>) value);
+        }
+        return value;
+    }
+
+    private static Object materialize(Object value) {
+        if (value instanceof Iterable) {
+            List<Object> values = new ArrayList<>();
+            ((Iterable<Object>) value).forEach(values::add);
+            return values;
+        }
+        return value;
+    }
+
+    private static Key key(String operation, Class<?> entityClass, Serializable id, String relationName,
+                           Optional<FilterExpression> filterExpression, Optional<Sorting> sorting,
+                           Optional<Pagination> pagination) {
+        return new Key(operation,
+                entityClass,
+                id,
+                relationName,
+                filterExpression.orElse(null),
+                sorting.map(Sorting::toString).orElse(null),
+                pagination.map(Pagination::getOffset).orElse(null),
+                pagination.map(Pagination::getLimit).orElse(null),
+                pagination.map(Pagination::isGenerateTotals).orElse(false),
+                pagination.map(Pagination::isProbeNextPage).orElse(false));
+    }
+}
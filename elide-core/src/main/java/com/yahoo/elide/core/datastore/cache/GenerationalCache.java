@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import lombok.AllArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Results cached against the generations of the entity classes they were read from.
+ * <p>
+ * Every entity class has a generation which is bumped whenever a transaction commits a change to that class.
+ * Results are stored with the (summed) generation of the classes they depend on, read before the underlying store
+ * was queried, and are ignored once any of those generations has moved on.  Storage and eviction are left to a
+ * {@link ResultCache}.
+ */
+public class GenerationalCache {
+
+    /**
+     * A stored result along with the generation it was read against.
+     */
+    @AllArgsConstructor
+    private static class GenerationalResult {
+        private final long generation;
+        private final Object value;
+    }
+
+    private final ResultCache storage;
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public GenerationalCache(ResultCache storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the sum of the current generations of the given classes.  Generations only increase, so the sum
+     * changes whenever any of the classes is modified.
+     * @param entityClasses The classes a result depends on
+     * @return The combined generation
+     */
+    public long getGeneration(Class<?>... entityClasses) {
+        long generation = 0;
+        for (Class<?> entityClass : entityClasses) {
+            AtomicLong classGeneration = generations.get(entityClass);
+            generation += classGeneration == null ? 0 : classGeneration.get();
+        }
+        return generation;
+    }
+
+    /**
+     * Moves an entity class to a new generation, invalidating every result which depends on it.
+     * @param entityClass The modified class
+     */
+    public void bumpGeneration(Class<?> entityClass) {
+        generations.computeIfAbsent(entityClass, (key) -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Looks up a result.
+     * @param key The cache key
+     * @param generation The current generation of the classes the result depends on
+     * @return The cached value or null if there is no value for the current generation
+     */
+    public Object get(Object key, long generation) {
+        GenerationalResult result = (GenerationalResult) storage.get(key);
+
+        if (result != null && result.generation != generation) {
+            invalidationCount.incrementAndGet();
+            result = null;
+        }
+
+        if (result == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return result.value;
+    }
+
+    /**
+     * Stores a result.
+     * @param key The cache key
+     * @param value The result
+     * @param generation The generation of the classes the result depends on, read before it was computed
+     * @param entityClasses The classes the result depends on
+     */
+    public void put(Object key, Object value, long generation, Class<?>... entityClasses) {
+        if (generation != getGeneration(entityClasses)) {
+            /* A transaction committed a change while the result was computed */
+            return;
+        }
+        storage.put(key, new GenerationalResult(generation, value));
+    }
+
+    /**
+     * Drops every cached result.
+     */
+    public void clear() {
+        storage.clear();
+    }
+
+    public int size() {
+        return storage.size();
+    }
+
+    public ResultCache getStorage() {
+        return storage;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of results dropped by the eviction policy of the storage.
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return storage.getEvictionCount();
+    }
+
+    /**
+     * Returns the number of lookups which found a result for an older generation.
+     * @return the invalidation count
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    /**
+     * Returns the fraction of lookups answered from the cache.
+     * @return the hit ratio or 0 if there have been no lookups
+     */
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
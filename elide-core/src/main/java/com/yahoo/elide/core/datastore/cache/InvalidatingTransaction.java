@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Wraps a write transaction of a caching store.  Reads and writes go straight to the wrapped transaction, so
+ * nothing it loads or changes is shared with other transactions before it commits.  The classes it modified are
+ * invalidated once it commits; a transaction which rolls back invalidates nothing.
+ */
+public class InvalidatingTransaction extends TransactionWrapper {
+
+    private final Predicate<Class<?>> isCached;
+    private final Consumer<Class<?>> invalidate;
+    private final Set<Class<?>> modifiedClasses = new HashSet<>();
+
+    /**
+     * Constructor.
+     * @param tx The wrapped write transaction
+     * @param isCached Whether results for a class are cached
+     * @param invalidate Invalidates the cached results of a class
+     */
+    public InvalidatingTransaction(DataStoreTransaction tx, Predicate<Class<?>> isCached,
+                                   Consumer<Class<?>> invalidate) {
+        super(tx);
+        this.isCached = isCached;
+        this.invalidate = invalidate;
+    }
+
+    @Override
+    public void updateToManyRelation(DataStoreTransaction relationTx, Object entity, String relationName,
+                                     Set<Object> newRelationships, Set<Object> deletedRelationships,
+                                     RequestScope scope) {
+        markModified(entity);
+        newRelationships.forEach(this::markModified);
+        deletedRelationships.forEach(this::markModified);
+        super.updateToManyRelation(relationTx, entity, relationName, newRelationships, deletedRelationships, scope);
+    }
+
+    @Override
+    public void updateToOneRelation(DataStoreTransaction relationTx, Object entity,
+                                    String relationName, Object relationshipValue, RequestScope scope) {
+        markModified(entity);
+        markModified(relationshipValue);
+        super.updateToOneRelation(relationTx, entity, relationName, relationshipValue, scope);
+    }
+
+    @Override
+    public void createObject(Object o, RequestScope requestScope) {
+        markModified(o);
+        super.createObject(o, requestScope);
+    }
+
+    @Override
+    public void save(Object o, RequestScope requestScope) {
+        markModified(o);
+        super.save(o, requestScope);
+    }
+
+    @Override
+    public void delete(Object o, RequestScope requestScope) {
+        markModified(o);
+        super.delete(o, requestScope);
+    }
+
+    @Override
+    public void commit(RequestScope requestScope) {
+        super.commit(requestScope);
+
+        modifiedClasses.forEach(invalidate);
+        modifiedClasses.clear();
+    }
+
+    /**
+     * Records the class hierarchy of a modified object.  Reads of a super class can return its subclasses (and
+     * proxies subclass entities), so the whole hierarchy is invalidated when any class in it is cached.
+     */
+    private void markModified(Object o) {
+        if (o == null) {
+            return;
+        }
+
+        List<Class<?>> hierarchy = new ArrayList<>();
+        boolean cached = false;
+        for (Class<?> cls = o.getClass(); cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            hierarchy.add(cls);
+            cached = cached || isCached.test(cls);
+        }
+
+        if (cached) {
+            modifiedClasses.addAll(hierarchy);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import lombok.AllArgsConstructor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ResultCache} which holds a bounded number of results, evicting the least recently used, and optionally
+ * expires results a fixed time after they were stored.
+ */
+public class LruResultCache implements ResultCache {
+
+    @AllArgsConstructor
+    private static class StoredResult {
+        private final Object value;
+        private final long storedAt;
+    }
+
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final Map<Object, StoredResult> entries;
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Constructor for a cache whose results do not expire.
+     * @param maxEntries The maximum number of results to retain.
+     */
+    public LruResultCache(int maxEntries) {
+        this(maxEntries, null);
+    }
+
+    /**
+     * Constructor.
+     * @param maxEntries The maximum number of results to retain.
+     * @param timeToLive How long results are retained or null if they do not expire.
+     * @throws IllegalArgumentException if maxEntries is not positive.
+     */
+    public LruResultCache(int maxEntries, Duration timeToLive) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Result cache size must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLive == null ? 0 : timeToLive.toNanos();
+        this.entries = new LinkedHashMap<Object, StoredResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, StoredResult> eldest) {
+                if (size() > LruResultCache.this.maxEntries) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Object get(Object key) {
+        StoredResult entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (timeToLiveNanos > 0 && System.nanoTime() - entry.storedAt > timeToLiveNanos) {
+            entries.remove(key);
+            evictionCount.incrementAndGet();
+            return null;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public synchronized void put(Object key, Object value) {
+        entries.put(key, new StoredResult(value, System.nanoTime()));
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+}
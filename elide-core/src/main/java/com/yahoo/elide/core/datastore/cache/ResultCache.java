@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+/**
+ * Storage for the results cached by a {@link CachingDataStore}.  Implementations decide which entries to evict
+ * and when.  They must be safe for use by concurrent transactions.
+ */
+public interface ResultCache {
+
+    /**
+     * Looks up a cached result.
+     * @param key The cache key
+     * @return the cached result or null if there is none
+     */
+    Object get(Object key);
+
+    /**
+     * Stores a result.
+     * @param key The cache key
+     * @param value The result
+     */
+    void put(Object key, Object value);
+
+    /**
+     * Drops every cached result.
+     */
+    void clear();
+
+    /**
+     * Returns the number of results currently cached.
+     * @return the cache size
+     */
+    int size();
+
+    /**
+     * Returns the number of results dropped by the eviction policy.
+     * @return the eviction count
+     */
+    long getEvictionCount();
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Secondary index over a single attribute of a type stored in the {@link HashMapDataStore}.
+ * <p>
+ * The index maps attribute values to object identifiers.  Because objects are mutated in place before they are
+ * committed, the index also remembers the value each identifier was indexed under so it can be moved when the
+ * attribute changes.  Null values are not indexed.
+ * <p>
+ * Indexes are versioned with the snapshot of their type.  A commit updates a {@link #FieldIndex(FieldIndex) copy}
+ * and publishes it together with the new snapshot, so a reader always looks up the index of the snapshot it read.
+ * Every map of the index is a {@link PersistentTreeMap}, so the copy is constant time and each update only copies
+ * the paths it changes.  A published index is never modified.
+ * <p>
+ * Hash indexes order their values by hash code.  Distinct values which cannot be told apart that way share an
+ * entry, which only widens the candidates the in memory filter re-checks.
+ */
+class FieldIndex {
+    private static final Object NOT_INDEXED = new Object();
+
+    private static final Comparator<Object> NATURAL_ORDER = (left, right) -> ((Comparable) left).compareTo(right);
+
+    private static final Comparator<Object> HASH_ORDER = Comparator.comparingInt(Object::hashCode)
+            .thenComparing(value -> value.getClass().getName())
+            .thenComparing((left, right) -> (left instanceof Comparable) ? ((Comparable) left).compareTo(right) : 0);
+
+    @Getter private final String fieldName;
+    @Getter private final InMemoryIndex.Type type;
+    private final Class<?> fieldType;
+    private PersistentTreeMap<Object, PersistentTreeMap<String, String>> entries;
+    private PersistentTreeMap<String, Object> keysById;
+
+    FieldIndex(String fieldName, Class<?> fieldType, InMemoryIndex.Type type) {
+        this.fieldName = fieldName;
+        this.fieldType = fieldType;
+        this.type = type;
+        this.entries = PersistentTreeMap.empty((type == InMemoryIndex.Type.ORDERED) ? NATURAL_ORDER : HASH_ORDER);
+        this.keysById = PersistentTreeMap.empty();
+    }
+
+    /**
+     * Copies an index so that the copy can be updated without affecting readers of the original.
+     * @param other The published index
+     */
+    FieldIndex(FieldIndex other) {
+        this.fieldName = other.fieldName;
+        this.fieldType = other.fieldType;
+        this.type = other.type;
+        this.entries = other.entries;
+        this.keysById = other.keysById;
+    }
+
+    /**
+     * Indexes (or re-indexes) an object.
+     * @param id The object identifier
+     * @param instance The object
+     * @param dictionary Used to read the attribute
+     */
+    void update(String id, Object instance, EntityDictionary dictionary) {
+        Object key = dictionary.getValue(instance, fieldName, null);
+        Object newKey = (key == null) ? NOT_INDEXED : key;
+        Object oldKey = keysById.get(id);
+
+        if (newKey.equals(oldKey)) {
+            return;
+        }
+
+        keysById = keysById.put(id, newKey);
+        if (oldKey != null) {
+            unlink(oldKey, id);
+        }
+        if (newKey != NOT_INDEXED) {
+            PersistentTreeMap<String, String> ids = entries.get(newKey);
+            entries = entries.put(newKey, (ids == null ? PersistentTreeMap.<String, String>empty() : ids).put(id, id));
+        }
+    }
+
+    /**
+     * Removes an object from the index.
+     * @param id The object identifier
+     */
+    void remove(String id) {
+        Object oldKey = keysById.get(id);
+        if (oldKey != null) {
+            keysById = keysById.remove(id);
+            unlink(oldKey, id);
+        }
+    }
+
+    /**
+     * Whether this index can narrow the results of a predicate with the given operator.
+     * @param operator The predicate operator
+     * @return true if the index supports the operator
+     */
+    boolean supports(Operator operator) {
+        switch (operator) {
+            case IN:
+                return true;
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+                return type == InMemoryIndex.Type.ORDERED;
+            case PREFIX:
+                return type == InMemoryIndex.Type.ORDERED && fieldType == String.class;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the identifiers of every object which may match a predicate.
+     * @param operator The predicate operator
+     * @param values The predicate values
+     * @return The matching identifiers or empty if the index cannot answer the predicate.
+     */
+    Optional<Set<String>> lookup(Operator operator, List<Object> values) {
+        if (!supports(operator) || values.isEmpty() || values.contains(null)) {
+            return Optional.empty();
+        }
+
+        Set<String> ids = new HashSet<>();
+
+        /* Multiple values are OR'ed together */
+        for (Object value : values) {
+            Object bound = CoerceUtil.coerce(value, fieldType);
+            switch (operator) {
+                case IN:
+                    addAll(ids, entries.get(bound));
+                    break;
+                case LT:
+                    entries.forEachInRange(null, false, bound, false, (key, matches) -> addAll(ids, matches));
+                    break;
+                case LE:
+                    entries.forEachInRange(null, false, bound, true, (key, matches) -> addAll(ids, matches));
+                    break;
+                case GT:
+                    entries.forEachInRange(bound, false, null, false, (key, matches) -> addAll(ids, matches));
+                    break;
+                case GE:
+                    entries.forEachInRange(bound, true, null, false, (key, matches) -> addAll(ids, matches));
+                    break;
+                default:
+                    String prefix = (String) bound;
+                    entries.forEachInRange(prefix, true, successor(prefix), false,
+                            (key, matches) -> addAll(ids, matches));
+            }
+        }
+        return Optional.of(ids);
+    }
+
+    private void unlink(Object key, String id) {
+        if (key == NOT_INDEXED) {
+            return;
+        }
+        PersistentTreeMap<String, String> ids = entries.get(key);
+        if (ids == null) {
+            return;
+        }
+        ids = ids.remove(id);
+        entries = ids.isEmpty() ? entries.remove(key) : entries.put(key, ids);
+    }
+
+    /**
+     * Returns the smallest string greater than every string which starts with a prefix.  Strings compare by UTF-16
+     * code unit, so this increments the last code unit which is not {@link Character#MAX_VALUE}.
+     * @param prefix The prefix
+     * @return The successor or null if every string starting with the prefix is unbounded above
+     */
+    static String successor(String prefix) {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char c = prefix.charAt(i);
+            if (c != Character.MAX_VALUE) {
+                return prefix.substring(0, i) + (char) (c + 1);
+            }
+        }
+        return null;
+    }
+
+    private static void addAll(Set<String> ids, PersistentTreeMap<String, String> matches) {
+        if (matches != null) {
+            matches.forEach(entry -> ids.add(entry.getKey()));
+        }
+    }
+}
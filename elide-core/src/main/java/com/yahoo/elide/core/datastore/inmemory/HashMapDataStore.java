@@ -13,11 +13,10 @@ import com.yahoo.elide.core.datastore.test.DataStoreTestHarness;
 import com.yahoo.elide.utils.ClassScanner;
 
 import com.google.common.collect.Sets;
+import org.apache.commons.lang3.ClassUtils;
 import lombok.Getter;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,12 +24,22 @@ import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Simple in-memory only database.
+ * <p>
+ * Each type is stored as an immutable, insertion ordered snapshot of its objects.  Readers never lock and always
+ * see a consistent view.  Commits derive a new snapshot for each type they modify and swap it in atomically.  The
+ * new snapshot shares its structure with the previous one, so a commit costs O(log n) per modified object rather
+ * than a copy of the type (measured by {@code HashMapDataStoreBenchmark} in elide-benchmarks).
+ * <p>
+ * Attributes annotated with {@link InMemoryIndex} are additionally indexed so that equality, range, and prefix
+ * filters do not need to scan every object of the type.  The indexes are part of the snapshot of their type.
  */
 public class HashMapDataStore implements DataStore, DataStoreTestHarness {
-    private final Map<Class<?>, Map<String, Object>> dataStore = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Class<?>, Map<String, Object>> dataStore = new ConcurrentHashMap<>();
     @Getter private EntityDictionary dictionary;
     @Getter private final Set<Package> beanPackages;
     @Getter private final ConcurrentHashMap<Class<?>, AtomicLong> typeIds = new ConcurrentHashMap<>();
+    /* Empty indexes for each indexed type.  Snapshots hold the populated versions. */
+    private final Map<Class<?>, Map<String, FieldIndex>> indexes = new ConcurrentHashMap<>();
 
     public HashMapDataStore(Package beanPackage) {
         this(Sets.newHashSet(beanPackage));
@@ -42,7 +51,7 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
         for (Package beanPackage : beanPackages) {
             ClassScanner.getAnnotatedClasses(beanPackage, Include.class).stream()
                 .filter(modelClass -> modelClass.getName().startsWith(beanPackage.getName()))
-                .forEach(modelClass -> dataStore.put(modelClass, Collections.synchronizedMap(new LinkedHashMap<>())));
+                .forEach(modelClass -> dataStore.put(modelClass, TypeSnapshot.EMPTY));
         }
     }
 
@@ -52,12 +61,34 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
             dictionary.bindEntity(clazz);
         }
 
+        for (Class<?> clazz : dataStore.keySet()) {
+            Map<String, FieldIndex> typeIndexes = new HashMap<>();
+            for (String attribute : dictionary.getAttributes(clazz)) {
+                InMemoryIndex index =
+                        dictionary.getAttributeOrRelationAnnotation(clazz, InMemoryIndex.class, attribute);
+                if (index == null) {
+                    continue;
+                }
+
+                Class<?> attributeType = dictionary.getType(clazz, attribute);
+                if (index.value() == InMemoryIndex.Type.ORDERED
+                        && !Comparable.class.isAssignableFrom(ClassUtils.primitiveToWrapper(attributeType))) {
+                    throw new IllegalArgumentException(String.format(
+                            "Ordered index on %s.%s requires a Comparable type", clazz.getName(), attribute));
+                }
+                typeIndexes.put(attribute, new FieldIndex(attribute, attributeType, index.value()));
+            }
+            if (!typeIndexes.isEmpty()) {
+                indexes.put(clazz, typeIndexes);
+            }
+        }
+
         this.dictionary = dictionary;
     }
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new HashMapStoreTransaction(dataStore, dictionary, typeIds);
+        return new HashMapStoreTransaction(dataStore, dictionary, typeIds, indexes);
     }
 
     @Override
@@ -80,9 +111,7 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
 
     @Override
     public void cleanseTestData() {
-        for (Map<String, Object> objects : dataStore.values()) {
-            objects.clear();
-        }
+        dataStore.replaceAll((type, objects) -> TypeSnapshot.EMPTY);
         typeIds.clear();
     }
 }
@@ -7,19 +7,32 @@ package com.yahoo.elide.core.datastore.inmemory;
 
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import javax.persistence.GeneratedValue;
 
@@ -31,13 +44,21 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     private final List<Operation> operations;
     private final EntityDictionary dictionary;
     private final Map<Class<?>, AtomicLong> typeIds;
+    private final Map<Class<?>, Map<String, FieldIndex>> indexes;
 
     public HashMapStoreTransaction(Map<Class<?>, Map<String, Object>> dataStore,
                                    EntityDictionary dictionary, Map<Class<?>, AtomicLong> typeIds) {
+        this(dataStore, dictionary, typeIds, Collections.emptyMap());
+    }
+
+    HashMapStoreTransaction(Map<Class<?>, Map<String, Object>> dataStore,
+                            EntityDictionary dictionary, Map<Class<?>, AtomicLong> typeIds,
+                            Map<Class<?>, Map<String, FieldIndex>> indexes) {
         this.dataStore = dataStore;
         this.dictionary = dictionary;
         this.operations = new ArrayList<>();
         this.typeIds = typeIds;
+        this.indexes = indexes;
     }
 
     @Override
@@ -70,24 +91,86 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
 
     @Override
     public void commit(RequestScope scope) {
-        synchronized (dataStore) {
-            operations.stream()
-                    .filter(op -> op.getInstance() != null)
-                    .forEach(op -> {
-                        Object instance = op.getInstance();
-                        String id = op.getId();
-                        Map<String, Object> data = dataStore.get(op.getType());
-                        if (op.getOpType() == Operation.OpType.DELETE) {
-                            data.remove(id);
-                        } else {
-                            if (op.getOpType() == Operation.OpType.CREATE && data.get(id) != null) {
-                                throw new TransactionException(new IllegalStateException("Duplicate key"));
-                            }
-                            data.put(id, instance);
-                        }
-                    });
-            operations.clear();
+        /* Group the operations by type so each type is replaced by a single atomic swap */
+        Map<Class<?>, List<Operation>> operationsByType = operations.stream()
+                .filter(op -> op.getInstance() != null)
+                .collect(Collectors.groupingBy(Operation::getType, LinkedHashMap::new, Collectors.toList()));
+
+        operationsByType.forEach((type, typeOperations) ->
+                dataStore.compute(type, (key, current) -> applyOperations(type, current, typeOperations)));
+
+        operations.clear();
+    }
+
+    /**
+     * Builds the next snapshot of a type by applying the operations to the current one.
+     * The secondary indexes of the type are updated along with it, so both are published together.  Neither the
+     * objects nor the indexes of the current snapshot are copied; the next version shares them.
+     * @param type The type being modified
+     * @param current The current snapshot
+     * @param typeOperations The operations of this transaction for the type
+     * @return An immutable snapshot
+     */
+    private Map<String, Object> applyOperations(Class<?> type, Map<String, Object> current,
+                                                List<Operation> typeOperations) {
+        TypeSnapshot snapshot = toSnapshot(current);
+        Map<String, FieldIndex> currentIndexes = snapshot.getIndexes();
+
+        for (Operation op : typeOperations) {
+            String id = op.getId();
+            if (op.getOpType() == Operation.OpType.DELETE) {
+                snapshot = snapshot.without(id);
+            } else {
+                if (op.getOpType() == Operation.OpType.CREATE && snapshot.get(id) != null) {
+                    throw new TransactionException(new IllegalStateException("Duplicate key"));
+                }
+                snapshot = snapshot.with(id, op.getInstance());
+            }
+        }
+
+        Map<String, FieldIndex> indexDefinitions = indexes.get(type);
+        if (indexDefinitions == null) {
+            return snapshot;
+        }
+
+        Map<String, FieldIndex> typeIndexes = new HashMap<>();
+        if (currentIndexes.keySet().equals(indexDefinitions.keySet())) {
+            currentIndexes.forEach((field, index) -> {
+                FieldIndex next = new FieldIndex(index);
+                for (Operation op : typeOperations) {
+                    if (op.getOpType() == Operation.OpType.DELETE) {
+                        next.remove(op.getId());
+                    } else {
+                        next.update(op.getId(), op.getInstance(), dictionary);
+                    }
+                }
+                typeIndexes.put(field, next);
+            });
+        } else {
+            /* The first commit of the type indexes everything it holds */
+            TypeSnapshot objects = snapshot;
+            indexDefinitions.forEach((field, definition) -> {
+                FieldIndex index = new FieldIndex(definition);
+                objects.forEach((id, instance) -> index.update(id, instance, dictionary));
+                typeIndexes.put(field, index);
+            });
+        }
+
+        return snapshot.withIndexes(typeIndexes);
+    }
+
+    private static TypeSnapshot toSnapshot(Map<String, Object> current) {
+        if (current instanceof TypeSnapshot) {
+            return (TypeSnapshot) current;
         }
+
+        TypeSnapshot snapshot = TypeSnapshot.EMPTY;
+        if (current != null) {
+            for (Map.Entry<String, Object> entry : current.entrySet()) {
+                snapshot = snapshot.with(entry.getKey(), entry.getValue());
+            }
+        }
+        return snapshot;
     }
 
     @Override
@@ -104,17 +187,14 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
         //GeneratedValue means the DB needs to assign the ID.
         if (dictionary.getAttributeOrRelationAnnotation(entityClass, GeneratedValue.class, idFieldName) != null) {
             // TODO: Id's are not necessarily numeric.
-            AtomicLong nextId;
-            synchronized (dataStore) {
-                nextId = typeIds.computeIfAbsent(entityClass,
-                        (key) -> {
-                            long maxId = dataStore.get(key).keySet().stream()
-                                    .mapToLong(Long::parseLong)
-                                    .max()
-                                    .orElse(0);
-                            return new AtomicLong(maxId + 1);
-                        });
-            }
+            AtomicLong nextId = typeIds.computeIfAbsent(entityClass,
+                    (key) -> {
+                        long maxId = dataStore.get(key).keySet().stream()
+                                .mapToLong(Long::parseLong)
+                                .max()
+                                .orElse(0);
+                        return new AtomicLong(maxId + 1);
+                    });
             id = String.valueOf(nextId.getAndIncrement());
             setId(entity, id);
         } else {
@@ -143,10 +223,39 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     public Iterable<Object> loadObjects(Class<?> entityClass, Optional<FilterExpression> filterExpression,
                                         Optional<Sorting> sorting, Optional<Pagination> pagination,
                                         RequestScope scope) {
-        synchronized (dataStore) {
-            Map<String, Object> data = dataStore.get(entityClass);
+        /* Snapshots are immutable so the view remains consistent after we return it */
+        Map<String, Object> data = dataStore.get(entityClass);
+
+        if (!(data instanceof TypeSnapshot) || !filterExpression.isPresent()) {
             return data.values();
         }
+
+        /* The indexes of a snapshot describe exactly its objects */
+        Map<String, FieldIndex> typeIndexes = ((TypeSnapshot) data).getIndexes();
+        Optional<Set<String>> candidates =
+                filterExpression.get().accept(new IndexLookupVisitor(entityClass, typeIndexes));
+        if (!candidates.isPresent()) {
+            return data.values();
+        }
+
+        return candidates.get().stream()
+                .map(data::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Object> getVersionSummary(Class<?> entityClass, RequestScope scope) {
+        Map<String, Object> data = dataStore.get(entityClass);
+        if (data == null || dictionary.getVersionFieldName(entityClass) == null) {
+            return Optional.empty();
+        }
+
+        long versionHash = data.entrySet().stream()
+                .mapToLong(entry -> Objects.hash(entry.getKey(), dictionary.getVersion(entry.getValue())))
+                .sum();
+
+        return Optional.of(Arrays.asList(data.size(), versionHash));
     }
 
     @Override
@@ -154,13 +263,11 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
                              Optional<FilterExpression> filterExpression,
                              RequestScope scope) {
 
-        synchronized (dataStore) {
-            Map<String, Object> data = dataStore.get(entityClass);
-            if (data == null) {
-                return null;
-            }
-            return data.get(id.toString());
+        Map<String, Object> data = dataStore.get(entityClass);
+        if (data == null) {
+            return null;
         }
+        return data.get(id.toString());
     }
 
     @Override
@@ -170,6 +277,11 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
 
     @Override
     public FeatureSupport supportsFiltering(Class<?> entityClass, FilterExpression expression) {
+        Map<String, FieldIndex> typeIndexes = indexes.get(entityClass);
+        if (typeIndexes != null && expression.accept(new IndexSupportVisitor(entityClass, typeIndexes))) {
+            /* The index narrows the candidates but the full expression is still evaluated in memory */
+            return FeatureSupport.PARTIAL;
+        }
         return FeatureSupport.NONE;
     }
 
@@ -186,4 +298,120 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     private boolean containsObject(Object obj) {
         return dataStore.get(obj.getClass()).containsValue(obj);
     }
+
+    /**
+     * Returns the index that can narrow a predicate or null if there isn't one.
+     * @param entityClass The type being filtered
+     * @param typeIndexes The indexes of the type being filtered
+     * @param predicate The predicate
+     * @return the index or null
+     */
+    private static FieldIndex findIndex(Class<?> entityClass, Map<String, FieldIndex> typeIndexes,
+                                        FilterPredicate predicate) {
+        List<Path.PathElement> pathElements = predicate.getPath().getPathElements();
+        if (pathElements.size() != 1 || pathElements.get(0).getType() != entityClass) {
+            return null;
+        }
+
+        FieldIndex index = typeIndexes.get(predicate.getField());
+        if (index == null || !index.supports(predicate.getOperator())) {
+            return null;
+        }
+        return index;
+    }
+
+    /**
+     * Determines whether the indexes of a type can narrow the objects which match a filter expression.
+     */
+    private static class IndexSupportVisitor implements FilterExpressionVisitor<Boolean> {
+        private final Class<?> entityClass;
+        private final Map<String, FieldIndex> typeIndexes;
+
+        IndexSupportVisitor(Class<?> entityClass, Map<String, FieldIndex> typeIndexes) {
+            this.entityClass = entityClass;
+            this.typeIndexes = typeIndexes;
+        }
+
+        @Override
+        public Boolean visitPredicate(FilterPredicate filterPredicate) {
+            return findIndex(entityClass, typeIndexes, filterPredicate) != null;
+        }
+
+        @Override
+        public Boolean visitAndExpression(AndFilterExpression expression) {
+            return expression.getLeft().accept(this) || expression.getRight().accept(this);
+        }
+
+        @Override
+        public Boolean visitOrExpression(OrFilterExpression expression) {
+            return expression.getLeft().accept(this) && expression.getRight().accept(this);
+        }
+
+        @Override
+        public Boolean visitNotExpression(NotFilterExpression expression) {
+            return false;
+        }
+    }
+
+    /**
+     * Computes the identifiers of the objects which may match a filter expression using the indexes of a type.
+     * Returns empty when the expression cannot be narrowed by the indexes.
+     */
+    private static class IndexLookupVisitor implements FilterExpressionVisitor<Optional<Set<String>>> {
+        private final Class<?> entityClass;
+        private final Map<String, FieldIndex> typeIndexes;
+
+        IndexLookupVisitor(Class<?> entityClass, Map<String, FieldIndex> typeIndexes) {
+            this.entityClass = entityClass;
+            this.typeIndexes = typeIndexes;
+        }
+
+        @Override
+        public Optional<Set<String>> visitPredicate(FilterPredicate filterPredicate) {
+            FieldIndex index = findIndex(entityClass, typeIndexes, filterPredicate);
+            if (index == null) {
+                return Optional.empty();
+            }
+            return index.lookup(filterPredicate.getOperator(), filterPredicate.getValues());
+        }
+
+        @Override
+        public Optional<Set<String>> visitAndExpression(AndFilterExpression expression) {
+            Optional<Set<String>> left = expression.getLeft().accept(this);
+            Optional<Set<String>> right = expression.getRight().accept(this);
+
+            if (!left.isPresent()) {
+                return right;
+            }
+            if (!right.isPresent()) {
+                return left;
+            }
+
+            Set<String> smaller = left.get().size() <= right.get().size() ? left.get() : right.get();
+            Set<String> larger = smaller == left.get() ? right.get() : left.get();
+            smaller.retainAll(larger);
+            return Optional.of(smaller);
+        }
+
+        @Override
+        public Optional<Set<String>> visitOrExpression(OrFilterExpression expression) {
+            Optional<Set<String>> left = expression.getLeft().accept(this);
+            if (!left.isPresent()) {
+                return left;
+            }
+
+            Optional<Set<String>> right = expression.getRight().accept(this);
+            if (!right.isPresent()) {
+                return right;
+            }
+
+            left.get().addAll(right.get());
+            return left;
+        }
+
+        @Override
+        public Optional<Set<String>> visitNotExpression(NotFilterExpression expression) {
+            return Optional.empty();
+        }
+    }
 }
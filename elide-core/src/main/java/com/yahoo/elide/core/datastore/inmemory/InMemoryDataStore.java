@@ -17,9 +17,21 @@ import com.yahoo.elide.core.EntityDictionary;
 public class InMemoryDataStore implements DataStore {
 
     private DataStore wrappedStore;
+    private int parallelFilterThreshold;
 
     public InMemoryDataStore(DataStore wrappedStore) {
+        this(wrappedStore, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param wrappedStore The store to wrap
+     * @param parallelFilterThreshold The minimum number of records filtered in memory in parallel (0 disables)
+     */
+    public InMemoryDataStore(DataStore wrappedStore, int parallelFilterThreshold) {
         this.wrappedStore = wrappedStore;
+        this.parallelFilterThreshold = parallelFilterThreshold;
     }
 
     @Deprecated
@@ -34,12 +46,12 @@ public class InMemoryDataStore implements DataStore {
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new InMemoryStoreTransaction(wrappedStore.beginTransaction());
+        return new InMemoryStoreTransaction(wrappedStore.beginTransaction(), parallelFilterThreshold);
     }
 
     @Override
     public DataStoreTransaction beginReadTransaction() {
-        return new InMemoryStoreTransaction(wrappedStore.beginReadTransaction());
+        return new InMemoryStoreTransaction(wrappedStore.beginReadTransaction(), parallelFilterThreshold);
     }
 
     @Override
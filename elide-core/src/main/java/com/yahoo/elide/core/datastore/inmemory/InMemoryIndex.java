@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Requests that the {@link HashMapDataStore} maintain a secondary index for an attribute.  Filters on indexed
+ * attributes are answered from the index rather than by scanning every object of the type.
+ */
+@Target({METHOD, FIELD})
+@Retention(RUNTIME)
+public @interface InMemoryIndex {
+
+    /**
+     * The kind of index to maintain.
+     */
+    enum Type {
+        /**
+         * Hash index.  Supports equality ('in') predicates.
+         */
+        HASH,
+
+        /**
+         * Sorted index.  Supports equality, range ('lt', 'le', 'gt', 'ge') and string 'prefix' predicates.
+         * The attribute type must be {@link Comparable}.
+         */
+        ORDERED
+    }
+
+    /**
+     * The kind of index to maintain.
+     * @return the index type
+     */
+    Type value() default Type.HASH;
+}
@@ -6,10 +6,11 @@
 
 package com.yahoo.elide.core.datastore.inmemory;
 
+import com.yahoo.elide.core.CloseableIterable;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
-import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.PathAccessor;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterPredicatePushdownExtractor;
@@ -20,15 +21,21 @@ import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.security.User;
 import org.apache.commons.lang3.tuple.Pair;
 
+import lombok.Getter;
+
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -54,6 +61,7 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
     };
 
     private DataStoreTransaction tx;
+    private int parallelFilterThreshold;
 
     /**
      * Fetches data from the store.
@@ -68,7 +76,18 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
 
 
     public InMemoryStoreTransaction(DataStoreTransaction tx) {
+        this(tx, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tx The transaction to wrap
+     * @param parallelFilterThreshold The minimum number of records filtered in memory in parallel (0 disables)
+     */
+    public InMemoryStoreTransaction(DataStoreTransaction tx, int parallelFilterThreshold) {
         this.tx = tx;
+        this.parallelFilterThreshold = parallelFilterThreshold;
     }
 
 
@@ -92,6 +111,17 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         tx.preCommit();
     }
 
+    @Override
+    public Optional<Object> getVersionSummary(Class<?> entityClass, RequestScope scope) {
+        return tx.getVersionSummary(entityClass, scope);
+    }
+
+    @Override
+    public boolean supportsNextPageProbe(Class<?> entityClass) {
+        /* Pages which are cut in memory probe the next page in memory */
+        return !tx.supportsPagination(entityClass) || tx.supportsNextPageProbe(entityClass);
+    }
+
     @Override
     public <T> T createNewObject(Class<T> entityClass) {
         return tx.createNewObject(entityClass);
@@ -207,6 +237,36 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                 filterExpression, sorting, pagination, false, scope);
     }
 
+    @Override
+    public Iterable<Object> streamObjects(Class<?> entityClass,
+                                          Optional<FilterExpression> filterExpression,
+                                          Optional<Sorting> sorting,
+                                          RequestScope scope) {
+
+        AtomicReference<Iterable<Object>> streamed = new AtomicReference<>();
+        DataFetcher fetcher = new DataFetcher() {
+            @Override
+            public Iterable<Object> fetch(Optional<FilterExpression> filterExpression,
+                                          Optional<Sorting> sorting,
+                                          Optional<Pagination> pagination,
+                                          RequestScope scope) {
+                streamed.set(tx.streamObjects(entityClass, filterExpression, sorting, scope));
+                return streamed.get();
+            }
+        };
+
+        Iterable<Object> results = (Iterable<Object>) fetchData(fetcher, entityClass,
+                filterExpression, sorting, Optional.empty(), false, scope);
+
+        /* In memory filtering and sorting wrap the streamed rows, so close the wrapped store's cursor */
+        return CloseableIterable.of(results, () -> CloseableIterable.close(streamed.get()));
+    }
+
+    @Override
+    public void releaseLoadedObjects(RequestScope scope) {
+        tx.releaseLoadedObjects(scope);
+    }
+
     @Override
     public void close() throws IOException {
         tx.close();
@@ -221,7 +281,11 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
 
         Predicate predicate = filterExpression.get().accept(new InMemoryFilterExecutor(scope));
 
-        return StreamSupport.stream(loadedRecords.spliterator(), false)
+        boolean parallel = parallelFilterThreshold > 0
+                && loadedRecords instanceof Collection
+                && ((Collection<Object>) loadedRecords).size() >= parallelFilterThreshold;
+
+        return StreamSupport.stream(loadedRecords.spliterator(), parallel)
                             .filter(predicate::test)
                             .collect(Collectors.toList());
     }
@@ -296,76 +360,160 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         if (sortRules.isEmpty() && ! pagination.isPresent()) {
             return loadedRecords;
         }
-        //We need an in memory copy to sort or paginate.
-        List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false).collect(Collectors.toList());
 
-        if (! sortRules.isEmpty()) {
-            results = sortInMemory(results, sortRules, scope);
+        if (sortRules.isEmpty()) {
+            return paginateInMemory(loadedRecords, pagination.get());
         }
 
+        Comparator<SortKey> comparator = getComparator(sortRules);
+        List<PathAccessor> sortPaths = sortRules.keySet().stream()
+                .map(path -> new PathAccessor(path, scope))
+                .collect(Collectors.toList());
+
         if (pagination.isPresent()) {
-            results = paginateInMemory(results, pagination.get());
+            return sortAndPaginateInMemory(loadedRecords, sortPaths, comparator, pagination.get());
         }
 
-        return results;
+        return sortInMemory(loadedRecords, sortPaths, comparator);
     }
 
-    private List<Object> paginateInMemory(List<Object> records, Pagination pagination) {
+    /**
+     * Pages through the records without copying them.  The records are only read past the end of the page
+     * if the page totals were requested, or by one record to find out whether there is a next page.
+     */
+    private List<Object> paginateInMemory(Iterable<Object> records, Pagination pagination) {
         int offset = pagination.getOffset();
-        int limit = pagination.getLimit();
-        if (offset < 0 || offset >= records.size()) {
+        long endIdx = (long) offset + pagination.getLimit();
+        if (offset < 0) {
             return Collections.emptyList();
         }
 
-        int endIdx = offset + limit;
-        if (endIdx > records.size()) {
-            endIdx = records.size();
-        }
+        List<Object> results = new ArrayList<>();
+        long count = 0;
+        for (Object record : records) {
+            if (count >= offset && count < endIdx) {
+                results.add(record);
+            }
+            count++;
 
-        if (pagination.isGenerateTotals()) {
-            pagination.setPageTotals(records.size());
+            if (count >= endIdx && ! pagination.isGenerateTotals()
+                    && (count > endIdx || ! pagination.isProbeNextPage())) {
+                break;
+            }
         }
-        return records.subList(offset, endIdx);
+
+        return pageOf(results, count, pagination);
     }
 
-    private List<Object> sortInMemory(List<Object> records,
-                                        Map<Path, Sorting.SortOrder> sortRules,
-                                        RequestScope scope) {
-        //Build a comparator that handles multiple comparison rules.
-        Comparator<Object> noSort = (left, right) -> 0;
-
-        Comparator<Object> comp = sortRules.entrySet().stream()
-            .map(entry -> getComparator(entry.getKey(), entry.getValue(), scope))
-            .reduce(noSort, (comparator1, comparator2) -> (left, right) -> {
-                int comparison = comparator1.compare(left, right);
-                if (comparison == 0) {
-                    return comparator2.compare(left, right);
-                }
-                return comparison;
-            });
+    private List<Object> sortInMemory(Iterable<Object> records,
+                                      List<PathAccessor> sortPaths,
+                                      Comparator<SortKey> comparator) {
+        List<SortKey> keys = new ArrayList<>();
+        long index = 0;
+        for (Object record : records) {
+            keys.add(new SortKey(record, sortPaths, index++));
+        }
 
-        records.sort(comp);
-        return records;
+        keys.sort(comparator);
+        return keys.stream().map(SortKey::getRecord).collect(Collectors.toList());
     }
 
-    private Comparator<Object> getComparator(Path path, Sorting.SortOrder order, RequestScope requestScope) {
-        return (left, right) -> {
-            Object leftCompare = left;
-            Object rightCompare = right;
+    /**
+     * Sorts and paginates the records.  Only the first offset+limit records (in sort order) are retained, so a
+     * small page over a large collection does not require sorting the entire collection.
+     */
+    private List<Object> sortAndPaginateInMemory(Iterable<Object> records,
+                                                 List<PathAccessor> sortPaths,
+                                                 Comparator<SortKey> comparator,
+                                                 Pagination pagination) {
+        int offset = pagination.getOffset();
+        long bound = (long) offset + pagination.getLimit();
+        if (offset < 0) {
+            return Collections.emptyList();
+        }
+
+        if (bound > Integer.MAX_VALUE
+                || (records instanceof Collection && bound >= ((Collection<Object>) records).size())) {
+            List<Object> sorted = sortInMemory(records, sortPaths, comparator);
+            List<Object> results = sorted.subList(Math.min(offset, sorted.size()),
+                    (int) Math.min(bound, sorted.size()));
+            return pageOf(results, sorted.size(), pagination);
+        }
 
-            // Drill down into path to find value for comparison
-            for (Path.PathElement pathElement : path.getPathElements()) {
-                leftCompare = (leftCompare == null ? null
-                        : PersistentResource.getValue(leftCompare, pathElement.getFieldName(), requestScope));
-                rightCompare = (rightCompare == null ? null
-                        : PersistentResource.getValue(rightCompare, pathElement.getFieldName(), requestScope));
+        /* Max heap of the best records seen so far: the root is the first record to drop */
+        PriorityQueue<SortKey> heap = new PriorityQueue<>(Math.max(1, (int) bound), comparator.reversed());
+        long count = 0;
+        for (Object record : records) {
+            SortKey key = new SortKey(record, sortPaths, count++);
+            if (heap.size() < bound) {
+                heap.add(key);
+            } else if (bound > 0 && comparator.compare(key, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(key);
             }
+        }
+
+        List<SortKey> best = new ArrayList<>(heap);
+        best.sort(comparator);
+        List<Object> results = best.stream()
+                .skip(offset)
+                .map(SortKey::getRecord)
+                .collect(Collectors.toList());
+
+        return pageOf(results, count, pagination);
+    }
+
+    private static List<Object> pageOf(List<Object> results, long totalRecords, Pagination pagination) {
+        if (pagination.isProbeNextPage()) {
+            pagination.setHasNextPage(totalRecords > (long) pagination.getOffset() + pagination.getLimit());
+        }
 
-            if (order == Sorting.SortOrder.asc) {
-                return NULL_SAFE_COMPARE.compare(leftCompare, rightCompare);
+        if (pagination.getOffset() >= totalRecords) {
+            return Collections.emptyList();
+        }
+
+        if (pagination.isGenerateTotals()) {
+            pagination.setPageTotals(totalRecords);
+        }
+        return results;
+    }
+
+    private Comparator<SortKey> getComparator(Map<Path, Sorting.SortOrder> sortRules) {
+        Comparator<SortKey> comparator = null;
+
+        int idx = 0;
+        for (Sorting.SortOrder order : sortRules.values()) {
+            int keyIdx = idx++;
+            Comparator<SortKey> next = (left, right) -> {
+                if (order == Sorting.SortOrder.asc) {
+                    return NULL_SAFE_COMPARE.compare(left.keys[keyIdx], right.keys[keyIdx]);
+                }
+                return NULL_SAFE_COMPARE.compare(right.keys[keyIdx], left.keys[keyIdx]);
+            };
+            comparator = (comparator == null) ? next : comparator.thenComparing(next);
+        }
+
+        // Ties keep the order the records were loaded in.
+        return comparator.thenComparingLong(SortKey::getIndex);
+    }
+
+    /**
+     * A record along with the values it is sorted by, which are read once per record rather than on every
+     * comparison.
+     */
+    private static class SortKey {
+        @Getter private final Object record;
+        @Getter private final long index;
+        private final Object[] keys;
+
+        SortKey(Object record, List<PathAccessor> sortPaths, long index) {
+            this.record = record;
+            this.index = index;
+            this.keys = new Object[sortPaths.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = sortPaths.get(i).getValue(record);
             }
-            return NULL_SAFE_COMPARE.compare(rightCompare, leftCompare);
-        };
+        }
     }
 
     /**
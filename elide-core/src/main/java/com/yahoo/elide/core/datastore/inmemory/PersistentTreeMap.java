@@ -0,0 +1,279 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable sorted map which shares its structure with the versions it is derived from.
+ * <p>
+ * The map is a balanced (AVL) binary tree.  Adding or removing an entry copies only the path from the root to the
+ * entry and returns a new version, so it costs O(log n) regardless of how many versions are still being read.
+ * This lets the {@link HashMapDataStore} publish a new snapshot of a type without copying the objects and indexes
+ * of the previous one.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+final class PersistentTreeMap<K, V> implements Iterable<Map.Entry<K, V>> {
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+
+    private PersistentTreeMap(Comparator<? super K> comparator, Node<K, V> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty map ordered by the natural order of its keys.
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return An empty map
+     */
+    static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> empty() {
+        return new PersistentTreeMap<>(Comparator.naturalOrder(), null);
+    }
+
+    /**
+     * Returns an empty map ordered by a comparator.  Keys which compare equal share an entry.
+     * @param comparator The key order
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return An empty map
+     */
+    static <K, V> PersistentTreeMap<K, V> empty(Comparator<? super K> comparator) {
+        return new PersistentTreeMap<>(comparator, null);
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int result = comparator.compare(key, node.key);
+            if (result == 0) {
+                return node.value;
+            }
+            node = (result < 0) ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a version of this map which associates a key with a value.
+     * @param key The key
+     * @param value The value
+     * @return The new version (or this map if the key is already associated with the same value)
+     */
+    PersistentTreeMap<K, V> put(K key, V value) {
+        Node<K, V> updated = put(root, key, value);
+        return (updated == root) ? this : new PersistentTreeMap<>(comparator, updated);
+    }
+
+    /**
+     * Returns a version of this map without a key.
+     * @param key The key
+     * @return The new version (or this map if it does not contain the key)
+     */
+    PersistentTreeMap<K, V> remove(K key) {
+        Node<K, V> updated = remove(root, key);
+        return (updated == root) ? this : new PersistentTreeMap<>(comparator, updated);
+    }
+
+    /**
+     * Visits the entries between two bounds in key order.
+     * @param low The lower bound or null if unbounded below
+     * @param lowInclusive Whether an entry equal to the lower bound is visited
+     * @param high The upper bound or null if unbounded above
+     * @param highInclusive Whether an entry equal to the upper bound is visited
+     * @param action Invoked for every entry in range
+     */
+    void forEachInRange(K low, boolean lowInclusive, K high, boolean highInclusive,
+                        BiConsumer<? super K, ? super V> action) {
+        forEachInRange(root, low, lowInclusive, high, highInclusive, action);
+    }
+
+    /**
+     * Iterates the entries in key order.
+     * @return An iterator over this version of the map
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator<>(root);
+    }
+
+    private Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+
+        int result = comparator.compare(key, node.key);
+        if (result < 0) {
+            Node<K, V> left = put(node.left, key, value);
+            return (left == node.left) ? node : balance(node.key, node.value, left, node.right);
+        }
+        if (result > 0) {
+            Node<K, V> right = put(node.right, key, value);
+            return (right == node.right) ? node : balance(node.key, node.value, node.left, right);
+        }
+        return (node.value == value) ? node : new Node<>(node.key, value, node.left, node.right);
+    }
+
+    private Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+
+        int result = comparator.compare(key, node.key);
+        if (result < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return (left == node.left) ? node : balance(node.key, node.value, left, node.right);
+        }
+        if (result > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return (right == node.right) ? node : balance(node.key, node.value, node.left, right);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+
+        /* Replace the node with its in-order successor */
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private void forEachInRange(Node<K, V> node, K low, boolean lowInclusive, K high, boolean highInclusive,
+                                BiConsumer<? super K, ? super V> action) {
+        if (node == null) {
+            return;
+        }
+
+        int aboveLow = (low == null) ? 1 : comparator.compare(node.key, low);
+        int belowHigh = (high == null) ? 1 : comparator.compare(high, node.key);
+
+        if (aboveLow > 0) {
+            forEachInRange(node.left, low, lowInclusive, high, highInclusive, action);
+        }
+        if ((aboveLow > 0 || (aboveLow == 0 && lowInclusive)) && (belowHigh > 0 || (belowHigh == 0 && highInclusive))) {
+            action.accept(node.key, node.value);
+        }
+        if (belowHigh > 0) {
+            forEachInRange(node.right, low, lowInclusive, high, highInclusive, action);
+        }
+    }
+
+    private static <K, V> Node<K, V> removeFirst(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Builds a node whose subtrees differ in height by at most two, rotating it back into AVL balance.
+     */
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<K, V> pivot = left.right;
+            return new Node<>(pivot.key, pivot.value,
+                    new Node<>(left.key, left.value, left.left, pivot.left),
+                    new Node<>(key, value, pivot.right, right));
+        }
+
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<K, V> pivot = right.left;
+            return new Node<>(pivot.key, pivot.value,
+                    new Node<>(key, value, left, pivot.left),
+                    new Node<>(right.key, right.value, pivot.right, right.right));
+        }
+
+        return new Node<>(key, value, left, right);
+    }
+
+    private static int height(Node<?, ?> node) {
+        return (node == null) ? 0 : node.height;
+    }
+
+    private static int size(Node<?, ?> node) {
+        return (node == null) ? 0 : node.size;
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        private Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+        private EntryIterator(Node<K, V> root) {
+            descend(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = path.pop();
+            descend(node.right);
+            return new AbstractMap.SimpleImmutableEntry<>(node.key, node.value);
+        }
+
+        private void descend(Node<K, V> node) {
+            for (Node<K, V> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
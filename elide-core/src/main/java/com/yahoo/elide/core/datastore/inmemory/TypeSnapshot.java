@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import lombok.Getter;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the objects of a type in the {@link HashMapDataStore} along with the version of the type's
+ * secondary indexes which describes exactly those objects.  Both are published by a single swap.
+ * <p>
+ * Objects keep the order in which they were first stored.  The snapshot is built from {@link PersistentTreeMap}s,
+ * so deriving the next version with {@link #with} and {@link #without} costs O(log n) and shares everything else
+ * with the previous version.
+ */
+class TypeSnapshot extends AbstractMap<String, Object> {
+    static final TypeSnapshot EMPTY =
+            new TypeSnapshot(PersistentTreeMap.empty(), PersistentTreeMap.empty(), 0, Collections.emptyMap());
+
+    /* Identifier to insertion position */
+    private final PersistentTreeMap<String, Long> positions;
+    /* Insertion position to identifier and object */
+    private final PersistentTreeMap<Long, Entry<String, Object>> objects;
+    private final long nextPosition;
+    @Getter private final Map<String, FieldIndex> indexes;
+
+    private TypeSnapshot(PersistentTreeMap<String, Long> positions,
+                         PersistentTreeMap<Long, Entry<String, Object>> objects,
+                         long nextPosition,
+                         Map<String, FieldIndex> indexes) {
+        this.positions = positions;
+        this.objects = objects;
+        this.nextPosition = nextPosition;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Returns a version of this snapshot which stores an object.  A replaced object keeps its position.
+     * @param id The object identifier
+     * @param instance The object
+     * @return The new version
+     */
+    TypeSnapshot with(String id, Object instance) {
+        Long position = positions.get(id);
+        if (position == null) {
+            return new TypeSnapshot(positions.put(id, nextPosition),
+                    objects.put(nextPosition, new SimpleImmutableEntry<>(id, instance)), nextPosition + 1, indexes);
+        }
+        return new TypeSnapshot(positions,
+                objects.put(position, new SimpleImmutableEntry<>(id, instance)), nextPosition, indexes);
+    }
+
+    /**
+     * Returns a version of this snapshot without an object.
+     * @param id The object identifier
+     * @return The new version
+     */
+    TypeSnapshot without(String id) {
+        Long position = positions.get(id);
+        if (position == null) {
+            return this;
+        }
+        return new TypeSnapshot(positions.remove(id), objects.remove(position), nextPosition, indexes);
+    }
+
+    /**
+     * Returns a version of this snapshot with other secondary indexes.
+     * @param typeIndexes The indexes which describe the objects of this snapshot
+     * @return The new version
+     */
+    TypeSnapshot withIndexes(Map<String, FieldIndex> typeIndexes) {
+        return new TypeSnapshot(positions, objects, nextPosition, Collections.unmodifiableMap(typeIndexes));
+    }
+
+    @Override
+    public Object get(Object id) {
+        if (!(id instanceof String)) {
+            return null;
+        }
+        Long position = positions.get((String) id);
+        return (position == null) ? null : objects.get(position).getValue();
+    }
+
+    @Override
+    public boolean containsKey(Object id) {
+        return (id instanceof String) && positions.get((String) id) != null;
+    }
+
+    @Override
+    public int size() {
+        return positions.size();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new AbstractCollection<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                Iterator<Entry<String, Object>> entries = entrySet().iterator();
+                return new Iterator<Object>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        return entries.next().getValue();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return TypeSnapshot.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<Long, Entry<String, Object>>> entries = objects.iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        return entries.next().getValue();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return TypeSnapshot.this.size();
+            }
+        };
+    }
+}
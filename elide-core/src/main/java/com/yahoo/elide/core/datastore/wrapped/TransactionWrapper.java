@@ -95,6 +95,16 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.supportsPagination(entityClass);
     }
 
+    @Override
+    public boolean supportsNextPageProbe(Class<?> entityClass) {
+        return tx.supportsNextPageProbe(entityClass);
+    }
+
+    @Override
+    public Optional<Object> getVersionSummary(Class<?> entityClass, RequestScope scope) {
+        return tx.getVersionSummary(entityClass, scope);
+    }
+
     @Override
     public void save(Object o, RequestScope requestScope) {
         tx.save(o, requestScope);
@@ -131,6 +141,19 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.loadObjects(entityClass, filterExpression, sorting, pagination, requestScope);
     }
 
+    @Override
+    public Iterable<Object> streamObjects(Class<?> entityClass,
+                                          Optional<FilterExpression> filterExpression,
+                                          Optional<Sorting> sorting,
+                                          RequestScope requestScope) {
+        return tx.streamObjects(entityClass, filterExpression, sorting, requestScope);
+    }
+
+    @Override
+    public void releaseLoadedObjects(RequestScope requestScope) {
+        tx.releaseLoadedObjects(requestScope);
+    }
+
     @Override
     public void close() throws IOException {
         tx.close();
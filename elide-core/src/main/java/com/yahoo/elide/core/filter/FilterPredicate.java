@@ -101,6 +101,25 @@ public class FilterPredicate implements FilterExpression, Function<RequestScope,
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Compute the parameter value/name pairings, naming parameters after the path of this predicate and its
+     * position in a query instead of its values, so queries of the same shape share the same text.
+     * <p>
+     * When {@code size} exceeds the number of values, the last value is repeated.  This pads the value list of
+     * operators testing membership (IN, NOT IN) without changing their meaning.
+     *
+     * @param ordinal the position of this predicate in its query
+     * @param size the number of parameters (at least the number of values)
+     * @return the filter parameters for this predicate
+     */
+    public List<FilterParameter> getParameters(int ordinal, int size) {
+        String baseName = String.format("%s_p%d_", getFieldPath().replace(PERIOD, UNDERSCORE), ordinal);
+        return IntStream.range(0, Math.max(size, values.size()))
+                .mapToObj(idx -> new FilterParameter(String.format("%s%d", baseName, idx),
+                        values.get(Math.min(idx, values.size() - 1))))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Create a copy of this filter that is scoped by scope. This is used in calculating page totals, we need to
      * scope this filter in the context of it's parent.
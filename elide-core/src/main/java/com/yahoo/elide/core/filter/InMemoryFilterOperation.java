@@ -13,7 +13,7 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 /**
- * InMemoryFilterOperation.
+ * InMemoryFilterOperation.  Predicates are compiled once per request scope and reused.
  */
 public class InMemoryFilterOperation implements FilterOperation<Set<Predicate>> {
     private final RequestScope requestScope;
@@ -28,7 +28,7 @@ public class InMemoryFilterOperation implements FilterOperation<Set<Predicate>>
     }
 
     private Predicate applyOperator(FilterPredicate filterPredicate) {
-        return filterPredicate.apply(requestScope);
+        return requestScope.getInMemoryPredicate(filterPredicate);
     }
 
     public EntityDictionary getDictionary() {
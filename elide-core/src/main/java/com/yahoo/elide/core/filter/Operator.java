@@ -6,12 +6,15 @@
 package com.yahoo.elide.core.filter;
 
 import com.yahoo.elide.core.Path;
-import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.PathAccessor;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidOperatorNegationException;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
+import com.google.common.base.Suppliers;
+
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -19,10 +22,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -48,14 +51,14 @@ public enum Operator {
     NOT("not", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>in(fieldPath, values, requestScope).negate();
         }
     },
 
     NOT_INSENSITIVE("noti", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope, FOLD_CASE).test(entity);
+            return Operator.<T>in(fieldPath, values, requestScope, FOLD_CASE).negate();
         }
     },
 
@@ -111,7 +114,7 @@ public enum Operator {
     NOTNULL("notnull", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (val) -> !isNull(fieldPath, requestScope).test(val);
+            return Operator.<T>isNull(fieldPath, requestScope).negate();
         }
     },
 
@@ -168,7 +171,7 @@ public enum Operator {
     NOTEMPTY("notempty", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (entity) -> !isEmpty(fieldPath, requestScope).test(entity);
+            return Operator.<T>isEmpty(fieldPath, requestScope).negate();
         }
     },
 
@@ -182,7 +185,7 @@ public enum Operator {
     HASNOMEMBER("hasnomember", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entiry -> !hasMember(fieldPath, values, requestScope).test(entiry);
+            return Operator.<T>hasMember(fieldPath, values, requestScope).negate();
         }
     };
 
@@ -232,102 +235,83 @@ public enum Operator {
     //
     // Predicate generation
     //
+    // Predicates are compiled once per filter: the path is resolved into a PathAccessor and the filter values are
+    // coerced the first time the predicate is tested rather than once per entity.
+    //
 
     //
     // In with strict equality
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values, RequestScope requestScope) {
-        return (T entity) -> {
-            BiPredicate predicate = (a, b) -> a.equals(b);
+        Supplier<List<Object>> testValues = Suppliers.memoize(() -> coerce(fieldPath, values));
 
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return evaluate(fieldPath, requestScope, lhs -> testValues.get().stream().anyMatch(lhs::equals));
     }
 
     //
     // String-like In with optional transformation
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values,
             RequestScope requestScope, Function<String, String> transform) {
-        return (T entity) -> {
+        Supplier<List<String>> testValues = Suppliers.memoize(() -> transform(fieldPath, values, transform)
+                .collect(Collectors.toList()));
 
-            BiPredicate predicate = (a, b) -> {
-                if (!a.getClass().isAssignableFrom(String.class)) {
-                    throw new IllegalStateException("Cannot case insensitive compare non-string values");
-                }
-
-                String lhs = transform.apply((String) a);
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs.equals(rhs);
-            };
+        return evaluate(fieldPath, requestScope, lhs -> {
+            if (!lhs.getClass().isAssignableFrom(String.class)) {
+                throw new IllegalStateException("Cannot case insensitive compare non-string values");
+            }
 
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+            String lhsString = transform.apply((String) lhs);
+            return testValues.get().stream().anyMatch(lhsString::equals);
+        });
     }
 
     //
     // String-like prefix matching with optional transformation
     private static <T> Predicate<T> prefix(Path fieldPath, List<Object> values,
             RequestScope requestScope, Function<String, String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("PREFIX can only take one argument");
-            }
-
-            BiPredicate predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.startsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return matchString(fieldPath, values, requestScope, transform, "PREFIX", String::startsWith);
     }
 
     //
     // String-like postfix matching with optional transformation
     private static <T> Predicate<T> postfix(Path fieldPath, List<Object> values,
             RequestScope requestScope, Function<String, String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("POSTFIX can only take one argument");
-            }
-
-            BiPredicate predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.endsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return matchString(fieldPath, values, requestScope, transform, "POSTFIX", String::endsWith);
     }
 
     //
     // String-like infix matching with optional transformation
     private static <T> Predicate<T> infix(Path fieldPath, List<Object> values,
             RequestScope requestScope, Function<String, String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("INFIX can only take one argument");
-            }
+        return matchString(fieldPath, values, requestScope, transform, "INFIX", String::contains);
+    }
+
+    private static <T> Predicate<T> matchString(Path fieldPath, List<Object> values, RequestScope requestScope,
+            Function<String, String> transform, String operator, BiPredicate<String, String> matcher) {
+        Supplier<String> testValue = Suppliers.memoize(() -> transform(fieldPath, values, transform)
+                .collect(Collectors.toList())
+                .get(0));
 
-            BiPredicate predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
+        Predicate<T> predicate = evaluate(fieldPath, requestScope, lhs -> {
+            String lhsString = transform.apply(CoerceUtil.coerce(lhs, String.class));
+            String rhsString = testValue.get();
 
-                return lhs != null && rhs != null && lhs.contains(rhs);
-            };
+            return lhsString != null && rhsString != null && matcher.test(lhsString, rhsString);
+        });
 
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
+        return (T entity) -> {
+            if (values.size() != 1) {
+                throw new BadRequestException(operator + " can only take one argument");
+            }
+            return predicate.test(entity);
         };
     }
 
     //
     // Null checking
     private static <T> Predicate<T> isNull(Path fieldPath, RequestScope requestScope) {
-        return (T entity) -> getFieldValue(entity, fieldPath, requestScope) == null;
+        PathAccessor accessor = new PathAccessor(fieldPath, requestScope);
+
+        return (T entity) -> accessor.getValue(entity) == null;
     }
 
     private static <T> Predicate<T> lt(Path fieldPath, List<Object> values, RequestScope requestScope) {
@@ -355,9 +339,11 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> isEmpty(Path fieldPath, RequestScope requestScope) {
+        PathAccessor accessor = new PathAccessor(fieldPath, requestScope);
+
         return (T entity) -> {
 
-            Object val = getFieldValue(entity, fieldPath, requestScope);
+            Object val = accessor.getValue(entity);
             if (val == null) {
                 return false;
             }
@@ -373,14 +359,17 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> hasMember(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        PathAccessor accessor = new PathAccessor(fieldPath, requestScope);
+        Supplier<Object> filterValue = Suppliers.memoize(() -> fieldPath.lastElement()
+                .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
+                .orElse(CoerceUtil.coerce(values.get(0), String.class)));
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new BadRequestException("HasMember can only take one argument");
             }
-            Object val = getFieldValue(entity, fieldPath, requestScope);
-            Object filterStr = fieldPath.lastElement()
-                    .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
-                    .orElse(CoerceUtil.coerce(values.get(0), String.class));
+            Object val = accessor.getValue(entity);
+            Object filterStr = filterValue.get();
 
             if (val == null) {
                 return false;
@@ -396,93 +385,100 @@ public enum Operator {
         };
     }
 
-    /**
-     * Return value of field/path for given entity. For example this.book.author
-     *
-     * @param <T> the type of entity to retrieve a value from
-     * @param entity Entity bean
-     * @param fieldPath field value/path
-     * @param requestScope Request scope
-     * @return the value of the field
-     */
-    private static <T> Object getFieldValue(T entity, Path fieldPath, RequestScope requestScope) {
-        Object val = entity;
-        for (Path.PathElement field : fieldPath.getPathElements()) {
-            if ("this".equals(field.getFieldName())) {
-                continue;
-            }
-            if (val == null) {
-                break;
-            }
-            if (val instanceof Collection) {
-                val = ((Collection) val).stream()
-                        .filter(Objects::nonNull)
-                        .map(target -> PersistentResource.getValue(target, field.getFieldName(), requestScope))
-                        .filter(Objects::nonNull)
-                        .flatMap(result -> {
-                            if (result instanceof Collection) {
-                                return ((Collection) result).stream();
-                            }
-                            return Stream.of(result);
-                        })
-                        .collect(Collectors.toSet());
-            } else {
-                val = PersistentResource.getValue(val, field.getFieldName(), requestScope);
-            }
-        }
-        return val;
-    }
-
     private static <T> Predicate<T> getComparator(Path fieldPath, List<Object> values,
             RequestScope requestScope, Predicate<Integer> condition) {
+        PathAccessor accessor = new PathAccessor(fieldPath, requestScope);
+        ComparableValues testValues = new ComparableValues(values);
+
         return (T entity) -> {
             if (values.size() == 0) {
                 throw new BadRequestException("No value to compare");
             }
-            Object fieldVal = getFieldValue(entity, fieldPath, requestScope);
+            Object fieldVal = accessor.getValue(entity);
 
             if (fieldVal instanceof Collection) {
-                return ((Collection) fieldVal).stream()
+                return ((Collection<?>) fieldVal).stream()
                         .anyMatch((fieldValueElement) -> {
                             return fieldValueElement != null
-                                    && values.stream()
-                                    .anyMatch(testVal -> condition.test(compare(fieldValueElement, testVal)));
+                                    && testValues.anyMatch(fieldValueElement, condition);
                         });
             }
 
-            return fieldVal != null
-                    && values.stream()
-                    .anyMatch(testVal -> condition.test(compare(fieldVal, testVal)));
+            return fieldVal != null && testValues.anyMatch(fieldVal, condition);
         };
 
     }
 
-    private static int compare(Object fieldValue, Object rawTestValue) {
-        Object testValue = CoerceUtil.coerce(rawTestValue, fieldValue.getClass());
-        Comparable testComp = CoerceUtil.coerce(testValue, Comparable.class);
-        Comparable fieldComp = CoerceUtil.coerce(fieldValue, Comparable.class);
+    /**
+     * The comparison values of a filter, coerced to the class of the field values they are compared against.
+     * Entities in a collection almost always share the same field value class, so only the most recent coercion
+     * is kept.
+     */
+    private static class ComparableValues {
+        private final List<Object> values;
+        private volatile Coerced coerced;
+
+        ComparableValues(List<Object> values) {
+            this.values = values;
+        }
 
-        return fieldComp.compareTo(testComp);
+        boolean anyMatch(Object fieldValue, Predicate<Integer> condition) {
+            Class<?> fieldClass = fieldValue.getClass();
+            Coerced current = coerced;
+            if (current == null || current.fieldClass != fieldClass) {
+                current = new Coerced(fieldClass, values.stream()
+                        .map(rawTestValue -> CoerceUtil.coerce(rawTestValue, fieldClass))
+                        .map(testValue -> CoerceUtil.coerce(testValue, Comparable.class))
+                        .collect(Collectors.toList()));
+                coerced = current;
+            }
+
+            Comparable fieldComp = CoerceUtil.coerce(fieldValue, Comparable.class);
+            for (Comparable testComp : current.testValues) {
+                if (condition.test(fieldComp.compareTo(testComp))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @AllArgsConstructor
+        private static class Coerced {
+            private final Class<?> fieldClass;
+            private final List<Comparable> testValues;
+        }
     }
 
-    private static boolean evaluate(Object entity, Path fieldPath, List<Object> values,
-                             BiPredicate predicate, RequestScope requestScope) {
+    /**
+     * Builds a predicate which reads the path from an entity and tests the value (or every member of the value
+     * for collections of non-collection fields) against the filter.
+     */
+    private static <T> Predicate<T> evaluate(Path fieldPath, RequestScope requestScope, Predicate<Object> matches) {
         Class<?> valueClass = fieldPath.lastElement().get().getFieldType();
+        boolean valueIsCollection = valueClass.isAssignableFrom(Collection.class);
+        PathAccessor accessor = new PathAccessor(fieldPath, requestScope);
 
-        Object leftHandSide = getFieldValue(entity, fieldPath, requestScope);
-
-        if (leftHandSide instanceof Collection && !valueClass.isAssignableFrom(Collection.class)) {
-            return ((Collection) leftHandSide).stream()
-                    .anyMatch((leftHandSideElement) -> {
-                        return values.stream()
-                                .map(value -> CoerceUtil.coerce(value, valueClass))
-                                .anyMatch(value -> predicate.test(leftHandSideElement, value));
-                    });
-        } else {
-            return leftHandSide != null && values.stream()
-                    .map(value -> CoerceUtil.coerce(value, valueClass))
-                    .anyMatch(value -> predicate.test(leftHandSide, value));
-        }
+        return (T entity) -> {
+            Object leftHandSide = accessor.getValue(entity);
+
+            if (leftHandSide instanceof Collection && !valueIsCollection) {
+                return ((Collection<?>) leftHandSide).stream().anyMatch(matches);
+            }
+            return leftHandSide != null && matches.test(leftHandSide);
+        };
+    }
+
+    private static List<Object> coerce(Path fieldPath, List<Object> values) {
+        Class<?> valueClass = fieldPath.lastElement().get().getFieldType();
+
+        return values.stream()
+                .map(value -> CoerceUtil.coerce(value, valueClass))
+                .collect(Collectors.toList());
+    }
+
+    private static Stream<String> transform(Path fieldPath, List<Object> values, Function<String, String> transform) {
+        return coerce(fieldPath, values).stream()
+                .map(value -> transform.apply(CoerceUtil.coerce(value, String.class)));
     }
 
     public Operator negate() {
@@ -29,6 +29,9 @@ import javax.ws.rs.core.MultivaluedMap;
  * The default filter dialect supported in Elide 1.0 and 2.0.
  */
 public class DefaultFilterDialect implements JoinFilterDialect, SubqueryFilterDialect {
+    // Match "filter[<type>.<field>]" OR "filter[<type>.<field>][<operator>]"
+    private static final Pattern FILTER_PATTERN = Pattern.compile("filter\\[([^\\]]+)\\](\\[([^\\]]+)\\])?");
+
     private final EntityDictionary dictionary;
     public DefaultFilterDialect(EntityDictionary dictionary) {
         this.dictionary = dictionary;
@@ -44,14 +47,11 @@ public class DefaultFilterDialect implements JoinFilterDialect, SubqueryFilterDi
     private List<FilterPredicate> extractPredicates(MultivaluedMap<String, String> queryParams) throws ParseException {
         List<FilterPredicate> filterPredicates = new ArrayList<>();
 
-        Pattern pattern = Pattern.compile("filter\\[([^\\]]+)\\](\\[([^\\]]+)\\])?");
         for (MultivaluedMap.Entry<String, List<String>> entry : queryParams.entrySet()) {
-            // Match "filter[<type>.<field>]" OR "filter[<type>.<field>][<operator>]"
-
             String paramName = entry.getKey();
             List<String> paramValues = entry.getValue();
 
-            Matcher matcher = pattern.matcher(paramName);
+            Matcher matcher = FILTER_PATTERN.matcher(paramName);
             if (!matcher.find()) {
                 throw new ParseException("Invalid filter format: " + paramName);
             }
@@ -86,19 +86,22 @@ public class DefaultFilterDialect implements JoinFilterDialect, SubqueryFilterDi
         return filterPredicates;
     }
 
+    @Override
+    public boolean canParseGlobalExpression(String path, MultivaluedMap<String, String> filterParams) {
+        String typePrefix = getFirstPathComponent(path) + ".";
+        return !filterParams.isEmpty() && filterParams.keySet().stream().allMatch(paramName -> {
+            Matcher matcher = FILTER_PATTERN.matcher(paramName);
+            return matcher.matches() && matcher.group(1).startsWith(typePrefix);
+        });
+    }
+
     @Override
     public FilterExpression parseGlobalExpression(String path, MultivaluedMap<String, String> filterParams)
             throws ParseException {
         List<FilterPredicate> filterPredicates;
         filterPredicates = extractPredicates(filterParams);
 
-        /* Extract the first collection in the URL */
-        String normalizedPath = JsonApiParser.normalizePath(path);
-        String[] pathComponents = normalizedPath.split("/");
-        String firstPathComponent = "";
-        if (pathComponents.length > 0) {
-            firstPathComponent = pathComponents[0];
-        }
+        String firstPathComponent = getFirstPathComponent(path);
 
         /* Comma separated filter parameters are joined with logical AND. */
         FilterExpression joinedExpression = null;
@@ -129,6 +132,18 @@ public class DefaultFilterDialect implements JoinFilterDialect, SubqueryFilterDi
         return joinedExpression;
     }
 
+    /**
+     * Extracts the first collection in the URL.
+     *
+     * @param path the URL path
+     * @return the first path component or an empty string
+     */
+    private static String getFirstPathComponent(String path) {
+        String normalizedPath = JsonApiParser.normalizePath(path);
+        String[] pathComponents = normalizedPath.split("/");
+        return pathComponents.length > 0 ? pathComponents[0] : "";
+    }
+
     @Override
     public Map<String, FilterExpression> parseTypedExpression(String path, MultivaluedMap<String, String> filterParams)
             throws ParseException {
@@ -30,4 +30,16 @@ public interface JoinFilterDialect {
     public FilterExpression parseGlobalExpression(
             String path,
             MultivaluedMap<String, String> filterParams) throws ParseException;
+
+    /**
+     * Whether the query parameters are written in the syntax of this dialect's global expressions.  This only
+     * looks at the shape of the parameters, so {@link #parseGlobalExpression} may still reject them.
+     *
+     * @param path the URL path
+     * @param filterParams the subset of query parameters that start with 'filter'
+     * @return true if the parameters should be parsed with {@link #parseGlobalExpression}
+     */
+    default boolean canParseGlobalExpression(String path, MultivaluedMap<String, String> filterParams) {
+        return true;
+    }
 }
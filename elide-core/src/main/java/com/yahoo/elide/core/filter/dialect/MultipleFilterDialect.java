@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.core.MultivaluedMap;
 
@@ -36,6 +37,11 @@ public class MultipleFilterDialect implements JoinFilterDialect, SubqueryFilterD
         subqueryDialects.add(defaultDialect);
     }
 
+    @Override
+    public boolean canParseGlobalExpression(String path, MultivaluedMap<String, String> queryParams) {
+        return joinDialects.stream().anyMatch(dialect -> dialect.canParseGlobalExpression(path, queryParams));
+    }
+
     @Override
     public FilterExpression parseGlobalExpression(String path,
                                                   MultivaluedMap<String, String> queryParams) throws ParseException {
@@ -43,7 +49,13 @@ public class MultipleFilterDialect implements JoinFilterDialect, SubqueryFilterD
             throw new ParseException("Heterogeneous type filtering not supported");
         }
 
-        return parseExpression(joinDialects, (dialect) -> dialect.parseGlobalExpression(path, queryParams));
+        /* Skip the dialects which do not recognize the parameters, unless none does and the errors are wanted */
+        List<JoinFilterDialect> dialects = joinDialects.stream()
+                .filter(dialect -> dialect.canParseGlobalExpression(path, queryParams))
+                .collect(Collectors.toList());
+
+        return parseExpression(dialects.isEmpty() ? joinDialects : dialects,
+                (dialect) -> dialect.parseGlobalExpression(path, queryParams));
     }
 
     @Override
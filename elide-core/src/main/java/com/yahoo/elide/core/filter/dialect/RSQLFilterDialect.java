@@ -100,6 +100,13 @@ public class RSQLFilterDialect implements SubqueryFilterDialect, JoinFilterDiale
         return operators;
     }
 
+    @Override
+    public boolean canParseGlobalExpression(String path, MultivaluedMap<String, String> filterParams) {
+        return filterParams.size() == 1
+                && filterParams.containsKey("filter")
+                && filterParams.get("filter").size() == 1;
+    }
+
     @Override
     public FilterExpression parseGlobalExpression(String path, MultivaluedMap<String, String> filterParams)
             throws ParseException {
@@ -29,19 +29,19 @@ public class InMemoryFilterExecutor implements FilterExpressionVisitor<Predicate
     public Predicate visitAndExpression(AndFilterExpression expression) {
         Predicate leftPredicate = expression.getLeft().accept(this);
         Predicate rightPredicate = expression.getRight().accept(this);
-        return t -> leftPredicate.and(rightPredicate).test(t);
+        return leftPredicate.and(rightPredicate);
     }
 
     @Override
     public Predicate visitOrExpression(OrFilterExpression expression) {
         Predicate leftPredicate = expression.getLeft().accept(this);
         Predicate rightPredicate = expression.getRight().accept(this);
-        return t -> leftPredicate.or(rightPredicate).test(t);
+        return leftPredicate.or(rightPredicate);
     }
 
     @Override
     public Predicate visitNotExpression(NotFilterExpression expression) {
         Predicate predicate = expression.getNegated().accept(this);
-        return t -> predicate.negate().test(t);
+        return predicate.negate();
     }
 }
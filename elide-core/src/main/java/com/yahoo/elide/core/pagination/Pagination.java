@@ -15,6 +15,7 @@ import lombok.Getter;
 import lombok.ToString;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -76,6 +77,11 @@ public class Pagination {
     @Getter
     private boolean generateTotals;
 
+    @Getter
+    private boolean probeNextPage;
+
+    private Boolean hasNextPage;
+
     private final int defaultMaxPageSize;
     private final int defaultPageSize;
 
@@ -126,7 +132,25 @@ public class Pagination {
                                                           Optional<String> offsetOpt,
                                                           boolean generatePageTotals,
                                                           ElideSettings elideSettings) {
-        return firstOpt.map(firstString -> {
+        return fromOffsetAndFirst(firstOpt, offsetOpt, generatePageTotals, false, elideSettings);
+    }
+
+    /**
+     * Given an offset and first parameter from GraphQL, generate page and pageSize values.
+     *
+     * @param firstOpt Provided first string
+     * @param offsetOpt Provided offset string
+     * @param generatePageTotals True if page totals should be generated, false otherwise
+     * @param probeNextPage True if the data store should find out whether there is a next page
+     * @param elideSettings Elide settings object containing default pagination values
+     * @return The new Pagination object.
+     */
+    public static Optional<Pagination> fromOffsetAndFirst(Optional<String> firstOpt,
+                                                          Optional<String> offsetOpt,
+                                                          boolean generatePageTotals,
+                                                          boolean probeNextPage,
+                                                          ElideSettings elideSettings) {
+        Optional<Pagination> pagination = firstOpt.map(firstString -> {
             int offset;
             int first;
 
@@ -152,13 +176,18 @@ public class Pagination {
 
             return Optional.of(getPagination(pageData.build(), elideSettings));
         }).orElseGet(() -> {
-            if (generatePageTotals) {
-                Pagination pagination = getDefaultPagination(elideSettings);
-                pagination.pageData.put(PAGE_KEYS.get(PAGE_TOTALS_KEY), 1);
-                return Optional.of(pagination);
+            if (generatePageTotals || probeNextPage) {
+                Pagination defaultPagination = getDefaultPagination(elideSettings);
+                if (generatePageTotals) {
+                    defaultPagination.pageData.put(PAGE_KEYS.get(PAGE_TOTALS_KEY), 1);
+                }
+                return Optional.of(defaultPagination);
             }
             return Optional.empty();
         });
+
+        pagination.ifPresent(p -> p.setProbeNextPage(probeNextPage));
+        return pagination;
     }
 
     /**
@@ -215,6 +244,58 @@ public class Pagination {
         return pageTotals;
     }
 
+    /**
+     * Asks the data store to fetch one record past the page (see {@link #getFetchLimit}), so whether there is a next
+     * page is known without counting the records.  Data stores which do not honor it leave
+     * {@link #getHasNextPage} empty.
+     * @param probeNextPage whether to fetch the probe record
+     */
+    public void setProbeNextPage(boolean probeNextPage) {
+        this.probeNextPage = probeNextPage;
+    }
+
+    /**
+     * The number of records the data store should fetch: the page limit, plus the probe record if requested.
+     * @return the fetch limit
+     */
+    public int getFetchLimit() {
+        return probeNextPage ? limit + 1 : limit;
+    }
+
+    /**
+     * Drops the probe record from records fetched with {@link #getFetchLimit} and records whether there is a
+     * next page.
+     * @param results the fetched records
+     * @param <T> the record type
+     * @return the records of the page
+     */
+    public <T> List<T> trimProbeRecord(List<T> results) {
+        if (!probeNextPage) {
+            return results;
+        }
+
+        boolean hasMore = results.size() > limit;
+        setHasNextPage(hasMore);
+        return hasMore ? results.subList(0, limit) : results;
+    }
+
+    /**
+     * Records whether there is a next page.
+     * @param hasNextPage true if records exist past this page
+     */
+    public void setHasNextPage(boolean hasNextPage) {
+        // Paginating the page the data store already trimmed in memory does not find the probe record again
+        this.hasNextPage = hasNextPage || Boolean.TRUE.equals(this.hasNextPage);
+    }
+
+    /**
+     * Whether there is a next page, if the data store found out.
+     * @return true if records exist past this page, or empty if unknown
+     */
+    public Optional<Boolean> getHasNextPage() {
+        return Optional.ofNullable(hasNextPage);
+    }
+
     /**
      * Construct a pagination object from page data and elide settings.
      *
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.security.User;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import com.google.common.hash.Hashing;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.SecurityContext;
+
+/**
+ * Computes weak ETags for JSON-API GET requests from the versions of the entities they read.
+ * <p>
+ * Only requests for a single versioned entity ({@code /book/1}) or a root collection of versioned entities
+ * ({@code /book}) are tagged.  A single entity is tagged with its version and the identifiers of the objects in
+ * each of its relationships, because changing the owning side of a relationship does not bump the version of the
+ * inverse side.  Collections are tagged with the version summary of the whole entity type (see
+ * {@link DataStoreTransaction#getVersionSummary}) so a change to any entity of the type invalidates every tag
+ * for it, regardless of the filter or page requested.  Requests which include related resources, nested paths
+ * and users without a stable identity are never tagged.
+ * <p>
+ * Tags are weak because the response is only semantically (not byte for byte) stable: the same versions read by
+ * the same user produce the same document.
+ */
+@Slf4j
+public class ETagGenerator {
+    private static final String INCLUDE = "include";
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * Computes the ETag for a GET request.
+     *
+     * @param path the request path
+     * @param queryParams the request query parameters
+     * @param user the requesting user
+     * @param requestScope the request scope
+     * @return the ETag or empty if the response cannot be tagged
+     */
+    public Optional<String> generate(String path, MultivaluedMap<String, String> queryParams, User user,
+                                     RequestScope requestScope) {
+        if (queryParams != null && queryParams.containsKey(INCLUDE)) {
+            return Optional.empty();
+        }
+
+        List<String> segments = Arrays.stream(path.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .collect(Collectors.toList());
+        if (segments.isEmpty() || segments.size() > 2) {
+            return Optional.empty();
+        }
+
+        Optional<String> userKey = getUserKey(user);
+        if (!userKey.isPresent()) {
+            return Optional.empty();
+        }
+
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Class<?> entityClass = dictionary.getEntityClass(segments.get(0));
+        if (entityClass == null || dictionary.getVersionFieldName(entityClass) == null) {
+            return Optional.empty();
+        }
+
+        Optional<Object> version;
+        try {
+            version = segments.size() == 1
+                    ? requestScope.getTransaction().getVersionSummary(entityClass, requestScope)
+                    : getVersion(entityClass, segments.get(1), requestScope);
+        } catch (RuntimeException e) {
+            /* Let the request itself report the problem */
+            log.debug("Unable to read entity version", e);
+            return Optional.empty();
+        }
+
+        if (!version.isPresent()) {
+            return Optional.empty();
+        }
+
+        Map<String, List<String>> sortedParams = new TreeMap<>();
+        if (queryParams != null) {
+            queryParams.forEach(sortedParams::put);
+        }
+
+        String tagSource = String.join("\n",
+                String.join("/", segments),
+                sortedParams.toString(),
+                userKey.get(),
+                String.valueOf(version.get()));
+
+        return Optional.of(WEAK_PREFIX + "\""
+                + Hashing.sha256().hashString(tagSource, StandardCharsets.UTF_8).toString()
+                + "\"");
+    }
+
+    /**
+     * Evaluates an If-None-Match header against the current ETag using weak comparison.
+     *
+     * @param ifNoneMatch the If-None-Match header value (may be null)
+     * @param eTag the current ETag
+     * @return true if the client's copy is current
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+
+        String current = stripWeakPrefix(eTag.trim());
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> "*".equals(candidate) || stripWeakPrefix(candidate).equals(current));
+    }
+
+    private static String stripWeakPrefix(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+
+    private static Optional<Object> getVersion(Class<?> entityClass, String id, RequestScope requestScope) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Serializable entityId = (Serializable) CoerceUtil.coerce(id, dictionary.getIdType(entityClass));
+        Object entity = requestScope.getTransaction()
+                .loadObject(entityClass, entityId, Optional.empty(), requestScope);
+        if (entity == null || dictionary.getVersion(entity) == null) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> version = new TreeMap<>();
+        version.put("", dictionary.getVersion(entity));
+        for (String relationship : dictionary.getRelationships(entityClass)) {
+            version.put(relationship, getRelatedIds(dictionary.getValue(entity, relationship, requestScope),
+                    dictionary));
+        }
+        return Optional.of(version);
+    }
+
+    private static List<String> getRelatedIds(Object related, EntityDictionary dictionary) {
+        Collection<?> objects = related instanceof Collection
+                ? (Collection<?>) related
+                : related == null ? Collections.emptyList() : Collections.singletonList(related);
+        return objects.stream()
+                .map(dictionary::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Responses depend on who is asking, so tags are only issued to anonymous users and users whose identity
+     * can be named.
+     *
+     * @param user the requesting user
+     * @return a stable key for the user or empty if the user cannot be identified
+     */
+    protected Optional<String> getUserKey(User user) {
+        Object opaqueUser = user == null ? null : user.getOpaqueUser();
+        if (opaqueUser == null) {
+            return Optional.of("");
+        }
+        if (opaqueUser instanceof SecurityContext) {
+            opaqueUser = ((SecurityContext) opaqueUser).getUserPrincipal();
+        }
+        if (opaqueUser instanceof Principal && ((Principal) opaqueUser).getName() != null) {
+            return Optional.of(((Principal) opaqueUser).getName());
+        }
+        return Optional.empty();
+    }
+}
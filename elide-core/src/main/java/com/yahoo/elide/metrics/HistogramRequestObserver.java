@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request observer which keeps latency histograms in memory, one per phase, operation, entity type and outcome.
+ * <p>
+ * Durations are bucketed by powers of two nanoseconds.  Intended for tests and for exporting to a metrics
+ * system by polling {@link #getHistograms()}.
+ */
+public class HistogramRequestObserver implements RequestObserver {
+
+    /**
+     * Identifies a histogram.
+     */
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    public static class Key {
+        private final RequestPhase phase;
+        private final String operation;
+        private final String entityType;
+        private final Outcome outcome;
+
+        public Key(RequestPhase phase, String operation, String entityType, Outcome outcome) {
+            this.phase = phase;
+            this.operation = operation;
+            this.entityType = entityType;
+            this.outcome = outcome;
+        }
+    }
+
+    /**
+     * A latency histogram.
+     */
+    public static class Histogram {
+        private static final int BUCKETS = Long.SIZE;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        void record(long durationNanos) {
+            long nanos = Math.max(durationNanos, 0);
+            count.increment();
+            totalNanos.add(nanos);
+            buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(nanos));
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * Estimates a percentile as the upper bound of the bucket containing it.
+         *
+         * @param percentile the percentile between 0 and 100
+         * @return the estimated duration in nanoseconds or 0 if nothing was recorded
+         */
+        public long getPercentileNanos(double percentile) {
+            long total = getCount();
+            if (total == 0) {
+                return 0;
+            }
+
+            long rank = Math.max((long) Math.ceil(total * percentile / 100.0), 1);
+            long seen = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                seen += buckets.get(bucket);
+                if (seen >= rank) {
+                    return (1L << bucket) - 1;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private final Map<Key, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> checkStats = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> queryCosts = new ConcurrentHashMap<>();
+
+    @Override
+    public void phaseEnded(RequestPhase phase, String operation, String entityType, Outcome outcome,
+                           long durationNanos) {
+        histograms.computeIfAbsent(new Key(phase, operation, entityType, outcome), key -> new Histogram())
+                .record(durationNanos);
+    }
+
+    @Override
+    public boolean isObservingChecks() {
+        return true;
+    }
+
+    @Override
+    public void checksEvaluated(String operation, String entityType, Map<String, Long> stats) {
+        stats.forEach((check, count) -> checkStats.computeIfAbsent(check, key -> new LongAdder()).add(count));
+    }
+
+    @Override
+    public void queryCostComputed(String operation, int depth, long cost) {
+        queryCosts.computeIfAbsent(operation, key -> new Histogram()).record(cost);
+    }
+
+    /**
+     * Returns every histogram recorded so far.
+     *
+     * @return the histograms
+     */
+    public Map<Key, Histogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Returns the histogram for a phase.
+     *
+     * @param phase the phase
+     * @param operation the request operation
+     * @param entityType the root entity type name
+     * @param outcome the outcome
+     * @return the histogram or null if no such phase was observed
+     */
+    public Histogram getHistogram(RequestPhase phase, String operation, String entityType, Outcome outcome) {
+        return histograms.get(new Key(phase, operation, entityType, outcome));
+    }
+
+    /**
+     * Returns the number of times each security check expression was evaluated across all requests.
+     *
+     * @return evaluation counts keyed by check expression
+     */
+    public Map<String, Long> getCheckStats() {
+        Map<String, Long> stats = new HashMap<>();
+        checkStats.forEach((check, count) -> stats.put(check, count.sum()));
+        return stats;
+    }
+
+    /**
+     * Returns the histogram of the estimated GraphQL query costs of an operation.  The recorded values are costs
+     * (records the documents could load) rather than nanoseconds.
+     *
+     * @param operation the request operation
+     * @return the histogram or null if no cost was computed for the operation
+     */
+    public Histogram getQueryCostHistogram(String operation) {
+        return queryCosts.get(operation);
+    }
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    public void clear() {
+        histograms.clear();
+        checkStats.clear();
+        queryCosts.clear();
+    }
+}
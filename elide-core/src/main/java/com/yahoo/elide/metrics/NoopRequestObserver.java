@@ -0,0 +1,13 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+/**
+ * Request observer that ignores every event.  This is the default.
+ */
+public class NoopRequestObserver implements RequestObserver {
+    public static final NoopRequestObserver INSTANCE = new NoopRequestObserver();
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+import com.yahoo.elide.metrics.RequestObserver.Outcome;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Times the phases of a single request and reports them to a {@link RequestObserver}.
+ */
+public class PhaseTimer {
+
+    /**
+     * The work done in a phase.
+     *
+     * @param <T> the result type
+     * @param <E> the checked exception the work may throw
+     */
+    @FunctionalInterface
+    public interface Phase<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    @Getter private final RequestObserver observer;
+    @Getter private final String operation;
+    @Getter private final String entityType;
+
+    public PhaseTimer(RequestObserver observer, String operation, String entityType) {
+        this.observer = observer == null ? NoopRequestObserver.INSTANCE : observer;
+        this.operation = operation;
+        this.entityType = entityType;
+    }
+
+    /**
+     * Marks the start of a phase.
+     *
+     * @param phase the phase
+     * @return the start time to pass to {@link #stop}
+     */
+    public long start(RequestPhase phase) {
+        observer.phaseStarted(phase, operation, entityType);
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a phase.
+     *
+     * @param phase the phase
+     * @param startNanos the value returned by {@link #start}
+     * @param outcome the outcome of the phase
+     */
+    public void stop(RequestPhase phase, long startNanos, Outcome outcome) {
+        observer.phaseEnded(phase, operation, entityType, outcome, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Runs and times a phase.  The phase fails if it throws.
+     *
+     * @param phase the phase
+     * @param work the work done in the phase
+     * @param <T> the result type
+     * @param <E> the checked exception the work may throw
+     * @return the result of the work
+     * @throws E if the work throws
+     */
+    public <T, E extends Exception> T time(RequestPhase phase, Phase<T, E> work) throws E {
+        long startNanos = start(phase);
+        Outcome outcome = Outcome.FAILURE;
+        try {
+            T result = work.run();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } finally {
+            stop(phase, startNanos, outcome);
+        }
+    }
+
+    /**
+     * Runs and times a phase which produces no result.
+     *
+     * @param phase the phase
+     * @param work the work done in the phase
+     */
+    public void run(RequestPhase phase, Runnable work) {
+        time(phase, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Reports the security check statistics of the request.
+     *
+     * @param checkStats evaluation counts keyed by check expression
+     */
+    public void checksEvaluated(Map<String, Long> checkStats) {
+        if (observer.isObservingChecks() && checkStats != null && !checkStats.isEmpty()) {
+            observer.checksEvaluated(operation, entityType, checkStats);
+        }
+    }
+
+    /**
+     * Reports the estimated cost of a GraphQL request.
+     *
+     * @param depth the deepest relationship nesting of the document
+     * @param cost the number of records the document could load
+     */
+    public void queryCostComputed(int depth, long cost) {
+        observer.queryCostComputed(operation, depth, cost);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+import java.util.Map;
+
+/**
+ * Receives timing events for the phases of every Elide request.
+ * <p>
+ * Observers are shared by all requests, so implementations must be thread safe.  Events are delivered on the
+ * request thread (or the post-commit executor, for {@link RequestPhase#ASYNC_POST_COMMIT_TRIGGERS}):
+ * implementations should record and return quickly.
+ */
+public interface RequestObserver {
+
+    /**
+     * The outcome of a phase.
+     */
+    enum Outcome {
+        SUCCESS,
+        FAILURE
+    }
+
+    /**
+     * Called when a request phase starts.
+     *
+     * @param phase the phase
+     * @param operation the request operation (for example GET or mutation)
+     * @param entityType the type name of the root entity of the request or null if unknown
+     */
+    default void phaseStarted(RequestPhase phase, String operation, String entityType) {
+    }
+
+    /**
+     * Called when a request phase ends.
+     *
+     * @param phase the phase
+     * @param operation the request operation (for example GET or mutation)
+     * @param entityType the type name of the root entity of the request or null if unknown
+     * @param outcome whether the phase completed or failed
+     * @param durationNanos the time spent in the phase
+     */
+    default void phaseEnded(RequestPhase phase, String operation, String entityType, Outcome outcome,
+                            long durationNanos) {
+    }
+
+    /**
+     * Whether this observer wants the per-request security check statistics.  Collecting them has a cost so
+     * permission executors only do so when asked.
+     *
+     * @return true to receive {@link #checksEvaluated}
+     */
+    default boolean isObservingChecks() {
+        return false;
+    }
+
+    /**
+     * Called once per request with the number of times each security check expression was evaluated.
+     *
+     * @param operation the request operation
+     * @param entityType the type name of the root entity of the request or null if unknown
+     * @param checkStats evaluation counts keyed by check expression
+     */
+    default void checksEvaluated(String operation, String entityType, Map<String, Long> checkStats) {
+    }
+
+    /**
+     * Called once per GraphQL request, before it executes, with the estimated cost of the document.
+     *
+     * @param operation the request operation
+     * @param depth the deepest relationship nesting of the document
+     * @param cost the number of records the document could load
+     */
+    default void queryCostComputed(String operation, int depth, long cost) {
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+/**
+ * The phases of an Elide request, in the order they run.
+ */
+public enum RequestPhase {
+    /** The whole request, from opening the transaction to building the response. */
+    REQUEST,
+    /** Parsing the request path. */
+    PARSE,
+    /** Walking the parsed request (JSON-API visitors or GraphQL data fetchers). */
+    EXECUTE,
+    /** Running queued pre-security lifecycle hooks. */
+    PRE_SECURITY_TRIGGERS,
+    /** Evaluating deferred (commit time) security checks. */
+    COMMIT_CHECKS,
+    /** Saving created and modified objects. */
+    SAVE,
+    /** Flushing the transaction. */
+    FLUSH,
+    /** Running queued pre-commit lifecycle hooks. */
+    PRE_COMMIT_TRIGGERS,
+    /** Building and serializing the response document. */
+    SERIALIZE,
+    /** Committing the audit log and the transaction. */
+    COMMIT,
+    /** Running queued post-commit lifecycle hooks. */
+    POST_COMMIT_TRIGGERS,
+    /** Running asynchronous post-commit lifecycle hooks on the post-commit executor, after the response. */
+    ASYNC_POST_COMMIT_TRIGGERS
+}
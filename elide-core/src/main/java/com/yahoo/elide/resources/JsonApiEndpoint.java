@@ -25,6 +25,7 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
@@ -78,6 +79,7 @@ public class JsonApiEndpoint {
      * @param path request path
      * @param uriInfo URI info
      * @param securityContext security context
+     * @param ifNoneMatch If-None-Match header
      * @return response
      */
     @GET
@@ -85,9 +87,11 @@ public class JsonApiEndpoint {
     public Response get(
         @PathParam("path") String path,
         @Context UriInfo uriInfo,
-        @Context SecurityContext securityContext) {
+        @Context SecurityContext securityContext,
+        @HeaderParam("If-None-Match") String ifNoneMatch) {
         MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
-        return build(elide.get(uriInfo.getBaseUri().toString(), path, queryParams, getUser.apply(securityContext)));
+        return build(elide.get(uriInfo.getBaseUri().toString(), path, queryParams,
+                getUser.apply(securityContext), ifNoneMatch));
     }
 
     /**
@@ -139,6 +143,10 @@ public class JsonApiEndpoint {
     }
 
     private static Response build(ElideResponse response) {
-        return Response.status(response.getResponseCode()).entity(response.getBody()).build();
+        Response.ResponseBuilder builder = Response.status(response.getResponseCode()).entity(response.getBody());
+        if (response.getETag() != null) {
+            builder.header(HttpHeaders.ETAG, response.getETag());
+        }
+        return builder.build();
     }
 }
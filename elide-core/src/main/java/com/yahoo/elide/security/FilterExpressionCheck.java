@@ -69,9 +69,7 @@ public abstract class FilterExpressionCheck<T> extends InlineCheck<T> {
      */
     public boolean applyPredicateToObject(T object, FilterPredicate filterPredicate, RequestScope requestScope) {
         try {
-            com.yahoo.elide.core.RequestScope scope = coreScope(requestScope);
-            Predicate<T> fn = filterPredicate.getOperator()
-                    .contextualize(filterPredicate.getPath(), filterPredicate.getValues(), scope);
+            Predicate<T> fn = coreScope(requestScope).getInMemoryPredicate(filterPredicate);
             return fn.test(object);
         } catch (Exception e) {
             log.error("Failed to apply predicate {}", filterPredicate, e);
@@ -12,6 +12,9 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.security.permissions.ExpressionResult;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -111,11 +114,43 @@ public interface PermissionExecutor {
      */
     Optional<FilterExpression> getReadPermissionFilter(Class<?> resourceClass);
 
+    /**
+     * Whether the {@link #getReadPermissionFilter read filter} of a class is equivalent to its read permission, so
+     * records loaded through that filter need not be checked again one by one.
+     *
+     * @param resourceClass the class to check
+     * @return true if the read filter is exact
+     */
+    default boolean isReadPermissionFilterExact(Class<?> resourceClass) {
+        return false;
+    }
+
     /**
      * Execute commit checks.
      */
     void executeCommitChecks();
 
+    /**
+     * Evaluate the {@link com.yahoo.elide.security.checks.BatchOperationCheck batch checks} of a permission once for
+     * a whole page of resources, so the per-resource expressions evaluated afterwards find their results cached.
+     * Implementations may evaluate {@link com.yahoo.elide.security.checks.OperationCheck#isParallelSafe
+     * parallel-safe} operation checks for the page concurrently here as well.
+     *
+     * @param <A> type parameter
+     * @param annotationClass annotation class
+     * @param resources the resources about to be checked
+     */
+    default <A extends Annotation> void evaluateBatchChecks(Class<A> annotationClass,
+            Collection<? extends PersistentResource> resources) {
+    }
+
+    /**
+     * Discard check results cached for individual resources.  Called periodically by long running reads
+     * (bulk export) so the cache does not grow with every row.  Results cached per class are kept.
+     */
+    default void clearResourceResults() {
+    }
+
     /**
      * Return useful information about the check evaluation.
      *
@@ -125,6 +160,16 @@ public interface PermissionExecutor {
         return null;
     }
 
+    /**
+     * Return the number of times each check expression was evaluated during the request.
+     *
+     * @return evaluation counts keyed by check expression (empty if not collected)
+     * @see com.yahoo.elide.metrics.RequestObserver#isObservingChecks
+     */
+    default Map<String, Long> getCheckStats() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Whether or not the permission executor will return verbose logging to the requesting user in the response.
      *
@@ -9,6 +9,7 @@ import static com.yahoo.elide.security.permissions.ExpressionResult.DEFERRED;
 import static com.yahoo.elide.security.permissions.ExpressionResult.FAIL;
 import static com.yahoo.elide.security.permissions.ExpressionResult.PASS;
 
+import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.annotation.CreatePermission;
 import com.yahoo.elide.annotation.DeletePermission;
 import com.yahoo.elide.annotation.ReadPermission;
@@ -18,14 +19,20 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.metrics.RequestObserver;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.PersistentResource;
+import com.yahoo.elide.security.checks.BatchOperationCheck;
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.checks.OperationCheck;
 import com.yahoo.elide.security.permissions.ExpressionResult;
 import com.yahoo.elide.security.permissions.ExpressionResultCache;
 import com.yahoo.elide.security.permissions.PermissionExpressionBuilder;
+import com.yahoo.elide.security.permissions.expressions.CheckExpression;
 import com.yahoo.elide.security.permissions.expressions.Expression;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 
 import lombok.AllArgsConstructor;
@@ -33,13 +40,25 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Default permission executor.
@@ -52,8 +71,18 @@ public class ActivePermissionExecutor implements PermissionExecutor {
     private final RequestScope requestScope;
     private final PermissionExpressionBuilder expressionBuilder;
     private final Map<Triple<Class<? extends Annotation>, Class, String>, ExpressionResult> userPermissionCheckCache;
+    private final ExpressionResultCache expressionResultCache;
+    private final Map<Pair<Class<? extends Annotation>, Class<?>>, List<BatchOperationCheck>> batchChecks =
+            new HashMap<>();
+    private final Map<Pair<Class<? extends Annotation>, Class<?>>, List<OperationCheck>> parallelChecks =
+            new HashMap<>();
+    private final Map<Class<?>, Optional<FilterExpression>> readPermissionFilters = new HashMap<>();
+    private final Map<Class<?>, Boolean> exactReadPermissionFilters = new HashMap<>();
     private final Map<String, Long> checkStats;
+    private final boolean recordCheckStats;
     private final boolean verbose;
+    private final Executor parallelCheckExecutor;
+    private final int parallelCheckThreshold;
 
     /**
      * Constructor.
@@ -71,13 +100,17 @@ public class ActivePermissionExecutor implements PermissionExecutor {
      * @param requestScope Request scope
      */
     public ActivePermissionExecutor(boolean verbose, final RequestScope requestScope) {
-        ExpressionResultCache cache = new ExpressionResultCache();
-
         this.requestScope = requestScope;
-        this.expressionBuilder = new PermissionExpressionBuilder(cache, requestScope.getDictionary());
+        this.expressionResultCache = new ExpressionResultCache();
+        this.expressionBuilder = new PermissionExpressionBuilder(expressionResultCache, requestScope.getDictionary());
         userPermissionCheckCache = new HashMap<>();
         checkStats = new HashMap<>();
+        ElideSettings settings = requestScope.getElideSettings();
+        RequestObserver requestObserver = settings == null ? null : settings.getRequestObserver();
+        recordCheckStats = log.isTraceEnabled() || (requestObserver != null && requestObserver.isObservingChecks());
         this.verbose = verbose;
+        parallelCheckExecutor = settings == null ? null : settings.getParallelCheckExecutor();
+        parallelCheckThreshold = settings == null ? 0 : settings.getParallelCheckThreshold();
     }
 
     /**
@@ -359,10 +392,14 @@ public class ActivePermissionExecutor implements PermissionExecutor {
      */
     @Override
     public Optional<FilterExpression> getReadPermissionFilter(Class<?> resourceClass) {
-        FilterExpression filterExpression =
-                expressionBuilder.buildAnyFieldFilterExpression(resourceClass, requestScope);
+        return readPermissionFilters.computeIfAbsent(resourceClass, unused -> Optional.ofNullable(
+                expressionBuilder.buildAnyFieldFilterExpression(resourceClass, requestScope)));
+    }
 
-        return Optional.ofNullable(filterExpression);
+    @Override
+    public boolean isReadPermissionFilterExact(Class<?> resourceClass) {
+        return exactReadPermissionFilters.computeIfAbsent(resourceClass,
+                expressionBuilder::isReadPermissionFilterExact);
     }
 
     /**
@@ -386,6 +423,151 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         commitCheckQueue.clear();
     }
 
+    @Override
+    public <A extends Annotation> void evaluateBatchChecks(Class<A> annotationClass,
+            Collection<? extends PersistentResource> resources) {
+        Map<Class<?>, List<PersistentResource>> resourcesByClass = new LinkedHashMap<>();
+        for (PersistentResource resource : resources) {
+            resourcesByClass.computeIfAbsent(resource.getResourceClass(), unused -> new ArrayList<>()).add(resource);
+        }
+
+        resourcesByClass.forEach((resourceClass, group) -> {
+            List<BatchOperationCheck> checks = batchChecks.computeIfAbsent(Pair.of(annotationClass, resourceClass),
+                    unused -> expressionBuilder.getBatchChecks(resourceClass, annotationClass));
+            for (BatchOperationCheck check : checks) {
+                evaluateBatchCheck(check, group);
+            }
+
+            if (parallelCheckExecutor != null && parallelCheckThreshold > 0
+                    && group.size() >= parallelCheckThreshold) {
+                List<OperationCheck> operationChecks = parallelChecks.computeIfAbsent(
+                        Pair.of(annotationClass, resourceClass),
+                        unused -> expressionBuilder.getParallelChecks(resourceClass, annotationClass));
+                if (!operationChecks.isEmpty()) {
+                    evaluateParallelChecks(annotationClass, operationChecks, group);
+                }
+            }
+        });
+    }
+
+    private void evaluateBatchCheck(BatchOperationCheck check, List<PersistentResource> resources) {
+        Class<? extends Check> checkClass = check.getClass();
+        List<PersistentResource> pending = new ArrayList<>();
+        List<Object> objects = new ArrayList<>();
+        for (PersistentResource resource : resources) {
+            if (!expressionResultCache.hasStoredResultFor(checkClass, resource)) {
+                pending.add(resource);
+                objects.add(resource.getObject());
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Boolean> results = check.ok(objects, requestScope);
+        for (PersistentResource resource : pending) {
+            Boolean result = results.get(resource.getObject());
+            // Objects without a result are evaluated one at a time.
+            if (result != null) {
+                expressionResultCache.putResultFor(checkClass, resource, result ? PASS : FAIL);
+            }
+        }
+    }
+
+    /**
+     * Evaluates, in rounds, the parallel-safe checks that the permission expressions are certain to reach. Each round
+     * walks the expression of every resource up to its first parallel-safe check without a result and runs those
+     * checks concurrently, so checks behind a short circuit are never evaluated.
+     */
+    private <A extends Annotation> void evaluateParallelChecks(Class<A> annotationClass,
+            List<OperationCheck> checks, List<PersistentResource> resources) {
+        Set<Class<?>> checkClasses = checks.stream().map(Object::getClass).collect(Collectors.toSet());
+        List<PersistentResource> undecided = resources;
+        while (!undecided.isEmpty()) {
+            List<PersistentResource> pending = new ArrayList<>();
+            List<Class<? extends Check>> pendingChecks = new ArrayList<>();
+            List<CompletableFuture<Boolean>> results = new ArrayList<>();
+            for (PersistentResource resource : undecided) {
+                OperationCheck check = findNextParallelCheck(annotationClass, resource, checkClasses);
+                if (check != null) {
+                    Object object = resource.getObject();
+                    pending.add(resource);
+                    pendingChecks.add(check.getClass());
+                    results.add(CompletableFuture.supplyAsync(
+                            () -> check.ok(object, requestScope, Optional.empty()), parallelCheckExecutor));
+                }
+            }
+
+            // Only this thread touches the cache: results are stored in page order once each evaluation completes.
+            List<PersistentResource> evaluated = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                Class<? extends Check> checkClass = pendingChecks.get(i);
+                try {
+                    expressionResultCache.putResultFor(checkClass, pending.get(i), results.get(i).join() ? PASS : FAIL);
+                    evaluated.add(pending.get(i));
+                } catch (CompletionException | CancellationException e) {
+                    // Evaluated again by the expression, which raises the failure where it would have occurred.
+                    log.debug("Parallel evaluation of {} failed", checkClass.getSimpleName(), e);
+                }
+            }
+            undecided = evaluated;
+        }
+    }
+
+    /**
+     * Evaluates the permission expression of a resource the way {@link #checkPermission} would, stopping at the first
+     * parallel-safe check without a result.
+     *
+     * @return that check, or null if the expression is decided (or deferred) without one
+     */
+    private <A extends Annotation> OperationCheck findNextParallelCheck(Class<A> annotationClass,
+            PersistentResource resource, Set<Class<?>> checkClasses) {
+        ExpressionResult userResult =
+                userPermissionCheckCache.get(Triple.of(annotationClass, resource.getResourceClass(), null));
+        if (userResult == PASS) {
+            return null;
+        }
+
+        AtomicReference<OperationCheck> next = new AtomicReference<>();
+        Function<Check, Expression> leafBuilder = check -> {
+            Expression leaf = new CheckExpression(check, resource, requestScope, null, expressionResultCache);
+            return mode -> {
+                if (mode == Expression.EvaluationMode.INLINE_CHECKS_ONLY) {
+                    if (next.get() != null) {
+                        return DEFERRED;
+                    }
+                    if (checkClasses.contains(check.getClass())
+                            && !expressionResultCache.hasStoredResultFor(check.getClass(), resource)) {
+                        next.set((OperationCheck) check);
+                        return DEFERRED;
+                    }
+                }
+                return leaf.evaluate(mode);
+            };
+        };
+
+        Expression expression;
+        if (SharePermission.class == annotationClass) {
+            if (!requestScope.getDictionary().isShareable(resource.getResourceClass())) {
+                return null;
+            }
+            expression = expressionBuilder.buildAnyFieldExpressions(resource, ReadPermission.class, null, leafBuilder);
+        } else {
+            expression = expressionBuilder.buildAnyFieldExpressions(resource, annotationClass, null, leafBuilder);
+        }
+
+        if (userResult == null && expression.evaluate(Expression.EvaluationMode.USER_CHECKS_ONLY) == PASS) {
+            return null;
+        }
+        expression.evaluate(Expression.EvaluationMode.INLINE_CHECKS_ONLY);
+        return next.get();
+    }
+
+    @Override
+    public void clearResourceResults() {
+        expressionResultCache.clear();
+    }
+
     /**
      * Execute expressions.
      *
@@ -400,7 +582,7 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         ExpressionResult result = expression.evaluate(mode);
 
         // Record the check
-        if (log.isTraceEnabled()) {
+        if (recordCheckStats) {
             String checkKey = expression.toString();
             Long checkOccurrences = checkStats.getOrDefault(checkKey, 0L) + 1;
             checkStats.put(checkKey, checkOccurrences);
@@ -487,6 +669,11 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         return null;
     }
 
+    @Override
+    public Map<String, Long> getCheckStats() {
+        return Collections.unmodifiableMap(checkStats);
+    }
+
     @Override
     public boolean isVerbose() {
         return verbose;
@@ -14,6 +14,9 @@ import java.util.Map;
 
 /**
  * Used to cache the results of checks so that if a check is not evaluated more than once for a given resource.
+ * <p>
+ * The cache belongs to a single request and is not thread-safe: checks evaluated in parallel have their results
+ * stored by the request thread.
  */
 public class ExpressionResultCache {
     private final Map<Class<? extends Check>, Map<PersistentResource, ExpressionResult>> computedResults;
@@ -37,4 +40,11 @@ public class ExpressionResultCache {
     public ExpressionResult getResultFor(Class<? extends Check> checkClass, PersistentResource resource) {
         return computedResults.get(checkClass).get(resource);
     }
+
+    /**
+     * Discards all cached results.
+     */
+    public void clear() {
+        computedResults.clear();
+    }
 }
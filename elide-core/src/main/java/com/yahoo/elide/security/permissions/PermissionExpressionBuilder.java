@@ -20,8 +20,12 @@ import com.yahoo.elide.parsers.expression.FilterExpressionNormalizationVisitor;
 import com.yahoo.elide.parsers.expression.PermissionExpressionVisitor;
 import com.yahoo.elide.parsers.expression.PermissionToFilterExpressionVisitor;
 import com.yahoo.elide.security.ChangeSpec;
+import com.yahoo.elide.security.FilterExpressionCheck;
 import com.yahoo.elide.security.PersistentResource;
+import com.yahoo.elide.security.checks.BatchOperationCheck;
 import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.checks.OperationCheck;
+import com.yahoo.elide.security.checks.UserCheck;
 import com.yahoo.elide.security.permissions.expressions.AnyFieldExpression;
 import com.yahoo.elide.security.permissions.expressions.CheckExpression;
 import com.yahoo.elide.security.permissions.expressions.Expression;
@@ -31,9 +35,13 @@ import com.yahoo.elide.security.permissions.expressions.SpecificFieldExpression;
 import org.antlr.v4.runtime.tree.ParseTree;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -100,15 +108,28 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
     public <A extends Annotation> Expression buildAnyFieldExpressions(final PersistentResource resource,
                                                                        final Class<A> annotationClass,
                                                                        final ChangeSpec changeSpec) {
+        return buildAnyFieldExpressions(resource, annotationClass, changeSpec, leafBuilder(resource, changeSpec));
+    }
 
-
+    /**
+     * Build an expression that checks any field on a bean, wrapping each check with the given function.
+     *
+     * @param resource        Resource
+     * @param annotationClass annotation class
+     * @param changeSpec      change spec
+     * @param leafFn          builds the expression of a check
+     * @param <A>             type parameter
+     * @return Commit and operation expressions
+     */
+    public <A extends Annotation> Expression buildAnyFieldExpressions(final PersistentResource resource,
+                                                                       final Class<A> annotationClass,
+                                                                       final ChangeSpec changeSpec,
+                                                                       final Function<Check, Expression> leafFn) {
         Class<?> resourceClass = resource.getResourceClass();
         if (!entityDictionary.entityHasChecksForPermission(resourceClass, annotationClass)) {
             return SUCCESSFUL_EXPRESSION;
         }
 
-        final Function<Check, Expression> leafBuilderFn = leafBuilder(resource, changeSpec);
-
         final Function<Function<Check, Expression>, Expression> expressionFunction =
                 (checkFn) -> buildAnyFieldExpression(
                         PermissionCondition.create(annotationClass, resource, (String) null, changeSpec),
@@ -116,7 +137,7 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
                         (RequestScope) resource.getRequestScope()
                 );
 
-        return expressionFunction.apply(leafBuilderFn);
+        return expressionFunction.apply(leafFn);
     }
 
     /**
@@ -286,6 +307,104 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
         return allFieldsFilterExpression;
     }
 
+    /**
+     * Whether {@link #buildAnyFieldFilterExpression} fully captures the read permission of a type.  This holds when
+     * the entity permission only references filter expression and user checks and no field declares a read
+     * permission of its own.  Records returned for that filter need not be checked again in memory.
+     * <p>
+     * A polymorphic relation may hold subclasses of the type.  The filter is only exact when every subclass shares
+     * the read permission of the type, otherwise the records are checked against their own permission in memory.
+     *
+     * @param forType Resource class
+     * @return true if the read permission filter is exact
+     */
+    public boolean isReadPermissionFilterExact(Class<?> forType) {
+        Class<? extends Annotation> annotationClass = ReadPermission.class;
+        ParseTree classPermissions = entityDictionary.getPermissionsForClass(forType, annotationClass);
+        if (classPermissions == null) {
+            return false;
+        }
+
+        for (String field : entityDictionary.getAllFields(forType)) {
+            if (entityDictionary.getPermissionsForField(forType, field, annotationClass) != null) {
+                return false;
+            }
+        }
+
+        for (Class<?> subclass : entityDictionary.getSubclassingEntities(forType)) {
+            ParseTree subclassPermissions = entityDictionary.getPermissionsForClass(subclass, annotationClass);
+            if (subclassPermissions == null || !subclassPermissions.getText().equals(classPermissions.getText())) {
+                return false;
+            }
+
+            for (String field : entityDictionary.getAllFields(subclass)) {
+                if (entityDictionary.getPermissionsForField(subclass, field, annotationClass) != null) {
+                    return false;
+                }
+            }
+        }
+
+        List<Check> inMemoryChecks = new ArrayList<>();
+        expressionFromParseTree(classPermissions, (check) -> {
+            if (!(check instanceof FilterExpressionCheck) && !(check instanceof UserCheck)) {
+                inMemoryChecks.add(check);
+            }
+            return SUCCESSFUL_EXPRESSION;
+        });
+
+        return inMemoryChecks.isEmpty();
+    }
+
+    /**
+     * Find the batch checks referenced by the entity and field permissions of a type.
+     *
+     * @param resourceClass   Resource class
+     * @param annotationClass Annotation class
+     * @return the batch checks, one per check class
+     */
+    public List<BatchOperationCheck> getBatchChecks(Class<?> resourceClass,
+                                                    Class<? extends Annotation> annotationClass) {
+        return collectChecks(resourceClass, annotationClass, check -> check instanceof BatchOperationCheck).stream()
+                .map(BatchOperationCheck.class::cast)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Find the {@link OperationCheck#isParallelSafe parallel-safe} operation checks (other than batch checks)
+     * referenced by the entity and field permissions of a type.
+     *
+     * @param resourceClass   Resource class
+     * @param annotationClass Annotation class
+     * @return the parallel-safe checks, one per check class
+     */
+    public List<OperationCheck> getParallelChecks(Class<?> resourceClass,
+                                                  Class<? extends Annotation> annotationClass) {
+        return collectChecks(resourceClass, annotationClass, check -> check instanceof OperationCheck
+                && !(check instanceof BatchOperationCheck)
+                && ((OperationCheck) check).isParallelSafe()).stream()
+                .map(OperationCheck.class::cast)
+                .collect(Collectors.toList());
+    }
+
+    private List<Check> collectChecks(Class<?> resourceClass, Class<? extends Annotation> annotationClass,
+                                      Predicate<Check> predicate) {
+        Map<Class<? extends Check>, Check> checks = new LinkedHashMap<>();
+        Function<Check, Expression> collectFn = (check) -> {
+            if (predicate.test(check)) {
+                checks.putIfAbsent(check.getClass(), check);
+            }
+            return SUCCESSFUL_EXPRESSION;
+        };
+
+        expressionFromParseTree(entityDictionary.getPermissionsForClass(resourceClass, annotationClass), collectFn);
+        for (String field : entityDictionary.getAllFields(resourceClass)) {
+            expressionFromParseTree(
+                    entityDictionary.getPermissionsForField(resourceClass, field, annotationClass), collectFn);
+        }
+
+        return new ArrayList<>(checks.values());
+    }
+
     private Expression expressionFromParseTree(ParseTree permissions, Function<Check, Expression> checkFn) {
         if (permissions == null) {
             return null;
@@ -10,13 +10,26 @@ import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Scans a package for classes by looking at files in the classpath.
+ * <p>
+ * The classpath is scanned once and the result is shared by all lookups until {@link #release()} is called.
+ * The {@value #SCAN_PACKAGES_PROPERTY} system property (a comma separated list of packages) restricts the
+ * shared scan; lookups in other packages scan those packages on their own.
  */
 public class ClassScanner {
+    public static final String SCAN_PACKAGES_PROPERTY = "elide.scan.packages";
+
+    private static ScanResult sharedScan;
+    private static List<String> sharedScanPackages;
+
     /**
      * Scans all classes accessible from the context class loader which belong to the given package and subpackages.
      *
@@ -36,6 +49,12 @@ public class ClassScanner {
      * @return The classes
      */
     static public Set<Class<?>> getAnnotatedClasses(String packageName, Class<? extends Annotation> annotation) {
+        Optional<Set<Class<?>>> shared = withSharedScan(packageName, scanResult ->
+                loadClasses(scanResult.getClassesWithAnnotation(annotation.getCanonicalName()), packageName));
+        if (shared.isPresent()) {
+            return shared.get();
+        }
+
         try (ScanResult scanResult = new ClassGraph()
                 .enableClassInfo().enableAnnotationInfo().whitelistPackages(packageName).scan()) {
             return scanResult.getClassesWithAnnotation(annotation.getCanonicalName()).stream()
@@ -51,12 +70,8 @@ public class ClassScanner {
      * @return The classes
      */
     static public Set<Class<?>> getAnnotatedClasses(Class<? extends Annotation> annotation) {
-        try (ScanResult scanResult = new ClassGraph()
-                .enableClassInfo().enableAnnotationInfo().scan()) {
-            return scanResult.getClassesWithAnnotation(annotation.getCanonicalName()).stream()
-                    .map((ClassInfo::loadClass))
-                    .collect(Collectors.toSet());
-        }
+        return withSharedScan(null, scanResult ->
+                loadClasses(scanResult.getClassesWithAnnotation(annotation.getCanonicalName()), null)).get();
     }
 
     /**
@@ -65,6 +80,12 @@ public class ClassScanner {
      * @return All the classes within a package.
      */
     static public Set<Class<?>> getAllClasses(String packageName) {
+        Optional<Set<Class<?>>> shared = withSharedScan(packageName, scanResult ->
+                loadClasses(scanResult.getAllClasses(), packageName));
+        if (shared.isPresent()) {
+            return shared.get();
+        }
+
         try (ScanResult scanResult = new ClassGraph()
                 .enableClassInfo().whitelistPackages(packageName).scan()) {
             return scanResult.getAllClasses().stream()
@@ -72,4 +93,50 @@ public class ClassScanner {
                     .collect(Collectors.toSet());
         }
     }
+
+    /**
+     * Releases the shared scan.  Called once startup is done; later lookups scan the classpath again.
+     */
+    static public synchronized void release() {
+        if (sharedScan != null) {
+            sharedScan.close();
+            sharedScan = null;
+            sharedScanPackages = null;
+        }
+    }
+
+    /**
+     * Runs a lookup against the shared scan, building it if needed.
+     *
+     * @param packageName the package the lookup is restricted to, or null for the whole classpath
+     * @param lookup the lookup
+     * @return the lookup result, or empty if the shared scan does not cover the package
+     */
+    private static synchronized Optional<Set<Class<?>>> withSharedScan(String packageName,
+            Function<ScanResult, Set<Class<?>>> lookup) {
+        if (sharedScan == null) {
+            String packages = System.getProperty(SCAN_PACKAGES_PROPERTY, "");
+            sharedScanPackages = Arrays.stream(packages.split(","))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toList());
+            ClassGraph classGraph = new ClassGraph().enableClassInfo().enableAnnotationInfo();
+            if (!sharedScanPackages.isEmpty()) {
+                classGraph.whitelistPackages(sharedScanPackages.toArray(new String[0]));
+            }
+            sharedScan = classGraph.scan();
+        }
+
+        // Lookups across the whole classpath are limited to the configured packages
+        boolean covered = packageName == null || sharedScanPackages.isEmpty() || sharedScanPackages.stream()
+                .anyMatch(name -> packageName.equals(name) || packageName.startsWith(name + "."));
+        return covered ? Optional.of(lookup.apply(sharedScan)) : Optional.empty();
+    }
+
+    private static Set<Class<?>> loadClasses(List<ClassInfo> classes, String packageName) {
+        return classes.stream()
+                .filter(classInfo -> packageName == null || classInfo.getName().startsWith(packageName + "."))
+                .map(ClassInfo::loadClass)
+                .collect(Collectors.toSet());
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideExecutors;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+public class ElideAsyncTest {
+
+    @Include(rootLevel = true, type = "asyncWidget")
+    @Entity
+    public static class AsyncWidget {
+        @Id
+        public long id;
+        public String name;
+
+        @Version
+        public long revision;
+    }
+
+    @Test
+    public void testRequestsRunOnRequestExecutor() throws Exception {
+        AtomicInteger submitted = new AtomicInteger();
+        Elide elide = new Elide(new ElideSettingsBuilder(new HashMapDataStore(AsyncWidget.class.getPackage()))
+                .withEntityDictionary(new EntityDictionary(new HashMap<>()))
+                .withETags()
+                .withRequestExecutor(task -> {
+                    submitted.incrementAndGet();
+                    task.run();
+                })
+                .build());
+
+        ElideResponse created = elide.postAsync(null, "/asyncWidget",
+                "{\"data\": {\"type\": \"asyncWidget\", \"id\": \"1\", \"attributes\": {\"name\": \"w\"}}}",
+                null, null).get();
+        assertEquals(HttpStatus.SC_CREATED, created.getResponseCode());
+
+        ElideResponse read = elide.getAsync(null, "/asyncWidget/1", null, null, null).get();
+        assertEquals(HttpStatus.SC_OK, read.getResponseCode());
+        assertNotNull(read.getETag());
+
+        assertEquals(2, submitted.get());
+    }
+
+    @Test
+    public void testDefaultRequestExecutor() {
+        Elide elide = new Elide(new ElideSettingsBuilder(new HashMapDataStore(AsyncWidget.class.getPackage()))
+                .withEntityDictionary(new EntityDictionary(new HashMap<>()))
+                .build());
+
+        assertEquals(ElideExecutors.getDefaultRequestExecutor(), elide.getRequestExecutor());
+    }
+
+    @Test
+    public void testBoundedRequestExecutorRunsOnCallerWhenFull() throws Exception {
+        ExecutorService executor = ElideExecutors.newBoundedRequestExecutor(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> overflowThread = new AtomicReference<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> { });
+            executor.execute(() -> overflowThread.set(Thread.currentThread()));
+
+            assertEquals(Thread.currentThread(), overflowThread.get());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
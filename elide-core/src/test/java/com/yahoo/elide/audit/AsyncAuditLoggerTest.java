@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncAuditLoggerTest {
+
+    private static RequestScope newRequestScope(AuditLogger logger) {
+        return new RequestScope(null, null, null, null, null, null,
+                new ElideSettingsBuilder(null)
+                        .withAuditLogger(logger)
+                        .withEntityDictionary(new EntityDictionary(new HashMap<>()))
+                        .build());
+    }
+
+    private static void commit(AsyncAuditLogger logger, int count) throws IOException {
+        RequestScope scope = newRequestScope(logger);
+        for (int i = 0; i < count; i++) {
+            logger.log(new LogMessage("message " + i, i), scope);
+        }
+        logger.commit(scope);
+    }
+
+    @Test
+    public void testMessagesAreWrittenInBatches() throws Exception {
+        QueueAuditSink sink = new QueueAuditSink();
+        AsyncAuditLogger logger = AsyncAuditLogger.builder()
+                .sink(sink)
+                .batchSize(2)
+                .flushIntervalMillis(10L)
+                .build();
+
+        RequestScope scope = newRequestScope(logger);
+        logger.log(new LogMessage("first", 1), scope);
+        logger.log(new LogMessage("second", 2), scope);
+        logger.log(new LogMessage("third", 3), scope);
+        assertEquals(3, scope.getAuditMessages().size());
+
+        logger.commit(scope);
+        assertTrue(scope.getAuditMessages().isEmpty());
+        logger.close();
+
+        List<AuditRecord> records = new ArrayList<>(sink.getQueue());
+        assertEquals(3, records.size());
+        assertEquals("first", records.get(0).getMessage());
+        assertEquals(3, records.get(2).getOperationCode());
+        assertEquals(3, logger.getEnqueuedCount());
+        assertEquals(3, logger.getWrittenCount());
+        assertEquals(0, logger.getQueueDepth());
+    }
+
+    @Test
+    public void testDropWhenQueueIsFull() throws Exception {
+        GatedSink sink = new GatedSink();
+        AsyncAuditLogger logger = AsyncAuditLogger.builder()
+                .sink(sink)
+                .capacity(2)
+                .batchSize(1)
+                .flushIntervalMillis(10L)
+                .overflowPolicy(AsyncAuditLogger.OverflowPolicy.DROP)
+                .build();
+
+        commit(logger, 1);
+        assertTrue(sink.writing.await(5, TimeUnit.SECONDS));
+
+        commit(logger, 4);
+        assertEquals(2, logger.getQueueDepth());
+        assertEquals(2, logger.getDroppedCount());
+
+        sink.release.countDown();
+        logger.close();
+        assertEquals(3, sink.records.size());
+        assertEquals(3, logger.getWrittenCount());
+    }
+
+    @Test
+    public void testSpillIsReplayed(@TempDir Path directory) throws Exception {
+        Path spillFile = directory.resolve("audit.spill");
+        GatedSink sink = new GatedSink();
+        AsyncAuditLogger logger = AsyncAuditLogger.builder()
+                .sink(sink)
+                .capacity(2)
+                .batchSize(1)
+                .flushIntervalMillis(10L)
+                .overflowPolicy(AsyncAuditLogger.OverflowPolicy.SPILL)
+                .spillFile(spillFile)
+                .build();
+
+        commit(logger, 1);
+        assertTrue(sink.writing.await(5, TimeUnit.SECONDS));
+
+        commit(logger, 4);
+        assertEquals(2, logger.getSpilledCount());
+        assertEquals(2, Files.readAllLines(spillFile).size());
+
+        sink.release.countDown();
+        logger.close();
+        assertEquals(5, sink.records.size());
+        assertEquals(0, logger.getDroppedCount());
+        assertFalse(Files.exists(spillFile));
+    }
+
+    @Test
+    public void testSpillIsReplayedInOrderOnceQueueDrains(@TempDir Path directory) throws Exception {
+        Path spillFile = directory.resolve("audit.spill");
+        GatedSink sink = new GatedSink();
+        AsyncAuditLogger logger = AsyncAuditLogger.builder()
+                .sink(sink)
+                .capacity(2)
+                .batchSize(1)
+                .flushIntervalMillis(TimeUnit.SECONDS.toMillis(3))
+                .overflowPolicy(AsyncAuditLogger.OverflowPolicy.SPILL)
+                .spillFile(spillFile)
+                .build();
+
+        RequestScope scope = newRequestScope(logger);
+        for (int i = 0; i < 7; i++) {
+            logger.log(new LogMessage("message " + i, i), scope);
+            logger.commit(scope);
+            if (i == 0) {
+                assertTrue(sink.writing.await(5, TimeUnit.SECONDS));
+            }
+        }
+        // The queue had room again, but records keep going to the spill file while it holds older ones
+        assertEquals(4, logger.getSpilledCount());
+
+        sink.release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (logger.getWrittenCount() < 7 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Written without waiting for the flush interval to pass with an empty queue
+        assertEquals(7, logger.getWrittenCount());
+        for (int i = 0; i < 7; i++) {
+            assertEquals(i, sink.records.get(i).getOperationCode());
+        }
+        logger.close();
+        assertFalse(Files.exists(spillFile));
+    }
+
+    @Test
+    public void testSpillRequiresFile() {
+        assertThrows(IllegalArgumentException.class, () -> AsyncAuditLogger.builder()
+                .overflowPolicy(AsyncAuditLogger.OverflowPolicy.SPILL)
+                .build());
+    }
+
+    /**
+     * Sink which holds the writer thread inside its first write until released.
+     */
+    private static class GatedSink implements AuditSink {
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<AuditRecord> records = new ArrayList<>();
+
+        @Override
+        public void write(List<AuditRecord> batch) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            records.addAll(batch);
+        }
+    }
+}
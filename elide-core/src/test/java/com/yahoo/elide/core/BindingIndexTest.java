@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.annotation.ComputedAttribute;
+import com.yahoo.elide.annotation.DeletePermission;
+import com.yahoo.elide.annotation.Exclude;
+import com.yahoo.elide.annotation.OnCreatePreCommit;
+import com.yahoo.elide.annotation.OnUpdatePreSecurity;
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.annotation.UpdatePermission;
+import com.yahoo.elide.security.ChangeSpec;
+import com.yahoo.elide.security.RequestScope;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import javax.persistence.Transient;
+
+/**
+ * Entities compiled by the test build are indexed by {@code ElideIndexProcessor}.
+ */
+public class BindingIndexTest {
+    private static final List<Class<?>> HIERARCHY = Arrays.asList(Widget.class, BaseWidget.class);
+
+    @Test
+    public void testIndexedBindingMatchesReflection() {
+        assertTrue(BindingIndex.load(Widget.class, HIERARCHY.subList(1, 2)).isPresent());
+
+        EntityBinding indexed = bind(true);
+        EntityBinding reflected = bind(false);
+
+        assertEquals(reflected.getAccessType(), indexed.getAccessType());
+        assertEquals(reflected.getIdField(), indexed.getIdField());
+        assertEquals(Arrays.asList("children"), indexed.relationships);
+        assertEquals(Arrays.asList("label", "name", "secret"), indexed.attributes);
+        assertEquals(reflected.attributes, indexed.attributes);
+        assertEquals(reflected.relationships, indexed.relationships);
+        assertEquals(reflected.relationshipTypes, indexed.relationshipTypes);
+        assertEquals(reflected.relationshipToInverse, indexed.relationshipToInverse);
+        assertEquals(reflected.fieldsToValues, indexed.fieldsToValues);
+        assertEquals(reflected.fieldsToTypes, indexed.fieldsToTypes);
+
+        assertEquals(reflected.getTriggerMask(""), indexed.getTriggerMask(""));
+        assertEquals(reflected.getTriggerMask("name"), indexed.getTriggerMask("name"));
+        assertEquals(1, indexed.getTriggers(OnCreatePreCommit.class, "").size());
+        assertEquals(1, indexed.getTriggers(OnUpdatePreSecurity.class, "name").size());
+
+        assertNotNull(indexed.entityPermissions.getClassChecksForPermission(ReadPermission.class));
+        assertNotNull(indexed.entityPermissions.getFieldChecksForPermission("secret", UpdatePermission.class));
+        assertFalse(indexed.entityPermissions.hasChecksForPermission(DeletePermission.class));
+    }
+
+    @Test
+    public void testOutOfDateIndexIsIgnored() throws Exception {
+        List<String> record = readRecord();
+        assertTrue(BindingIndex.parse(Widget.class, HIERARCHY, record).isPresent());
+
+        /* A field was added */
+        assertFalse(BindingIndex.parse(Widget.class, HIERARCHY, without(record, "field name")).isPresent());
+
+        /* A field was removed */
+        List<String> removed = new ArrayList<>(record);
+        removed.add(1, "field color");
+        assertFalse(BindingIndex.parse(Widget.class, HIERARCHY, removed).isPresent());
+
+        /* The superclass changed */
+        assertFalse(BindingIndex.parse(Widget.class, HIERARCHY.subList(0, 1), record).isPresent());
+
+        /* A method was removed */
+        List<String> renamed = record.stream()
+                .map(line -> line.replace("getLabel()", "getColor()"))
+                .collect(Collectors.toList());
+        assertThrows(NoSuchMethodException.class, () -> BindingIndex.parse(Widget.class, HIERARCHY, renamed));
+    }
+
+    private static EntityBinding bind(boolean indexed) {
+        System.setProperty(BindingIndex.ENABLED_PROPERTY, Boolean.toString(indexed));
+        try {
+            return new EntityBinding(new EntityDictionary(new HashMap<>()), Widget.class, "widget", "widget");
+        } finally {
+            System.clearProperty(BindingIndex.ENABLED_PROPERTY);
+        }
+    }
+
+    private static List<String> readRecord() throws Exception {
+        try (InputStream stream = Widget.class.getClassLoader()
+                .getResourceAsStream(BindingIndex.INDEX_LOCATION + Widget.class.getName())) {
+            return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8)).lines()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> without(List<String> record, String prefix) {
+        return record.stream().filter(line -> !line.startsWith(prefix)).collect(Collectors.toList());
+    }
+
+    @ReadPermission(expression = "Prefab.Role.All")
+    static class BaseWidget {
+        @Id
+        private long id;
+
+        @OnCreatePreCommit
+        public void onCreate(RequestScope scope) {
+        }
+    }
+
+    static class Widget extends BaseWidget {
+        private String name;
+
+        @UpdatePermission(expression = "Prefab.Role.None")
+        private String secret;
+
+        @Exclude
+        private String excluded;
+
+        @Transient
+        private String notPersisted;
+
+        private transient String cache;
+
+        @OneToMany(mappedBy = "parent")
+        private Set<Widget> children;
+
+        @ComputedAttribute
+        public String getLabel() {
+            return name;
+        }
+
+        @OnUpdatePreSecurity("name")
+        public void onUpdateName(RequestScope scope, ChangeSpec changes) {
+        }
+    }
+}
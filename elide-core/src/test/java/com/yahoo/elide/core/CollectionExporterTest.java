@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+import com.yahoo.elide.core.export.LedgerEntry;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+public class CollectionExporterTest {
+
+    /**
+     * Counts the streams that are opened and closed by the wrapped store.
+     */
+    private static class CursorCountingDataStore implements DataStore {
+        private final DataStore wrapped = new HashMapDataStore(LedgerEntry.class.getPackage());
+        private final AtomicInteger opened = new AtomicInteger();
+        private final AtomicInteger closed = new AtomicInteger();
+
+        @Override
+        public void populateEntityDictionary(EntityDictionary dictionary) {
+            wrapped.populateEntityDictionary(dictionary);
+        }
+
+        @Override
+        public DataStoreTransaction beginTransaction() {
+            return new TransactionWrapper(wrapped.beginTransaction()) {
+                @Override
+                public Iterable<Object> streamObjects(Class<?> entityClass,
+                                                      Optional<FilterExpression> filterExpression,
+                                                      Optional<Sorting> sorting,
+                                                      RequestScope requestScope) {
+                    opened.incrementAndGet();
+                    return CloseableIterable.of(tx.streamObjects(entityClass, filterExpression, sorting,
+                            requestScope), closed::incrementAndGet);
+                }
+            };
+        }
+    }
+
+    private CursorCountingDataStore dataStore;
+    private Elide elide;
+
+    @BeforeEach
+    public void setup() {
+        dataStore = new CursorCountingDataStore();
+        elide = new Elide(new ElideSettingsBuilder(dataStore)
+                .withEntityDictionary(new EntityDictionary(new HashMap<>()))
+                .withExportReleaseInterval(1)
+                .build());
+
+        create(1, "rent", 100);
+        create(2, "coffee, \"large\"", 4);
+        create(3, "books", 30);
+    }
+
+    @Test
+    public void testNdjson() throws Exception {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("sort", "id");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ElideResponse response = elide.export(null, "ledgerEntry", ExportFormat.NDJSON, queryParams, null, output);
+
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertNull(response.getBody());
+
+        String[] lines = output.toString(StandardCharsets.UTF_8.name()).split("\n");
+        assertEquals(3, lines.length);
+
+        JsonNode row = new ObjectMapper().readTree(lines[1]);
+        assertEquals("ledgerEntry", row.get("type").asText());
+        assertEquals("2", row.get("id").asText());
+        assertEquals("coffee, \"large\"", row.get("attributes").get("memo").asText());
+        assertEquals(4, row.get("attributes").get("amount").asInt());
+    }
+
+    @Test
+    public void testCsvWithSparseFieldsAndSort() throws Exception {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("fields[ledgerEntry]", "memo");
+        queryParams.putSingle("sort", "-amount");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ElideResponse response = elide.export(null, "ledgerEntry", ExportFormat.CSV, queryParams, null, output);
+
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertEquals("id,memo\r\n1,rent\r\n3,books\r\n2,\"coffee, \"\"large\"\"\"\r\n",
+                output.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test
+    public void testFilter() throws Exception {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("filter[ledgerEntry]", "amount>10");
+        queryParams.putSingle("fields[ledgerEntry]", "amount");
+        queryParams.putSingle("sort", "id");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        elide.export(null, "ledgerEntry", ExportFormat.CSV, queryParams, null, output);
+
+        assertEquals("id,amount\r\n1,100\r\n3,30\r\n", output.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test
+    public void testCursorIsClosed() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        elide.export(null, "ledgerEntry", ExportFormat.NDJSON, null, null, output);
+
+        assertEquals(1, dataStore.opened.get());
+        assertEquals(1, dataStore.closed.get());
+    }
+
+    @Test
+    public void testCursorIsClosedWhenWritingFails() {
+        OutputStream output = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        /* Export with more rows than fit in the writer buffer */
+        for (int id = 4; id <= 200; id++) {
+            create(id, "padding padding padding padding padding padding", id);
+        }
+        ElideResponse response = elide.export(null, "ledgerEntry", ExportFormat.NDJSON, null, null, output);
+
+        assertTrue(response.getResponseCode() >= HttpStatus.SC_BAD_REQUEST);
+        assertEquals(1, dataStore.opened.get());
+        assertEquals(1, dataStore.closed.get());
+    }
+
+    @Test
+    public void testUnknownCollection() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ElideResponse response = elide.export(null, "missing", ExportFormat.CSV, null, null, output);
+
+        assertEquals(HttpStatus.SC_NOT_FOUND, response.getResponseCode());
+        assertEquals(0, output.size());
+    }
+
+    private void create(long id, String memo, int amount) {
+        ElideResponse response = elide.post("/ledgerEntry", String.format(
+                "{\"data\": {\"type\": \"ledgerEntry\", \"id\": \"%d\", \"attributes\": "
+                        + "{\"memo\": \"%s\", \"amount\": %d}}}", id, memo.replace("\"", "\\\""), amount), null);
+        assertEquals(HttpStatus.SC_CREATED, response.getResponseCode());
+    }
+}
@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.yahoo.elide.annotation.OnReadPostCommit;
+import com.yahoo.elide.annotation.OnUpdatePreSecurity;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -70,6 +73,23 @@ public class EntityBindingTest {
         assertFalse(eb.isIdGenerated());
     }
 
+    @Test
+    public void testTriggerMask() throws Exception {
+        final EntityBinding eb = new EntityBinding(entityDictionary, GeneratedValueClass.class, "test", "testBinding");
+        assertEquals(0, eb.getTriggerMask(""));
+        assertEquals(0, eb.getTriggerMask("id"));
+
+        eb.bindTrigger(OnReadPostCommit.class, "id", (entity, scope, changes) -> { });
+        eb.bindTrigger(OnUpdatePreSecurity.class, (entity, scope, changes) -> { });
+
+        int readPostCommit = LifecycleHookPhase.POST_COMMIT.bit(CRUDEvent.CRUDAction.READ);
+        int updatePreSecurity = LifecycleHookPhase.PRE_SECURITY.bit(CRUDEvent.CRUDAction.UPDATE);
+        assertEquals(readPostCommit | updatePreSecurity, eb.getTriggerMask("id"));
+        assertEquals(updatePreSecurity, eb.getTriggerMask("other"));
+        assertEquals(0, eb.getTriggerMask(""));
+        assertEquals(0, readPostCommit & LifecycleHookPhase.mask(CRUDEvent.CRUDAction.UPDATE));
+    }
+
     private class ParentClass {
         @Id
         String parentField;
@@ -64,9 +64,11 @@ import example.TestCheckMappings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -1280,6 +1282,34 @@ public class LifeCycleTest {
         assertTrue(publisher.isUpdateHookInvoked());
     }
 
+    @Test
+    public void testAsyncPostCommitTriggers() {
+        Book book = mock(Book.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        when(tx.createNewObject(Book.class)).thenReturn(book);
+
+        List<Runnable> submitted = new ArrayList<>();
+        ElideSettings settings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .withAuditLogger(MOCK_AUDIT_LOGGER)
+                .withPostCommitExecutor(submitted::add)
+                .withAsyncPostCommitTriggers()
+                .build();
+        RequestScope scope = new RequestScope(null, null, null, tx, new User(1), null, settings);
+
+        PersistentResource.createObject(null, Book.class, scope, Optional.of("uuid"));
+        scope.runQueuedPreSecurityTriggers();
+        scope.runQueuedPreCommitTriggers();
+        verify(book, times(1)).onCreatePreCommit(scope);
+
+        scope.runQueuedPostCommitTriggers();
+        verify(book, never()).onCreatePostCommit(scope);
+        assertEquals(1, submitted.size());
+
+        submitted.get(0).run();
+        verify(book, times(1)).onCreatePostCommit(scope);
+    }
+
     private Elide getElide(DataStore dataStore, EntityDictionary dictionary, AuditLogger auditLogger) {
         return new Elide(getElideSettings(dataStore, dictionary, auditLogger));
     }
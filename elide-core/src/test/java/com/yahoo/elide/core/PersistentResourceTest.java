@@ -22,7 +22,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.annotation.Audit;
+import com.yahoo.elide.annotation.Include;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.audit.LogMessage;
 import com.yahoo.elide.audit.TestAuditLogger;
@@ -39,7 +42,9 @@ import com.yahoo.elide.jsonapi.models.Relationship;
 import com.yahoo.elide.jsonapi.models.Resource;
 import com.yahoo.elide.jsonapi.models.ResourceIdentifier;
 import com.yahoo.elide.security.ChangeSpec;
+import com.yahoo.elide.security.FilterExpressionCheck;
 import com.yahoo.elide.security.User;
+import com.yahoo.elide.security.checks.Check;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -90,6 +95,9 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 
@@ -2294,4 +2302,135 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         assertNotEquals(resourceWithDifferentId, resourceWithId);
         assertNotEquals(resourceWithId, resourceWithDifferentId);
     }
+
+    @Test
+    public void testExactReadPermissionFilterIsOnlyTrustedWhenStoreConfirmsIt() {
+        Map<String, Class<? extends Check>> checks = new HashMap<>();
+        checks.put("positive id", PositiveIdCheck.class);
+        EntityDictionary filteredDictionary = new EntityDictionary(checks);
+        filteredDictionary.bindEntity(FilteredParent.class);
+        filteredDictionary.bindEntity(FilteredChild.class);
+        ElideSettings filteredSettings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(filteredDictionary)
+                .build();
+
+        FilteredChild visible = new FilteredChild(1);
+        FilteredChild hidden = new FilteredChild(-1);
+
+        // A parent created in this request: its collection is not persistent, so the store hands it back unfiltered
+        FilteredParent parent = new FilteredParent();
+        parent.children = Sets.newLinkedHashSet(Arrays.asList(visible, hidden));
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        when(tx.getRelation(any(), eq(parent), eq("children"), any(), any(), any(), any()))
+                .thenReturn(parent.children);
+
+        RequestScope scope = new RequestScope(null, null, null, tx, new User(1), null, filteredSettings);
+        PersistentResource<FilteredParent> parentResource =
+                new PersistentResource<>(parent, null, scope.getUUIDFor(parent), scope);
+
+        Set<Object> children = parentResource.getRelationCheckedFiltered("children",
+                Optional.empty(), Optional.empty(), Optional.empty()).stream()
+                .map(PersistentResource::getObject)
+                .collect(Collectors.toSet());
+        assertEquals(Collections.singleton(visible), children);
+
+        // A store which confirms it applied the permission filter is trusted with the records it returns
+        when(tx.getRelation(any(), eq(parent), eq("children"), any(), any(), any(), any()))
+                .thenReturn(new FilteredList<>(Arrays.asList(visible)));
+
+        scope = new RequestScope(null, null, null, tx, new User(1), null, filteredSettings);
+        parentResource = new PersistentResource<>(parent, null, scope.getUUIDFor(parent), scope);
+
+        children = parentResource.getRelationCheckedFiltered("children",
+                Optional.empty(), Optional.empty(), Optional.empty()).stream()
+                .map(PersistentResource::getObject)
+                .collect(Collectors.toSet());
+        assertEquals(Collections.singleton(visible), children);
+    }
+
+    @Test
+    public void testReadPermissionFilterIsNotExactForSubclassWithItsOwnPermission() {
+        Map<String, Class<? extends Check>> checks = new HashMap<>();
+        checks.put("positive id", PositiveIdCheck.class);
+        checks.put("even id", EvenIdCheck.class);
+        EntityDictionary filteredDictionary = new EntityDictionary(checks);
+        filteredDictionary.bindEntity(FilteredParent.class);
+        filteredDictionary.bindEntity(FilteredChild.class);
+        filteredDictionary.bindEntity(EvenFilteredChild.class);
+        ElideSettings filteredSettings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(filteredDictionary)
+                .build();
+
+        FilteredChild visible = new FilteredChild(1);
+        EvenFilteredChild visibleSubclass = new EvenFilteredChild(2);
+        EvenFilteredChild hiddenSubclass = new EvenFilteredChild(3);
+
+        FilteredParent parent = new FilteredParent();
+        parent.children = Sets.newLinkedHashSet(Arrays.asList(visible, visibleSubclass, hiddenSubclass));
+
+        // The store applied the filter of the relation type, which does not capture the subclass permission
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        when(tx.getRelation(any(), eq(parent), eq("children"), any(), any(), any(), any()))
+                .thenReturn(new FilteredList<>(Arrays.asList(visible, visibleSubclass, hiddenSubclass)));
+
+        RequestScope scope = new RequestScope(null, null, null, tx, new User(1), null, filteredSettings);
+        PersistentResource<FilteredParent> parentResource =
+                new PersistentResource<>(parent, null, scope.getUUIDFor(parent), scope);
+
+        Set<Object> children = parentResource.getRelationCheckedFiltered("children",
+                Optional.empty(), Optional.empty(), Optional.empty()).stream()
+                .map(PersistentResource::getObject)
+                .collect(Collectors.toSet());
+        assertEquals(Sets.newHashSet(visible, visibleSubclass), children);
+    }
+
+    public static class PositiveIdCheck extends FilterExpressionCheck<Object> {
+        @Override
+        public FilterExpression getFilterExpression(Class<?> entityClass,
+                com.yahoo.elide.security.RequestScope requestScope) {
+            return new FilterPredicate(new Path.PathElement(entityClass, long.class, "id"), Operator.GT,
+                    Collections.singletonList(0L));
+        }
+    }
+
+    @Entity
+    @Include
+    public static final class FilteredParent {
+        @Id
+        public long id;
+
+        @OneToMany
+        public Set<FilteredChild> children;
+    }
+
+    public static class EvenIdCheck extends FilterExpressionCheck<Object> {
+        @Override
+        public FilterExpression getFilterExpression(Class<?> entityClass,
+                com.yahoo.elide.security.RequestScope requestScope) {
+            return new FilterPredicate(new Path.PathElement(entityClass, long.class, "id"), Operator.IN,
+                    Arrays.asList(0L, 2L, 4L));
+        }
+    }
+
+    @Entity
+    @Include
+    @ReadPermission(expression = "positive id")
+    public static class FilteredChild {
+        @Id
+        public long id;
+
+        public FilteredChild(long id) {
+            this.id = id;
+        }
+    }
+
+    @Entity
+    @Include
+    @ReadPermission(expression = "positive id AND even id")
+    public static final class EvenFilteredChild extends FilteredChild {
+        public EvenFilteredChild(long id) {
+            super(id);
+        }
+    }
 }
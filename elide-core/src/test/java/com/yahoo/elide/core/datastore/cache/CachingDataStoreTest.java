@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.pagination.Pagination;
+
+import com.google.common.collect.Lists;
+import example.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+public class CachingDataStoreTest {
+
+    @Include(rootLevel = true)
+    @Entity
+    @Cacheable
+    public static class Country {
+        @Id
+        public long id;
+        public String name;
+    }
+
+    private DataStore wrappedStore;
+    private DataStoreTransaction wrappedTransaction;
+    private CachingDataStore store;
+    private RequestScope scope;
+    private Country country;
+
+    @BeforeEach
+    public void setup() {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Country.class);
+        dictionary.bindEntity(Book.class);
+
+        wrappedTransaction = mock(DataStoreTransaction.class);
+        wrappedStore = mock(DataStore.class);
+        when(wrappedStore.beginTransaction()).thenReturn(wrappedTransaction);
+        when(wrappedStore.beginReadTransaction()).thenReturn(wrappedTransaction);
+
+        store = new CachingDataStore(wrappedStore, new LruResultCache(2));
+        store.populateEntityDictionary(dictionary);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        country = new Country();
+        country.id = 1;
+        country.name = "Canada";
+        when(wrappedTransaction.loadObjects(eq(Country.class), any(), any(), any(), any()))
+                .thenReturn(Lists.newArrayList(country));
+    }
+
+    @Test
+    public void testRepeatedReadIsCached() {
+        assertEquals(Lists.newArrayList(country), loadCountries(Optional.empty()));
+        assertEquals(Lists.newArrayList(country), loadCountries(Optional.empty()));
+
+        verify(wrappedTransaction, times(1)).loadObjects(eq(Country.class), any(), any(), any(), any());
+        assertEquals(1, store.getHitCount());
+        assertEquals(1, store.getMissCount());
+        assertEquals(0.5, store.getHitRatio());
+    }
+
+    @Test
+    public void testUncacheableEntity() {
+        DataStoreTransaction tx = store.beginReadTransaction();
+        tx.loadObjects(Book.class, Optional.empty(), Optional.empty(), Optional.empty(), scope);
+        tx.loadObjects(Book.class, Optional.empty(), Optional.empty(), Optional.empty(), scope);
+
+        verify(wrappedTransaction, times(2)).loadObjects(eq(Book.class), any(), any(), any(), any());
+        assertEquals(0, store.getMissCount());
+    }
+
+    @Test
+    public void testCommitInvalidates() {
+        loadCountries(Optional.empty());
+
+        DataStoreTransaction writeTransaction = store.beginTransaction();
+        writeTransaction.save(country, scope);
+
+        /* The writing transaction reads its own writes */
+        writeTransaction.loadObjects(Country.class, Optional.empty(), Optional.empty(), Optional.empty(), scope);
+        verify(wrappedTransaction, times(2)).loadObjects(eq(Country.class), any(), any(), any(), any());
+
+        /* Other transactions keep reading the cache until the write commits */
+        loadCountries(Optional.empty());
+        verify(wrappedTransaction, times(2)).loadObjects(eq(Country.class), any(), any(), any(), any());
+
+        writeTransaction.commit(scope);
+
+        loadCountries(Optional.empty());
+        verify(wrappedTransaction, times(3)).loadObjects(eq(Country.class), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testWriteTransactionBypassesCache() throws Exception {
+        loadCountries(Optional.empty());
+
+        DataStoreTransaction writeTransaction = store.beginTransaction();
+        writeTransaction.loadObjects(Country.class, Optional.empty(), Optional.empty(), Optional.empty(), scope);
+        writeTransaction.save(country, scope);
+        writeTransaction.close();
+
+        /* The write transaction neither read from nor populated the cache */
+        verify(wrappedTransaction, times(2)).loadObjects(eq(Country.class), any(), any(), any(), any());
+        assertEquals(0, store.getHitCount());
+        assertEquals(1, store.getMissCount());
+
+        /* It rolled back, so nothing was invalidated */
+        loadCountries(Optional.empty());
+        verify(wrappedTransaction, times(2)).loadObjects(eq(Country.class), any(), any(), any(), any());
+        assertEquals(1, store.getHitCount());
+    }
+
+    @Test
+    public void testCachedPageTotals() {
+        when(wrappedTransaction.loadObjects(eq(Country.class), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Optional<Pagination> pagination = invocation.getArgument(3);
+            pagination.get().setPageTotals(10);
+            return Lists.newArrayList(country);
+        });
+
+        Pagination pagination = Pagination.fromOffsetAndLimit(1, 0, true);
+        loadCountries(Optional.of(pagination));
+        assertEquals(10, pagination.getPageTotals());
+
+        pagination = Pagination.fromOffsetAndLimit(1, 0, true);
+        loadCountries(Optional.of(pagination));
+        assertEquals(10, pagination.getPageTotals());
+        assertEquals(1, store.getHitCount());
+    }
+
+    @Test
+    public void testCachedHasNextPage() {
+        when(wrappedTransaction.loadObjects(eq(Country.class), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Optional<Pagination> pagination = invocation.getArgument(3);
+            return pagination.get().trimProbeRecord(Lists.newArrayList(country, new Country()));
+        });
+
+        Pagination pagination = Pagination.fromOffsetAndLimit(1, 0, false);
+        pagination.setProbeNextPage(true);
+        assertEquals(Lists.newArrayList(country), loadCountries(Optional.of(pagination)));
+        assertEquals(Optional.of(true), pagination.getHasNextPage());
+
+        pagination = Pagination.fromOffsetAndLimit(1, 0, false);
+        pagination.setProbeNextPage(true);
+        assertEquals(Lists.newArrayList(country), loadCountries(Optional.of(pagination)));
+        assertEquals(Optional.of(true), pagination.getHasNextPage());
+        assertEquals(1, store.getHitCount());
+
+        /* A page read without the probe is cached apart */
+        pagination = Pagination.fromOffsetAndLimit(1, 0, false);
+        loadCountries(Optional.of(pagination));
+        assertEquals(Optional.empty(), pagination.getHasNextPage());
+        assertEquals(1, store.getHitCount());
+    }
+
+    @Test
+    public void testEviction() {
+        loadCountries(Optional.of(Pagination.fromOffsetAndLimit(1, 0, false)));
+        loadCountries(Optional.of(Pagination.fromOffsetAndLimit(1, 1, false)));
+        loadCountries(Optional.of(Pagination.fromOffsetAndLimit(1, 2, false)));
+
+        assertEquals(2, store.getResultCache().size());
+        assertEquals(1, store.getEvictionCount());
+    }
+
+    @Test
+    public void testTimeToLive() throws Exception {
+        LruResultCache cache = new LruResultCache(10, Duration.ofMillis(1));
+        cache.put("key", "value");
+
+        Thread.sleep(10);
+
+        assertNull(cache.get("key"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    private List<Object> loadCountries(Optional<Pagination> pagination) {
+        DataStoreTransaction tx = store.beginReadTransaction();
+        return Lists.newArrayList(
+                tx.loadObjects(Country.class, Optional.empty(), Optional.empty(), pagination, scope));
+    }
+}
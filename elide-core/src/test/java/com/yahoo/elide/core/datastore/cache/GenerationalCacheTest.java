@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GenerationalCacheTest {
+
+    private GenerationalCache cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new GenerationalCache(new LruResultCache(2));
+    }
+
+    @Test
+    public void testHitAndMiss() {
+        long generation = cache.getGeneration(String.class);
+        assertNull(cache.get("key", generation));
+
+        cache.put("key", "value", generation, String.class);
+        assertEquals("value", cache.get("key", generation));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRatio());
+    }
+
+    @Test
+    public void testBumpInvalidatesDependentResults() {
+        long generation = cache.getGeneration(String.class, Integer.class);
+        cache.put("key", "value", generation, String.class, Integer.class);
+
+        cache.bumpGeneration(Long.class);
+        assertEquals(generation, cache.getGeneration(String.class, Integer.class));
+
+        cache.bumpGeneration(Integer.class);
+        long current = cache.getGeneration(String.class, Integer.class);
+        assertEquals(generation + 1, current);
+
+        assertNull(cache.get("key", current));
+        assertEquals(1, cache.getInvalidationCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testResultComputedAcrossCommitIsDiscarded() {
+        long generation = cache.getGeneration(String.class);
+
+        /* A transaction commits while the result is being read */
+        cache.bumpGeneration(String.class);
+        cache.put("key", "stale", generation, String.class);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        cache.put("first", 1, 0, String.class);
+        cache.put("second", 2, 0, String.class);
+        cache.put("third", 3, 0, String.class);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get("first", 0));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.Operator;
+
+import com.google.common.collect.Sets;
+import example.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+public class FieldIndexTest {
+
+    private EntityDictionary dictionary;
+
+    @BeforeEach
+    public void setup() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+    }
+
+    @Test
+    public void testCopyDoesNotChangePublishedIndex() {
+        FieldIndex published = new FieldIndex("title", String.class, InMemoryIndex.Type.ORDERED);
+        published.update("1", book(1, "Foo"), dictionary);
+        published.update("2", book(2, "Foo"), dictionary);
+
+        FieldIndex next = new FieldIndex(published);
+        next.update("1", book(1, "Bar"), dictionary);
+        next.remove("2");
+        next.update("3", book(3, "Foo"), dictionary);
+
+        assertEquals(Sets.newHashSet("1", "2"), lookup(published, Operator.IN, "Foo"));
+        assertEquals(Collections.emptySet(), lookup(published, Operator.IN, "Bar"));
+        assertEquals(Sets.newHashSet("3"), lookup(next, Operator.IN, "Foo"));
+        assertEquals(Sets.newHashSet("1"), lookup(next, Operator.IN, "Bar"));
+    }
+
+    @Test
+    public void testPrefixIncludesKeysAfterMaxValue() {
+        FieldIndex index = new FieldIndex("title", String.class, InMemoryIndex.Type.ORDERED);
+        index.update("1", book(1, "ap"), dictionary);
+        index.update("2", book(2, "ap\uFFFFx"), dictionary);
+        index.update("3", book(3, "ap\uD83D\uDE00"), dictionary);
+        index.update("4", book(4, "aq"), dictionary);
+        index.update("5", book(5, "\uFFFF\uFFFF"), dictionary);
+
+        assertEquals(Sets.newHashSet("1", "2", "3"), lookup(index, Operator.PREFIX, "ap"));
+        assertEquals(Sets.newHashSet("5"), lookup(index, Operator.PREFIX, "\uFFFF"));
+    }
+
+    @Test
+    public void testHashIndex() {
+        /* "Aa" and "BB" share a hash code */
+        FieldIndex index = new FieldIndex("title", String.class, InMemoryIndex.Type.HASH);
+        index.update("1", book(1, "Aa"), dictionary);
+        index.update("2", book(2, "BB"), dictionary);
+        index.update("3", book(3, "Foo"), dictionary);
+        index.update("3", book(3, null), dictionary);
+
+        assertEquals(Sets.newHashSet("1"), lookup(index, Operator.IN, "Aa"));
+        assertEquals(Sets.newHashSet("2"), lookup(index, Operator.IN, "BB"));
+        assertEquals(Collections.emptySet(), lookup(index, Operator.IN, "Foo"));
+
+        index.remove("1");
+        assertEquals(Collections.emptySet(), lookup(index, Operator.IN, "Aa"));
+        assertEquals(Sets.newHashSet("2"), lookup(index, Operator.IN, "BB"));
+    }
+
+    @Test
+    public void testSuccessor() {
+        assertEquals("aq", FieldIndex.successor("ap"));
+        assertEquals("aq", FieldIndex.successor("ap\uFFFF"));
+        assertNull(FieldIndex.successor("\uFFFF\uFFFF"));
+        assertNull(FieldIndex.successor(""));
+    }
+
+    private Object lookup(FieldIndex index, Operator operator, Object value) {
+        return index.lookup(operator, Collections.singletonList(value)).get();
+    }
+
+    private static Book book(long id, String title) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle(title);
+        return book;
+    }
+}
@@ -6,6 +6,7 @@
 package com.yahoo.elide.core.datastore.inmemory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -516,6 +517,108 @@ public class InMemoryStoreTransactionTest {
         assertTrue(loaded.contains(book3));
     }
 
+    @Test
+    public void testInMemorySortingWithSmallPage() {
+        Pagination pagination = Pagination.fromOffsetAndLimit(1, 1, true);
+
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.desc);
+
+        Sorting sorting = new Sorting(sortOrder);
+
+        when(wrappedTransaction.supportsFiltering(eq(Book.class),
+                any())).thenReturn(DataStoreTransaction.FeatureSupport.FULL);
+        when(wrappedTransaction.supportsSorting(eq(Book.class),
+                any())).thenReturn(false);
+        when(wrappedTransaction.supportsPagination(eq(Book.class))).thenReturn(true);
+
+        when(wrappedTransaction.loadObjects(eq(Book.class), eq(Optional.empty()),
+                eq(Optional.empty()), eq(Optional.empty()), eq(scope))).thenReturn((Set) books);
+
+        Collection<Object> loaded = (Collection<Object>) inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.empty(),
+                Optional.of(sorting),
+                Optional.of(pagination),
+                scope);
+
+        assertEquals(Lists.newArrayList(book2), loaded);
+        assertEquals(3, pagination.getPageTotals());
+    }
+
+    @Test
+    public void testInMemoryPaginationWithoutSorting() {
+        Pagination pagination = Pagination.fromOffsetAndLimit(2, 2, true);
+
+        when(wrappedTransaction.supportsFiltering(eq(Book.class),
+                any())).thenReturn(DataStoreTransaction.FeatureSupport.FULL);
+        when(wrappedTransaction.supportsPagination(eq(Book.class))).thenReturn(false);
+
+        List<Book> ordered = Lists.newArrayList(book3, book1, book2);
+        when(wrappedTransaction.loadObjects(eq(Book.class), eq(Optional.empty()),
+                eq(Optional.empty()), eq(Optional.empty()), eq(scope))).thenReturn((Iterable) ordered::iterator);
+
+        Collection<Object> loaded = (Collection<Object>) inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(pagination),
+                scope);
+
+        assertEquals(Lists.newArrayList(book2), loaded);
+        assertEquals(3, pagination.getPageTotals());
+    }
+
+    @Test
+    public void testInMemoryPaginationProbesNextPage() {
+        Pagination pagination = Pagination.fromOffsetAndLimit(1, 1, false);
+        pagination.setProbeNextPage(true);
+
+        when(wrappedTransaction.supportsFiltering(eq(Book.class),
+                any())).thenReturn(DataStoreTransaction.FeatureSupport.FULL);
+        when(wrappedTransaction.supportsPagination(eq(Book.class))).thenReturn(false);
+
+        List<Book> ordered = Lists.newArrayList(book3, book1, book2);
+        when(wrappedTransaction.loadObjects(eq(Book.class), eq(Optional.empty()),
+                eq(Optional.empty()), eq(Optional.empty()), eq(scope))).thenReturn((Iterable) ordered::iterator);
+
+        Collection<Object> loaded = (Collection<Object>) inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(pagination),
+                scope);
+
+        assertEquals(Lists.newArrayList(book1), loaded);
+        assertEquals(Optional.of(true), pagination.getHasNextPage());
+        assertEquals(0, pagination.getPageTotals());
+
+        Pagination lastPage = Pagination.fromOffsetAndLimit(1, 2, false);
+        lastPage.setProbeNextPage(true);
+        loaded = (Collection<Object>) inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(lastPage),
+                scope);
+
+        assertEquals(Lists.newArrayList(book2), loaded);
+        assertEquals(Optional.of(false), lastPage.getHasNextPage());
+    }
+
+    @Test
+    public void testSupportsNextPageProbe() {
+        /* Pages cut in memory are probed in memory */
+        when(wrappedTransaction.supportsPagination(eq(Book.class))).thenReturn(false);
+        assertTrue(inMemoryStoreTransaction.supportsNextPageProbe(Book.class));
+
+        when(wrappedTransaction.supportsPagination(eq(Book.class))).thenReturn(true);
+        assertFalse(inMemoryStoreTransaction.supportsNextPageProbe(Book.class));
+
+        when(wrappedTransaction.supportsNextPageProbe(eq(Book.class))).thenReturn(true);
+        assertTrue(inMemoryStoreTransaction.supportsNextPageProbe(Book.class));
+    }
+
     @Test
     public void testInMemoryDataStore() {
         HashMapDataStore wrapped = new HashMapDataStore(Book.class.getPackage());
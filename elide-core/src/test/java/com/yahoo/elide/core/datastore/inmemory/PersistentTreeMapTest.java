@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class PersistentTreeMapTest {
+
+    @Test
+    public void testMatchesTreeMap() {
+        Random random = new Random(42);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextBoolean()) {
+                expected.put(key, i);
+                map = map.put(key, i);
+            } else {
+                expected.remove(key);
+                map = map.remove(key);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        assertEquals(new ArrayList<>(expected.entrySet()), toList(map));
+        for (int key = 0; key < 500; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    public void testPreviousVersionIsUnchanged() {
+        PersistentTreeMap<String, Integer> first = PersistentTreeMap.<String, Integer>empty().put("a", 1).put("b", 2);
+        PersistentTreeMap<String, Integer> second = first.put("a", 3).remove("b").put("c", 4);
+
+        assertEquals(Arrays.asList(entry("a", 1), entry("b", 2)), toList(first));
+        assertEquals(Arrays.asList(entry("a", 3), entry("c", 4)), toList(second));
+        assertSame(first, first.put("a", 1));
+        assertSame(first, first.remove("z"));
+        assertNull(second.get("b"));
+    }
+
+    @Test
+    public void testForEachInRange() {
+        PersistentTreeMap<Integer, Integer> map = PersistentTreeMap.empty();
+        for (int i = 0; i < 10; i++) {
+            map = map.put(i, i);
+        }
+
+        assertEquals(Arrays.asList(3, 4, 5, 6), range(map, 3, true, 7, false));
+        assertEquals(Arrays.asList(4, 5, 6, 7), range(map, 3, false, 7, true));
+        assertEquals(Arrays.asList(0, 1, 2), range(map, null, false, 3, false));
+        assertEquals(Arrays.asList(8, 9), range(map, 7, false, null, false));
+        assertEquals(Collections.emptyList(), range(map, 5, false, 5, true));
+    }
+
+    private static List<Integer> range(PersistentTreeMap<Integer, Integer> map, Integer low, boolean lowInclusive,
+                                       Integer high, boolean highInclusive) {
+        List<Integer> keys = new ArrayList<>();
+        map.forEachInRange(low, lowInclusive, high, highInclusive, (key, value) -> keys.add(key));
+        return keys;
+    }
+
+    private static <K, V> List<Map.Entry<K, V>> toList(PersistentTreeMap<K, V> map) {
+        List<Map.Entry<K, V>> entries = new ArrayList<>();
+        map.forEach(entries::add);
+        return entries;
+    }
+
+    private static <K, V> Map.Entry<K, V> entry(K key, V value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.export;
+
+import com.yahoo.elide.annotation.Include;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * Model for the CollectionExporter tests.  It has a package of its own so the store only binds it.
+ */
+@Include(rootLevel = true, type = "ledgerEntry")
+@Entity
+public class LedgerEntry {
+    @Id
+    public long id;
+    public String memo;
+    public int amount;
+}
@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.core.filter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -345,6 +346,26 @@ public class OperatorTest {
         assertFalse(fn.test(author));
     }
 
+    @Test
+    public void compiledPredicateReusedAcrossEntitiesTest() throws Exception {
+        Predicate prefix = Operator.PREFIX_CASE_INSENSITIVE.contextualize(
+                constructPath(Author.class, "name"), Collections.singletonList("AUTH"), requestScope);
+        Predicate lessThan = Operator.LT.contextualize(
+                constructPath(Author.class, "id"), Collections.singletonList("3"), requestScope);
+        Predicate notIn = Operator.NOT.contextualize(
+                constructPath(Author.class, "id"), Arrays.asList("1", "4"), requestScope);
+
+        for (long id = 1; id <= 5; id++) {
+            author = new Author();
+            author.setId(id);
+            author.setName(id % 2 == 0 ? "AuthorForTest" : "Writer");
+
+            assertEquals(id % 2 == 0, prefix.test(author));
+            assertEquals(id < 3, lessThan.test(author));
+            assertEquals(id != 1 && id != 4, notIn.test(author));
+        }
+    }
+
     @Test
     public void testInvalidValueExceptionCases() throws Exception {
         // Test type
@@ -6,7 +6,9 @@
 package com.yahoo.elide.core.filter.dialect;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
@@ -51,6 +53,7 @@ public class DefaultFilterDialectTest {
                 "Hemingway"
         );
 
+        assertTrue(dialect.canParseGlobalExpression("/author", queryParams));
         FilterExpression filterExpression = dialect.parseGlobalExpression("/author", queryParams);
 
         assertEquals(
@@ -59,6 +62,18 @@ public class DefaultFilterDialectTest {
         );
     }
 
+    @Test
+    public void testCanParseGlobalExpression() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.add("filter", "name==Hemingway");
+        assertFalse(dialect.canParseGlobalExpression("/author", queryParams));
+
+        /* Global expressions start at the collection of the URL */
+        queryParams = new MultivaluedHashMap<>();
+        queryParams.add("filter[book.title]", "foo");
+        assertFalse(dialect.canParseGlobalExpression("/author", queryParams));
+    }
+
     @Test
     public void testTypedExpressionParsing() throws Exception {
         MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
@@ -6,8 +6,11 @@
 package com.yahoo.elide.core.filter.dialect;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -64,6 +67,34 @@ public class MultipleFilterDialectTest {
         assertEquals(returnExpression, filterExpression);
     }
 
+    /**
+     * Verify that dialects which do not recognize the parameters are skipped.
+     */
+    @Test
+    public void testGlobalExpressionSkipsUnrecognizedSyntax() throws Exception {
+        JoinFilterDialect dialect1 = mock(JoinFilterDialect.class);
+        JoinFilterDialect dialect2 = mock(JoinFilterDialect.class);
+        FilterExpression filterExpression = mock(FilterExpression.class);
+
+        MultipleFilterDialect dialect = new MultipleFilterDialect(
+                Arrays.asList(dialect1, dialect2),
+                Collections.EMPTY_LIST
+        );
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.add("filter", "name==Hemingway");
+
+        when(dialect2.canParseGlobalExpression("/author", queryParams)).thenReturn(true);
+        when(dialect2.parseGlobalExpression("/author", queryParams)).thenReturn(filterExpression);
+
+        assertTrue(dialect.canParseGlobalExpression("/author", queryParams));
+        assertEquals(filterExpression, dialect.parseGlobalExpression("/author", queryParams));
+        verify(dialect1, never()).parseGlobalExpression("/author", queryParams);
+
+        assertFalse(new MultipleFilterDialect(Collections.EMPTY_LIST, Collections.EMPTY_LIST)
+                .canParseGlobalExpression("/author", queryParams));
+    }
+
     /**
      * Verify that all dialects are iterated over.
      */
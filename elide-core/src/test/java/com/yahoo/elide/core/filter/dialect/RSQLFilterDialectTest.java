@@ -6,7 +6,9 @@
 package com.yahoo.elide.core.filter.dialect;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
@@ -82,6 +84,7 @@ public class RSQLFilterDialectTest {
                 "title==*foo*;authors.name==Hemingway"
         );
 
+        assertTrue(dialect.canParseGlobalExpression("/book", queryParams));
         FilterExpression expression = dialect.parseGlobalExpression("/book", queryParams);
 
         assertEquals(
@@ -90,6 +93,18 @@ public class RSQLFilterDialectTest {
         );
     }
 
+    @Test
+    public void testCanParseGlobalExpression() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.add("filter[book]", "title==foo");
+        assertFalse(dialect.canParseGlobalExpression("/book", queryParams));
+
+        queryParams = new MultivaluedHashMap<>();
+        queryParams.add("filter", "title==foo");
+        queryParams.add("filter", "title==bar");
+        assertFalse(dialect.canParseGlobalExpression("/book", queryParams));
+    }
+
     @Test
     public void testEqualOperator() throws Exception {
         MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
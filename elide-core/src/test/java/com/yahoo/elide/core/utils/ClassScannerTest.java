@@ -34,7 +34,29 @@ public class ClassScannerTest {
     @Test
     public void testGetAllAnnotatedClasses() {
         Set<Class<?>> classes = ClassScanner.getAnnotatedClasses(ReadPermission.class);
-        assertEquals(12, classes.size(), "Actual: " + classes);
+
+        // Test models come and go, so check that the shared scan covers the packages rather than a total
+        assertTrue(classes.containsAll(ClassScanner.getAnnotatedClasses("example", ReadPermission.class)),
+                "Actual: " + classes);
+        assertTrue(classes.containsAll(ClassScanner.getAnnotatedClasses("com.yahoo.elide", ReadPermission.class)),
+                "Actual: " + classes);
         classes.forEach(cls -> assertTrue(cls.isAnnotationPresent(ReadPermission.class)));
     }
+
+    @Test
+    public void testRestrictedSharedScan() {
+        ClassScanner.release();
+        System.setProperty(ClassScanner.SCAN_PACKAGES_PROPERTY, "example");
+        try {
+            Set<Class<?>> classes = ClassScanner.getAnnotatedClasses(ReadPermission.class);
+            assertEquals(6, classes.size(), "Actual: " + classes);
+
+            // Packages outside of the shared scan are scanned on their own
+            classes = ClassScanner.getAllClasses("com.yahoo.elide.core.utils");
+            assertEquals(1, classes.size());
+        } finally {
+            System.clearProperty(ClassScanner.SCAN_PACKAGES_PROPERTY);
+            ClassScanner.release();
+        }
+    }
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi;
+
+import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.annotation.SharePermission;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.security.User;
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.checks.UserCheck;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Version;
+import javax.ws.rs.core.MultivaluedHashMap;
+
+public class ETagGeneratorTest {
+
+    @Include(rootLevel = true, type = "widget")
+    @ReadPermission(expression = "widget readable")
+    @SharePermission
+    @Entity
+    public static class Widget {
+        @Id
+        public long id;
+        public String name;
+
+        @Version
+        public long revision;
+
+        @OneToMany(mappedBy = "widget")
+        public Set<Part> parts = new HashSet<>();
+    }
+
+    @Include(rootLevel = true, type = "part")
+    @Entity
+    public static class Part {
+        @Id
+        public long id;
+
+        @ManyToOne
+        public Widget widget;
+    }
+
+    public static class WidgetReadable extends UserCheck {
+        @Override
+        public boolean ok(User user) {
+            return readable;
+        }
+    }
+
+    private static final Principal ALICE = () -> "alice";
+
+    private static volatile boolean readable;
+
+    private HashMapDataStore store;
+    private Elide elide;
+
+    @BeforeEach
+    public void setup() {
+        readable = true;
+        store = new HashMapDataStore(ETagGeneratorTest.class.getPackage());
+        elide = newElide(true);
+        ElideResponse response = elide.post("/widget",
+                "{\"data\": {\"type\": \"widget\", \"id\": \"1\", "
+                        + "\"attributes\": {\"name\": \"sprocket\", \"revision\": 1}}}",
+                ALICE);
+        assertEquals(HttpStatus.SC_CREATED, response.getResponseCode());
+    }
+
+    @Test
+    public void testNotModified() {
+        /* A plain read is tagged */
+        ElideResponse first = get("/widget/1", null);
+        assertEquals(HttpStatus.SC_OK, first.getResponseCode());
+        assertNotNull(first.getETag());
+        assertTrue(first.getETag().startsWith("W/\""));
+
+        ElideResponse second = get("/widget/1", first.getETag());
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, second.getResponseCode());
+        assertNull(second.getBody());
+        assertEquals(first.getETag(), second.getETag());
+
+        /* A stale tag gets the document along with the current tag */
+        ElideResponse stale = get("/widget/1", "W/\"stale\"");
+        assertEquals(HttpStatus.SC_OK, stale.getResponseCode());
+        assertNotNull(stale.getBody());
+        assertEquals(first.getETag(), stale.getETag());
+    }
+
+    @Test
+    public void testNewVersionChangesTag() {
+        String singleTag = get("/widget/1", null).getETag();
+        String collectionTag = get("/widget", null).getETag();
+        assertNotNull(collectionTag);
+        assertNotEquals(singleTag, collectionTag);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, get("/widget", collectionTag).getResponseCode());
+
+        ElideResponse patch = elide.patch(JSONAPI_CONTENT_TYPE, JSONAPI_CONTENT_TYPE, "/widget/1",
+                "{\"data\": {\"type\": \"widget\", \"id\": \"1\", \"attributes\": {\"revision\": 2}}}",
+                ALICE);
+        assertEquals(HttpStatus.SC_NO_CONTENT, patch.getResponseCode());
+
+        ElideResponse single = get("/widget/1", singleTag);
+        assertEquals(HttpStatus.SC_OK, single.getResponseCode());
+        assertNotEquals(singleTag, single.getETag());
+
+        ElideResponse collection = get("/widget", collectionTag);
+        assertEquals(HttpStatus.SC_OK, collection.getResponseCode());
+        assertNotEquals(collectionTag, collection.getETag());
+    }
+
+    @Test
+    public void testRelationshipChangeChangesTag() {
+        String tag = get("/widget/1", null).getETag();
+
+        /* Only the owning side (the part) changes */
+        ElideResponse post = elide.post("/part",
+                "{\"data\": {\"type\": \"part\", \"id\": \"1\", "
+                        + "\"relationships\": {\"widget\": {\"data\": {\"type\": \"widget\", \"id\": \"1\"}}}}}",
+                ALICE);
+        assertEquals(HttpStatus.SC_CREATED, post.getResponseCode());
+
+        ElideResponse single = get("/widget/1", tag);
+        assertEquals(HttpStatus.SC_OK, single.getResponseCode());
+        assertNotEquals(tag, single.getETag());
+    }
+
+    @Test
+    public void testReadPermissionIsCheckedBeforeNotModified() {
+        String tag = get("/widget/1", null).getETag();
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, get("/widget/1", tag).getResponseCode());
+
+        readable = false;
+        ElideResponse denied = get("/widget/1", tag);
+        assertEquals(HttpStatus.SC_FORBIDDEN, denied.getResponseCode());
+        assertNull(denied.getETag());
+    }
+
+    @Test
+    public void testUntaggedRequests() {
+        MultivaluedHashMap<String, String> include = new MultivaluedHashMap<>();
+        include.putSingle("include", "widget");
+        assertNull(elide.get(null, "/widget", include, ALICE, null).getETag());
+
+        /* Users without a name */
+        assertNull(elide.get(null, "/widget/1", new MultivaluedHashMap<>(), new Object(), null).getETag());
+
+        /* Unversioned entities */
+        assertEquals(HttpStatus.SC_OK, get("/part", null).getResponseCode());
+        assertNull(get("/part", null).getETag());
+
+        /* Missing entity */
+        assertEquals(HttpStatus.SC_NOT_FOUND, get("/widget/2", null).getResponseCode());
+        assertNull(get("/widget/2", null).getETag());
+
+        /* Disabled */
+        ElideResponse untagged =
+                newElide(false).get(null, "/widget/1", new MultivaluedHashMap<>(), ALICE, null);
+        assertEquals(HttpStatus.SC_OK, untagged.getResponseCode());
+        assertNull(untagged.getETag());
+    }
+
+    @Test
+    public void testTagsArePerUser() {
+        String aliceTag = get("/widget/1", null).getETag();
+        ElideResponse bob = elide.get(null, "/widget/1", new MultivaluedHashMap<>(), (Principal) () -> "bob",
+                aliceTag);
+        assertEquals(HttpStatus.SC_OK, bob.getResponseCode());
+        assertNotEquals(aliceTag, bob.getETag());
+    }
+
+    @Test
+    public void testMatches() {
+        assertTrue(ETagGenerator.matches("W/\"abc\"", "W/\"abc\""));
+        assertTrue(ETagGenerator.matches("\"abc\"", "W/\"abc\""));
+        assertTrue(ETagGenerator.matches("\"xyz\", W/\"abc\"", "W/\"abc\""));
+        assertTrue(ETagGenerator.matches("*", "W/\"abc\""));
+        assertFalse(ETagGenerator.matches("W/\"xyz\"", "W/\"abc\""));
+        assertFalse(ETagGenerator.matches(null, "W/\"abc\""));
+        assertFalse(ETagGenerator.matches("*", null));
+    }
+
+    private ElideResponse get(String path, String ifNoneMatch) {
+        return elide.get(null, path, new MultivaluedHashMap<>(), ALICE, ifNoneMatch);
+    }
+
+    private Elide newElide(boolean enableETags) {
+        Map<String, Class<? extends Check>> checks = new HashMap<>();
+        checks.put("widget readable", WidgetReadable.class);
+        ElideSettingsBuilder builder = new ElideSettingsBuilder(store)
+                .withEntityDictionary(new EntityDictionary(checks));
+        if (enableETags) {
+            builder.withETags();
+        }
+        return new Elide(builder.build());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.metrics.HistogramRequestObserver.Histogram;
+import com.yahoo.elide.metrics.RequestObserver.Outcome;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+public class HistogramRequestObserverTest {
+
+    @Include(rootLevel = true, type = "gadget")
+    @Entity
+    public static class Gadget {
+        @Id
+        public long id;
+        public String name;
+    }
+
+    private HistogramRequestObserver observer;
+    private Elide elide;
+
+    @BeforeEach
+    public void setup() {
+        observer = new HistogramRequestObserver();
+        elide = new Elide(new ElideSettingsBuilder(new HashMapDataStore(Gadget.class.getPackage()))
+                .withEntityDictionary(new EntityDictionary(new HashMap<>()))
+                .withRequestObserver(observer)
+                .build());
+    }
+
+    @Test
+    public void testRequestPhases() {
+        ElideResponse response = elide.post("/gadget",
+                "{\"data\": {\"type\": \"gadget\", \"id\": \"1\", \"attributes\": {\"name\": \"widget\"}}}", null);
+        assertEquals(HttpStatus.SC_CREATED, response.getResponseCode());
+
+        for (RequestPhase phase : RequestPhase.values()) {
+            if (phase == RequestPhase.ASYNC_POST_COMMIT_TRIGGERS) {
+                // Gadget has no asynchronous lifecycle hooks
+                assertNull(observer.getHistogram(phase, "POST", "gadget", Outcome.SUCCESS));
+                continue;
+            }
+            Histogram histogram = observer.getHistogram(phase, "POST", "gadget", Outcome.SUCCESS);
+            assertNotNull(histogram, phase.name());
+            assertTrue(histogram.getCount() > 0);
+        }
+        assertEquals(1, observer.getHistogram(RequestPhase.REQUEST, "POST", "gadget", Outcome.SUCCESS).getCount());
+
+        assertEquals(HttpStatus.SC_OK, elide.get("/gadget/1", null, null).getResponseCode());
+        assertNull(observer.getHistogram(RequestPhase.SAVE, "GET", "gadget", Outcome.SUCCESS));
+        assertEquals(1, observer.getHistogram(RequestPhase.SERIALIZE, "GET", "gadget", Outcome.SUCCESS).getCount());
+    }
+
+    @Test
+    public void testFailedRequest() {
+        assertEquals(HttpStatus.SC_NOT_FOUND, elide.get("/gadget/2", null, null).getResponseCode());
+
+        assertEquals(1, observer.getHistogram(RequestPhase.PARSE, "GET", "gadget", Outcome.SUCCESS).getCount());
+        assertEquals(1, observer.getHistogram(RequestPhase.EXECUTE, "GET", "gadget", Outcome.FAILURE).getCount());
+        assertEquals(1, observer.getHistogram(RequestPhase.REQUEST, "GET", "gadget", Outcome.FAILURE).getCount());
+        assertNull(observer.getHistogram(RequestPhase.COMMIT, "GET", "gadget", Outcome.SUCCESS));
+    }
+
+    @Test
+    public void testUnknownTypeIsNotReported() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(HttpStatus.SC_NOT_FOUND, elide.get("/unknown" + i, null, null).getResponseCode());
+        }
+
+        assertEquals(3, observer.getHistogram(RequestPhase.REQUEST, "GET", null, Outcome.FAILURE).getCount());
+        assertTrue(observer.getHistograms().keySet().stream().allMatch(key -> key.getEntityType() == null));
+    }
+
+    @Test
+    public void testCheckStats() {
+        elide.get("/gadget", null, null);
+        assertFalse(observer.getHistograms().isEmpty());
+
+        observer.checksEvaluated("GET", "gadget", Collections.singletonMap("Prefab.Role.All", 2L));
+        observer.checksEvaluated("GET", "gadget", Collections.singletonMap("Prefab.Role.All", 3L));
+        assertEquals(Long.valueOf(5), observer.getCheckStats().get("Prefab.Role.All"));
+
+        observer.clear();
+        assertTrue(observer.getHistograms().isEmpty());
+        assertTrue(observer.getCheckStats().isEmpty());
+    }
+
+    @Test
+    public void testPhaseTimer() {
+        PhaseTimer timer = new PhaseTimer(observer, "GET", "gadget");
+        assertEquals("result", timer.time(RequestPhase.EXECUTE, () -> "result"));
+        assertThrows(IllegalStateException.class, () -> timer.run(RequestPhase.FLUSH, () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, observer.getHistogram(RequestPhase.EXECUTE, "GET", "gadget", Outcome.SUCCESS).getCount());
+        assertEquals(1, observer.getHistogram(RequestPhase.FLUSH, "GET", "gadget", Outcome.FAILURE).getCount());
+    }
+
+    @Test
+    public void testPercentiles() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getPercentileNanos(50));
+
+        histogram.record(0);
+        histogram.record(100);
+        histogram.record(1000);
+        histogram.record(1000);
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(2100, histogram.getTotalNanos());
+        assertEquals(0, histogram.getPercentileNanos(25));
+        assertEquals(127, histogram.getPercentileNanos(50));
+        assertEquals(1023, histogram.getPercentileNanos(99));
+    }
+}
@@ -6,6 +6,7 @@
 package com.yahoo.elide.security;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.yahoo.elide.ElideSettings;
@@ -18,6 +19,8 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
+import com.yahoo.elide.security.checks.BatchOperationCheck;
+import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.checks.CommitCheck;
 import com.yahoo.elide.security.checks.OperationCheck;
 import com.yahoo.elide.security.checks.UserCheck;
@@ -27,8 +30,18 @@ import example.TestCheckMappings;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -449,6 +462,146 @@ public class PermissionExecutorTest {
         assertEquals(ExpressionResult.DEFERRED, result);
     }
 
+    @Test
+    public void testBatchOperationCheck() {
+        Map<String, Class<? extends Check>> checks = new HashMap<>(TestCheckMappings.MAPPINGS);
+        checks.put("evenId", EvenIdBatchCheck.class);
+        EntityDictionary dictionary = new EntityDictionary(checks);
+        dictionary.bindEntity(BatchBean.class);
+        RequestScope requestScope = new RequestScope(null, null, null, null, null, null, getElideSettings(dictionary));
+
+        List<PersistentResource> resources = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            BatchBean bean = new BatchBean();
+            bean.id = id;
+            resources.add(new PersistentResource<>(bean, null, requestScope.getUUIDFor(bean), requestScope));
+        }
+
+        EvenIdBatchCheck.BATCHES.set(0);
+        requestScope.getPermissionExecutor().evaluateBatchChecks(ReadPermission.class, resources);
+        assertEquals(1, EvenIdBatchCheck.BATCHES.get());
+
+        for (PersistentResource resource : resources) {
+            if (((BatchBean) resource.getObject()).id % 2 == 0) {
+                requestScope.getPermissionExecutor().checkPermission(ReadPermission.class, resource);
+            } else {
+                assertThrows(ForbiddenAccessException.class,
+                        () -> requestScope.getPermissionExecutor().checkPermission(ReadPermission.class, resource));
+            }
+        }
+
+        // Results were seeded in the cache, so neither the expressions nor a second batch re-run the check
+        requestScope.getPermissionExecutor().evaluateBatchChecks(ReadPermission.class, resources);
+        assertEquals(1, EvenIdBatchCheck.BATCHES.get());
+    }
+
+    @Test
+    public void testParallelOperationCheck() {
+        Map<String, Class<? extends Check>> checks = new HashMap<>(TestCheckMappings.MAPPINGS);
+        checks.put("evenIdParallel", EvenIdParallelCheck.class);
+        EntityDictionary dictionary = new EntityDictionary(checks);
+        dictionary.bindEntity(ParallelBean.class);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ElideSettings settings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .withParallelChecks(executor, 2)
+                .build();
+        RequestScope requestScope = new RequestScope(null, null, null, null, null, null, settings);
+
+        try {
+            List<PersistentResource> resources = new ArrayList<>();
+            for (long id = 1; id <= 4; id++) {
+                ParallelBean bean = new ParallelBean();
+                bean.id = id;
+                resources.add(new PersistentResource<>(bean, null, requestScope.getUUIDFor(bean), requestScope));
+            }
+
+            EvenIdParallelCheck.CALLS.set(0);
+            EvenIdParallelCheck.CALLER_THREADS.clear();
+            requestScope.getPermissionExecutor().evaluateBatchChecks(ReadPermission.class, resources);
+            assertEquals(4, EvenIdParallelCheck.CALLS.get());
+            assertFalse(EvenIdParallelCheck.CALLER_THREADS.contains(Thread.currentThread()));
+
+            for (PersistentResource resource : resources) {
+                if (((ParallelBean) resource.getObject()).id % 2 == 0) {
+                    requestScope.getPermissionExecutor().checkPermission(ReadPermission.class, resource);
+                } else {
+                    assertThrows(ForbiddenAccessException.class,
+                            () -> requestScope.getPermissionExecutor().checkPermission(ReadPermission.class,
+                                    resource));
+                }
+            }
+
+            // Every result came from the cache
+            assertEquals(4, EvenIdParallelCheck.CALLS.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelCheckBehindShortCircuitIsSkipped() {
+        Map<String, Class<? extends Check>> checks = new HashMap<>(TestCheckMappings.MAPPINGS);
+        checks.put("evenIdChained", EvenIdChainedCheck.class);
+        checks.put("countingParallel", CountingParallelCheck.class);
+        EntityDictionary dictionary = new EntityDictionary(checks);
+        dictionary.bindEntity(ChainedParallelBean.class);
+        dictionary.bindEntity(UserFirstParallelBean.class);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ElideSettings settings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .withParallelChecks(executor, 2)
+                .build();
+        RequestScope requestScope = new RequestScope(null, null, null, null, null, null, settings);
+
+        try {
+            List<PersistentResource> resources = new ArrayList<>();
+            for (long id = 1; id <= 4; id++) {
+                ChainedParallelBean bean = new ChainedParallelBean();
+                bean.id = id;
+                resources.add(new PersistentResource<>(bean, null, requestScope.getUUIDFor(bean), requestScope));
+            }
+
+            EvenIdChainedCheck.CALLS.set(0);
+            CountingParallelCheck.CALLS.set(0);
+            CountingParallelCheck.CALLER_THREADS.clear();
+            requestScope.getPermissionExecutor().evaluateBatchChecks(ReadPermission.class, resources);
+
+            // The second check only runs where the first one passed
+            assertEquals(4, EvenIdChainedCheck.CALLS.get());
+            assertEquals(2, CountingParallelCheck.CALLS.get());
+            assertFalse(CountingParallelCheck.CALLER_THREADS.contains(Thread.currentThread()));
+
+            for (PersistentResource resource : resources) {
+                if (((ChainedParallelBean) resource.getObject()).id % 2 == 0) {
+                    requestScope.getPermissionExecutor().checkPermission(ReadPermission.class, resource);
+                } else {
+                    assertThrows(ForbiddenAccessException.class,
+                            () -> requestScope.getPermissionExecutor().checkPermission(ReadPermission.class,
+                                    resource));
+                }
+            }
+            assertEquals(4, EvenIdChainedCheck.CALLS.get());
+            assertEquals(2, CountingParallelCheck.CALLS.get());
+
+            // A passing user check decides the expression without the parallel check
+            resources.clear();
+            for (long id = 1; id <= 4; id++) {
+                UserFirstParallelBean bean = new UserFirstParallelBean();
+                bean.id = id;
+                resources.add(new PersistentResource<>(bean, null, requestScope.getUUIDFor(bean), requestScope));
+            }
+            CountingParallelCheck.CALLS.set(0);
+            requestScope.getPermissionExecutor().evaluateBatchChecks(ReadPermission.class, resources);
+            for (PersistentResource resource : resources) {
+                requestScope.getPermissionExecutor().checkPermission(ReadPermission.class, resource);
+            }
+            assertEquals(0, CountingParallelCheck.CALLS.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     public <T> PersistentResource<T> newResource(T obj, Class<T> cls) {
         EntityDictionary dictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
         dictionary.bindEntity(cls);
@@ -495,6 +648,103 @@ public class PermissionExecutorTest {
         }
     }
 
+    public static final class EvenIdBatchCheck extends BatchOperationCheck<BatchBean> {
+        static final AtomicInteger BATCHES = new AtomicInteger();
+
+        @Override
+        public Map<BatchBean, Boolean> ok(List<BatchBean> objects,
+                                          com.yahoo.elide.security.RequestScope requestScope) {
+            BATCHES.incrementAndGet();
+            Map<BatchBean, Boolean> results = new IdentityHashMap<>();
+            objects.forEach(bean -> results.put(bean, bean.id % 2 == 0));
+            return results;
+        }
+    }
+
+    @ReadPermission(expression = "evenId")
+    @Include
+    @Entity
+    public static final class BatchBean {
+        @Id
+        public long id;
+    }
+
+    public static final class EvenIdParallelCheck extends OperationCheck<ParallelBean> {
+        static final AtomicInteger CALLS = new AtomicInteger();
+        static final Set<Thread> CALLER_THREADS = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean ok(ParallelBean object, com.yahoo.elide.security.RequestScope requestScope,
+                          Optional<ChangeSpec> changeSpec) {
+            CALLS.incrementAndGet();
+            CALLER_THREADS.add(Thread.currentThread());
+            return object.id % 2 == 0;
+        }
+
+        @Override
+        public boolean isParallelSafe() {
+            return true;
+        }
+    }
+
+    @ReadPermission(expression = "evenIdParallel")
+    @Include
+    @Entity
+    public static final class ParallelBean {
+        @Id
+        public long id;
+    }
+
+    public static final class EvenIdChainedCheck extends OperationCheck<ChainedParallelBean> {
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Override
+        public boolean ok(ChainedParallelBean object, com.yahoo.elide.security.RequestScope requestScope,
+                          Optional<ChangeSpec> changeSpec) {
+            CALLS.incrementAndGet();
+            return object.id % 2 == 0;
+        }
+
+        @Override
+        public boolean isParallelSafe() {
+            return true;
+        }
+    }
+
+    public static final class CountingParallelCheck extends OperationCheck<Object> {
+        static final AtomicInteger CALLS = new AtomicInteger();
+        static final Set<Thread> CALLER_THREADS = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean ok(Object object, com.yahoo.elide.security.RequestScope requestScope,
+                          Optional<ChangeSpec> changeSpec) {
+            CALLS.incrementAndGet();
+            CALLER_THREADS.add(Thread.currentThread());
+            return true;
+        }
+
+        @Override
+        public boolean isParallelSafe() {
+            return true;
+        }
+    }
+
+    @ReadPermission(expression = "evenIdChained AND countingParallel")
+    @Include
+    @Entity
+    public static final class ChainedParallelBean {
+        @Id
+        public long id;
+    }
+
+    @ReadPermission(expression = "countingParallel OR allow all")
+    @Include
+    @Entity
+    public static final class UserFirstParallelBean {
+        @Id
+        public long id;
+    }
+
     public static final class PassingCommitCheck extends CommitCheck<Object> {
         @Override
         public boolean ok(Object object, com.yahoo.elide.security.RequestScope requestScope, Optional<ChangeSpec> changeSpec) {
@@ -6,6 +6,8 @@
 package com.yahoo.elide.security.permissions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
@@ -13,15 +15,23 @@ import com.yahoo.elide.annotation.Include;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.annotation.UpdatePermission;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.security.ChangeSpec;
+import com.yahoo.elide.security.FilterExpressionCheck;
 import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.checks.prefab.Role;
 import com.yahoo.elide.security.permissions.expressions.Expression;
+
+import example.NegativeChildIdCheck;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -39,6 +49,8 @@ public class PermissionExpressionBuilderTest {
         Map<String, Class<? extends Check>> checks = new HashMap<>();
         checks.put("user has all access", Role.ALL.class);
         checks.put("user has no access", Role.NONE.class);
+        checks.put("id is set", IdIsSetCheck.class);
+        checks.put("operation check", NegativeChildIdCheck.class);
 
         dictionary = new EntityDictionary(checks);
 
@@ -126,6 +138,62 @@ public class PermissionExpressionBuilderTest {
 
      }
 
+    @Test
+    public void testReadPermissionFilterExact() {
+        @Entity
+        @Include
+        @ReadPermission(expression = "id is set OR user has no access")
+        class FilterModel {
+            @Id
+            private long id;
+            private String name;
+        }
+
+        @Entity
+        @Include
+        @ReadPermission(expression = "id is set OR operation check")
+        class OperationModel {
+            @Id
+            private long id;
+        }
+
+        @Entity
+        @Include
+        @ReadPermission(expression = "id is set")
+        class FieldModel {
+            @Id
+            private long id;
+            @ReadPermission(expression = "user has all access")
+            private String name;
+        }
+
+        @Entity
+        @Include
+        class OpenModel {
+            @Id
+            private long id;
+        }
+
+        dictionary.bindEntity(FilterModel.class);
+        dictionary.bindEntity(OperationModel.class);
+        dictionary.bindEntity(FieldModel.class);
+        dictionary.bindEntity(OpenModel.class);
+
+        assertTrue(builder.isReadPermissionFilterExact(FilterModel.class));
+        assertFalse(builder.isReadPermissionFilterExact(OperationModel.class));
+        assertFalse(builder.isReadPermissionFilterExact(FieldModel.class));
+        assertFalse(builder.isReadPermissionFilterExact(OpenModel.class));
+    }
+
+    public static class IdIsSetCheck extends FilterExpressionCheck<Object> {
+        @Override
+        public FilterExpression getFilterExpression(Class<?> entityClass,
+                com.yahoo.elide.security.RequestScope requestScope) {
+            return new FilterPredicate(new Path.PathElement(entityClass, long.class, "id"), Operator.NOTNULL,
+                    Collections.emptyList());
+        }
+    }
+
     public <T> PersistentResource newResource(T obj, Class<T> cls) {
         RequestScope requestScope = new RequestScope(null, null, null, null, null, null, elideSettings);
         return new PersistentResource<>(obj, null, requestScope.getUUIDFor(obj), requestScope);
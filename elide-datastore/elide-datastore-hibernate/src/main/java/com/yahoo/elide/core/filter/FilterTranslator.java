@@ -40,17 +40,33 @@ import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.google.common.base.Preconditions;
 import org.apache.commons.lang3.tuple.Triple;
 
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Translates a filter predicate into a JPQL fragment.
+ * <p>
+ * Parameters are named after the path of each predicate and its position in the translated expression, never
+ * after its values, and the value lists of IN and NOT IN predicates are padded to the next power of two.  Filters
+ * of the same shape therefore translate to a small, bounded set of query strings, which keeps the query plan
+ * cache of the ORM and the prepared statement cache of the database warm.  A translator numbers the predicates of
+ * everything it translates, so use one translator per query and bind its {@link #getParameterValues()}.
  */
 public class FilterTranslator implements FilterOperation<String> {
     private static final String COMMA = ", ";
 
+    /**
+     * IN lists longer than this are not padded (some databases cap IN lists at 1000 elements).
+     */
+    public static final int MAX_PADDED_IN_LIST_SIZE = 1000;
+
+    private static final Set<Operator> IN_LIST_OPERATORS = EnumSet.of(IN, IN_INSENSITIVE, NOT, NOT_INSENSITIVE);
+
     private static Map<Operator, JPQLPredicateGenerator> operatorGenerators;
     private static Map<Triple<Operator, Class<?>, String>, JPQLPredicateGenerator> predicateOverrides;
 
@@ -188,6 +204,9 @@ public class FilterTranslator implements FilterOperation<String> {
 
     }
 
+    private final Map<String, Object> parameterValues = new LinkedHashMap<>();
+    private int predicateOrdinal;
+
     /**
      * Overrides the default JPQL generator for a given operator.
      * @param op The filter predicate operator
@@ -263,11 +282,15 @@ public class FilterTranslator implements FilterOperation<String> {
         //JPQL doesn't support 'this', but it does support aliases.
         fieldPath = fieldPath.replaceAll("\\.this", "");
 
-        List<FilterParameter> params = filterPredicate.getParameters();
-
         Operator op = filterPredicate.getOperator();
         JPQLPredicateGenerator generator = lookupJPQLGenerator(op, last.getType(), last.getFieldName());
 
+        // Field specific generators get the values as they are
+        int size = filterPredicate.getValues().size();
+        if (generator == null && IN_LIST_OPERATORS.contains(op)) {
+            size = getPaddedSize(size);
+        }
+
         if (generator == null) {
             generator = lookupJPQLGenerator(op);
         }
@@ -276,7 +299,36 @@ public class FilterTranslator implements FilterOperation<String> {
             throw new BadRequestException("Operator not implemented: " + filterPredicate.getOperator());
         }
 
-        return generator.generate(fieldPath, params);
+        List<FilterParameter> params = filterPredicate.getParameters(predicateOrdinal++, size);
+        String fragment = generator.generate(fieldPath, params);
+
+        if (op.isParameterized()) {
+            boolean shouldEscape = filterPredicate.isMatchingOperator();
+            params.forEach(param ->
+                    parameterValues.put(param.getName(), shouldEscape ? param.escapeMatching() : param.getValue()));
+        }
+
+        return fragment;
+    }
+
+    /**
+     * Returns the values to bind to the parameters of everything translated so far, by parameter name.
+     * @return the parameter values
+     */
+    public Map<String, Object> getParameterValues() {
+        return parameterValues;
+    }
+
+    /**
+     * Rounds the size of an IN list up to the next power of two, or to {@link #MAX_PADDED_IN_LIST_SIZE}.
+     * @param size the number of values
+     * @return the number of parameters to bind
+     */
+    static int getPaddedSize(int size) {
+        if (size <= 1 || size > MAX_PADDED_IN_LIST_SIZE) {
+            return size;
+        }
+        return Math.min(Integer.highestOneBit(size - 1) << 1, MAX_PADDED_IN_LIST_SIZE);
     }
 
     private static String greatestClause(List<FilterParameter> params) {
@@ -9,6 +9,7 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RelationshipType;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
@@ -96,13 +97,27 @@ public abstract class AbstractHQLQueryBuilder {
         return this;
     }
 
+    /**
+     * Populates the named parameters of a Hibernate query with the values of the filter predicates translated into
+     * its WHERE clause.
+     *
+     * @param query The HQL query
+     * @param translator The translator which built the filter clause of the query
+     */
+    protected void supplyFilterQueryParameters(Query query, FilterTranslator translator) {
+        translator.getParameterValues().forEach(query::setParameter);
+    }
+
     /**
      * Given a collection of filter predicates and a Hibernate query, populates the named parameters in the
      * Hibernate query.
      *
      * @param query The HQL query
      * @param predicates The predicates to extract named parameter values from
+     * @deprecated only binds parameters named by {@link FilterPredicate#getParameters()}.  Queries filtered with
+     *             {@link FilterTranslator} use {@link #supplyFilterQueryParameters(Query, FilterTranslator)}.
      */
+    @Deprecated
     protected void supplyFilterQueryParameters(Query query, Collection<FilterPredicate> predicates) {
         for (FilterPredicate filterPredicate : predicates) {
             if (filterPredicate.getOperator().isParameterized()) {
@@ -139,14 +154,14 @@ public abstract class AbstractHQLQueryBuilder {
     }
 
     /**
-     * Modifies the HQL query to add OFFSET and LIMIT.
+     * Modifies the HQL query to add OFFSET and LIMIT.  The limit includes the next page probe record, if requested.
      * @param query The HQL query object
      */
     protected void addPaginationToQuery(Query query) {
         if (pagination.isPresent()) {
             Pagination pagination = this.pagination.get();
             query.setFirstResult(pagination.getOffset());
-            query.setMaxResults(pagination.getLimit());
+            query.setMaxResults(pagination.getFetchLimit());
         }
     }
 
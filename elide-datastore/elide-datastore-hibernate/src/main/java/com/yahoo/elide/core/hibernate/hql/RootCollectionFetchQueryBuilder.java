@@ -9,12 +9,9 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.FilterTranslator;
-import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 
-import java.util.Collection;
-
 /**
  * Constructs a HQL query to fetch a root collection.
  */
@@ -41,11 +38,9 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
 
         Query query;
         if (filterExpression.isPresent()) {
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
-            Collection<FilterPredicate> predicates = filterExpression.get().accept(extractor);
-
             //Build the WHERE clause
-            String filterClause = new FilterTranslator().apply(filterExpression.get(), USE_ALIAS);
+            FilterTranslator translator = new FilterTranslator();
+            String filterClause = translator.apply(filterExpression.get(), USE_ALIAS);
 
             //Build the JOIN clause
             String joinClause =  getJoinClauseFromFilters(filterExpression.get())
@@ -79,7 +74,7 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
             );
 
             //Fill in the query parameters
-            supplyFilterQueryParameters(query, predicates);
+            supplyFilterQueryParameters(query, translator);
         } else {
             query = session.createQuery(SELECT
                     + entityAlias
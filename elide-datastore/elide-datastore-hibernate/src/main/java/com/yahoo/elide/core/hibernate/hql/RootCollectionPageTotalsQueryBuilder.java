@@ -8,14 +8,11 @@ package com.yahoo.elide.core.hibernate.hql;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.FilterTranslator;
-import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.Optional;
 
 /**
@@ -57,23 +54,19 @@ public class RootCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilde
         String entityName = entityClass.getCanonicalName();
         String entityAlias = FilterPredicate.getTypeAlias(entityClass);
 
-        Collection<FilterPredicate> predicates;
+        FilterTranslator translator = new FilterTranslator();
 
         String filterClause;
         String joinClause;
 
         if (filterExpression.isPresent()) {
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
-            predicates = filterExpression.get().accept(extractor);
-
             //Build the WHERE clause
-            filterClause = new FilterTranslator().apply(filterExpression.get(), USE_ALIAS);
+            filterClause = translator.apply(filterExpression.get(), USE_ALIAS);
 
             //Build the JOIN clause
             joinClause =  getJoinClauseFromFilters(filterExpression.get(), true);
 
         } else {
-            predicates = new HashSet<>();
             filterClause = "";
             joinClause = "";
         }
@@ -90,7 +83,7 @@ public class RootCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilde
                 + SPACE
                 + filterClause
         );
-        supplyFilterQueryParameters(query, predicates);
+        supplyFilterQueryParameters(query, translator);
         return query;
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.util.Optional;
+
+/**
+ * Constructs a HQL query to summarize the versions of a root collection.
+ */
+public class RootCollectionVersionSummaryQueryBuilder extends AbstractHQLQueryBuilder {
+
+    private Class<?> entityClass;
+
+    public RootCollectionVersionSummaryQueryBuilder(Class<?> entityClass,
+                                                    EntityDictionary dictionary,
+                                                    Session session) {
+        super(dictionary, session);
+        this.entityClass = dictionary.lookupEntityClass(entityClass);
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossiblePagination(Optional<Pagination> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossibleSorting(Optional<Sorting> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Constructs a query that returns the size of a root collection along with its newest version.  Numeric
+     * (counter) versions are also summed, since updating an older row does not change the maximum.
+     *
+     * Constructs a query like:
+     *
+     * SELECT COUNT(Author), MAX(Author.version), SUM(Author.version)
+     * FROM Author AS Author
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        String entityName = entityClass.getCanonicalName();
+        String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+        String versionFieldName = dictionary.getVersionFieldName(entityClass);
+
+        if (versionFieldName == null) {
+            throw new IllegalStateException(entityName + " has no version attribute");
+        }
+
+        String version = entityAlias + PERIOD + versionFieldName;
+        Class<?> versionType = ClassUtils.primitiveToWrapper(dictionary.getType(entityClass, versionFieldName));
+
+        FilterTranslator translator = new FilterTranslator();
+
+        String filterClause;
+        String joinClause;
+
+        if (filterExpression.isPresent()) {
+            //Build the WHERE clause
+            filterClause = translator.apply(filterExpression.get(), USE_ALIAS);
+
+            //Build the JOIN clause
+            joinClause =  getJoinClauseFromFilters(filterExpression.get(), true);
+
+        } else {
+            filterClause = "";
+            joinClause = "";
+        }
+
+        Query query = session.createQuery("SELECT COUNT(DISTINCT "
+                + entityAlias
+                + "), MAX("
+                + version
+                + (Number.class.isAssignableFrom(versionType) ? "), SUM(" + version : "")
+                + ") "
+                + FROM
+                + entityName
+                + AS
+                + entityAlias
+                + SPACE
+                + joinClause
+                + SPACE
+                + filterClause
+        );
+        supplyFilterQueryParameters(query, translator);
+        return query;
+    }
+}
@@ -8,11 +8,9 @@ package com.yahoo.elide.core.hibernate.hql;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.FilterTranslator;
-import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 
-import java.util.Collection;
 import java.util.function.Function;
 
 /**
@@ -67,9 +65,8 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         String relationshipName = relationship.getRelationshipName();
 
         Query query = filterExpression.map(fe -> {
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
-            Collection<FilterPredicate> predicates = fe.accept(extractor);
-            String filterClause = new FilterTranslator().apply(fe, USE_ALIAS);
+            FilterTranslator translator = new FilterTranslator();
+            String filterClause = translator.apply(fe, USE_ALIAS);
 
             String joinClause =  getJoinClauseFromFilters(filterExpression.get())
                     + extractToOneMergeJoins(relationship.getChildType(), childAlias)
@@ -90,7 +87,7 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
                             + getSortClause(sorting, relationship.getChildType(), USE_ALIAS)
             );
 
-            supplyFilterQueryParameters(q, predicates);
+            supplyFilterQueryParameters(q, translator);
             return q;
         }).orElse(session.createQuery(SELECT
                             + childAlias
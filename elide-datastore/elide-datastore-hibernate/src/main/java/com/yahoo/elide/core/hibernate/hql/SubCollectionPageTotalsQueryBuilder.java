@@ -13,15 +13,12 @@ import com.yahoo.elide.core.filter.InPredicate;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.ExpressionScopingVisitor;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
-import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -73,7 +70,7 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
         //Construct a predicate that selects an individual element of the relationship's parent (Author.id = 3).
         FilterPredicate idExpression = new InPredicate(new PathElement(parentType, idType, idField), idVal);
 
-        Collection<FilterPredicate> predicates = new ArrayList<>();
+        FilterTranslator translator = new FilterTranslator();
         String joinClause = "";
         String filterClause = "";
 
@@ -91,13 +88,6 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
                     .map(fe -> fe.accept(visitor))
                     .orElseThrow(() -> new IllegalStateException("Filter expression cloned to null"));
 
-            //For each filter predicate, prepend the predicate with the parent:
-            //books.title = 'Foobar' becomes author.books.title = 'Foobar'
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor(new ArrayList<>());
-
-            predicates = scoped.accept(extractor);
-            predicates.add(idExpression);
-
             //Join together the provided filter expression with the expression which selects the collection owner.
             FilterExpression joinedExpression = new AndFilterExpression(scoped, idExpression);
 
@@ -105,7 +95,7 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
             joinClause = getJoinClauseFromFilters(joinedExpression, true);
 
             //Build the WHERE clause
-            filterClause = new FilterTranslator().apply(joinedExpression, USE_ALIAS);
+            filterClause = translator.apply(joinedExpression, USE_ALIAS);
         } else {
 
             //If there is no filter, we still need to explicitly JOIN book and authors.
@@ -116,8 +106,7 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
                     + relationshipAlias
                     + SPACE;
 
-            filterClause = new FilterTranslator().apply(idExpression, USE_ALIAS);
-            predicates.add(idExpression);
+            filterClause = translator.apply(idExpression, USE_ALIAS);
         }
 
         Query query = session.createQuery(
@@ -134,7 +123,7 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
                         + filterClause);
 
         //Fill in the query parameters
-        supplyFilterQueryParameters(query, predicates);
+        supplyFilterQueryParameters(query, translator);
         return query;
     }
 }
@@ -11,14 +11,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.NotFilterExpression;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Tests Building a HQL Filter.
@@ -66,15 +69,12 @@ public class FilterTranslatorTest {
         FilterTranslator filterOp = new FilterTranslator();
         String query = filterOp.apply(not, false);
 
-        String p1Params = p1.getParameters().stream()
-                .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
-        String p2Params = p2.getParameters().stream()
-                .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
-        String p3Params = p3.getParameters().stream()
-                .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
-        String expected = "WHERE NOT (((name IN (" + p2Params + ") OR genre IN (" + p3Params + ")) "
-                + "AND (authors IS NOT EMPTY AND authors.name IN (" + p1Params + "))))";
+        String expected = "WHERE NOT (((name IN (:name_p0_0) OR genre IN (:genre_p1_0)) "
+                + "AND (authors IS NOT EMPTY AND authors.name IN (:authors_name_p3_0, :authors_name_p3_1))))";
         assertEquals(expected, query);
+        assertEquals(Arrays.asList("name_p0_0", "genre_p1_0", "authors_name_p3_0", "authors_name_p3_1"),
+                new ArrayList<>(filterOp.getParameterValues().keySet()));
+        assertEquals("bar", filterOp.getParameterValues().get("authors_name_p3_1"));
     }
 
     @Test
@@ -90,15 +90,51 @@ public class FilterTranslatorTest {
         FilterTranslator filterOp = new FilterTranslator();
         String query = filterOp.apply(and, false);
 
-        String p1Params = p1.getParameters().stream()
-                .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
-        String p2Params = p2.getParameters().stream()
-                .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
-        String expected = "WHERE (" + p1Params + " MEMBER OF awards "
-                + "AND " + p2Params + " NOT MEMBER OF awards)";
+        String expected = "WHERE (:awards_p0_0 MEMBER OF awards "
+                + "AND :awards_p1_0 NOT MEMBER OF awards)";
         assertEquals(expected, query);
     }
 
+    @Test
+    public void testInListPadding() throws Exception {
+        Path.PathElement name = new Path.PathElement(Book.class, String.class, "name");
+        FilterTranslator filterOp = new FilterTranslator();
+
+        String query = filterOp.apply(new InPredicate(name, "a", "b", "c"));
+
+        assertEquals("name IN (:name_p0_0, :name_p0_1, :name_p0_2, :name_p0_3)", query);
+        assertEquals(Arrays.asList("a", "b", "c", "c"), new ArrayList<>(filterOp.getParameterValues().values()));
+
+        assertEquals(1, FilterTranslator.getPaddedSize(1));
+        assertEquals(8, FilterTranslator.getPaddedSize(5));
+        assertEquals(512, FilterTranslator.getPaddedSize(512));
+        assertEquals(FilterTranslator.MAX_PADDED_IN_LIST_SIZE, FilterTranslator.getPaddedSize(600));
+        assertEquals(1500, FilterTranslator.getPaddedSize(1500));
+    }
+
+    @Test
+    public void testQueryShapesAreBounded() throws Exception {
+        Path.PathElement name = new Path.PathElement(Book.class, String.class, "name");
+        Path.PathElement genre = new Path.PathElement(Book.class, String.class, "genre");
+
+        // Every distinct query string is a query plan cache entry
+        Set<String> queries = new HashSet<>();
+        for (int size = 1; size <= 100; size++) {
+            List<Object> values = new ArrayList<>();
+            for (int idx = 0; idx < size; idx++) {
+                values.add("name" + size + "_" + idx);
+            }
+            FilterExpression expression = new AndFilterExpression(
+                    new InPredicate(name, values),
+                    new FilterPredicate(genre, Operator.PREFIX, Arrays.asList("genre" + size)));
+
+            queries.add(new FilterTranslator().apply(expression, false));
+        }
+
+        // 1, 2, 4, ..., 128 values
+        assertEquals(8, queries.size());
+    }
+
     @Test
     public void testEmptyFieldOnPrefix() throws Exception {
         FilterPredicate pred = new FilterPredicate(new Path.PathElement(Book.class, String.class, ""),
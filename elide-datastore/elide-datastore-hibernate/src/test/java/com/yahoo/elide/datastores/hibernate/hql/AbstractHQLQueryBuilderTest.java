@@ -18,6 +18,7 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.InPredicate;
 import com.yahoo.elide.core.filter.InfixPredicate;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
@@ -174,6 +175,27 @@ public class AbstractHQLQueryBuilderTest extends AbstractHQLQueryBuilder {
         verify(query, times(1)).setParameter(anyString(), any());
     }
 
+    @Test
+    public void testSettingTranslatedQueryParams() {
+        Path.PathElement idPath = new Path.PathElement(Book.class, Chapter.class, "id");
+        Path.PathElement titlePath = new Path.PathElement(Book.class, String.class, "title");
+
+        FilterTranslator translator = new FilterTranslator();
+        translator.apply(new AndFilterExpression(new InPredicate(idPath, ABC, DEF, ABC),
+                new InfixPredicate(titlePath, "10%")), USE_ALIAS);
+
+        Query query = mock(Query.class);
+        supplyFilterQueryParameters(query, translator);
+
+        // The IN list is padded to four parameters
+        verify(query).setParameter("id_p0_0", ABC);
+        verify(query).setParameter("id_p0_1", DEF);
+        verify(query).setParameter("id_p0_2", ABC);
+        verify(query).setParameter("id_p0_3", ABC);
+        verify(query).setParameter("title_p1_0", "10\\%");
+        verify(query, times(5)).setParameter(anyString(), any());
+    }
+
     @Test
     public void testSettingQueryPagination() {
         Query query = mock(Query.class);
@@ -181,7 +203,7 @@ public class AbstractHQLQueryBuilderTest extends AbstractHQLQueryBuilder {
         Optional<Pagination> previousPagination = pagination;
 
         Pagination paginationMock = mock(Pagination.class);
-        when(paginationMock.getLimit()).thenReturn(10);
+        when(paginationMock.getFetchLimit()).thenReturn(10);
         when(paginationMock.getOffset()).thenReturn(50);
 
         pagination = Optional.of(paginationMock);
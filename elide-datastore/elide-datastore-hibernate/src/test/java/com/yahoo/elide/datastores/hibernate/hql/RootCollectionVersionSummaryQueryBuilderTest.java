@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionVersionSummaryQueryBuilder;
+
+import example.Book;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Date;
+import java.util.HashMap;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RootCollectionVersionSummaryQueryBuilderTest {
+    private EntityDictionary dictionary;
+
+    @Include(rootLevel = true)
+    @Entity
+    public static class Counted {
+        @Id
+        public long id;
+
+        @Version
+        public long revision;
+    }
+
+    @Include(rootLevel = true)
+    @Entity
+    public static class Stamped {
+        @Id
+        public long id;
+
+        @Version
+        public Date lastModified;
+    }
+
+    @BeforeAll
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Counted.class);
+        dictionary.bindEntity(Stamped.class);
+    }
+
+    @Test
+    public void testNumericVersionSummary() {
+        RootCollectionVersionSummaryQueryBuilder builder = new RootCollectionVersionSummaryQueryBuilder(
+                Counted.class, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String alias = "com_yahoo_elide_datastores_hibernate_hql_RootCollectionVersionSummaryQueryBuilderTest_Counted";
+        String expected =
+            "SELECT COUNT(DISTINCT " + alias + "), MAX(" + alias + ".revision), SUM(" + alias + ".revision)  "
+            + "FROM " + Counted.class.getCanonicalName() + " AS " + alias + "  ";
+
+        assertEquals(expected, query.getQueryText());
+    }
+
+    @Test
+    public void testTimestampVersionSummary() {
+        RootCollectionVersionSummaryQueryBuilder builder = new RootCollectionVersionSummaryQueryBuilder(
+                Stamped.class, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String alias = "com_yahoo_elide_datastores_hibernate_hql_RootCollectionVersionSummaryQueryBuilderTest_Stamped";
+        String expected =
+            "SELECT COUNT(DISTINCT " + alias + "), MAX(" + alias + ".lastModified)  "
+            + "FROM " + Stamped.class.getCanonicalName() + " AS " + alias + "  ";
+
+        assertEquals(expected, query.getQueryText());
+    }
+
+    @Test
+    public void testUnversionedEntity() {
+        RootCollectionVersionSummaryQueryBuilder builder = new RootCollectionVersionSummaryQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper());
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+}
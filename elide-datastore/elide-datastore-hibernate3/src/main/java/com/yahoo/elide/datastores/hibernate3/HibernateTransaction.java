@@ -7,6 +7,7 @@ package com.yahoo.elide.datastores.hibernate3;
 
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.FilteredList;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.TransactionException;
@@ -19,6 +20,7 @@ import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionVersionSummaryQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.core.pagination.Pagination;
@@ -38,8 +40,10 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -48,6 +52,7 @@ import java.util.Optional;
  */
 @Slf4j
 public class HibernateTransaction implements DataStoreTransaction {
+    private static final int STREAM_FETCH_SIZE = 1000;
 
     private final Session session;
     private final SessionWrapper sessionWrapper;
@@ -171,12 +176,15 @@ public class HibernateTransaction implements DataStoreTransaction {
 
         Iterable results;
         final boolean hasResults;
-        if (isScrollEnabled) {
+        // The probe record is dropped from a list, a page is small enough to hold anyway
+        boolean probeNextPage = pagination.map(Pagination::isProbeNextPage).orElse(false);
+        if (isScrollEnabled && !probeNextPage) {
             results = new ScrollableIterator<>(query.getQuery().scroll());
             hasResults = ((ScrollableIterator) results).hasNext();
         } else {
-            results = query.getQuery().list();
-            hasResults = ! ((Collection) results).isEmpty();
+            List list = query.getQuery().list();
+            results = pagination.isPresent() ? pagination.get().trimProbeRecord(list) : list;
+            hasResults = ! list.isEmpty();
         }
 
         pagination.ifPresent(p -> {
@@ -189,6 +197,37 @@ public class HibernateTransaction implements DataStoreTransaction {
         return results;
     }
 
+    /**
+     * Streams the collection through a forward-only cursor, loading rows read-only so Hibernate keeps no
+     * snapshots for dirty checking.  Used for bulk export whether or not scrolling is enabled.
+     */
+    @Override
+    public Iterable<Object> streamObjects(
+            Class<?> entityClass,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+
+        final QueryWrapper query =
+                (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, scope.getDictionary(), sessionWrapper)
+                        .withPossibleFilterExpression(filterExpression)
+                        .withPossibleSorting(sorting)
+                        .build();
+
+        return new ScrollableIterator<>(query.getQuery()
+                .setReadOnly(true)
+                .setFetchSize(STREAM_FETCH_SIZE)
+                .scroll(ScrollMode.FORWARD_ONLY));
+    }
+
+    /**
+     * Clears the session so its first-level cache does not grow with every exported row.
+     */
+    @Override
+    public void releaseLoadedObjects(RequestScope scope) {
+        session.clear();
+    }
+
     @Override
     public Object getRelation(
             DataStoreTransaction relationTx,
@@ -237,13 +276,33 @@ public class HibernateTransaction implements DataStoreTransaction {
                                 .build();
 
                 if (query != null) {
-                    return query.getQuery().list();
+                    List results = query.getQuery().list();
+                    return new FilteredList<>(
+                            pagination.isPresent() ? pagination.get().trimProbeRecord(results) : results);
                 }
             }
         }
         return val;
     }
 
+    @Override
+    public boolean supportsNextPageProbe(Class<?> entityClass) {
+        return true;
+    }
+
+    @Override
+    public Optional<Object> getVersionSummary(Class<?> entityClass, RequestScope scope) {
+        EntityDictionary dictionary = scope.getDictionary();
+        if (dictionary.getVersionFieldName(entityClass) == null) {
+            return Optional.empty();
+        }
+
+        QueryWrapper query = (QueryWrapper)
+                new RootCollectionVersionSummaryQueryBuilder(entityClass, dictionary, sessionWrapper).build();
+
+        return Optional.of(Arrays.asList((Object[]) query.getQuery().uniqueResult()));
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      * @param entityClass The entity type to count
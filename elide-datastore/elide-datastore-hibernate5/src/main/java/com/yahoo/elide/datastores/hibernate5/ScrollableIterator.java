@@ -5,6 +5,8 @@
  */
 package com.yahoo.elide.datastores.hibernate5;
 
+import com.yahoo.elide.core.CloseableIterable;
+
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterators;
 
@@ -20,7 +22,7 @@ import java.util.Iterator;
  *
  * @param <T> type of return object
  */
-public class ScrollableIterator<T> implements Iterable<T>, Iterator<T> {
+public class ScrollableIterator<T> implements CloseableIterable<T>, Iterator<T> {
     private final ScrollableResults scroll;
     private boolean inUse = false;
     private boolean hasNext = false;
@@ -54,4 +56,13 @@ public class ScrollableIterator<T> implements Iterable<T>, Iterator<T> {
         hasNext = scroll.next();
         return row;
     }
+
+    /**
+     * Closes the underlying cursor.
+     */
+    @Override
+    public void close() {
+        hasNext = false;
+        scroll.close();
+    }
 }
@@ -13,8 +13,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.example.beans.ExcludedBean;
 import com.yahoo.elide.example.beans.FirstBean;
+import com.yahoo.elide.example.beans.IndexedBean;
 import com.yahoo.elide.example.beans.NonEntity;
 import com.yahoo.elide.example.beans.SecondBean;
 
@@ -23,10 +31,20 @@ import org.apache.commons.collections4.IterableUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * HashMapDataStore tests.
@@ -107,4 +125,184 @@ public class HashMapDataStoreTest {
 
         assertEquals(ImmutableSet.of("number one", "number two"), names);
     }
+
+    @Test
+    public void testCommitsPreserveInsertionOrder() throws Exception {
+        List<FirstBean> created = new ArrayList<>();
+        try (DataStoreTransaction t = inMemoryDataStore.beginTransaction()) {
+            for (String name : new String[] {"c", "a", "b"}) {
+                FirstBean bean = new FirstBean();
+                bean.name = name;
+                t.createObject(bean, null);
+                created.add(bean);
+            }
+            t.commit(null);
+        }
+
+        Iterable<Object> before;
+        try (DataStoreTransaction t = inMemoryDataStore.beginTransaction()) {
+            before = t.loadObjects(FirstBean.class, Optional.empty(), Optional.empty(), Optional.empty(), null);
+            t.save(t.loadObject(FirstBean.class, created.get(1).id, Optional.empty(), null), null);
+            t.delete(t.loadObject(FirstBean.class, created.get(0).id, Optional.empty(), null), null);
+            t.commit(null);
+        }
+
+        try (DataStoreTransaction t = inMemoryDataStore.beginTransaction()) {
+            Iterable<Object> after =
+                    t.loadObjects(FirstBean.class, Optional.empty(), Optional.empty(), Optional.empty(), null);
+            assertEquals(Arrays.asList("a", "b"), names(after));
+        }
+
+        /* The snapshot read before the commit is unchanged */
+        assertEquals(Arrays.asList("c", "a", "b"), names(before));
+    }
+
+    private static List<String> names(Iterable<Object> beans) {
+        List<String> names = new ArrayList<>();
+        beans.forEach(bean -> names.add(((FirstBean) bean).name));
+        return names;
+    }
+
+    @Test
+    public void testConcurrentReadsDuringCommits() throws Exception {
+        int writers = 4;
+        int readers = 4;
+        int commitsPerWriter = 250;
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writerResults = new ArrayList<>();
+        List<Future<?>> readerResults = new ArrayList<>();
+
+        try {
+            for (int writer = 0; writer < writers; writer++) {
+                int writerId = writer;
+                writerResults.add(executor.submit(() -> {
+                    start.await();
+                    for (int commit = 0; commit < commitsPerWriter; commit++) {
+                        FirstBean bean = new FirstBean();
+                        bean.id = writerId + "-" + commit;
+                        bean.name = "writer " + writerId;
+                        try (DataStoreTransaction t = inMemoryDataStore.beginTransaction()) {
+                            t.createObject(bean, null);
+                            t.commit(null);
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            for (int reader = 0; reader < readers; reader++) {
+                readerResults.add(executor.submit(() -> {
+                    start.await();
+                    int lastSize = 0;
+                    while (writing.get()) {
+                        try (DataStoreTransaction t = inMemoryDataStore.beginReadTransaction()) {
+                            Iterable<Object> beans = t.loadObjects(FirstBean.class,
+                                    Optional.empty(), Optional.empty(), Optional.empty(), null);
+
+                            /* Iterating the snapshot must not race with commits and must never go backwards */
+                            int size = IterableUtils.size(beans);
+                            assertTrue(size >= lastSize);
+                            assertEquals(size, IterableUtils.size(beans));
+                            lastSize = size;
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> result : writerResults) {
+                result.get(1, TimeUnit.MINUTES);
+            }
+            writing.set(false);
+            for (Future<?> result : readerResults) {
+                result.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (DataStoreTransaction t = inMemoryDataStore.beginTransaction()) {
+            assertEquals(writers * commitsPerWriter, IterableUtils.size(
+                    t.loadObjects(FirstBean.class, Optional.empty(), Optional.empty(), Optional.empty(), null)));
+        }
+    }
+
+    @Test
+    public void testSecondaryIndexes() throws Exception {
+        try (DataStoreTransaction t = inMemoryDataStore.beginTransaction()) {
+            t.createObject(indexedBean(1, "apple", "fruit", 3), null);
+            t.createObject(indexedBean(2, "apricot", "fruit", 1), null);
+            t.createObject(indexedBean(3, "carrot", "vegetable", 2), null);
+            t.createObject(indexedBean(4, "banana", "fruit", 4), null);
+            t.commit(null);
+        }
+
+        FilterPredicate fruit = indexedPredicate("category", Operator.IN, "fruit");
+        FilterPredicate prefix = indexedPredicate("name", Operator.PREFIX, "ap");
+        FilterPredicate range = indexedPredicate("name", Operator.GE, "b");
+        FilterPredicate unindexed = indexedPredicate("rank", Operator.GT, 1);
+
+        try (DataStoreTransaction t = inMemoryDataStore.beginTransaction()) {
+            assertEquals(DataStoreTransaction.FeatureSupport.PARTIAL, t.supportsFiltering(IndexedBean.class, fruit));
+            assertEquals(DataStoreTransaction.FeatureSupport.PARTIAL,
+                    t.supportsFiltering(IndexedBean.class, new AndFilterExpression(fruit, unindexed)));
+            assertEquals(DataStoreTransaction.FeatureSupport.NONE, t.supportsFiltering(IndexedBean.class, unindexed));
+            assertEquals(DataStoreTransaction.FeatureSupport.NONE,
+                    t.supportsFiltering(IndexedBean.class, new OrFilterExpression(fruit, unindexed)));
+            assertEquals(DataStoreTransaction.FeatureSupport.NONE,
+                    t.supportsFiltering(IndexedBean.class, new NotFilterExpression(fruit)));
+
+            assertEquals(ImmutableSet.of(1L, 2L, 4L), loadIndexedIds(t, fruit));
+            assertEquals(ImmutableSet.of(1L, 2L), loadIndexedIds(t, prefix));
+            assertEquals(ImmutableSet.of(3L, 4L), loadIndexedIds(t, range));
+            assertEquals(ImmutableSet.of(1L, 2L), loadIndexedIds(t, new AndFilterExpression(fruit, prefix)));
+            assertEquals(ImmutableSet.of(1L, 2L, 3L, 4L), loadIndexedIds(t, new OrFilterExpression(fruit, range)));
+
+            /* Unindexed predicates are left for in memory filtering */
+            assertEquals(4, IterableUtils.size(t.loadObjects(IndexedBean.class, Optional.of(unindexed),
+                    Optional.empty(), Optional.empty(), null)));
+        }
+
+        /* Objects are mutated in place - the index follows once the change is committed */
+        try (DataStoreTransaction t = inMemoryDataStore.beginTransaction()) {
+            IndexedBean apple = (IndexedBean) t.loadObject(IndexedBean.class, 1L, Optional.empty(), null);
+            apple.category = "vegetable";
+            t.save(apple, null);
+            t.delete(t.loadObject(IndexedBean.class, 4L, Optional.empty(), null), null);
+            t.commit(null);
+        }
+
+        try (DataStoreTransaction t = inMemoryDataStore.beginTransaction()) {
+            assertEquals(ImmutableSet.of(2L), loadIndexedIds(t, fruit));
+            assertEquals(ImmutableSet.of(1L, 3L),
+                    loadIndexedIds(t, indexedPredicate("category", Operator.IN, "vegetable")));
+            assertEquals(ImmutableSet.of(3L), loadIndexedIds(t, range));
+        }
+    }
+
+    private static IndexedBean indexedBean(long id, String name, String category, int rank) {
+        IndexedBean bean = new IndexedBean();
+        bean.id = id;
+        bean.name = name;
+        bean.category = category;
+        bean.rank = rank;
+        return bean;
+    }
+
+    private static FilterPredicate indexedPredicate(String field, Operator operator, Object value) {
+        Class<?> fieldType = "rank".equals(field) ? int.class : String.class;
+        return new FilterPredicate(new Path.PathElement(IndexedBean.class, fieldType, field), operator,
+                Collections.singletonList(value));
+    }
+
+    private static Set<Long> loadIndexedIds(DataStoreTransaction t, FilterExpression filter) {
+        Set<Long> ids = new HashSet<>();
+        t.loadObjects(IndexedBean.class, Optional.of(filter), Optional.empty(), Optional.empty(), null)
+                .forEach(bean -> ids.add(((IndexedBean) bean).id));
+        return ids;
+    }
 }
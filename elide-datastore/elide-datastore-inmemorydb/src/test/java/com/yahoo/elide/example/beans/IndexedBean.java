@@ -0,0 +1,30 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.example.beans;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryIndex;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * test bean with secondary indexes.
+ */
+@Entity
+@Include
+public class IndexedBean {
+    @Id
+    public long id;
+
+    @InMemoryIndex(InMemoryIndex.Type.ORDERED)
+    public String name;
+
+    @InMemoryIndex
+    public String category;
+
+    public int rank;
+}
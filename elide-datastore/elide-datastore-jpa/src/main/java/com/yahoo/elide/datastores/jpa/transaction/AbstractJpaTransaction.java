@@ -5,8 +5,10 @@
  */
 package com.yahoo.elide.datastores.jpa.transaction;
 
+import com.yahoo.elide.core.CloseableIterable;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.FilteredList;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.TransactionException;
@@ -18,6 +20,7 @@ import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionVersionSummaryQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.core.pagination.Pagination;
@@ -31,12 +34,14 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
 import javax.persistence.FlushModeType;
@@ -48,6 +53,10 @@ import javax.validation.ConstraintViolationException;
  */
 @Slf4j
 public abstract class AbstractJpaTransaction implements JpaTransaction {
+    private static final String HIBERNATE_FETCH_SIZE = "org.hibernate.fetchSize";
+    private static final String HIBERNATE_READ_ONLY = "org.hibernate.readOnly";
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     private static final Predicate<Collection<?>> IS_PERSISTENT_COLLECTION =
             new PersistentCollectionChecker();
 
@@ -201,7 +210,41 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
             }
         });
 
-        return results;
+        return pagination.isPresent() ? pagination.get().trimProbeRecord(results) : results;
+    }
+
+    /**
+     * Streams the collection with {@link javax.persistence.Query#getResultStream}, which providers such as
+     * Hibernate back with a database cursor.  Rows are loaded read-only where the provider supports it.  Closing
+     * the returned iterable closes the stream and its cursor.
+     */
+    @Override
+    public Iterable<Object> streamObjects(
+            Class<?> entityClass,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+
+        QueryWrapper query =
+                (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, scope.getDictionary(), emWrapper)
+                        .withPossibleFilterExpression(filterExpression)
+                        .withPossibleSorting(sorting)
+                        .build();
+
+        Stream<Object> results = query.getQuery()
+                .setHint(HIBERNATE_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HIBERNATE_READ_ONLY, true)
+                .getResultStream();
+
+        return CloseableIterable.of(results::iterator, results::close);
+    }
+
+    /**
+     * Clears the persistence context so it does not grow with every exported row.
+     */
+    @Override
+    public void releaseLoadedObjects(RequestScope scope) {
+        em.clear();
     }
 
     @Override
@@ -252,13 +295,33 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
                                 .build();
 
                 if (query != null) {
-                    return query.getQuery().getResultList();
+                    List results = query.getQuery().getResultList();
+                    return new FilteredList<>(
+                            pagination.isPresent() ? pagination.get().trimProbeRecord(results) : results);
                 }
             }
         }
         return val;
     }
 
+    @Override
+    public boolean supportsNextPageProbe(Class<?> entityClass) {
+        return true;
+    }
+
+    @Override
+    public Optional<Object> getVersionSummary(Class<?> entityClass, RequestScope scope) {
+        EntityDictionary dictionary = scope.getDictionary();
+        if (dictionary.getVersionFieldName(entityClass) == null) {
+            return Optional.empty();
+        }
+
+        QueryWrapper query = (QueryWrapper)
+                new RootCollectionVersionSummaryQueryBuilder(entityClass, dictionary, emWrapper).build();
+
+        return Optional.of(Arrays.asList((Object[]) query.getQuery().getSingleResult()));
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      *
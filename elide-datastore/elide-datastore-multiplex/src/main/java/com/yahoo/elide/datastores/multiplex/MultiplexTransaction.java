@@ -92,6 +92,20 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
                 scope);
     }
 
+    @Override
+    public Iterable<Object> streamObjects(
+            Class<?> entityClass,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            RequestScope scope) {
+        return getTransaction(entityClass).streamObjects(entityClass, filterExpression, sorting, scope);
+    }
+
+    @Override
+    public void releaseLoadedObjects(RequestScope scope) {
+        transactions.values().forEach(tx -> tx.releaseLoadedObjects(scope));
+    }
+
     @Override
     public void flush(RequestScope requestScope) {
         transactions.values().forEach(dataStoreTransaction -> dataStoreTransaction.flush(requestScope));
@@ -102,6 +116,11 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         transactions.values().forEach(DataStoreTransaction::preCommit);
     }
 
+    @Override
+    public Optional<Object> getVersionSummary(Class<?> entityClass, RequestScope scope) {
+        return getTransaction(entityClass).getVersionSummary(entityClass, scope);
+    }
+
     @Override
     public void commit(RequestScope scope) {
         // flush all before commit
@@ -233,6 +252,11 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         return getTransaction(entityClass).supportsPagination(entityClass);
     }
 
+    @Override
+    public boolean supportsNextPageProbe(Class<?> entityClass) {
+        return getTransaction(entityClass).supportsNextPageProbe(entityClass);
+    }
+
     private Serializable extractId(FilterExpression filterExpression,
                                    String idFieldName,
                                    Class<?> relationClass) {
@@ -9,6 +9,7 @@ package com.yahoo.elide.datastores.search;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.datastore.cache.InvalidatingTransaction;
 
 import org.hibernate.search.annotations.Indexed;
 import org.hibernate.search.jpa.FullTextEntityManager;
@@ -30,6 +31,7 @@ public class SearchDataStore implements DataStore {
     private boolean indexOnStartup = false;
     private int minNgramSize;
     private int maxNgramSize;
+    private SearchResultCache resultCache;
 
     public SearchDataStore(DataStore wrapped, EntityManagerFactory entityManagerFactory, boolean indexOnStartup) {
         this(wrapped, entityManagerFactory, indexOnStartup, DEFAULT_MIN_NGRAM, DEFAULT_MAX_NGRAM);
@@ -40,12 +42,31 @@ public class SearchDataStore implements DataStore {
                            boolean indexOnStartup,
                            int minNgramSize,
                            int maxNgramSize) {
+        this(wrapped, entityManagerFactory, indexOnStartup, minNgramSize, maxNgramSize, null);
+    }
+
+    /**
+     * Constructor.
+     * @param wrapped The store to delegate to when a query cannot be answered with full text search.
+     * @param entityManagerFactory Creates the entity managers used to search.
+     * @param indexOnStartup Whether to build a complete index when the store is initialized.
+     * @param minNgramSize The smallest search term supported by the index.
+     * @param maxNgramSize The largest search term supported by the index.
+     * @param resultCache Caches search results until an indexed entity is modified.  Null disables caching.
+     */
+    public SearchDataStore(DataStore wrapped,
+                           EntityManagerFactory entityManagerFactory,
+                           boolean indexOnStartup,
+                           int minNgramSize,
+                           int maxNgramSize,
+                           SearchResultCache resultCache) {
         this.wrapped = wrapped;
         this.entityManagerFactory = entityManagerFactory;
         this.indexOnStartup = indexOnStartup;
 
         this.minNgramSize = minNgramSize;
         this.maxNgramSize = maxNgramSize;
+        this.resultCache = resultCache;
     }
 
 
@@ -69,12 +90,20 @@ public class SearchDataStore implements DataStore {
             }
         }
 
+        if (resultCache != null) {
+            resultCache.clear();
+        }
+
         this.dictionary = entityDictionary;
     }
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return wrapped.beginTransaction();
+        if (resultCache == null) {
+            return wrapped.beginTransaction();
+        }
+        return new InvalidatingTransaction(wrapped.beginTransaction(),
+                (cls) -> cls.isAnnotationPresent(Indexed.class), resultCache::bumpGeneration);
     }
 
     @Override
@@ -82,6 +111,7 @@ public class SearchDataStore implements DataStore {
 
         FullTextEntityManager em = Search.getFullTextEntityManager(entityManagerFactory.createEntityManager());
 
-        return new SearchDataTransaction(wrapped.beginReadTransaction(), dictionary, em, minNgramSize, maxNgramSize);
+        return new SearchDataTransaction(wrapped.beginReadTransaction(), dictionary, em, minNgramSize, maxNgramSize,
+                resultCache);
     }
 }
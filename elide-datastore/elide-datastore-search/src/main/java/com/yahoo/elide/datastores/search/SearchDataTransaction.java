@@ -36,36 +36,56 @@ import org.hibernate.search.jpa.FullTextQuery;
 import org.hibernate.search.query.dsl.QueryBuilder;
 import org.hibernate.search.query.dsl.sort.SortFieldContext;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.persistence.PersistenceUnitUtil;
+
 /**
  * Performs full text search when it can.  Otherwise delegates to a wrapped transaction.
  */
 public class SearchDataTransaction extends TransactionWrapper {
+    private static final int MAX_IDS_PER_QUERY = 1000;
 
     private EntityDictionary dictionary;
     private FullTextEntityManager em;
     private int minNgram;
     private int maxNgram;
+    private SearchResultCache resultCache;
 
     public SearchDataTransaction(DataStoreTransaction tx,
                                  EntityDictionary dictionary,
                                  FullTextEntityManager em,
                                  int minNgramSize,
                                  int maxNgramSize) {
+        this(tx, dictionary, em, minNgramSize, maxNgramSize, null);
+    }
+
+    public SearchDataTransaction(DataStoreTransaction tx,
+                                 EntityDictionary dictionary,
+                                 FullTextEntityManager em,
+                                 int minNgramSize,
+                                 int maxNgramSize,
+                                 SearchResultCache resultCache) {
         super(tx);
         this.dictionary = dictionary;
         this.em = em;
         this.minNgram = minNgramSize;
         this.maxNgram = maxNgramSize;
+        this.resultCache = resultCache;
     }
 
     @Override
@@ -237,40 +257,119 @@ public class SearchDataTransaction extends TransactionWrapper {
      */
     private List<Object> search(Class<?> entityClass, FilterExpression filterExpression, Optional<Sorting> sorting,
                                 Optional<Pagination> pagination) {
-            Query query;
-            try {
-                query = filterExpression.accept(new FilterExpressionToLuceneQuery(em, entityClass));
-            } catch (IllegalArgumentException e) {
-                throw new BadRequestException(e.getMessage());
-            }
+        Query query;
+        try {
+            query = filterExpression.accept(new FilterExpressionToLuceneQuery(em, entityClass));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
 
-            FullTextQuery fullTextQuery = em.createFullTextQuery(query, entityClass);
+        Sort sort = mustSort(sorting, entityClass) ? buildSort(sorting.get(), entityClass) : null;
 
-            if (mustSort(sorting, entityClass)) {
-                fullTextQuery = fullTextQuery.setSort(buildSort(sorting.get(), entityClass));
-            }
+        if (resultCache == null) {
+            return search(entityClass, query, sort, pagination).getResults();
+        }
 
-            if (pagination.isPresent()) {
-                fullTextQuery = fullTextQuery.setMaxResults(pagination.get().getLimit());
-                fullTextQuery = fullTextQuery.setFirstResult(pagination.get().getOffset());
+        SearchResultCache.Key key = new SearchResultCache.Key(
+                entityClass,
+                query.toString(),
+                sort == null ? null : sort.toString(),
+                pagination.map(Pagination::getOffset).orElse(null),
+                pagination.map(Pagination::getLimit).orElse(null),
+                pagination.map(Pagination::isGenerateTotals).orElse(false),
+                pagination.map(Pagination::isProbeNextPage).orElse(false));
+
+        /* Read the generation before searching so a concurrent commit discards this result */
+        long generation = resultCache.getGeneration(entityClass);
+
+        SearchResultCache.Entry cached = (SearchResultCache.Entry) resultCache.get(key, generation);
+        if (cached != null) {
+            if (cached.getTotalResults() != null) {
+                pagination.get().setPageTotals(cached.getTotalResults());
+            }
+            if (cached.getHasNextPage() != null) {
+                pagination.get().setHasNextPage(cached.getHasNextPage());
             }
+            return loadByIds(entityClass, cached.getIds());
+        }
+
+        SearchResults results = search(entityClass, query, sort, pagination);
 
-            List<Object[]> results = fullTextQuery
-                    .setProjection(ProjectionConstants.THIS)
+        resultCache.put(key, new SearchResultCache.Entry(results.getIds(),
+                pagination.filter(Pagination::isGenerateTotals).map(Pagination::getPageTotals).orElse(null),
+                pagination.flatMap(Pagination::getHasNextPage).orElse(null)),
+                generation, entityClass);
+
+        return results.getResults();
+    }
+
+    /**
+     * Loads the entities of a cached search with one IN query per {@link #MAX_IDS_PER_QUERY} identifiers rather
+     * than a lookup per identifier.
+     * @param entityClass The searched class
+     * @param ids The identifiers in result order
+     * @return The entities which still exist, in result order
+     */
+    private List<Object> loadByIds(Class<?> entityClass, List<Serializable> ids) {
+        PersistenceUnitUtil unitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+        String queryText = "SELECT entity FROM " + entityClass.getName() + " entity WHERE entity."
+                + dictionary.getIdFieldName(entityClass) + " IN (:ids)";
+
+        Map<Object, Object> loaded = new HashMap<>();
+        for (int i = 0; i < ids.size(); i += MAX_IDS_PER_QUERY) {
+            List<Object> entities = em.createQuery(queryText)
+                    .setParameter("ids", ids.subList(i, Math.min(ids.size(), i + MAX_IDS_PER_QUERY)))
                     .getResultList();
+            entities.forEach((entity) -> loaded.put(unitUtil.getIdentifier(entity), entity));
+        }
 
-            if (pagination.isPresent() && pagination.get().isGenerateTotals()) {
-                pagination.get().setPageTotals(fullTextQuery.getResultSize());
-            }
+        return ids.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-            if (results.isEmpty()) {
-                return Collections.emptyList();
-            }
+    private SearchResults search(Class<?> entityClass, Query query, Sort sort, Optional<Pagination> pagination) {
+        FullTextQuery fullTextQuery = em.createFullTextQuery(query, entityClass);
+
+        if (sort != null) {
+            fullTextQuery = fullTextQuery.setSort(sort);
+        }
+
+        if (pagination.isPresent()) {
+            fullTextQuery = fullTextQuery.setMaxResults(pagination.get().getFetchLimit());
+            fullTextQuery = fullTextQuery.setFirstResult(pagination.get().getOffset());
+        }
 
-            return results.stream()
-                    .map((result) -> {
-                        return result[0];
-                    }).collect(Collectors.toList());
+        List<Object[]> results = fullTextQuery
+                .setProjection(ProjectionConstants.ID, ProjectionConstants.THIS)
+                .getResultList();
+
+        if (pagination.isPresent()) {
+            results = pagination.get().trimProbeRecord(results);
+        }
+
+        if (pagination.isPresent() && pagination.get().isGenerateTotals()) {
+            pagination.get().setPageTotals(fullTextQuery.getResultSize());
+        }
+
+        if (results.isEmpty()) {
+            return new SearchResults(Collections.emptyList(), Collections.emptyList());
+        }
+
+        return new SearchResults(
+                results.stream().map((result) -> (Serializable) result[0]).collect(Collectors.toList()),
+                results.stream().map((result) -> result[1]).collect(Collectors.toList()));
+    }
+
+    /**
+     * The identifiers and entities returned by a full text query.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class SearchResults {
+        private final List<Serializable> ids;
+        private final List<Object> results;
     }
 
     private boolean fieldIsIndexed(Class<?> entityClass, FilterPredicate predicate) {
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.search;
+
+import com.yahoo.elide.core.datastore.cache.GenerationalCache;
+import com.yahoo.elide.core.datastore.cache.LruResultCache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Bounded LRU cache of full text search results.  Only the identifiers of the matching entities are stored.
+ * <p>
+ * Results are cached against the index generation of the searched entity class, which is bumped whenever a write
+ * transaction commits a change to an indexed entity of that class.
+ */
+public class SearchResultCache extends GenerationalCache {
+
+    /**
+     * Identifies a single full text search.
+     */
+    @EqualsAndHashCode
+    @ToString
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    static class Key {
+        private final Class<?> entityClass;
+        private final String query;
+        private final String sort;
+        private final Integer offset;
+        private final Integer limit;
+        private final boolean generateTotals;
+        private final boolean probeNextPage;
+    }
+
+    /**
+     * The identifiers (in result order) of a cached search and, if requested, the total result size and whether
+     * there is a next page.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    static class Entry {
+        private final List<Serializable> ids;
+        private final Long totalResults;
+        private final Boolean hasNextPage;
+    }
+
+    /**
+     * Constructor.
+     * @param maxEntries The maximum number of search results to retain.
+     * @throws IllegalArgumentException if maxEntries is not positive.
+     */
+    public SearchResultCache(int maxEntries) {
+        super(new LruResultCache(maxEntries));
+    }
+}
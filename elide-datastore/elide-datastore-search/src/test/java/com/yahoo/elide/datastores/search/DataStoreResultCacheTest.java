@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.datastores.search.models.Item;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+import com.yahoo.elide.utils.coerce.converters.ISO8601DateSerde;
+
+import com.google.common.collect.Lists;
+import org.h2.store.fs.FileUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DataStoreResultCacheTest {
+
+    private RSQLFilterDialect filterParser;
+    private SearchDataStore searchStore;
+    private SearchResultCache resultCache;
+    private RequestScope mockScope;
+
+    public DataStoreResultCacheTest() {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Item.class);
+
+        filterParser = new RSQLFilterDialect(dictionary);
+
+        DataStore mockStore = mock(DataStore.class);
+        when(mockStore.beginReadTransaction()).thenReturn(mock(DataStoreTransaction.class));
+        when(mockStore.beginTransaction()).thenReturn(mock(DataStoreTransaction.class));
+
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("searchDataStoreTest");
+
+        resultCache = new SearchResultCache(2);
+        searchStore = new SearchDataStore(mockStore, emf, true, 3, 10, resultCache);
+        searchStore.populateEntityDictionary(dictionary);
+
+        mockScope = mock(RequestScope.class);
+        when(mockScope.getDictionary()).thenReturn(dictionary);
+
+        CoerceUtil.register(Date.class, new ISO8601DateSerde());
+    }
+
+    @BeforeAll
+    public void initialize() {
+        FileUtils.createDirectory("/tmp/lucene");
+    }
+
+    @AfterAll
+    public void cleanup() {
+        FileUtils.deleteRecursive("/tmp/lucene", false);
+    }
+
+    @Test
+    public void testRepeatedSearchIsCachedInOrder() throws Exception {
+        long hits = resultCache.getHitCount();
+        long misses = resultCache.getMissCount();
+
+        FilterExpression filter = filterParser.parseFilterExpression("name==cymbal*", Item.class, false);
+        Map<String, Sorting.SortOrder> sortRules = new HashMap<>();
+        sortRules.put("name", Sorting.SortOrder.desc);
+        sortRules.put("modifiedDate", Sorting.SortOrder.asc);
+        Sorting sorting = new Sorting(sortRules);
+
+        assertEquals(Lists.newArrayList(2L, 5L, 4L), ids(search(filter, Optional.of(sorting), Optional.empty())));
+
+        /* The hit reloads the entities by identifier and keeps the order of the search */
+        assertEquals(Lists.newArrayList(2L, 5L, 4L), ids(search(filter, Optional.of(sorting), Optional.empty())));
+
+        assertEquals(hits + 1, resultCache.getHitCount());
+        assertEquals(misses + 1, resultCache.getMissCount());
+    }
+
+    @Test
+    public void testCachedPageTotals() throws Exception {
+        FilterExpression filter = filterParser.parseFilterExpression("name==cymbal*", Item.class, false);
+
+        Pagination pagination = Pagination.fromOffsetAndLimit(1, 0, true);
+        assertEquals(1, Lists.newArrayList(search(filter, Optional.of(pagination))).size());
+        assertEquals(3, pagination.getPageTotals());
+
+        long hits = resultCache.getHitCount();
+
+        pagination = Pagination.fromOffsetAndLimit(1, 0, true);
+        assertEquals(1, Lists.newArrayList(search(filter, Optional.of(pagination))).size());
+        assertEquals(3, pagination.getPageTotals());
+        assertEquals(hits + 1, resultCache.getHitCount());
+    }
+
+    @Test
+    public void testCommitInvalidatesIndexedEntity() throws Exception {
+        FilterExpression filter = filterParser.parseFilterExpression("name==*snare*", Item.class, false);
+
+        search(filter, Optional.empty());
+        long generation = resultCache.getGeneration(Item.class);
+
+        /* Reads do not invalidate */
+        DataStoreTransaction readTransaction = searchStore.beginReadTransaction();
+        readTransaction.commit(mockScope);
+        assertEquals(generation, resultCache.getGeneration(Item.class));
+
+        DataStoreTransaction writeTransaction = searchStore.beginTransaction();
+        writeTransaction.save(new Item(), mockScope);
+        assertEquals(generation, resultCache.getGeneration(Item.class));
+
+        writeTransaction.commit(mockScope);
+        assertEquals(generation + 1, resultCache.getGeneration(Item.class));
+
+        long misses = resultCache.getMissCount();
+        long invalidations = resultCache.getInvalidationCount();
+
+        search(filter, Optional.empty());
+
+        assertEquals(misses + 1, resultCache.getMissCount());
+        assertEquals(invalidations + 1, resultCache.getInvalidationCount());
+    }
+
+    @Test
+    public void testCommitIgnoresUnindexedEntity() throws Exception {
+        long generation = resultCache.getGeneration(Item.class);
+
+        DataStoreTransaction writeTransaction = searchStore.beginTransaction();
+        writeTransaction.createObject(new Object(), mockScope);
+        writeTransaction.commit(mockScope);
+
+        assertEquals(generation, resultCache.getGeneration(Item.class));
+        assertEquals(0, resultCache.getGeneration(Object.class));
+    }
+
+    private Iterable<Object> search(FilterExpression filter, Optional<Pagination> pagination) {
+        return search(filter, Optional.empty(), pagination);
+    }
+
+    private Iterable<Object> search(FilterExpression filter, Optional<Sorting> sorting,
+                                    Optional<Pagination> pagination) {
+        DataStoreTransaction testTransaction = searchStore.beginReadTransaction();
+
+        return testTransaction.loadObjects(Item.class, Optional.of(filter), sorting, pagination, mockScope);
+    }
+
+    private static List<Long> ids(Iterable<Object> actual) {
+        return StreamSupport.stream(actual.spliterator(), false)
+                .map((obj) -> (Item) obj)
+                .map(Item::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -105,6 +105,14 @@ public class GraphQLConversionUtils {
         return null;
     }
 
+    /**
+     * Returns the scalars registered for the {@link Serde}s annotated with {@link ElideTypeConverter}.
+     * @return the custom scalars
+     */
+    public Collection<GraphQLScalarType> getCustomScalars() {
+        return scalarMap.values();
+    }
+
     /**
      * Converts an enum to a GraphQLEnumType.
      * @param enumClazz the Enum to convert
@@ -6,7 +6,6 @@
 package com.yahoo.elide.graphql;
 
 import com.yahoo.elide.Elide;
-import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.resources.DefaultOpaqueUserFunction;
 
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +23,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 /**
@@ -63,8 +63,9 @@ public class GraphQLEndpoint {
             @Context SecurityContext securityContext,
             String graphQLDocument) {
 
-        ElideResponse response = runner.run(uriInfo.getBaseUri().toString(),
+        GraphQLResponse response = runner.runStreaming(uriInfo.getBaseUri().toString(),
                 graphQLDocument, getUser.apply(securityContext));
-        return Response.status(response.getResponseCode()).entity(response.getBody()).build();
+        StreamingOutput body = response::writeTo;
+        return Response.status(response.getResponseCode()).entity(body).build();
     }
 }
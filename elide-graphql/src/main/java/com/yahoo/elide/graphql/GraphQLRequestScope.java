@@ -8,8 +8,12 @@ package com.yahoo.elide.graphql;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.security.User;
 
+import org.apache.commons.lang3.tuple.Pair;
+
 import lombok.Getter;
 
 import java.util.HashMap;
@@ -23,6 +27,13 @@ import javax.ws.rs.core.MultivaluedHashMap;
 public class GraphQLRequestScope extends RequestScope {
     @Getter private final Map<String, Long> totalRecordCounts = new HashMap<>();
 
+    /*
+     * Parsed filter and sort arguments keyed by their raw values.  The same arguments are passed to every
+     * parent of a nested connection, so they are parsed once per request rather than once per parent.
+     */
+    @Getter private final Map<Pair<String, String>, FilterExpression> parsedFilters = new HashMap<>();
+    @Getter private final Map<String, Sorting> parsedSorts = new HashMap<>();
+
     public GraphQLRequestScope(String baseUrlEndpoint,
                                DataStoreTransaction transaction,
                                User user,
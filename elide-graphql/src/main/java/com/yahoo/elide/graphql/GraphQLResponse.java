@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.metrics.PhaseTimer;
+import com.yahoo.elide.metrics.RequestPhase;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import graphql.ExecutionResult;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * The response to a GraphQL request, written directly to an output stream.
+ * <p>
+ * A successful result is serialized from its {@link ExecutionResult} through a {@link JsonGenerator}, so the body is
+ * never buffered as a string.  Error responses keep their small pre-rendered body.  The response code is known
+ * before anything is written, so callers can set it before calling {@link #writeTo}.
+ * <p>
+ * The request has already committed (or rolled back) its transaction when the body is written, so the only
+ * failures left are in serialization itself, for example a custom serializer which throws.  Once part of the body
+ * has reached the client the 200 cannot be taken back, so {@link #writeTo} leaves the document unterminated (the
+ * client fails to parse it rather than reading a well formed but incomplete result) and rethrows, which makes the
+ * container abort the response.  A failure before the first flush is reported by the container as a 500.
+ */
+@Slf4j
+public class GraphQLResponse {
+    @Getter private final int responseCode;
+    private final String body;
+    private final ExecutionResult result;
+    private final List<GraphQLResponse> batch;
+    private final ObjectMapper mapper;
+    private final PhaseTimer timer;
+
+    private GraphQLResponse(int responseCode, String body, ExecutionResult result, List<GraphQLResponse> batch,
+                            ObjectMapper mapper, PhaseTimer timer) {
+        this.responseCode = responseCode;
+        this.body = body;
+        this.result = result;
+        this.batch = batch;
+        this.mapper = mapper;
+        this.timer = timer;
+    }
+
+    /**
+     * A response with a pre-rendered body.
+     *
+     * @param responseCode HTTP response code
+     * @param body returned body string (or null)
+     * @return the response
+     */
+    public static GraphQLResponse of(int responseCode, String body) {
+        return new GraphQLResponse(responseCode, body, null, null, null, null);
+    }
+
+    /**
+     * A successful response streamed from an execution result.
+     *
+     * @param result the execution result
+     * @param mapper the mapper with the {@link ExecutionResultSerializer} registered
+     * @param timer times the serialization phase of the request
+     * @return the response
+     */
+    public static GraphQLResponse of(ExecutionResult result, ObjectMapper mapper, PhaseTimer timer) {
+        return new GraphQLResponse(HttpStatus.SC_OK, null, result, null, mapper, timer);
+    }
+
+    /**
+     * A successful response to a batch of requests, streamed as a JSON array of the individual responses.
+     *
+     * @param responses the responses to the requests of the batch
+     * @param mapper the mapper with the {@link ExecutionResultSerializer} registered
+     * @return the response
+     */
+    public static GraphQLResponse ofBatch(List<GraphQLResponse> responses, ObjectMapper mapper) {
+        return new GraphQLResponse(HttpStatus.SC_OK, null, null, responses, mapper, null);
+    }
+
+    /**
+     * Writes the response body.  The stream is flushed but not closed.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the body cannot be written or serialized.  Part of the body may have been written.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (!isStreamed()) {
+            if (body != null) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+            return;
+        }
+
+        /* Do not close open arrays and objects when failing part way so the truncated body is not valid JSON */
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+            write(generator);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to write a GraphQL response after its {} status was sent", responseCode, e);
+            throw e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+    }
+
+    /**
+     * Renders the response body as a string.
+     *
+     * @return the body (or null if the response has none)
+     */
+    public String getBody() {
+        if (!isStreamed()) {
+            return body;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private boolean isStreamed() {
+        return result != null || batch != null;
+    }
+
+    private void write(JsonGenerator generator) throws IOException {
+        if (batch != null) {
+            generator.writeStartArray();
+            for (GraphQLResponse response : batch) {
+                response.writeElement(generator, mapper);
+            }
+            generator.writeEndArray();
+            return;
+        }
+
+        timer.time(RequestPhase.SERIALIZE, () -> {
+            mapper.writeValue(generator, result);
+            return null;
+        });
+    }
+
+    private void writeElement(JsonGenerator generator, ObjectMapper batchMapper) throws IOException {
+        if (isStreamed()) {
+            write(generator);
+            return;
+        }
+
+        JsonNode node = null;
+        try {
+            node = body == null ? null : batchMapper.readTree(body);
+        } catch (IOException e) {
+            log.debug("Caught an IO exception while trying to read response body");
+        }
+        generator.writeTree(node == null ? JsonNodeFactory.instance.objectNode() : node);
+    }
+}
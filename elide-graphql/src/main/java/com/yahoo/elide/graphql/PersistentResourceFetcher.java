@@ -15,6 +15,7 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidObjectIdentifierException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.dialect.MultipleFilterDialect;
 import com.yahoo.elide.core.filter.dialect.ParseException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.pagination.Pagination;
@@ -25,6 +26,7 @@ import com.yahoo.elide.graphql.containers.MapEntryContainer;
 import com.google.common.collect.Sets;
 
 import org.apache.commons.collections4.IterableUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
 import graphql.language.Field;
 import graphql.language.FragmentSpread;
@@ -54,16 +56,31 @@ import javax.ws.rs.core.MultivaluedHashMap;
  */
 @Slf4j
 public class PersistentResourceFetcher implements DataFetcher<Object> {
-    private final ElideSettings settings;
-
     @Getter
     private final NonEntityDictionary nonEntityDictionary;
 
-    public PersistentResourceFetcher(ElideSettings settings, NonEntityDictionary nonEntityDictionary) {
-        this.settings = settings;
+    /**
+     * Builds a fetcher.  The Elide settings are read from the scope of each request, so one fetcher (and the schema
+     * built around it) can serve several Elide instances.
+     *
+     * @param nonEntityDictionary the dictionary of the non-entity types of the schema
+     */
+    public PersistentResourceFetcher(NonEntityDictionary nonEntityDictionary) {
         this.nonEntityDictionary = nonEntityDictionary;
     }
 
+    /**
+     * Builds a fetcher.
+     *
+     * @param settings ignored, the settings of each request are used
+     * @param nonEntityDictionary the dictionary of the non-entity types of the schema
+     * @deprecated use {@link #PersistentResourceFetcher(NonEntityDictionary)}
+     */
+    @Deprecated
+    public PersistentResourceFetcher(ElideSettings settings, NonEntityDictionary nonEntityDictionary) {
+        this(nonEntityDictionary);
+    }
+
     /**
      * Override graphql-java's {@link DataFetcher} get method to execute
      * the mutation and return some sensible output values.
@@ -75,8 +92,11 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
         /* fetch arguments in mutation/query */
         Map<String, Object> args = environment.getArguments();
 
-        /* fetch current operation */
-        RelationshipOp operation = (RelationshipOp) args.getOrDefault(ARGUMENT_OPERATION, RelationshipOp.FETCH);
+        /* fetch current operation (a schema reloaded from SDL defaults to the name of the operation) */
+        Object op = args.getOrDefault(ARGUMENT_OPERATION, RelationshipOp.FETCH);
+        RelationshipOp operation = op instanceof RelationshipOp
+                ? (RelationshipOp) op
+                : RelationshipOp.valueOf(op.toString());
 
         /* build environment object, extracts required fields */
         Environment context = new Environment(environment);
@@ -185,17 +205,20 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
      * @param first Pagination first argument
      * @param filters Filter params
      * @param generateTotals True if page totals should be generated for this type, false otherwise
+     * @param probeNextPage True if whether there is a next page should be found out, false otherwise
      * @return {@link PersistentResource} object(s)
      */
     public ConnectionContainer fetchObject(Environment context, RequestScope requestScope, Class<?> entityClass,
                                                 Optional<List<String>> ids, Optional<String> sort,
                                                 Optional<String> offset, Optional<String> first,
-                                                Optional<String> filters, boolean generateTotals) {
+                                                Optional<String> filters, boolean generateTotals,
+                                                boolean probeNextPage) {
         EntityDictionary dictionary = requestScope.getDictionary();
         String typeName = dictionary.getJsonAliasFor(entityClass);
 
-        Optional<Pagination> pagination = buildPagination(first, offset, generateTotals);
-        Optional<Sorting> sorting = buildSorting(sort);
+        Optional<Pagination> pagination = buildPagination(entityClass, first, offset, generateTotals, probeNextPage,
+                requestScope);
+        Optional<Sorting> sorting = buildSorting(sort, requestScope);
         Optional<FilterExpression> filter = buildFilter(typeName, filters, requestScope);
 
         /* fetching a collection */
@@ -225,6 +248,7 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
      * @param first Pagination first
      * @param filters Filter string
      * @param generateTotals True if page totals should be generated for this type, false otherwise
+     * @param probeNextPage True if whether there is a next page should be found out, false otherwise
      * @return persistence resource object(s)
      */
     public Object fetchRelationship(Environment context,
@@ -235,13 +259,15 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
                                      Optional<String> first,
                                      Optional<String> sort,
                                      Optional<String> filters,
-                                     boolean generateTotals) {
+                                     boolean generateTotals,
+                                     boolean probeNextPage) {
         EntityDictionary dictionary = parentResource.getRequestScope().getDictionary();
         Class<?> entityClass = dictionary.getParameterizedType(parentResource.getObject(), fieldName);
         String typeName = dictionary.getJsonAliasFor(entityClass);
 
-        Optional<Pagination> pagination = buildPagination(first, offset, generateTotals);
-        Optional<Sorting> sorting = buildSorting(sort);
+        Optional<Pagination> pagination = buildPagination(entityClass, first, offset, generateTotals, probeNextPage,
+                parentResource.getRequestScope());
+        Optional<Sorting> sorting = buildSorting(sort, parentResource.getRequestScope());
         Optional<FilterExpression> filter = buildFilter(typeName, filters, parentResource.getRequestScope());
 
         Set<PersistentResource> relations;
@@ -586,13 +612,25 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
         return upsertedObjects;
     }
 
-    private Optional<Pagination> buildPagination(Optional<String> first,
+    private Optional<Pagination> buildPagination(Class<?> entityClass,
+                                                 Optional<String> first,
                                                  Optional<String> offset,
-                                                 boolean generateTotals) {
-        return Pagination.fromOffsetAndFirst(first, offset, generateTotals, settings);
+                                                 boolean generateTotals,
+                                                 boolean probeNextPage,
+                                                 RequestScope requestScope) {
+        /* Stores which cannot probe the next page count the records instead */
+        boolean countForNextPage = probeNextPage
+                && !requestScope.getTransaction().supportsNextPageProbe(entityClass);
+
+        return Pagination.fromOffsetAndFirst(first, offset, generateTotals || countForNextPage, probeNextPage,
+                requestScope.getElideSettings());
     }
 
-    private Optional<Sorting> buildSorting(Optional<String> sort) {
+    private Optional<Sorting> buildSorting(Optional<String> sort, RequestScope requestScope) {
+        if (requestScope instanceof GraphQLRequestScope) {
+            Map<String, Sorting> parsedSorts = ((GraphQLRequestScope) requestScope).getParsedSorts();
+            return sort.map(sortStr -> parsedSorts.computeIfAbsent(sortStr, Sorting::parseSortRule));
+        }
         return sort.map(Sorting::parseSortRule);
     }
 
@@ -611,24 +649,30 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
     private Optional<FilterExpression> buildFilter(String typeName,
                                                    Optional<String> filter,
                                                    RequestScope requestScope) {
+        if (requestScope instanceof GraphQLRequestScope) {
+            Map<Pair<String, String>, FilterExpression> parsedFilters =
+                    ((GraphQLRequestScope) requestScope).getParsedFilters();
+            return filter.map(filterStr -> parsedFilters.computeIfAbsent(Pair.of(typeName, filterStr),
+                    key -> parseFilter(typeName, filterStr, requestScope)));
+        }
+        return filter.map(filterStr -> parseFilter(typeName, filterStr, requestScope));
+    }
+
+    private FilterExpression parseFilter(String typeName, String filterStr, RequestScope requestScope) {
         // TODO: Refactor FilterDialect interfaces to accept string or List<String> instead of (or in addition to?)
         // query params.
-        return filter.map(filterStr -> {
-            String errorMessage = "";
-            try {
-                return requestScope.getFilterDialect()
-                        .parseGlobalExpression(typeName, getQueryParams(Optional.empty(), filterStr));
-            } catch (ParseException e) {
-                errorMessage = e.getMessage();
-            }
+        MultipleFilterDialect filterDialect = requestScope.getFilterDialect();
+        MultivaluedHashMap<String, String> globalParams = getQueryParams(Optional.empty(), filterStr);
 
-            try {
-                return requestScope.getFilterDialect()
-                        .parseTypedExpression(typeName, getQueryParams(Optional.of(typeName), filterStr))
-                        .get(typeName);
-            } catch (ParseException e) {
-                throw new BadRequestException(errorMessage + "\n" + e.getMessage());
+        /* Pick the dialect by the syntax of the filter rather than by attempting a parse */
+        try {
+            if (filterDialect.canParseGlobalExpression(typeName, globalParams)) {
+                return filterDialect.parseGlobalExpression(typeName, globalParams);
             }
-        });
+            return filterDialect.parseTypedExpression(typeName, getQueryParams(Optional.of(typeName), filterStr))
+                    .get(typeName);
+        } catch (ParseException e) {
+            throw new BadRequestException(e.getMessage());
+        }
     }
 }
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static com.yahoo.elide.graphql.ModelBuilder.ARGUMENT_FIRST;
+import static com.yahoo.elide.graphql.ModelBuilder.ARGUMENT_IDS;
+
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.annotation.Paginate;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.exceptions.BadRequestException;
+
+import graphql.language.Argument;
+import graphql.language.ArrayValue;
+import graphql.language.Definition;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.IntValue;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLModifiedType;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeReference;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the work a GraphQL document asks for before it is executed, and rejects documents above the configured
+ * limits.
+ * <p>
+ * The cost of a document is the number of records it could load.  Every root collection and relationship selected
+ * loads, for each record of its parent, either the records named by {@code ids}, {@code first} records, or the
+ * default page size of its entity ({@link Paginate#defaultLimit} or
+ * {@link ElideSettings#getDefaultPageSize}).  To-one relationships load one record.  The depth of a document is its
+ * deepest relationship nesting, the root collection being at depth one.  A {@code first} argument larger than the
+ * maximum page size of its entity is rejected up front as well.
+ */
+@Slf4j
+public class QueryCostAnalyzer {
+
+    /**
+     * The estimated cost of a document.
+     */
+    @Getter
+    public static class QueryCost {
+        private int depth;
+        private long cost;
+
+        private void add(long records, int recordDepth) {
+            cost = saturatedAdd(cost, records);
+            depth = Math.max(depth, recordDepth);
+        }
+    }
+
+    private final GraphQLSchema schema;
+    private final EntityDictionary dictionary;
+    private final int defaultPageSize;
+    private final int defaultMaxPageSize;
+    @Getter private final int maxDepth;
+    @Getter private final long maxCost;
+
+    public QueryCostAnalyzer(GraphQLSchema schema, ElideSettings settings) {
+        this.schema = schema;
+        this.dictionary = settings.getDictionary();
+        this.defaultPageSize = settings.getDefaultPageSize();
+        this.defaultMaxPageSize = settings.getDefaultMaxPageSize();
+        this.maxDepth = settings.getGraphQLMaxDepth();
+        this.maxCost = settings.getGraphQLMaxCost();
+    }
+
+    /**
+     * Whether any limit is configured.
+     *
+     * @return true if documents can be rejected
+     */
+    public boolean hasLimits() {
+        return maxDepth > 0 || maxCost > 0;
+    }
+
+    /**
+     * Estimates the cost of the operation a request executes.  Documents which do not parse, or name an unknown
+     * operation, cost nothing here: graphql-java rejects them with its own error.
+     *
+     * @param query the GraphQL document
+     * @param operationName the operation to execute (or null if the document has a single operation)
+     * @param variables the request variables
+     * @return the estimated cost
+     */
+    public QueryCost analyze(String query, String operationName, Map<String, Object> variables) {
+        QueryCost queryCost = new QueryCost();
+
+        Document document;
+        try {
+            document = new Parser().parseDocument(query);
+        } catch (RuntimeException e) {
+            log.debug("Skipping cost analysis of an invalid GraphQL document", e);
+            return queryCost;
+        }
+
+        OperationDefinition operation = null;
+        Map<String, FragmentDefinition> fragments = new HashMap<>();
+        for (Definition definition : document.getDefinitions()) {
+            if (definition instanceof FragmentDefinition) {
+                FragmentDefinition fragment = (FragmentDefinition) definition;
+                fragments.put(fragment.getName(), fragment);
+            } else if (definition instanceof OperationDefinition && operation == null) {
+                OperationDefinition candidate = (OperationDefinition) definition;
+                if (operationName == null || operationName.equals(candidate.getName())) {
+                    operation = candidate;
+                }
+            }
+        }
+
+        if (operation == null) {
+            return queryCost;
+        }
+
+        GraphQLObjectType root = operation.getOperation() == OperationDefinition.Operation.MUTATION
+                ? schema.getMutationType()
+                : schema.getQueryType();
+        Context context = new Context(queryCost, fragments,
+                variables == null ? Collections.emptyMap() : variables);
+        visit(operation.getSelectionSet(), root, 1, 0, context);
+
+        return queryCost;
+    }
+
+    /**
+     * Rejects a document whose cost is above the configured limits.
+     *
+     * @param queryCost the estimated cost of the document
+     * @throws BadRequestException if the document is too deep or too expensive
+     */
+    public void checkLimits(QueryCost queryCost) {
+        if (maxDepth > 0 && queryCost.getDepth() > maxDepth) {
+            throw new BadRequestException("Query depth " + queryCost.getDepth()
+                    + " exceeds the maximum depth of " + maxDepth);
+        }
+        if (maxCost > 0 && queryCost.getCost() > maxCost) {
+            throw new BadRequestException("Query cost " + queryCost.getCost()
+                    + " exceeds the maximum cost of " + maxCost
+                    + ". Request fewer records with the first argument or select fewer relationships.");
+        }
+    }
+
+    private void visit(SelectionSet selectionSet, GraphQLObjectType type, long parentRecords, int depth,
+                       Context context) {
+        if (selectionSet == null || type == null) {
+            return;
+        }
+
+        for (Selection selection : selectionSet.getSelections()) {
+            if (selection instanceof Field) {
+                visitField((Field) selection, type, parentRecords, depth, context);
+            } else if (selection instanceof InlineFragment) {
+                InlineFragment fragment = (InlineFragment) selection;
+                GraphQLObjectType fragmentType = fragment.getTypeCondition() == null
+                        ? type
+                        : objectType(schema.getType(fragment.getTypeCondition().getName()));
+                visit(fragment.getSelectionSet(), fragmentType, parentRecords, depth, context);
+            } else if (selection instanceof FragmentSpread) {
+                FragmentDefinition fragment = context.fragments.get(((FragmentSpread) selection).getName());
+                // Cyclic fragments are invalid and rejected by graphql-java; just do not follow them here.
+                if (fragment != null && context.visiting.add(fragment.getName())) {
+                    GraphQLObjectType fragmentType = objectType(schema.getType(fragment.getTypeCondition().getName()));
+                    visit(fragment.getSelectionSet(), fragmentType, parentRecords, depth, context);
+                    context.visiting.remove(fragment.getName());
+                }
+            }
+        }
+    }
+
+    private void visitField(Field field, GraphQLObjectType type, long parentRecords, int depth, Context context) {
+        GraphQLFieldDefinition definition = type.getFieldDefinition(field.getName());
+        if (definition == null) {
+            return;
+        }
+
+        GraphQLObjectType fieldType = objectType(definition.getType());
+        Class<?> entityClass = fieldType == null ? null : dictionary.getEntityClass(fieldType.getName());
+        if (entityClass == null) {
+            /* edges, node, pageInfo and complex attributes */
+            visit(field.getSelectionSet(), fieldType, parentRecords, depth, context);
+            return;
+        }
+
+        long records = definition.getArgument(ARGUMENT_FIRST) == null
+                ? 1
+                : getPageSize(field, entityClass, context);
+        long loaded = saturatedMultiply(parentRecords, records);
+
+        context.queryCost.add(loaded, depth + 1);
+        visit(field.getSelectionSet(), fieldType, loaded, depth + 1, context);
+    }
+
+    private long getPageSize(Field field, Class<?> entityClass, Context context) {
+        Paginate paginate = dictionary.getAnnotation(entityClass, Paginate.class);
+        int defaultLimit = paginate != null ? paginate.defaultLimit() : defaultPageSize;
+        int maxLimit = paginate != null ? paginate.maxLimit() : defaultMaxPageSize;
+
+        Long first = null;
+        Long ids = null;
+        for (Argument argument : field.getArguments()) {
+            if (ARGUMENT_FIRST.equals(argument.getName())) {
+                first = toLong(argument.getValue(), context);
+            } else if (ARGUMENT_IDS.equals(argument.getName())) {
+                ids = countValues(argument.getValue(), context);
+            }
+        }
+
+        if (first != null && first > maxLimit) {
+            throw new BadRequestException("first value " + first + " for " + field.getName()
+                    + " must be less than or equal to " + maxLimit);
+        }
+
+        if (ids != null) {
+            return first == null ? ids : Math.min(ids, first);
+        }
+        return first == null ? defaultLimit : first;
+    }
+
+    /*
+     * Malformed values are left for the data fetcher to reject.
+     */
+    private static Long toLong(Value value, Context context) {
+        Object resolved = value;
+        if (value instanceof VariableReference) {
+            resolved = context.variables.get(((VariableReference) value).getName());
+        } else if (value instanceof IntValue) {
+            resolved = ((IntValue) value).getValue();
+        } else if (value instanceof StringValue) {
+            resolved = ((StringValue) value).getValue();
+        }
+
+        if (resolved instanceof Number) {
+            return ((Number) resolved).longValue();
+        }
+        if (resolved instanceof String) {
+            try {
+                return Long.parseLong((String) resolved);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static Long countValues(Value value, Context context) {
+        if (value instanceof ArrayValue) {
+            return (long) ((ArrayValue) value).getValues().size();
+        }
+        if (value instanceof VariableReference) {
+            Object resolved = context.variables.get(((VariableReference) value).getName());
+            if (resolved instanceof List) {
+                return (long) ((List<?>) resolved).size();
+            }
+        }
+        return null;
+    }
+
+    private GraphQLObjectType objectType(GraphQLType type) {
+        GraphQLType unwrapped = type;
+        while (unwrapped instanceof GraphQLModifiedType) {
+            unwrapped = ((GraphQLModifiedType) unwrapped).getWrappedType();
+        }
+        if (unwrapped instanceof GraphQLTypeReference) {
+            unwrapped = schema.getType(unwrapped.getName());
+        }
+        return unwrapped instanceof GraphQLObjectType ? (GraphQLObjectType) unwrapped : null;
+    }
+
+    private static long saturatedAdd(long left, long right) {
+        long sum = left + right;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(long left, long right) {
+        if (left != 0 && right > Long.MAX_VALUE / left) {
+            return Long.MAX_VALUE;
+        }
+        return left * right;
+    }
+
+    /**
+     * State of the analysis of one document.
+     */
+    private static class Context {
+        private final QueryCost queryCost;
+        private final Map<String, FragmentDefinition> fragments;
+        private final Map<String, Object> variables;
+        private final Set<String> visiting = new HashSet<>();
+
+        private Context(QueryCost queryCost, Map<String, FragmentDefinition> fragments,
+                        Map<String, Object> variables) {
+            this.queryCost = queryCost;
+            this.fragments = fragments;
+            this.variables = variables;
+        }
+    }
+}
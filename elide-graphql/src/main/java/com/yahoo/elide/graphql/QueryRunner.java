@@ -15,6 +15,11 @@ import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.graphql.QueryCostAnalyzer.QueryCost;
+import com.yahoo.elide.metrics.NoopRequestObserver;
+import com.yahoo.elide.metrics.PhaseTimer;
+import com.yahoo.elide.metrics.RequestObserver.Outcome;
+import com.yahoo.elide.metrics.RequestPhase;
 import com.yahoo.elide.security.User;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -22,8 +27,6 @@ import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.owasp.encoder.Encode;
@@ -32,13 +35,21 @@ import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.schema.GraphQLSchema;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.ws.rs.WebApplicationException;
@@ -51,12 +62,18 @@ import javax.ws.rs.core.Response;
 public class QueryRunner {
     private final Elide elide;
     private GraphQL api;
+    private final QueryCostAnalyzer costAnalyzer;
+    private final boolean analyzeCost;
 
     private static final String QUERY = "query";
     private static final String OPERATION_NAME = "operationName";
     private static final String VARIABLES = "variables";
     private static final String MUTATION = "mutation";
 
+    /* Mappers the GraphQL serializers are registered with, so every runner of an Elide instance shares them */
+    private static final Set<ObjectMapper> SERIALIZING_MAPPERS =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
     /**
      * Builds a new query runner.
      * @param elide The singular elide instance for this service.
@@ -64,20 +81,36 @@ public class QueryRunner {
     public QueryRunner(Elide elide) {
         this.elide = elide;
 
-        NonEntityDictionary nonEntityDictionary = new NonEntityDictionary();
-        PersistentResourceFetcher fetcher = new PersistentResourceFetcher(elide.getElideSettings(),
-                nonEntityDictionary);
-        ModelBuilder builder = new ModelBuilder(elide.getElideSettings().getDictionary(), nonEntityDictionary, fetcher);
+        GraphQLSchema schema = SchemaSnapshot.of(elide.getElideSettings().getDictionary()).getSchema();
+        this.api = new GraphQL(schema);
 
-        this.api = new GraphQL(builder.build());
+        /* The cost is only computed when it can reject documents or somebody observes it */
+        this.costAnalyzer = new QueryCostAnalyzer(schema, elide.getElideSettings());
+        this.analyzeCost = costAnalyzer.hasLimits()
+                || !(elide.getElideSettings().getRequestObserver() instanceof NoopRequestObserver);
 
         // TODO - add serializers to allow for custom handling of ExecutionResult and GraphQLError objects
-        GraphQLErrorSerializer errorSerializer =
-                new GraphQLErrorSerializer(elide.getElideSettings().isEncodeErrorResponses());
-        SimpleModule module = new SimpleModule("ExecutionResultSerializer", Version.unknownVersion());
-        module.addSerializer(ExecutionResult.class, new ExecutionResultSerializer(errorSerializer));
-        module.addSerializer(GraphQLError.class, errorSerializer);
-        elide.getElideSettings().getMapper().getObjectMapper().registerModule(module);
+        ObjectMapper mapper = elide.getElideSettings().getMapper().getObjectMapper();
+        if (SERIALIZING_MAPPERS.add(mapper)) {
+            GraphQLErrorSerializer errorSerializer =
+                    new GraphQLErrorSerializer(elide.getElideSettings().isEncodeErrorResponses());
+            SimpleModule module = new SimpleModule("ExecutionResultSerializer", Version.unknownVersion());
+            module.addSerializer(ExecutionResult.class, new ExecutionResultSerializer(errorSerializer));
+            module.addSerializer(GraphQLError.class, errorSerializer);
+            mapper.registerModule(module);
+        }
+    }
+
+    /**
+     * Execute a GraphQL query asynchronously on the Elide request executor.
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param graphQLDocument The graphQL document (wrapped in JSON payload).
+     * @param user The user who issued the query.
+     * @return A future completed with the response.
+     */
+    public CompletableFuture<ElideResponse> runAsync(String baseUrlEndPoint, String graphQLDocument, Object user) {
+        return CompletableFuture.supplyAsync(() -> run(baseUrlEndPoint, graphQLDocument, user),
+                elide.getRequestExecutor());
     }
 
     /**
@@ -88,6 +121,42 @@ public class QueryRunner {
      * @return The response.
      */
     public ElideResponse run(String baseUrlEndPoint, String graphQLDocument, Object user) {
+        GraphQLResponse response = runStreaming(baseUrlEndPoint, graphQLDocument, user);
+        try {
+            return ElideResponse.builder()
+                    .responseCode(response.getResponseCode())
+                    .body(response.getBody())
+                    .build();
+        } catch (UncheckedIOException e) {
+            log.error("An unexpected error occurred trying to serialize response.", e);
+            return ElideResponse.builder()
+                    .responseCode(HttpStatus.SC_INTERNAL_SERVER_ERROR)
+                    .build();
+        }
+    }
+
+    /**
+     * Execute a GraphQL query asynchronously on the Elide request executor, without buffering the response body.
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param graphQLDocument The graphQL document (wrapped in JSON payload).
+     * @param user The user who issued the query.
+     * @return A future completed with the response.
+     */
+    public CompletableFuture<GraphQLResponse> runStreamingAsync(String baseUrlEndPoint, String graphQLDocument,
+                                                                Object user) {
+        return CompletableFuture.supplyAsync(() -> runStreaming(baseUrlEndPoint, graphQLDocument, user),
+                elide.getRequestExecutor());
+    }
+
+    /**
+     * Execute a GraphQL query without buffering the response body.  The result is serialized when the response
+     * is written with {@link GraphQLResponse#writeTo}.
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param graphQLDocument The graphQL document (wrapped in JSON payload).
+     * @param user The user who issued the query.
+     * @return The response.
+     */
+    public GraphQLResponse runStreaming(String baseUrlEndPoint, String graphQLDocument, Object user) {
         ObjectMapper mapper = elide.getMapper().getObjectMapper();
 
         JsonNode topLevel;
@@ -101,7 +170,7 @@ public class QueryRunner {
             return buildErrorResponse(new InvalidEntityBodyException(graphQLDocument), false);
         }
 
-        Function<JsonNode, ElideResponse> executeRequest =
+        Function<JsonNode, GraphQLResponse> executeRequest =
                 (node) -> executeGraphQLRequest(baseUrlEndPoint, mapper, user, graphQLDocument, node);
 
         if (topLevel.isArray()) {
@@ -111,40 +180,42 @@ public class QueryRunner {
             // It's unclear whether or not the expectations of the caller would be that requests are intended
             // to run serially even outside of a single transaction. We should revisit this.
             Stream<JsonNode> nodeStream = StreamSupport.stream(nodeIterable.spliterator(), false);
-            ArrayNode result = nodeStream
+            List<GraphQLResponse> responses = nodeStream
                     .map(executeRequest)
-                    .map(response -> {
-                        try {
-                            return mapper.readTree(response.getBody());
-                        } catch (IOException e) {
-                            log.debug("Caught an IO exception while trying to read response body");
-                            return JsonNodeFactory.instance.objectNode();
-                        }
-                    })
-                    .reduce(JsonNodeFactory.instance.arrayNode(),
-                            (arrayNode, node) -> arrayNode.add(node),
-                            (left, right) -> left.addAll(right));
-            try {
-                return ElideResponse.builder()
-                        .responseCode(HttpStatus.SC_OK)
-                        .body(mapper.writeValueAsString(result))
-                        .build();
-            } catch (IOException e) {
-                log.error("An unexpected error occurred trying to serialize array response.", e);
-                return ElideResponse.builder()
-                        .responseCode(HttpStatus.SC_INTERNAL_SERVER_ERROR)
-                        .build();
-            }
+                    .collect(Collectors.toList());
+            return GraphQLResponse.ofBatch(responses, mapper);
         }
 
         return executeRequest.apply(topLevel);
     }
 
-    private ElideResponse executeGraphQLRequest(String baseUrlEndPoint,
+    private GraphQLResponse executeGraphQLRequest(String baseUrlEndPoint,
                                                 ObjectMapper mapper,
                                                 Object principal,
                                                 String graphQLDocument,
                                                 JsonNode jsonDocument) {
+        String query = jsonDocument.has(QUERY) ? jsonDocument.get(QUERY).asText() : "";
+        PhaseTimer timer = new PhaseTimer(elide.getElideSettings().getRequestObserver(),
+                query.trim().startsWith(MUTATION) ? MUTATION : QUERY, null);
+        long requestStart = timer.start(RequestPhase.REQUEST);
+        GraphQLResponse response = null;
+        try {
+            response = executeGraphQLRequest(baseUrlEndPoint, mapper, principal, graphQLDocument, jsonDocument,
+                    query, timer);
+            return response;
+        } finally {
+            boolean succeeded = response != null && response.getResponseCode() < HttpStatus.SC_BAD_REQUEST;
+            timer.stop(RequestPhase.REQUEST, requestStart, succeeded ? Outcome.SUCCESS : Outcome.FAILURE);
+        }
+    }
+
+    private GraphQLResponse executeGraphQLRequest(String baseUrlEndPoint,
+                                                ObjectMapper mapper,
+                                                Object principal,
+                                                String graphQLDocument,
+                                                JsonNode jsonDocument,
+                                                String query,
+                                                PhaseTimer timer) {
         boolean isVerbose = false;
         try (DataStoreTransaction tx = elide.getDataStore().beginTransaction()) {
             final User user = tx.accessUser(principal);
@@ -153,14 +224,9 @@ public class QueryRunner {
             isVerbose = requestScope.getPermissionExecutor().isVerbose();
 
             if (!jsonDocument.has(QUERY)) {
-                return ElideResponse.builder()
-                        .responseCode(HttpStatus.SC_BAD_REQUEST)
-                        .body("A `query` key is required.")
-                        .build();
+                return GraphQLResponse.of(HttpStatus.SC_BAD_REQUEST, "A `query` key is required.");
             }
 
-            String query = jsonDocument.get(QUERY).asText();
-
             // Logging all queries. It is recommended to put any private information that shouldn't be logged into
             // the "variables" section of your query. Variable values are not logged.
             log.info("Processing GraphQL query:\n{}", query);
@@ -169,20 +235,29 @@ public class QueryRunner {
                     .context(requestScope)
                     .query(query);
 
+            String operationName = null;
             if (jsonDocument.has(OPERATION_NAME) && !jsonDocument.get(OPERATION_NAME).isNull()) {
-                executionInput.operationName(jsonDocument.get(OPERATION_NAME).asText());
+                operationName = jsonDocument.get(OPERATION_NAME).asText();
+                executionInput.operationName(operationName);
             }
 
+            Map<String, Object> variables = null;
             if (jsonDocument.has(VARIABLES) && !jsonDocument.get(VARIABLES).isNull()) {
-                Map<String, Object> variables = mapper.convertValue(jsonDocument.get(VARIABLES), Map.class);
+                variables = mapper.convertValue(jsonDocument.get(VARIABLES), Map.class);
                 executionInput.variables(variables);
             }
 
-            ExecutionResult result = api.execute(executionInput);
+            if (analyzeCost) {
+                QueryCost queryCost = costAnalyzer.analyze(query, operationName, variables);
+                timer.queryCostComputed(queryCost.getDepth(), queryCost.getCost());
+                costAnalyzer.checkLimits(queryCost);
+            }
+
+            ExecutionResult result = timer.time(RequestPhase.EXECUTE, () -> api.execute(executionInput));
 
             tx.preCommit();
-            requestScope.runQueuedPreSecurityTriggers();
-            requestScope.getPermissionExecutor().executeCommitChecks();
+            timer.run(RequestPhase.PRE_SECURITY_TRIGGERS, requestScope::runQueuedPreSecurityTriggers);
+            timer.run(RequestPhase.COMMIT_CHECKS, requestScope.getPermissionExecutor()::executeCommitChecks);
             if (query.trim().startsWith(MUTATION)) {
                 if (!result.getErrors().isEmpty()) {
                     HashMap<String, Object> abortedResponseObject = new HashMap<String, Object>() {
@@ -195,23 +270,24 @@ public class QueryRunner {
                     throw new WebApplicationException(
                         Response.ok(mapper.writeValueAsString(abortedResponseObject)).build());
                 }
-                requestScope.saveOrCreateObjects();
+                timer.run(RequestPhase.SAVE, requestScope::saveOrCreateObjects);
             }
-            tx.flush(requestScope);
+            timer.run(RequestPhase.FLUSH, () -> tx.flush(requestScope));
 
-            requestScope.runQueuedPreCommitTriggers();
-            elide.getAuditLogger().commit(requestScope);
-            tx.commit(requestScope);
-            requestScope.runQueuedPostCommitTriggers();
+            timer.run(RequestPhase.PRE_COMMIT_TRIGGERS, requestScope::runQueuedPreCommitTriggers);
+            timer.time(RequestPhase.COMMIT, () -> {
+                elide.getAuditLogger().commit(requestScope);
+                tx.commit(requestScope);
+                return null;
+            });
+            timer.run(RequestPhase.POST_COMMIT_TRIGGERS, () -> requestScope.runQueuedPostCommitTriggers(timer));
 
+            timer.checksEvaluated(requestScope.getPermissionExecutor().getCheckStats());
             if (log.isTraceEnabled()) {
                 requestScope.getPermissionExecutor().printCheckStats();
             }
 
-            return ElideResponse.builder()
-                    .responseCode(HttpStatus.SC_OK)
-                    .body(mapper.writeValueAsString(result))
-                    .build();
+            return GraphQLResponse.of(result, mapper, timer);
         } catch (JsonProcessingException e) {
             log.debug("Invalid json body provided to GraphQL", e);
             return buildErrorResponse(new InvalidEntityBodyException(graphQLDocument), isVerbose);
@@ -221,9 +297,7 @@ public class QueryRunner {
         } catch (WebApplicationException e) {
             log.debug("WebApplicationException", e);
             String body = e.getResponse().getEntity() != null ? e.getResponse().getEntity().toString() : e.getMessage();
-            return ElideResponse.builder()
-                    .responseCode(e.getResponse().getStatus())
-                    .body(body).build();
+            return GraphQLResponse.of(e.getResponse().getStatus(), body);
         } catch (HttpStatusException e) {
             if (e instanceof ForbiddenAccessException) {
                 if (log.isDebugEnabled()) {
@@ -266,7 +340,7 @@ public class QueryRunner {
         }
     }
 
-    private ElideResponse buildErrorResponse(HttpStatusException error, boolean isVerbose) {
+    private GraphQLResponse buildErrorResponse(HttpStatusException error, boolean isVerbose) {
         ObjectMapper mapper = elide.getMapper().getObjectMapper();
         JsonNode errorNode;
         boolean encodeErrorResponses = elide.getElideSettings().isEncodeErrorResponses();
@@ -290,9 +364,6 @@ public class QueryRunner {
         } catch (JsonProcessingException e) {
             errorBody = errorNode.toString();
         }
-        return ElideResponse.builder()
-                .responseCode(error.getStatus())
-                .body(errorBody)
-                .build();
+        return GraphQLResponse.of(error.getStatus(), errorBody);
     }
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+import com.yahoo.elide.utils.coerce.converters.Serde;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.hash.Hashing;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLEnumValueDefinition;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.EnumValuesProvider;
+import graphql.schema.idl.FieldWiringEnvironment;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.ScalarInfo;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.SchemaPrinter;
+import graphql.schema.idl.TypeRuntimeWiring;
+import graphql.schema.idl.WiringFactory;
+import lombok.Getter;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * A GraphQL schema built by {@link ModelBuilder}, identified by a fingerprint of the entity dictionary it was built
+ * from.
+ * <p>
+ * The schema only depends on the entity model (bound classes, their attributes and relationships) and on the
+ * registered {@link Serde}s, so {@link #of} builds it once per distinct model and hands the same snapshot to every
+ * {@link QueryRunner} of the process.  Its data fetcher reads the Elide settings from each request, so a snapshot
+ * can serve several Elide instances.
+ * <p>
+ * Snapshots are kept per class loader of the model and only softly, so they never keep the classes of a discarded
+ * class loader (e.g. a redeployed application) alive.  A snapshot saved with {@link #toSdl} can be reloaded with
+ * {@link #load} instead of running the model builder again; runners created afterwards share the reloaded schema.
+ */
+public class SchemaSnapshot {
+    private static final String FINGERPRINT = "# fingerprint: ";
+    private static final String ENUM = "# enum ";
+    private static final String TYPE = "# type ";
+
+    /* Weak keys, so the values referencing classes of a class loader do not keep it reachable */
+    private static final LoadingCache<ClassLoader, Cache<String, SchemaSnapshot>> SNAPSHOTS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<ClassLoader, Cache<String, SchemaSnapshot>>() {
+                @Override
+                public Cache<String, SchemaSnapshot> load(ClassLoader classLoader) {
+                    return CacheBuilder.newBuilder().softValues().build();
+                }
+            });
+
+    @Getter private final String fingerprint;
+    @Getter private final GraphQLSchema schema;
+    private final NonEntityDictionary nonEntityDictionary;
+    private final Map<Class<?>, Serde<?, ?>> serdes;
+
+    private SchemaSnapshot(String fingerprint, GraphQLSchema schema, NonEntityDictionary nonEntityDictionary) {
+        this.fingerprint = fingerprint;
+        this.schema = schema;
+        this.nonEntityDictionary = nonEntityDictionary;
+        this.serdes = new HashMap<>(CoerceUtil.getSerdes());
+    }
+
+    /**
+     * Returns the schema of an entity dictionary, building it unless a snapshot with the same fingerprint exists.
+     *
+     * @param dictionary the entity dictionary
+     * @return the snapshot
+     */
+    public static SchemaSnapshot of(EntityDictionary dictionary) {
+        String fingerprint = fingerprint(dictionary);
+        Cache<String, SchemaSnapshot> snapshots = SNAPSHOTS.getUnchecked(getClassLoader(dictionary));
+        SchemaSnapshot snapshot = snapshots.getIfPresent(fingerprint);
+
+        /* The fingerprint names the serde classes; the scalars of the schema wrap the registered instances */
+        if (snapshot == null || !snapshot.hasCurrentSerdes()) {
+            NonEntityDictionary nonEntityDictionary = new NonEntityDictionary();
+            ModelBuilder builder = new ModelBuilder(dictionary, nonEntityDictionary,
+                    new PersistentResourceFetcher(nonEntityDictionary));
+            snapshot = new SchemaSnapshot(fingerprint, builder.build(), nonEntityDictionary);
+            snapshots.put(fingerprint, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reloads a snapshot saved with {@link #toSdl}, wiring the Elide data fetcher, scalars and enums into the parsed
+     * schema.  The reloaded snapshot is shared like one built by {@link #of}.
+     *
+     * @param sdl the saved schema definition
+     * @param dictionary the entity dictionary the schema is for
+     * @return the snapshot, or empty if the schema was saved from a different model
+     */
+    public static Optional<SchemaSnapshot> load(String sdl, EntityDictionary dictionary) {
+        String fingerprint = fingerprint(dictionary);
+        if (!sdl.startsWith(FINGERPRINT + fingerprint + "\n")) {
+            return Optional.empty();
+        }
+
+        ClassLoader classLoader = getClassLoader(dictionary);
+        NonEntityDictionary nonEntityDictionary = new NonEntityDictionary();
+        GraphQLConversionUtils generator = new GraphQLConversionUtils(dictionary, nonEntityDictionary);
+        RuntimeWiring.Builder wiring = RuntimeWiring.newRuntimeWiring();
+
+        for (String line : sdl.split("\n")) {
+            if (line.startsWith(ENUM)) {
+                String[] names = line.substring(ENUM.length()).split(" ");
+                wiring.type(TypeRuntimeWiring.newTypeWiring(names[0])
+                        .enumValues(getEnumValues(generator, loadClass(names[1], classLoader))));
+            } else if (line.startsWith(TYPE)) {
+                nonEntityDictionary.bindEntity(loadClass(line.substring(TYPE.length()), classLoader));
+            } else if (!line.startsWith("#")) {
+                break;
+            }
+        }
+
+        DataFetcher fetcher = new PersistentResourceFetcher(nonEntityDictionary);
+        wiring.wiringFactory(new WiringFactory() {
+            @Override
+            public boolean providesDataFetcher(FieldWiringEnvironment environment) {
+                return true;
+            }
+
+            @Override
+            public DataFetcher getDataFetcher(FieldWiringEnvironment environment) {
+                return fetcher;
+            }
+        });
+        getScalars(generator).forEach(wiring::scalar);
+
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(sdl),
+                wiring.build());
+        SchemaSnapshot snapshot = new SchemaSnapshot(fingerprint, schema, nonEntityDictionary);
+        SNAPSHOTS.getUnchecked(classLoader).put(fingerprint, snapshot);
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Computes a fingerprint of everything the GraphQL schema of a dictionary is derived from.  It is the same
+     * across processes for the same model.
+     *
+     * @param dictionary the entity dictionary
+     * @return the fingerprint (a SHA-256 hex string)
+     */
+    public static String fingerprint(EntityDictionary dictionary) {
+        StringBuilder model = new StringBuilder();
+
+        dictionary.getBindings().stream()
+                .sorted(Comparator.comparing(Class::getName))
+                .forEach(entityClass -> {
+                    model.append(entityClass.getName())
+                            .append(' ').append(dictionary.getJsonAliasFor(entityClass))
+                            .append(' ').append(dictionary.isRoot(entityClass))
+                            .append(' ').append(dictionary.getIdFieldName(entityClass))
+                            .append('\n');
+                    dictionary.getAttributes(entityClass).stream().sorted().forEach(attribute ->
+                            model.append("  ").append(attribute)
+                                    .append(' ').append(getGenericTypeName(dictionary, entityClass, attribute))
+                                    .append('\n'));
+                    dictionary.getElideBoundRelationships(entityClass).stream().sorted().forEach(relationship ->
+                            model.append("  ").append(relationship)
+                                    .append(' ').append(dictionary.getRelationshipType(entityClass, relationship))
+                                    .append(' ').append(dictionary.getParameterizedType(entityClass, relationship)
+                                            .getName())
+                                    .append('\n'));
+                });
+
+        CoerceUtil.getSerdes().entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().getName()))
+                .forEach(entry -> model.append("serde ").append(entry.getKey().getName())
+                        .append(' ').append(entry.getValue().getClass().getName())
+                        .append('\n'));
+
+        return Hashing.sha256().hashString(model, StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Serializes the schema to SDL, headed by comments with its fingerprint and with the Java classes its enums and
+     * non-entity types map to, so it can be kept as a build artifact and reloaded with {@link #load}.
+     *
+     * @return the schema definition
+     */
+    public String toSdl() {
+        StringBuilder sdl = new StringBuilder(FINGERPRINT).append(fingerprint).append('\n');
+
+        schema.getAllTypesAsList().stream()
+                .filter(GraphQLEnumType.class::isInstance)
+                .map(GraphQLEnumType.class::cast)
+                .sorted(Comparator.comparing(GraphQLEnumType::getName))
+                .forEach(type -> getEnumClass(type).ifPresent(enumClass ->
+                        sdl.append(ENUM).append(type.getName()).append(' ').append(enumClass.getName()).append('\n')));
+        nonEntityDictionary.getBindings().stream()
+                .map(Class::getName)
+                .sorted()
+                .forEach(name -> sdl.append(TYPE).append(name).append('\n'));
+        sdl.append('\n');
+
+        /* The printer may leave out the root operation types and custom scalars, which the parser needs */
+        String definitions = new SchemaPrinter().print(schema);
+        if (!isDeclared(definitions, "schema {")) {
+            sdl.append("schema {\n")
+                    .append("  query: ").append(schema.getQueryType().getName()).append('\n')
+                    .append("  mutation: ").append(schema.getMutationType().getName()).append('\n')
+                    .append("}\n\n");
+        }
+        schema.getAllTypesAsList().stream()
+                .filter(GraphQLScalarType.class::isInstance)
+                .map(GraphQLScalarType.class::cast)
+                .filter(scalar -> !ScalarInfo.isStandardScalar(scalar))
+                .map(GraphQLScalarType::getName)
+                .filter(name -> !isDeclared(definitions, "scalar " + name))
+                .sorted()
+                .forEach(name -> sdl.append("scalar ").append(name).append("\n\n"));
+
+        return sdl.append(definitions).toString();
+    }
+
+    private static boolean isDeclared(String definitions, String declaration) {
+        return Pattern.compile("(?m)^" + Pattern.quote(declaration) + "\\s*$").matcher(definitions).find();
+    }
+
+    private static Optional<Class<?>> getEnumClass(GraphQLEnumType type) {
+        return type.getValues().stream()
+                .map(GraphQLEnumValueDefinition::getValue)
+                .filter(Enum.class::isInstance)
+                .findFirst()
+                .map(value -> ((Enum<?>) value).getDeclaringClass());
+    }
+
+    private boolean hasCurrentSerdes() {
+        Map<Class<?>, Serde<?, ?>> current = CoerceUtil.getSerdes();
+        return serdes.size() == current.size()
+                && current.entrySet().stream().allMatch(entry -> serdes.get(entry.getKey()) == entry.getValue());
+    }
+
+    /* The model's classes are resolved through (and its snapshots scoped by) the loader of its entities */
+    private static ClassLoader getClassLoader(EntityDictionary dictionary) {
+        return dictionary.getBindings().stream()
+                .min(Comparator.comparing(Class::getName))
+                .map(Class::getClassLoader)
+                .orElseGet(SchemaSnapshot.class::getClassLoader);
+    }
+
+    private static Class<?> loadClass(String name, ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            try {
+                return Class.forName(name, false, SchemaSnapshot.class.getClassLoader());
+            } catch (ClassNotFoundException notFound) {
+                throw new IllegalArgumentException("Unknown class in schema snapshot: " + name, notFound);
+            }
+        }
+    }
+
+    private static EnumValuesProvider getEnumValues(GraphQLConversionUtils generator, Class<?> enumClass) {
+        Map<String, Object> values = new HashMap<>();
+        for (Object value : enumClass.getEnumConstants()) {
+            values.put(generator.toValidNameName(((Enum<?>) value).name()), value);
+        }
+        return values::get;
+    }
+
+    private static List<GraphQLScalarType> getScalars(GraphQLConversionUtils generator) {
+        List<GraphQLScalarType> scalars = new ArrayList<>(generator.getCustomScalars());
+        scalars.add(GraphQLScalars.GRAPHQL_DATE_TYPE);
+        scalars.add(GraphQLScalars.GRAPHQL_DEFERRED_ID);
+        return scalars;
+    }
+
+    private static String getGenericTypeName(EntityDictionary dictionary, Class<?> entityClass, String attribute) {
+        AccessibleObject accessor = dictionary.getAccessibleObject(entityClass, attribute);
+        if (accessor instanceof Field) {
+            return ((Field) accessor).getGenericType().getTypeName();
+        }
+        if (accessor instanceof Method) {
+            return ((Method) accessor).getGenericReturnType().getTypeName();
+        }
+        return dictionary.getType(entityClass, attribute).getName();
+    }
+}
@@ -5,7 +5,8 @@
  */
 package com.yahoo.elide.graphql.containers;
 
-import static com.yahoo.elide.graphql.containers.RootContainer.requestContainsPageInfo;
+import static com.yahoo.elide.graphql.containers.RootContainer.requestContainsNextPage;
+import static com.yahoo.elide.graphql.containers.RootContainer.requestContainsPageTotals;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.PersistentResource;
@@ -65,10 +66,11 @@ public class NodeContainer implements PersistentResourceContainer, GraphQLContai
             return attribute;
         }
         if (entityDictionary.isRelation(parentClass, fieldName)) { /* fetch relationship properties */
-            boolean generateTotals = requestContainsPageInfo(context.field);
+            boolean generateTotals = requestContainsPageTotals(context.field);
+            boolean probeNextPage = requestContainsNextPage(context.field);
             return fetcher.fetchRelationship(context, context.parentResource,
                     fieldName, context.ids, context.offset, context.first, context.sort, context.filters,
-                    generateTotals);
+                    generateTotals, probeNextPage);
         }
         if (Objects.equals(idFieldName, fieldName)) {
             return new DeferredId(context.parentResource);
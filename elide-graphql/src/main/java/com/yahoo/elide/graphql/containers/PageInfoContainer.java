@@ -7,6 +7,7 @@ package com.yahoo.elide.graphql.containers;
 
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.exceptions.InternalServerErrorException;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.PersistentResourceFetcher;
@@ -24,10 +25,10 @@ public class PageInfoContainer implements GraphQLContainer {
     @Getter private final ConnectionContainer connectionContainer;
 
     // Page info keywords
-    private static final String PAGE_INFO_HAS_NEXT_PAGE_KEYWORD = "hasNextPage";
+    public static final String PAGE_INFO_HAS_NEXT_PAGE_KEYWORD = "hasNextPage";
     private static final String PAGE_INFO_START_CURSOR_KEYWORD = "startCursor";
     private static final String PAGE_INFO_END_CURSOR_KEYWORD = "endCursor";
-    private static final String PAGE_INFO_TOTAL_RECORDS_KEYWORD = "totalRecords";
+    public static final String PAGE_INFO_TOTAL_RECORDS_KEYWORD = "totalRecords";
 
     public PageInfoContainer(ConnectionContainer connectionContainer) {
         this.connectionContainer = connectionContainer;
@@ -49,7 +50,14 @@ public class PageInfoContainer implements GraphQLContainer {
                 case PAGE_INFO_HAS_NEXT_PAGE_KEYWORD: {
                     int numResults = ids.size();
                     int nextOffset = numResults + pageValue.getOffset();
-                    return nextOffset < pageValue.getPageTotals();
+                    // Page totals are generated for stores which do not fetch the probe record
+                    return pageValue.getHasNextPage().orElseGet(() -> {
+                        if (!pageValue.isGenerateTotals()) {
+                            throw new InternalServerErrorException("Could not determine hasNextPage for type: "
+                                    + connectionContainer.getTypeName());
+                        }
+                        return nextOffset < pageValue.getPageTotals();
+                    });
                 }
                 case PAGE_INFO_START_CURSOR_KEYWORD:
                     return pageValue.getOffset();
@@ -5,12 +5,17 @@
  */
 package com.yahoo.elide.graphql.containers;
 
+import static com.yahoo.elide.graphql.containers.PageInfoContainer.PAGE_INFO_HAS_NEXT_PAGE_KEYWORD;
+import static com.yahoo.elide.graphql.containers.PageInfoContainer.PAGE_INFO_TOTAL_RECORDS_KEYWORD;
+
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.PersistentResourceFetcher;
 
 import graphql.language.Field;
 
+import java.util.Optional;
+
 /**
  * Root container for GraphQL requests.
  */
@@ -19,14 +24,50 @@ public class RootContainer implements GraphQLContainer {
     public Object processFetch(Environment context, PersistentResourceFetcher fetcher) {
         EntityDictionary dictionary = context.requestScope.getDictionary();
         Class<?> entityClass = dictionary.getEntityClass(context.field.getName());
-        boolean generateTotals = requestContainsPageInfo(context.field);
+        boolean generateTotals = requestContainsPageTotals(context.field);
+        boolean probeNextPage = requestContainsNextPage(context.field);
         return fetcher.fetchObject(context, context.requestScope, entityClass, context.ids,
-                context.sort, context.offset, context.first, context.filters, generateTotals);
+                context.sort, context.offset, context.first, context.filters, generateTotals, probeNextPage);
     }
 
     public static boolean requestContainsPageInfo(Field field) {
+        return getPageInfo(field).isPresent();
+    }
+
+    /**
+     * Whether the page totals are selected.  Totals are only counted for them; {@code hasNextPage} is answered
+     * with a probe record instead.
+     *
+     * @param field the connection field
+     * @return true if {@code pageInfo.totalRecords} is selected, or may be through a fragment
+     */
+    public static boolean requestContainsPageTotals(Field field) {
+        return requestContainsPageInfoField(field, PAGE_INFO_TOTAL_RECORDS_KEYWORD);
+    }
+
+    /**
+     * Whether {@code hasNextPage} is selected.  The data store is asked to probe the next page for it.
+     *
+     * @param field the connection field
+     * @return true if {@code pageInfo.hasNextPage} is selected, or may be through a fragment
+     */
+    public static boolean requestContainsNextPage(Field field) {
+        return requestContainsPageInfoField(field, PAGE_INFO_HAS_NEXT_PAGE_KEYWORD);
+    }
+
+    private static boolean requestContainsPageInfoField(Field field, String keyword) {
+        return getPageInfo(field)
+                .map(pageInfo -> pageInfo.getSelectionSet() == null
+                        || pageInfo.getSelectionSet().getSelections().stream().anyMatch(f -> !(f instanceof Field)
+                                || keyword.equals(((Field) f).getName())))
+                .orElse(false);
+    }
+
+    private static Optional<Field> getPageInfo(Field field) {
         return field.getSelectionSet().getSelections().stream()
-                .anyMatch(f -> f instanceof Field
-                        && ConnectionContainer.PAGE_INFO_KEYWORD.equals(((Field) f).getName()));
+                .filter(f -> f instanceof Field
+                        && ConnectionContainer.PAGE_INFO_KEYWORD.equals(((Field) f).getName()))
+                .map(Field.class::cast)
+                .findFirst();
     }
 }
@@ -6,6 +6,7 @@
 
 package com.yahoo.elide.graphql;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.yahoo.elide.core.DataStoreTransaction;
@@ -131,6 +132,27 @@ public class FetcherFetchTest extends PersistentResourceFetcherTest {
         assertTrue(!result.getErrors().isEmpty());
     }
 
+    @Test
+    public void testNestedArgumentsParsedOnce() throws Exception {
+        DataStoreTransaction tx = inMemoryDataStore.beginTransaction();
+        GraphQLRequestScope requestScope = new GraphQLRequestScope(baseUrl, tx, null, settings);
+
+        String graphQLRequest = "{ "
+                + "author { "
+                + "edges { node { "
+                + "id "
+                + "books(filter: \"title==\\\"Libro U*\\\"\", sort: \"title\") { "
+                + "edges { node { id title } } "
+                + "}}}"
+                + "} "
+                + "}";
+        ExecutionResult result = api.execute(graphQLRequest, requestScope);
+
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(1, requestScope.getParsedFilters().size());
+        assertEquals(1, requestScope.getParsedSorts().size());
+    }
+
     @Test
     public void testPageTotalsRoot() throws Exception {
         runComparisonTest("pageTotalsRoot");
@@ -146,6 +168,16 @@ public class FetcherFetchTest extends PersistentResourceFetcherTest {
         runComparisonTest("pageTotalsRootWithPagination");
     }
 
+    @Test
+    public void testHasNextPageWithoutTotals() throws Exception {
+        runComparisonTest("hasNextPageWithoutTotals");
+    }
+
+    @Test
+    public void testHasNextPageLastPage() throws Exception {
+        runComparisonTest("hasNextPageLastPage");
+    }
+
     @Test
     public void testPageTotalsRootWithIds() throws Exception {
         runComparisonTest("pageTotalsRootWithIds");
@@ -50,8 +50,11 @@ import graphqlEndpointTestModels.Incident;
 import graphqlEndpointTestModels.security.CommitChecks;
 import graphqlEndpointTestModels.security.UserChecks;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.AbstractMap;
 import java.util.Arrays;
@@ -63,6 +66,7 @@ import java.util.stream.Stream;
 
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 /**
@@ -822,6 +826,51 @@ public class GraphQLEndpointTest {
         assertHasErrors(response);
     }
 
+    @Test
+    void testBatchedRequestIsStreamedAsArray() throws IOException, JSONException {
+        String graphQLRequest = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id"),
+                                        field("title")
+                                )
+                        )
+                )
+        ).toQuery();
+
+        String graphQLResponse = document(
+                selection(
+                        field(
+                                "book",
+                                selections(
+                                        field("id", "1"),
+                                        field("title", "My first book")
+                                )
+                        )
+                )
+        ).toResponse();
+
+        String batch = "[" + graphQLRequestToJSON(graphQLRequest) + "," + graphQLRequestToJSON(graphQLRequest) + "]";
+        JsonNode body = extract200Response(endpoint.post(uriInfo, user1, batch));
+
+        assertTrue(body.isArray());
+        assertEquals(2, body.size());
+        for (JsonNode element : body) {
+            JSONAssert.assertEquals(graphQLResponse, element.toString(), true);
+        }
+    }
+
+    @Test
+    void testErrorBodyIsWritten() throws IOException {
+        Response response = endpoint.post(uriInfo, user1, "{ not json");
+
+        assertEquals(400, response.getStatus());
+        JsonNode body = new ObjectMapper().readTree(extractResponseString(response));
+        assertTrue(body.get("errors").elements().hasNext());
+    }
+
     private static String graphQLRequestToJSON(String request) {
         return graphQLRequestToJSON(request, new HashMap<>());
     }
@@ -841,7 +890,17 @@ public class GraphQLEndpointTest {
 
     private static String extract200ResponseString(Response response) {
         assertEquals(response.getStatus(), 200);
-        return (String) response.getEntity();
+        return extractResponseString(response);
+    }
+
+    private static String extractResponseString(Response response) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            ((StreamingOutput) response.getEntity()).write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
     }
 
     private static void assert200EqualBody(Response response, String expected) throws JSONException {
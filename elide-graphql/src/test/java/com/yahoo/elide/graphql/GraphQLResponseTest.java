@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.yahoo.elide.metrics.PhaseTimer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+public class GraphQLResponseTest {
+
+    @Test
+    public void testErrorBodyIsWrittenAsIs() throws IOException {
+        GraphQLResponse response = GraphQLResponse.of(400, "{\"errors\":[\"Bad Request\"]}");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.writeTo(out);
+
+        assertEquals(400, response.getResponseCode());
+        assertEquals("{\"errors\":[\"Bad Request\"]}", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFailedSerializationLeavesBodyUnterminated() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new SimpleModule()
+                .addSerializer(ExecutionResult.class, new JsonSerializer<ExecutionResult>() {
+                    @Override
+                    public void serialize(ExecutionResult result, JsonGenerator generator,
+                                          SerializerProvider provider) throws IOException {
+                        generator.writeStartObject();
+                        generator.writeFieldName("data");
+                        throw new IllegalStateException("Cannot serialize");
+                    }
+                }));
+        GraphQLResponse response = GraphQLResponse.of(
+                new ExecutionResultImpl(Collections.emptyMap(), Collections.emptyList()), mapper,
+                new PhaseTimer(null, "query", null));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThrows(IOException.class, () -> response.writeTo(out));
+
+        /* The client must not be able to mistake the partial body for a complete document */
+        assertThrows(JsonProcessingException.class, () -> new ObjectMapper().readTree(out.toByteArray()));
+    }
+}
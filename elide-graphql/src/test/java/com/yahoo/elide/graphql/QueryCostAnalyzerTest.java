@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.graphql.QueryCostAnalyzer.QueryCost;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+/**
+ * Tests the cost estimation and limits of GraphQL documents.
+ */
+public class QueryCostAnalyzerTest extends GraphQLTest {
+    private final QueryCostAnalyzer analyzer;
+
+    public QueryCostAnalyzerTest() {
+        ElideSettings settings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .withDefaultPageSize(10)
+                .withDefaultMaxPageSize(100)
+                .withGraphQLMaxDepth(2)
+                .withGraphQLMaxCost(1000)
+                .build();
+
+        NonEntityDictionary nonEntityDictionary = new NonEntityDictionary();
+        ModelBuilder builder = new ModelBuilder(dictionary, nonEntityDictionary,
+                new PersistentResourceFetcher(nonEntityDictionary));
+        analyzer = new QueryCostAnalyzer(builder.build(), settings);
+    }
+
+    @Test
+    public void testFirstMultipliesNestedCost() {
+        QueryCost cost = analyzer.analyze("{ book(first: \"5\") { edges { node { id "
+                + "authors(first: \"3\") { edges { node { name } } } } } } }", null, null);
+
+        assertEquals(2, cost.getDepth());
+        assertEquals(5 + 5 * 3, cost.getCost());
+    }
+
+    @Test
+    public void testDefaultPageSize() {
+        QueryCost cost = analyzer.analyze("{ book { edges { node { id "
+                + "authors { edges { node { name } } } } } } }", null, null);
+
+        assertEquals(10 + 10 * 10, cost.getCost());
+    }
+
+    @Test
+    public void testIdsAndToOne() {
+        QueryCost cost = analyzer.analyze("{ book(ids: [\"1\", \"2\"]) { edges { node { id "
+                + "publisher { edges { node { id } } } } } } }", null, null);
+
+        assertEquals(2, cost.getDepth());
+        assertEquals(2 + 2, cost.getCost());
+    }
+
+    @Test
+    public void testVariablesAndFragments() {
+        QueryCost cost = analyzer.analyze("query books($first: String) { book(first: $first) { ...bookFields } } "
+                + "fragment bookFields on book { edges { node { authors(first: \"2\") { edges { node { id } } } } } }",
+                "books", Collections.singletonMap("first", "7"));
+
+        assertEquals(7 + 7 * 2, cost.getCost());
+    }
+
+    @Test
+    public void testLimits() {
+        QueryCost deep = analyzer.analyze("{ book(first: \"1\") { edges { node { "
+                + "authors(first: \"1\") { edges { node { "
+                + "books(first: \"1\") { edges { node { id } } } } } } } } } }", null, null);
+        assertEquals(3, deep.getDepth());
+        assertThrows(BadRequestException.class, () -> analyzer.checkLimits(deep));
+
+        QueryCost expensive = analyzer.analyze("{ book(first: \"100\") { edges { node { "
+                + "authors(first: \"100\") { edges { node { id } } } } } } }", null, null);
+        assertThrows(BadRequestException.class, () -> analyzer.checkLimits(expensive));
+
+        assertThrows(BadRequestException.class,
+                () -> analyzer.analyze("{ book(first: \"101\") { edges { node { id } } } }", null, null));
+    }
+
+    @Test
+    public void testInvalidDocumentCostsNothing() {
+        QueryCost cost = analyzer.analyze("{ book(first: ", null, null);
+
+        assertEquals(0, cost.getCost());
+        analyzer.checkLimits(cost);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.core.EntityDictionary;
+
+import example.Address;
+import example.Author;
+import example.Book;
+import example.Pseudonym;
+import example.Publisher;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLSchema;
+
+import java.util.HashMap;
+
+/**
+ * Tests sharing GraphQL schemas between dictionaries of the same model.
+ */
+public class SchemaSnapshotTest extends GraphQLTest {
+
+    @Test
+    public void testSameModelSharesSnapshot() {
+        EntityDictionary other = new EntityDictionary(new HashMap<>());
+        other.bindEntity(Publisher.class);
+        other.bindEntity(Address.class);
+        other.bindEntity(Pseudonym.class);
+        other.bindEntity(Author.class);
+        other.bindEntity(Book.class);
+
+        assertEquals(SchemaSnapshot.fingerprint(dictionary), SchemaSnapshot.fingerprint(other));
+        assertSame(SchemaSnapshot.of(dictionary), SchemaSnapshot.of(other));
+    }
+
+    @Test
+    public void testDifferentModelChangesFingerprint() {
+        EntityDictionary other = new EntityDictionary(new HashMap<>());
+        other.bindEntity(Book.class);
+        other.bindEntity(Author.class);
+        other.bindEntity(Publisher.class);
+        other.bindEntity(Pseudonym.class);
+
+        assertNotEquals(SchemaSnapshot.fingerprint(dictionary), SchemaSnapshot.fingerprint(other));
+    }
+
+    @Test
+    public void testSdl() {
+        SchemaSnapshot snapshot = SchemaSnapshot.of(dictionary);
+        String sdl = snapshot.toSdl();
+
+        assertTrue(sdl.startsWith("# fingerprint: " + snapshot.getFingerprint()));
+        assertTrue(sdl.contains("_node__book"));
+    }
+
+    @Test
+    public void testLoadSdl() {
+        SchemaSnapshot snapshot = SchemaSnapshot.of(dictionary);
+        SchemaSnapshot loaded = SchemaSnapshot.load(snapshot.toSdl(), dictionary).get();
+        GraphQLSchema schema = loaded.getSchema();
+
+        assertEquals(snapshot.getFingerprint(), loaded.getFingerprint());
+        assertEquals(snapshot.getSchema().getType("_node__book").getName(), schema.getType("_node__book").getName());
+
+        /* The fetcher, enum values and non-entity types are wired like in the built schema */
+        GraphQLFieldDefinition book = schema.getQueryType().getFieldDefinition("book");
+        assertTrue(book.getDataFetcher() instanceof PersistentResourceFetcher);
+        GraphQLEnumType operation = (GraphQLEnumType) book.getArgument(ModelBuilder.ARGUMENT_OPERATION).getType();
+        assertTrue(operation.getValues().stream()
+                .allMatch(value -> RelationshipOp.valueOf(value.getName()) == value.getValue()));
+
+        /* Runners created afterwards share the loaded schema */
+        assertSame(loaded, SchemaSnapshot.of(dictionary));
+    }
+
+    @Test
+    public void testLoadSdlOfDifferentModel() {
+        EntityDictionary other = new EntityDictionary(new HashMap<>());
+        other.bindEntity(Book.class);
+        other.bindEntity(Author.class);
+        other.bindEntity(Publisher.class);
+        other.bindEntity(Pseudonym.class);
+
+        assertFalse(SchemaSnapshot.load(SchemaSnapshot.of(dictionary).toSdl(), other).isPresent());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.tests;
+
+import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.attr;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.attributes;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.datum;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.resource;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.type;
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.audit.TestAuditLogger;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.ExportFormat;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.initialization.IntegrationTest;
+
+import example.TestCheckMappings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Exports collections through {@link Elide#export} against the configured data store, so the store's streaming
+ * query and cursor handling are exercised.
+ */
+public class ExportIT extends IntegrationTest {
+    private Elide elide;
+
+    @BeforeEach
+    public void setup() {
+        for (String title : Arrays.asList("Hyperion", "Dune", "Solaris")) {
+            given()
+                    .contentType(JSONAPI_CONTENT_TYPE)
+                    .accept(JSONAPI_CONTENT_TYPE)
+                    .body(datum(resource(type("book"), attributes(attr("title", title)))).toJSON())
+                    .post("/book")
+                    .then()
+                    .statusCode(HttpStatus.SC_CREATED);
+        }
+
+        elide = new Elide(new ElideSettingsBuilder(dataStore)
+                .withEntityDictionary(new EntityDictionary(TestCheckMappings.MAPPINGS))
+                .withAuditLogger(new TestAuditLogger())
+                .withExportReleaseInterval(2)
+                .build());
+    }
+
+    @Test
+    public void testExportSortedAndFiltered() throws IOException {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("fields[book]", "title");
+        queryParams.putSingle("sort", "title");
+        queryParams.putSingle("filter[book]", "title!=Solaris");
+
+        assertEquals(Arrays.asList("title", "Dune", "Hyperion"), exportTitles(queryParams));
+    }
+
+    @Test
+    public void testExportAfterFailedWrite() throws IOException {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+        ElideResponse response = elide.export(null, "book", ExportFormat.NDJSON, null, null, broken);
+        assertTrue(response.getResponseCode() >= HttpStatus.SC_BAD_REQUEST);
+
+        /* The cursor of the failed export was released */
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("fields[book]", "title");
+        queryParams.putSingle("sort", "title");
+        assertEquals(Arrays.asList("title", "Dune", "Hyperion", "Solaris"), exportTitles(queryParams));
+    }
+
+    private List<String> exportTitles(MultivaluedMap<String, String> queryParams) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ElideResponse response = elide.export(null, "book", ExportFormat.CSV, queryParams, null, output);
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+
+        /* Identifiers are generated by the store, so only compare the titles */
+        return Arrays.stream(output.toString(StandardCharsets.UTF_8.name()).split("\r\n"))
+                .map(line -> line.substring(line.indexOf(',') + 1))
+                .collect(Collectors.toList());
+    }
+}
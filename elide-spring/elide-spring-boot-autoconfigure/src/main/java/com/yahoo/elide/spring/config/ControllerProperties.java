@@ -22,4 +22,9 @@ public class ControllerProperties {
      * The URL path prefix for the controller.
      */
     private String path = "/";
+
+    /**
+     * Whether requests are handed to the Elide request executor instead of running on the servlet thread.
+     */
+    private boolean async = false;
 }
@@ -60,6 +60,11 @@ public class ElideAutoConfiguration {
                 .withEncodeErrorResponses(true)
                 .withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"));
 
+        if (settings.getGraphql() != null) {
+            builder.withGraphQLMaxDepth(settings.getGraphql().getMaxDepth())
+                    .withGraphQLMaxCost(settings.getGraphql().getMaxCost());
+        }
+
         return new Elide(builder.build());
     }
 
@@ -24,7 +24,7 @@ public class ElideConfigProperties {
     /**
      * Settings for the GraphQL controller.
      */
-    private ControllerProperties graphql;
+    private GraphqlControllerProperties graphql;
 
     /**
      * Settings for the Swagger document controller.
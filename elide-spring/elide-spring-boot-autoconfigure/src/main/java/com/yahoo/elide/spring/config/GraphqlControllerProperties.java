@@ -0,0 +1,25 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.config;
+
+import lombok.Data;
+
+/**
+ * Extra controller properties for the GraphQL endpoint.
+ */
+@Data
+public class GraphqlControllerProperties extends ControllerProperties {
+
+    /**
+     * The deepest relationship nesting a query may select (0 is unlimited).
+     */
+    private int maxDepth = 0;
+
+    /**
+     * The most records a query may load, estimated before it runs (0 is unlimited).
+     */
+    private long maxCost = 0;
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.controllers;
+
+import static com.yahoo.elide.spring.controllers.JsonApiController.JSON_API_CONTENT_TYPE;
+import static com.yahoo.elide.spring.controllers.JsonApiController.JSON_API_PATCH_CONTENT_TYPE;
+import static com.yahoo.elide.spring.controllers.JsonApiController.getBaseUrlEndpoint;
+import static com.yahoo.elide.spring.controllers.JsonApiController.getJsonApiPath;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.spring.config.ElideConfigProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.MultivaluedHashMap;
+
+/**
+ * Spring rest controller for Elide JSON-API which hands requests to the Elide request executor
+ * ({@link Elide#getRequestExecutor()}), so servlet threads are not held while the data store works.
+ * Enabled by {@code elide.json-api.async}.
+ */
+@Slf4j
+@RestController
+@Configuration
+@RequestMapping(value = "${elide.json-api.path}")
+@ConditionalOnExpression("${elide.json-api.enabled:false} and ${elide.json-api.async:false}")
+public class AsyncJsonApiController {
+
+    private final Elide elide;
+    private final ElideConfigProperties settings;
+
+    @Autowired
+    public AsyncJsonApiController(Elide elide, ElideConfigProperties settings) {
+        log.debug("Started ~~");
+        this.settings = settings;
+        this.elide = elide;
+    }
+
+    @GetMapping(value = "/**", produces = JSON_API_CONTENT_TYPE)
+    public CompletableFuture<ResponseEntity<String>> elideGet(@RequestParam Map<String, String> allRequestParams,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                   String ifNoneMatch,
+                                           HttpServletRequest request, Principal authentication) {
+        String pathname = getJsonApiPath(request, settings);
+        String baseUrl = getBaseUrlEndpoint(settings);
+
+        return elide
+                .getAsync(baseUrl, pathname, new MultivaluedHashMap<>(allRequestParams), authentication, ifNoneMatch)
+                .thenApply(JsonApiController::build);
+    }
+
+    @PostMapping(value = "/**", consumes = JSON_API_CONTENT_TYPE, produces = JSON_API_CONTENT_TYPE)
+    public CompletableFuture<ResponseEntity<String>> elidePost(@RequestBody String body,
+                                            @RequestParam Map<String, String> allRequestParams,
+                                            HttpServletRequest request, Principal authentication) {
+        String pathname = getJsonApiPath(request, settings);
+        String baseUrl = getBaseUrlEndpoint(settings);
+
+        return elide
+                .postAsync(baseUrl, pathname, body, new MultivaluedHashMap<>(allRequestParams), authentication)
+                .thenApply(JsonApiController::build);
+    }
+
+    @PatchMapping(value = "/**", consumes = { JSON_API_CONTENT_TYPE, JSON_API_PATCH_CONTENT_TYPE})
+    public CompletableFuture<ResponseEntity<String>> elidePatch(@RequestBody String body,
+                                             @RequestParam Map<String, String> allRequestParams,
+                                             HttpServletRequest request, Principal authentication) {
+        String pathname = getJsonApiPath(request, settings);
+        String baseUrl = getBaseUrlEndpoint(settings);
+
+        return elide
+                .patchAsync(baseUrl, request.getContentType(), request.getContentType(), pathname, body,
+                            new MultivaluedHashMap<>(allRequestParams), authentication)
+                .thenApply(JsonApiController::build);
+    }
+
+    @DeleteMapping(value = "/**")
+    public CompletableFuture<ResponseEntity<String>> elideDelete(HttpServletRequest request,
+                                             @RequestParam Map<String, String> allRequestParams,
+                                             Principal authentication) {
+        String pathname = getJsonApiPath(request, settings);
+        String baseUrl = getBaseUrlEndpoint(settings);
+
+        return elide
+                .deleteAsync(baseUrl, pathname, null, new MultivaluedHashMap<>(allRequestParams), authentication)
+                .thenApply(JsonApiController::build);
+    }
+
+    @DeleteMapping(value = "/**", consumes = JSON_API_CONTENT_TYPE)
+    public CompletableFuture<ResponseEntity<String>> elideDeleteRelationship(@RequestBody String body,
+                                                          @RequestParam Map<String, String> allRequestParams,
+                                                          HttpServletRequest request, Principal authentication) {
+        String pathname = getJsonApiPath(request, settings);
+        String baseUrl = getBaseUrlEndpoint(settings);
+
+        return elide
+                .deleteAsync(baseUrl, pathname, body, new MultivaluedHashMap<>(allRequestParams), authentication)
+                .thenApply(JsonApiController::build);
+    }
+}
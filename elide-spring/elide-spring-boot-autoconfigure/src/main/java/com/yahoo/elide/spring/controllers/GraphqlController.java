@@ -6,7 +6,7 @@
 package com.yahoo.elide.spring.controllers;
 
 import com.yahoo.elide.Elide;
-import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.graphql.GraphQLResponse;
 import com.yahoo.elide.graphql.QueryRunner;
 import com.yahoo.elide.spring.config.ElideConfigProperties;
 
@@ -14,7 +14,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -23,17 +22,22 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.security.Principal;
+import javax.servlet.http.HttpServletResponse;
 
 /**
  * Spring rest controller for Elide GraphQL.
+ * <p>
+ * Requests run on the servlet thread.  Set {@code elide.graphql.async} to use {@link AsyncGraphqlController}
+ * instead.
  */
 @Slf4j
 @Configuration
 @RestController
 @RequestMapping(value = "${elide.graphql.path}")
 @EnableConfigurationProperties(ElideConfigProperties.class)
-@ConditionalOnExpression("${elide.graphql.enabled:false}")
+@ConditionalOnExpression("${elide.graphql.enabled:false} and !${elide.graphql.async:false}")
 public class GraphqlController {
 
     private final QueryRunner runner;
@@ -49,19 +53,23 @@ public class GraphqlController {
     }
 
     /**
-     * Single entry point for GraphQL requests.
+     * Single entry point for GraphQL requests.  The response body is streamed straight to the servlet response.
      *
      * @param graphQLDocument post data as json document
      * @param user The user principal
-     * @return response
+     * @param servletResponse the response to write to
+     * @throws IOException if the response cannot be written
      */
     @PostMapping(value = {"/**", ""}, consumes = JSON_CONTENT_TYPE, produces = JSON_CONTENT_TYPE)
-    public ResponseEntity<String> post(@RequestBody String graphQLDocument, Principal user) {
+    public void post(@RequestBody String graphQLDocument, Principal user,
+                     HttpServletResponse servletResponse) throws IOException {
 
         String baseUrl = ServletUriComponentsBuilder.fromCurrentContextPath().build().toUriString()
                 + settings.getGraphql().getPath() + "/";
 
-        ElideResponse response = runner.run(baseUrl, graphQLDocument, user);
-        return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
+        GraphQLResponse response = runner.runStreaming(baseUrl, graphQLDocument, user);
+        servletResponse.setStatus(response.getResponseCode());
+        servletResponse.setContentType(JSON_CONTENT_TYPE);
+        response.writeTo(servletResponse.getOutputStream());
     }
 }
@@ -14,12 +14,14 @@ import com.yahoo.elide.spring.config.ElideConfigProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -36,12 +38,15 @@ import javax.ws.rs.core.MultivaluedHashMap;
 /**
  * Spring rest controller for Elide JSON-API.
  * Based on 'https://github.com/illyasviel/elide-spring-boot/'
+ * <p>
+ * Requests run on the servlet thread.  Set {@code elide.json-api.async} to use {@link AsyncJsonApiController}
+ * instead.
  */
 @Slf4j
 @RestController
 @Configuration
 @RequestMapping(value = "${elide.json-api.path}")
-@ConditionalOnExpression("${elide.json-api.enabled:false}")
+@ConditionalOnExpression("${elide.json-api.enabled:false} and !${elide.json-api.async:false}")
 public class JsonApiController {
 
     private final Elide elide;
@@ -58,72 +63,82 @@ public class JsonApiController {
 
     @GetMapping(value = "/**", produces = JSON_API_CONTENT_TYPE)
     public ResponseEntity<String> elideGet(@RequestParam Map<String, String> allRequestParams,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                   String ifNoneMatch,
                                            HttpServletRequest request, Principal authentication) {
-        String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
-        String baseUrl = getBaseUrlEndpoint();
+        String pathname = getJsonApiPath(request, settings);
+        String baseUrl = getBaseUrlEndpoint(settings);
 
         ElideResponse response = elide
-                .get(baseUrl, pathname, new MultivaluedHashMap<>(allRequestParams), authentication);
-        return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
+                .get(baseUrl, pathname, new MultivaluedHashMap<>(allRequestParams), authentication, ifNoneMatch);
+        return build(response);
     }
 
     @PostMapping(value = "/**", consumes = JSON_API_CONTENT_TYPE, produces = JSON_API_CONTENT_TYPE)
     public ResponseEntity<String> elidePost(@RequestBody String body,
                                             @RequestParam Map<String, String> allRequestParams,
                                             HttpServletRequest request, Principal authentication) {
-        String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
-        String baseUrl = getBaseUrlEndpoint();
+        String pathname = getJsonApiPath(request, settings);
+        String baseUrl = getBaseUrlEndpoint(settings);
 
         ElideResponse response = elide
                 .post(baseUrl, pathname, body, new MultivaluedHashMap<>(allRequestParams), authentication);
-        return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
+        return build(response);
     }
 
     @PatchMapping(value = "/**", consumes = { JSON_API_CONTENT_TYPE, JSON_API_PATCH_CONTENT_TYPE})
     public ResponseEntity<String> elidePatch(@RequestBody String body,
                                              @RequestParam Map<String, String> allRequestParams,
                                              HttpServletRequest request, Principal authentication) {
-        String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
-        String baseUrl = getBaseUrlEndpoint();
+        String pathname = getJsonApiPath(request, settings);
+        String baseUrl = getBaseUrlEndpoint(settings);
 
         ElideResponse response = elide
                 .patch(baseUrl, request.getContentType(), request.getContentType(), pathname, body,
                        new MultivaluedHashMap<>(allRequestParams), authentication);
-        return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
+        return build(response);
     }
 
     @DeleteMapping(value = "/**")
     public ResponseEntity<String> elideDelete(HttpServletRequest request,
                                              @RequestParam Map<String, String> allRequestParams,
                                              Principal authentication) {
-        String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
-        String baseUrl = getBaseUrlEndpoint();
+        String pathname = getJsonApiPath(request, settings);
+        String baseUrl = getBaseUrlEndpoint(settings);
 
         ElideResponse response = elide
                 .delete(baseUrl, pathname, null, new MultivaluedHashMap<>(allRequestParams), authentication);
-        return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
+        return build(response);
     }
 
     @DeleteMapping(value = "/**", consumes = JSON_API_CONTENT_TYPE)
     public ResponseEntity<String> elideDeleteRelationship(@RequestBody String body,
                                                           @RequestParam Map<String, String> allRequestParams,
                                                           HttpServletRequest request, Principal authentication) {
-        String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
-        String baseUrl = getBaseUrlEndpoint();
+        String pathname = getJsonApiPath(request, settings);
+        String baseUrl = getBaseUrlEndpoint(settings);
 
         ElideResponse response = elide
                 .delete(baseUrl, pathname, body, new MultivaluedHashMap<>(allRequestParams), authentication);
-        return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
+        return build(response);
     }
 
-    private String getJsonApiPath(HttpServletRequest request, String prefix) {
+    static ResponseEntity<String> build(ElideResponse response) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.getResponseCode());
+        if (response.getETag() != null) {
+            builder.header(HttpHeaders.ETAG, response.getETag());
+        }
+        return builder.body(response.getBody());
+    }
+
+    static String getJsonApiPath(HttpServletRequest request, ElideConfigProperties settings) {
         String pathname = (String) request
                 .getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
 
-        return pathname.replaceFirst(prefix, "");
+        return pathname.replaceFirst(settings.getJsonApi().getPath(), "");
     }
 
-    private String getBaseUrlEndpoint() {
+    static String getBaseUrlEndpoint(ElideConfigProperties settings) {
         return ServletUriComponentsBuilder.fromCurrentContextPath().build().toUriString()
                 + settings.getJsonApi().getPath() + "/";
     }
@@ -0,0 +1,15 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.tests;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the controller tests against the asynchronous JSON-API and GraphQL controllers.
+ */
+@TestPropertySource(properties = {"elide.json-api.async=true", "elide.graphql.async=true"})
+public class AsyncControllerTest extends ControllerTest {
+}
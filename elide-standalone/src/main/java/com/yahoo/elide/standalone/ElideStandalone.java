@@ -11,6 +11,8 @@ import com.yahoo.elide.resources.DefaultOpaqueUserFunction;
 import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.standalone.config.ElideResourceConfig;
 import com.yahoo.elide.standalone.config.ElideStandaloneSettings;
+import com.yahoo.elide.standalone.resources.AsyncGraphQLEndpoint;
+import com.yahoo.elide.standalone.resources.AsyncJsonApiEndpoint;
 
 import com.codahale.metrics.servlet.InstrumentedFilter;
 import com.codahale.metrics.servlets.AdminServlet;
@@ -105,7 +107,13 @@ public class ElideStandalone {
             ServletHolder jerseyServlet = context.addServlet(ServletContainer.class,
                     elideStandaloneSettings.getJsonApiPathSpec());
             jerseyServlet.setInitOrder(0);
-            jerseyServlet.setInitParameter("jersey.config.server.provider.packages", "com.yahoo.elide.resources");
+            if (elideStandaloneSettings.enableAsyncRequests()) {
+                jerseyServlet.setAsyncSupported(true);
+                jerseyServlet.setInitParameter("jersey.config.server.provider.classnames",
+                        AsyncJsonApiEndpoint.class.getCanonicalName());
+            } else {
+                jerseyServlet.setInitParameter("jersey.config.server.provider.packages", "com.yahoo.elide.resources");
+            }
             jerseyServlet.setInitParameter("javax.ws.rs.Application", ElideResourceConfig.class.getCanonicalName());
         }
 
@@ -113,7 +121,13 @@ public class ElideStandalone {
             ServletHolder jerseyServlet = context.addServlet(ServletContainer.class,
                     elideStandaloneSettings.getGraphQLApiPathSepc());
             jerseyServlet.setInitOrder(0);
-            jerseyServlet.setInitParameter("jersey.config.server.provider.packages", "com.yahoo.elide.graphql");
+            if (elideStandaloneSettings.enableAsyncRequests()) {
+                jerseyServlet.setAsyncSupported(true);
+                jerseyServlet.setInitParameter("jersey.config.server.provider.classnames",
+                        AsyncGraphQLEndpoint.class.getCanonicalName());
+            } else {
+                jerseyServlet.setInitParameter("jersey.config.server.provider.packages", "com.yahoo.elide.graphql");
+            }
             jerseyServlet.setInitParameter("javax.ws.rs.Application", ElideResourceConfig.class.getCanonicalName());
         }
 
@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.standalone.config;
 
+import com.yahoo.elide.ElideExecutors;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.Injector;
@@ -31,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import javax.persistence.EntityManagerFactory;
 import javax.ws.rs.core.SecurityContext;
@@ -88,7 +90,8 @@ public interface ElideStandaloneSettings {
                 .withEntityDictionary(dictionary)
                 .withJoinFilterDialect(new RSQLFilterDialect(dictionary))
                 .withSubqueryFilterDialect(new RSQLFilterDialect(dictionary))
-                .withAuditLogger(getAuditLogger());
+                .withAuditLogger(getAuditLogger())
+                .withRequestExecutor(getRequestExecutor());
 
         if (enableIS06081Dates()) {
             builder = builder.withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"));
@@ -179,6 +182,25 @@ public interface ElideStandaloneSettings {
         return true;
     }
 
+    /**
+     * Whether JSON-API and GraphQL requests are served with asynchronous JAX-RS responses.  Requests are then
+     * handled on the request executor rather than holding a Jetty thread while the data store works.
+     *
+     * @return Default: False
+     */
+    default boolean enableAsyncRequests() {
+        return false;
+    }
+
+    /**
+     * The executor which handles asynchronous requests.
+     *
+     * @return Default: {@link ElideExecutors#getDefaultRequestExecutor()}, a bounded thread pool
+     */
+    default Executor getRequestExecutor() {
+        return ElideExecutors.getDefaultRequestExecutor();
+    }
+
     /**
      * Whether Dates should be ISO8601 strings (true) or epochs (false).
      * @return
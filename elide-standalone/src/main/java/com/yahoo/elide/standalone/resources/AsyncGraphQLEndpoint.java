@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.standalone.resources;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.graphql.GraphQLEndpoint;
+import com.yahoo.elide.graphql.QueryRunner;
+import com.yahoo.elide.resources.DefaultOpaqueUserFunction;
+
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * GraphQL endpoint which suspends each request and resumes it once the query has run on the Elide request
+ * executor.  Same route as {@link GraphQLEndpoint}.
+ */
+@Singleton
+@Produces(MediaType.APPLICATION_JSON)
+@Path("/")
+public class AsyncGraphQLEndpoint {
+    private static final DefaultOpaqueUserFunction DEFAULT_GET_USER = securityContext -> securityContext;
+
+    protected final Function<SecurityContext, Object> getUser;
+
+    private final QueryRunner runner;
+
+    @Inject
+    public AsyncGraphQLEndpoint(
+            @Named("elide") Elide elide,
+            @Named("elideUserExtractionFunction") DefaultOpaqueUserFunction getUser) {
+        this.runner = new QueryRunner(elide);
+        this.getUser = getUser == null ? DEFAULT_GET_USER : getUser;
+    }
+
+    /**
+     * Create handler.
+     *
+     * @param uriInfo URI info
+     * @param securityContext security context
+     * @param graphQLDocument post data as jsonapi document
+     * @param asyncResponse the suspended response
+     */
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    public void post(
+            @Context UriInfo uriInfo,
+            @Context SecurityContext securityContext,
+            String graphQLDocument,
+            @Suspended AsyncResponse asyncResponse) {
+        AsyncJsonApiEndpoint.resume(asyncResponse, runner.runAsync(uriInfo.getBaseUri().toString(),
+                graphQLDocument, getUser.apply(securityContext)));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.standalone.resources;
+
+import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.annotation.PATCH;
+import com.yahoo.elide.resources.DefaultOpaqueUserFunction;
+import com.yahoo.elide.resources.JsonApiEndpoint;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * JSON-API endpoint which suspends each request and resumes it once Elide has handled it on the request
+ * executor, so Jetty threads are not held while the data store works.  Same routes as {@link JsonApiEndpoint}.
+ */
+@Singleton
+@Produces(JSONAPI_CONTENT_TYPE)
+@Path("/")
+public class AsyncJsonApiEndpoint {
+    protected final Elide elide;
+    protected final Function<SecurityContext, Object> getUser;
+
+    @Inject
+    public AsyncJsonApiEndpoint(
+            @Named("elide") Elide elide,
+            @Named("elideUserExtractionFunction") DefaultOpaqueUserFunction getUser) {
+        this.elide = elide;
+        this.getUser = getUser == null ? JsonApiEndpoint.DEFAULT_GET_USER : getUser;
+    }
+
+    /**
+     * Create handler.
+     *
+     * @param path request path
+     * @param uriInfo URI info
+     * @param securityContext security context
+     * @param jsonapiDocument post data as jsonapi document
+     * @param asyncResponse the suspended response
+     */
+    @POST
+    @Path("{path:.*}")
+    @Consumes(JSONAPI_CONTENT_TYPE)
+    public void post(
+        @PathParam("path") String path,
+        @Context UriInfo uriInfo,
+        @Context SecurityContext securityContext,
+        String jsonapiDocument,
+        @Suspended AsyncResponse asyncResponse) {
+        resume(asyncResponse, elide.postAsync(uriInfo.getBaseUri().toString(), path, jsonapiDocument,
+                uriInfo.getQueryParameters(), getUser.apply(securityContext)));
+    }
+
+    /**
+     * Read handler.
+     *
+     * @param path request path
+     * @param uriInfo URI info
+     * @param securityContext security context
+     * @param ifNoneMatch If-None-Match header
+     * @param asyncResponse the suspended response
+     */
+    @GET
+    @Path("{path:.*}")
+    public void get(
+        @PathParam("path") String path,
+        @Context UriInfo uriInfo,
+        @Context SecurityContext securityContext,
+        @HeaderParam("If-None-Match") String ifNoneMatch,
+        @Suspended AsyncResponse asyncResponse) {
+        resume(asyncResponse, elide.getAsync(uriInfo.getBaseUri().toString(), path, uriInfo.getQueryParameters(),
+                getUser.apply(securityContext), ifNoneMatch));
+    }
+
+    /**
+     * Update handler.
+     *
+     * @param contentType document MIME type
+     * @param accept response MIME type
+     * @param path request path
+     * @param uriInfo URI info
+     * @param securityContext security context
+     * @param jsonapiDocument patch data as jsonapi document
+     * @param asyncResponse the suspended response
+     */
+    @PATCH
+    @Path("{path:.*}")
+    @Consumes(JSONAPI_CONTENT_TYPE)
+    public void patch(
+        @HeaderParam("Content-Type") String contentType,
+        @HeaderParam("accept") String accept,
+        @PathParam("path") String path,
+        @Context UriInfo uriInfo,
+        @Context SecurityContext securityContext,
+        String jsonapiDocument,
+        @Suspended AsyncResponse asyncResponse) {
+        resume(asyncResponse, elide.patchAsync(uriInfo.getBaseUri().toString(), contentType, accept, path,
+                jsonapiDocument, uriInfo.getQueryParameters(), getUser.apply(securityContext)));
+    }
+
+    /**
+     * Delete relationship handler (expects body with resource ids and types).
+     *
+     * @param path request path
+     * @param uriInfo URI info
+     * @param securityContext security context
+     * @param jsonApiDocument DELETE document
+     * @param asyncResponse the suspended response
+     */
+    @DELETE
+    @Path("{path:.*}")
+    @Consumes(JSONAPI_CONTENT_TYPE)
+    public void delete(
+        @PathParam("path") String path,
+        @Context UriInfo uriInfo,
+        @Context SecurityContext securityContext,
+        String jsonApiDocument,
+        @Suspended AsyncResponse asyncResponse) {
+        resume(asyncResponse, elide.deleteAsync(uriInfo.getBaseUri().toString(), path, jsonApiDocument,
+                uriInfo.getQueryParameters(), getUser.apply(securityContext)));
+    }
+
+    /**
+     * Resumes a suspended response when Elide completes the request.
+     *
+     * @param asyncResponse the suspended response
+     * @param response the pending Elide response
+     */
+    static void resume(AsyncResponse asyncResponse, CompletableFuture<ElideResponse> response) {
+        response.whenComplete((result, error) -> {
+            if (error != null) {
+                asyncResponse.resume(error instanceof CompletionException ? error.getCause() : error);
+                return;
+            }
+
+            Response.ResponseBuilder builder = Response.status(result.getResponseCode()).entity(result.getBody());
+            if (result.getETag() != null) {
+                builder.header(HttpHeaders.ETAG, result.getETag());
+            }
+            asyncResponse.resume(builder.build());
+        });
+    }
+}
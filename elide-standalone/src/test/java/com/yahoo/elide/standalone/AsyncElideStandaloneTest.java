@@ -0,0 +1,17 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.standalone;
+
+/**
+ * Runs the ElideStandalone tests against the asynchronous JSON-API and GraphQL endpoints.
+ */
+public class AsyncElideStandaloneTest extends ElideStandaloneTest {
+
+    @Override
+    protected boolean isAsync() {
+        return true;
+    }
+}
@@ -16,6 +16,8 @@ import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
@@ -114,6 +116,11 @@ public class ElideStandaloneTest {
                 return options;
             }
 
+            @Override
+            public boolean enableAsyncRequests() {
+                return isAsync();
+            }
+
             @Override
             public String getModelPackageName() {
                 return Post.class.getPackage().getName();
@@ -143,6 +150,15 @@ public class ElideStandaloneTest {
         elide.stop();
     }
 
+    /**
+     * Whether the server handles requests on the Elide request executor.
+     *
+     * @return false to use the synchronous endpoints
+     */
+    protected boolean isAsync() {
+        return false;
+    }
+
     @Test
     public void testJsonAPIPost() {
         given()
@@ -204,6 +220,19 @@ public class ElideStandaloneTest {
             .extract().body().asString();
     }
 
+    @Test
+    public void testGraphQLQuery() {
+        given()
+                .contentType("application/json")
+                .accept("application/json")
+                .body("{ \"query\" : \"{ post { edges { node { id content } } } }\" }")
+                .post("/graphql/api/v1")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("errors", nullValue())
+                .body("data.post.edges", notNullValue());
+    }
+
     @Test
     public void testMetricsServlet() throws Exception {
         given()